@@ -0,0 +1,31 @@
+package net.db;
+
+/**
+ * 批量读取中的一个缓存数据，一对一关系取得一条数据，一对多关系取得一组数据
+ *
+ * @author ckf
+ * @see Data#loadBundle(int, java.util.List)
+ */
+public final class BundleKey {
+
+	private final String className;
+
+	private final Object id;
+
+	public BundleKey(String className, Object id) {
+		this.className = className;
+		this.id = id;
+	}
+
+	public String getClassName() {
+		return className;
+	}
+
+	public Object getId() {
+		return id;
+	}
+
+	@Override public String toString() {
+		return className + "_" + id;
+	}
+}
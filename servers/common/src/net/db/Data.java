@@ -162,6 +162,20 @@ public interface Data {
 	 */
 	<T extends BasePo> String get(int dsId, String className, Object id);
 
+	/**
+	 * 缓存类访问:获取一对一关系中的一条数据的原始格式<br>
+	 * 二进制格式的表缓存命中时直接返回缓存中的数据，其他情况为utf-8编码的json
+	 *
+	 * @param dsId
+	 *            数据源id
+	 * @param className
+	 * @param id
+	 *            key
+	 * @return
+	 * @see net.db.codec.BinaryPoCodec
+	 */
+	<T extends BasePo> byte[] getRaw(int dsId, String className, Object id);
+
 	/**
 	 * 缓存类访问:获取一对多关系中的一组数据<br>
 	 * 可以理解为 Map[String:Map] 中的map.get()
@@ -175,6 +189,20 @@ public interface Data {
 	 */
 	<T extends BasePo> String getList(int dsId, String className, Object id);
 
+	/**
+	 * 缓存类访问:获取一对多关系中的一组数据的原始格式<br>
+	 * 二进制格式的表缓存命中时返回BinaryPoCodec的列表格式，其他情况为utf-8编码的json数组
+	 *
+	 * @param dsId
+	 *            数据源id
+	 * @param className
+	 * @param id
+	 *            一级key
+	 * @return
+	 * @see net.db.codec.BinaryPoCodec#joinList(java.util.Collection)
+	 */
+	<T extends BasePo> byte[] getListRaw(int dsId, String className, Object id);
+
 	/**
 	 * 缓存类访问:获取一对多关系中的一个数据<br>
 	 * 不在缓存中时会尝试查询db
@@ -193,6 +221,61 @@ public interface Data {
 	 */
 	<T extends BasePo> String getOne(int dsId, String className, Object id, Object subId, boolean isFlushCache);
 
+	/**
+	 * 缓存类访问:获取一对多关系中的一个数据的原始格式<br>
+	 * 二进制格式的表缓存命中时直接返回缓存中的数据，其他情况为utf-8编码的json
+	 *
+	 * @param dsId
+	 *            数据源id
+	 * @param className
+	 * @param id
+	 *            一级key
+	 * @param subId
+	 *            二级key
+	 * @param isFlushCache
+	 *            尝试查询db后是否同时刷新缓存
+	 * @return
+	 */
+	<T extends BasePo> byte[] getOneRaw(int dsId, String className, Object id, Object subId, boolean isFlushCache);
+
+	/**
+	 * 缓存类访问:批量获取一对一关系中的数据<br>
+	 * 通过一次redis往返读取，不在缓存中的通过一条sql从db加载
+	 *
+	 * @param dsId
+	 *            数据源id
+	 * @param className
+	 * @param ids
+	 *            key
+	 * @return 和ids的顺序一致，不存在的为null
+	 */
+	<T extends BasePo> List<String> getMany(int dsId, String className, Object... ids);
+
+	/**
+	 * 缓存类访问:批量获取一对多关系中的多组数据<br>
+	 * 通过一次redis往返读取，不在缓存中的通过一条sql从db加载
+	 *
+	 * @param dsId
+	 *            数据源id
+	 * @param className
+	 * @param ids
+	 *            一级key
+	 * @return 和ids的顺序一致，每个元素和getList的返回相同
+	 */
+	<T extends BasePo> List<String> getListMany(int dsId, String className, Object... ids);
+
+	/**
+	 * 缓存类访问:一次获取多张表的数据，用于登录时加载玩家的全部数据<br>
+	 * 所有表的redis读取在一次往返中完成，不在缓存中的每张表通过一条sql从db加载
+	 *
+	 * @param dsId
+	 *            数据源id
+	 * @param keys
+	 *            一对一关系的表相当于get，一对多关系的表相当于getList
+	 * @return 和keys的顺序一致，始终是json，rpc的MultiGetResponse只能携带字符串
+	 */
+	List<String> loadBundle(int dsId, List<BundleKey> keys);
+
 	/**
 	 * 缓存类访问:获取一对一关系中的一条数据
 	 * 强制刷新缓存
@@ -247,4 +330,14 @@ public interface Data {
 	 */
 	void insertBatch(int dsId, String className, List<String> dataList) throws SQLException;
 
+	/**
+	 * 通用访问:批量更新，返回时已经写入数据库
+	 *
+	 * @param dsId
+	 *            数据源id
+	 * @param className
+	 * @return 受影响的行数
+	 */
+	int updateBatch(int dsId, String className, List<String> dataList) throws SQLException;
+
 }
@@ -1,6 +1,11 @@
 package net.db;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.sql.DataSource;
+import org.apache.commons.dbutils.QueryRunner;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import net.db.anno.PO;
@@ -15,8 +20,25 @@ public class PoProxy {
 	
 	private static Logger logger = LoggerFactory.getLogger(PoProxy.class);
 
+	/**
+	 * Some drivers don't support {@link java.sql.ParameterMetaData#getParameterType(int) };
+	 * if <code>pmdKnownBroken</code> is set to true, we won't even try it; if false, we'll try it,
+	 * and if it breaks, we'll remember not to use it again.
+	 */
+	public final static boolean PMD_KNOWN_BROKEN = true;
+
+	/**
+	 * 每张表缓存的按属性查询/删除的sql数量上限，超过后不再缓存
+	 */
+	private final static int MAX_PROP_SQLS = 256;
+
 	public final Class<?> cls;
 	public final DataSource ds;
+
+	/**
+	 * 只读查询使用的从库，没有配置从库时为null
+	 */
+	public final ReadReplicas replicas;
 	public final String tbName;
 	public final String selectAll;
 	public final String select;
@@ -25,9 +47,30 @@ public class PoProxy {
 	public final String update;
 	public final String insert;
 
+	/**
+	 * 主库的QueryRunner，没有状态，所有调用共用
+	 */
+	public final QueryRunner runner;
+
+	/**
+	 * 属性名列表 -> 按属性查询的sql
+	 */
+	private final Map<List<String>, String> selectByProps = new ConcurrentHashMap<>();
+
+	/**
+	 * 属性名列表 -> 按属性删除的sql
+	 */
+	private final Map<List<String>, String> deleteByProps = new ConcurrentHashMap<>();
+
 	public PoProxy(Class<? extends BasePo> cls, DataSource ds) {
+		this(cls, ds, null);
+	}
+
+	public PoProxy(Class<? extends BasePo> cls, DataSource ds, ReadReplicas replicas) {
 		this.cls = cls;
 		this.ds = ds;
+		this.replicas = replicas;
+		this.runner = new QueryRunner(ds, PMD_KNOWN_BROKEN);
 		PO po = cls.getAnnotation(PO.class);
 		this.tbName = po.value();
 
@@ -47,4 +90,36 @@ public class PoProxy {
 		this.insert = SqlUtils.insert(tbName, ins.props());
 	}
 
+	/**
+	 * 按属性查询的sql，相同的属性组合复用同一个sql
+	 *
+	 * @param propNames
+	 * @return
+	 */
+	public String selectByProps(String[] propNames) {
+		return propSql(selectByProps, selectAll, propNames);
+	}
+
+	/**
+	 * 按属性删除的sql，相同的属性组合复用同一个sql
+	 *
+	 * @param propNames
+	 * @return
+	 */
+	public String deleteByProps(String[] propNames) {
+		return propSql(deleteByProps, deleteAll, propNames);
+	}
+
+	private static String propSql(Map<List<String>, String> sqls, String prefix, String[] propNames) {
+		String sql = sqls.get(Arrays.asList(propNames));
+		if (sql == null) {
+			sql = SqlUtils.where(prefix, propNames);
+			if (sqls.size() < MAX_PROP_SQLS) {
+				//调用方可能修改传入的数组，key使用副本
+				sqls.putIfAbsent(Arrays.asList(propNames.clone()), sql);
+			}
+		}
+		return sql;
+	}
+
 }
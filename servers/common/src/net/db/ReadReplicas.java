@@ -0,0 +1,213 @@
+package net.db;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLTimeoutException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.apache.commons.dbutils.QueryRunner;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import net.utils.CloseUtils;
+
+/**
+ * 一个数据库的只读从库，只读查询按复制延迟选择从库，没有可用的从库时回到主库
+ * <p/>
+ * 延迟由{@link #checkLag()}定时通过SHOW SLAVE STATUS取得，复制停止、延迟超过上限或者查询出错、超时的从库不参与选择，
+ * 连接出错的从库在一段时间内不参与选择
+ *
+ * @author ckf
+ */
+public class ReadReplicas {
+
+	private static Logger logger = LoggerFactory.getLogger(ReadReplicas.class);
+
+	/**
+	 * 连接出错的从库暂停使用的时间(毫秒)
+	 */
+	private final static long FAIL_PAUSE_TIME = 5000;
+
+	/**
+	 * 检查延迟的查询超时(秒)，从库卡住时不能阻塞定时检查
+	 */
+	private final static int LAG_QUERY_TIMEOUT = 2;
+
+	private final List<Replica> replicas = new ArrayList<>();
+
+	/**
+	 * 允许的最大复制延迟(毫秒)
+	 */
+	private final long maxLag;
+
+	private final AtomicInteger index = new AtomicInteger();
+
+	public ReadReplicas(long maxLag) {
+		this.maxLag = maxLag;
+	}
+
+	/**
+	 * 添加从库，需要在使用前添加
+	 *
+	 * @param name 用于日志，一般为url
+	 * @param ds
+	 */
+	public void add(String name, DataSource ds) {
+		replicas.add(new Replica(name, ds));
+	}
+
+	/**
+	 * 轮询选择一个可用的从库
+	 *
+	 * @return 从库的QueryRunner，没有可用的从库时为null，使用主库
+	 */
+	public QueryRunner select() {
+		int size = replicas.size();
+		if (size == 0) {
+			return null;
+		}
+
+		long now = System.currentTimeMillis();
+		int start = index.getAndIncrement() & Integer.MAX_VALUE;
+		for (int i = 0; i < size; i++) {
+			Replica replica = replicas.get((start + i) % size);
+			if (replica.isAvailable(now, maxLag)) {
+				return replica.runner;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * 查询出错时调用，连接错误的从库暂停使用，其他错误(sql错误等)在主库上也会出错，直接抛出
+	 *
+	 * @param runner 出错的从库
+	 * @param e
+	 * @throws SQLException 不是连接错误时
+	 */
+	public void onError(QueryRunner runner, SQLException e) throws SQLException {
+		if (!isConnectionError(e)) {
+			throw e;
+		}
+
+		for (Replica replica : replicas) {
+			if (replica.runner == runner) {
+				replica.pauseUntil = System.currentTimeMillis() + FAIL_PAUSE_TIME;
+				logger.error("从库连接出错，暂停使用 replica = " + replica.name, e);
+			}
+		}
+	}
+
+	private static boolean isConnectionError(SQLException e) {
+		if (e instanceof SQLTransientConnectionException || e instanceof SQLNonTransientConnectionException) {
+			return true;
+		}
+		String state = e.getSQLState();
+		return state != null && state.startsWith("08");
+	}
+
+	/**
+	 * 检查所有从库的复制延迟，定时调用
+	 */
+	public void checkLag() {
+		for (Replica replica : replicas) {
+			replica.lag = queryLag(replica);
+		}
+	}
+
+	/**
+	 * 取连接的等待由从库连接池的maxWait限制，查询由{@link #LAG_QUERY_TIMEOUT}限制
+	 *
+	 * @return 复制延迟(毫秒)，复制停止或者查询出错、超时时为-1
+	 */
+	private static long queryLag(Replica replica) {
+		Connection conn = null;
+		Statement stmt = null;
+		ResultSet rs = null;
+		try {
+			conn = replica.ds.getConnection();
+			stmt = conn.createStatement();
+			stmt.setQueryTimeout(LAG_QUERY_TIMEOUT);
+			rs = stmt.executeQuery("SHOW SLAVE STATUS");
+			if (!rs.next()) {
+				//不是从库(例如测试环境直接指向主库)时没有延迟
+				return 0;
+			}
+			long seconds = rs.getLong("Seconds_Behind_Master");
+			if (rs.wasNull()) {
+				logger.error("从库复制已停止 replica = {}", replica.name);
+				return -1;
+			}
+			return seconds * 1000;
+		} catch (SQLTimeoutException e) {
+			logger.error("检查从库延迟超时 replica = " + replica.name, e);
+			return -1;
+		} catch (SQLException | RuntimeException e) {
+			logger.error("检查从库延迟出错 replica = " + replica.name, e);
+			return -1;
+		} finally {
+			CloseUtils.close(rs);
+			CloseUtils.close(stmt);
+			CloseUtils.close(conn);
+		}
+	}
+
+	/**
+	 * 关闭从库的连接池
+	 */
+	public void close() {
+		for (Replica replica : replicas) {
+			if (replica.ds instanceof AutoCloseable) {
+				CloseUtils.close((AutoCloseable) replica.ds);
+			}
+		}
+	}
+
+	public boolean isEmpty() {
+		return replicas.isEmpty();
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		for (Replica replica : replicas) {
+			if (sb.length() > 0) {
+				sb.append(", ");
+			}
+			sb.append(replica.name).append(" lag=").append(replica.lag).append("ms");
+		}
+		return sb.toString();
+	}
+
+	private static final class Replica {
+
+		private final String name;
+
+		private final DataSource ds;
+
+		private final QueryRunner runner;
+
+		/**
+		 * 最近一次检查的复制延迟(毫秒)，-1表示不可用，检查前视为没有延迟
+		 */
+		private volatile long lag;
+
+		private volatile long pauseUntil;
+
+		Replica(String name, DataSource ds) {
+			this.name = name;
+			this.ds = ds;
+			this.runner = new QueryRunner(ds, PoProxy.PMD_KNOWN_BROKEN);
+		}
+
+		boolean isAvailable(long now, long maxLag) {
+			long l = lag;
+			return l >= 0 && l <= maxLag && now >= pauseUntil;
+		}
+	}
+}
@@ -4,7 +4,9 @@ import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import net.db.codec.CodecType;
 import net.db.dao.CachedDao;
+import net.db.dao.NearCache;
 
 /**
  * 缓存注解，使用这个注解的类会自动使用cachedDao来做二级缓存
@@ -27,4 +29,19 @@ public @interface Cacheable {
 	/**一对多关系中初始化的sql*/
 	String manyInitSql() default "";
 
+	/**进程内一级缓存的最大数量，0为不开启，适合读多写少的热点数据*/
+	int nearCacheSize() default 0;
+
+	/**一级缓存写入后的过期时间(毫秒)*/
+	int nearCacheTtl() default 10000;
+
+	/**一级缓存的淘汰策略*/
+	NearCache.Policy nearCachePolicy() default NearCache.Policy.TINY_LFU;
+
+	/**redis中的存储格式，JSON切换到BINARY后旧数据仍然可以读取*/
+	CodecType codec() default CodecType.JSON;
+
+	/**一级缓存过期后先返回过期的数据，同时在后台刷新，需要开启一级缓存*/
+	boolean staleWhileRevalidate() default false;
+
 }
@@ -14,4 +14,10 @@ import java.lang.annotation.Target;
 public @interface PO {
 	/**数据库表名*/
 	String value();
+
+	/**异步回写的刷新间隔(毫秒)，到时间后合并的脏数据作为一个批次写入数据库*/
+	int flushInterval() default 1000;
+
+	/**异步回写的批次大小，脏数据达到该数量时立即触发一次批量写入*/
+	int flushSize() default 200;
 }
@@ -0,0 +1,392 @@
+package net.db.codec;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import net.db.BasePo;
+import net.utils.JsonUtils;
+
+/**
+ * 二进制格式，按props()的顺序依次写入每一列的值，不写列名
+ * <ul>
+ * <li>整数使用protobuf的zigzag变长编码，字符串和字节数组带长度前缀</li>
+ * <li>包装类型和引用类型前面有一个是否为null的标记</li>
+ * <li>其他类型的列退化为json</li>
+ * </ul>
+ * 格式: [byte 魔数][byte 格式版本][int 列结构校验][列1][列2]...
+ * <p/>
+ * 列结构校验由列名和类型计算得出，po增减列后旧数据校验不通过，解码返回null，由调用方从数据库重新加载
+ * 不以魔数开头的数据当作切换格式之前写入的json解码，表可以直接从JSON切换到BINARY
+ *
+ * @author ckf
+ */
+public final class BinaryPoCodec<T extends BasePo> implements PoCodec<T> {
+
+	private final static Logger logger = LoggerFactory.getLogger(BinaryPoCodec.class);
+
+	/**
+	 * 魔数，json不会以这个字节开头
+	 */
+	public final static byte MAGIC = (byte) 0xB7;
+
+	/**
+	 * 列表的魔数，getList原样返回一组二进制数据时使用
+	 * 格式: [byte 列表魔数][varint 条数][varint 长度][数据]...
+	 */
+	public final static byte LIST_MAGIC = (byte) 0xB8;
+
+	/**
+	 * 格式版本
+	 */
+	public final static byte VERSION = 1;
+
+	/**
+	 * 头部长度 魔数+格式版本+列结构校验
+	 */
+	private final static int HEAD_SIZE = 6;
+
+	private final Class<T> cls;
+
+	/**
+	 * 按props()顺序排列的列
+	 */
+	private final Field[] fields;
+
+	private final FieldType[] types;
+
+	/**
+	 * 列是否可以为null
+	 */
+	private final boolean[] nullables;
+
+	/**
+	 * 列结构校验
+	 */
+	private final int schema;
+
+	/**
+	 * 切换格式之前写入的json
+	 */
+	private final JsonPoCodec<T> legacy;
+
+	public BinaryPoCodec(Class<T> cls) {
+		this.cls = cls;
+		this.legacy = new JsonPoCodec<>(cls);
+
+		String[] props;
+		try {
+			props = cls.newInstance().props();
+		} catch (Exception e) {
+			throw new RuntimeException("创建po失败 po = " + cls.getName(), e);
+		}
+
+		this.fields = new Field[props.length];
+		this.types = new FieldType[props.length];
+		this.nullables = new boolean[props.length];
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < props.length; i++) {
+			String name = props[i].replace("`", "");
+			Field field = findField(cls, name);
+			if (field == null) {
+				throw new RuntimeException("po中找不到列对应的属性 po = " + cls.getName() + " column = " + name);
+			}
+
+			field.setAccessible(true);
+			fields[i] = field;
+			types[i] = FieldType.of(field.getType());
+			nullables[i] = !field.getType().isPrimitive();
+			sb.append(name).append(':').append(types[i]).append(nullables[i] ? '?' : '!').append(';');
+		}
+		this.schema = sb.toString().hashCode();
+	}
+
+	@Override public byte[] encode(T t) {
+		try {
+			ByteArrayOutputStream bos = new ByteArrayOutputStream(16 * fields.length);
+			CodedOutputStream out = CodedOutputStream.newInstance(bos);
+			out.writeRawByte(MAGIC);
+			out.writeRawByte(VERSION);
+			out.writeFixed32NoTag(schema);
+			for (int i = 0; i < fields.length; i++) {
+				Object value = fields[i].get(t);
+				if (nullables[i]) {
+					out.writeBoolNoTag(value != null);
+					if (value == null) {
+						continue;
+					}
+				}
+				types[i].write(out, value);
+			}
+			out.flush();
+			return bos.toByteArray();
+		} catch (IOException | IllegalAccessException e) {
+			throw new RuntimeException("编码失败 po = " + cls.getName(), e);
+		}
+	}
+
+	@Override public T decode(byte[] data) {
+		if (data.length == 0) {
+			return null;
+		}
+		if (data[0] != MAGIC) {
+			return legacy.decode(data);
+		}
+
+		CodedInputStream in = CodedInputStream.newInstance(data);
+		try {
+			in.readRawByte();
+			if (in.readRawByte() != VERSION || in.readFixed32() != schema) {
+				return null;
+			}
+
+			T t = cls.newInstance();
+			for (int i = 0; i < fields.length; i++) {
+				if (nullables[i] && !in.readBool()) {
+					continue;
+				}
+				fields[i].set(t, types[i].read(in, fields[i]));
+			}
+			return t;
+		} catch (Exception e) {
+			logger.error("解码失败 po = " + cls.getName() + " size = " + data.length, e);
+			return null;
+		}
+	}
+
+	/**
+	 * 是否是当前列结构编码的二进制数据，只检查头部，不解码
+	 * 通过检查的数据可以原样交给使用同一个po类的一方解码
+	 *
+	 * @param data
+	 * @return
+	 */
+	public boolean isCurrent(byte[] data) {
+		return data != null && data.length >= HEAD_SIZE && data[0] == MAGIC && data[1] == VERSION
+				&& (data[2] & 0xff | (data[3] & 0xff) << 8 | (data[4] & 0xff) << 16 | (data[5] & 0xff) << 24) == schema;
+	}
+
+	/**
+	 * 把一组通过{@link #isCurrent(byte[])}检查的数据拼成列表格式，不解码
+	 *
+	 * @param values
+	 * @return
+	 */
+	public static byte[] joinList(Collection<byte[]> values) {
+		try {
+			int size = 8;
+			for (byte[] value : values) {
+				size += value.length + 5;
+			}
+			ByteArrayOutputStream bos = new ByteArrayOutputStream(size);
+			CodedOutputStream out = CodedOutputStream.newInstance(bos);
+			out.writeRawByte(LIST_MAGIC);
+			out.writeUInt32NoTag(values.size());
+			for (byte[] value : values) {
+				out.writeByteArrayNoTag(value);
+			}
+			out.flush();
+			return bos.toByteArray();
+		} catch (IOException e) {
+			throw new RuntimeException("编码失败", e);
+		}
+	}
+
+	/**
+	 * 解码{@link #joinList(Collection)}拼成的列表
+	 *
+	 * @param data
+	 * @return 有一条列结构不一致时返回null，由调用方改为读取json
+	 */
+	public List<T> decodeList(byte[] data) {
+		CodedInputStream in = CodedInputStream.newInstance(data);
+		try {
+			if (in.readRawByte() != LIST_MAGIC) {
+				return null;
+			}
+			int count = in.readUInt32();
+			List<T> list = new ArrayList<>(count);
+			for (int i = 0; i < count; i++) {
+				byte[] value = in.readByteArray();
+				if (value.length == 0 || value[0] != MAGIC) {
+					return null;
+				}
+				T t = decode(value);
+				if (t == null) {
+					return null;
+				}
+				list.add(t);
+			}
+			return list;
+		} catch (IOException e) {
+			logger.error("解码失败 po = " + cls.getName() + " size = " + data.length, e);
+			return null;
+		}
+	}
+
+	/**
+	 * 在类及其父类中查找列对应的属性，先精确匹配，再忽略大小写
+	 */
+	private static Field findField(Class<?> cls, String name) {
+		for (Class<?> c = cls; c != null && c != BasePo.class; c = c.getSuperclass()) {
+			for (Field field : c.getDeclaredFields()) {
+				if (!Modifier.isStatic(field.getModifiers()) && field.getName().equals(name)) {
+					return field;
+				}
+			}
+		}
+		for (Class<?> c = cls; c != null && c != BasePo.class; c = c.getSuperclass()) {
+			for (Field field : c.getDeclaredFields()) {
+				if (!Modifier.isStatic(field.getModifiers()) && field.getName().equalsIgnoreCase(name)) {
+					return field;
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * 列类型
+	 */
+	private enum FieldType {
+		BOOLEAN {
+			@Override void write(CodedOutputStream out, Object value) throws IOException {
+				out.writeBoolNoTag((Boolean) value);
+			}
+
+			@Override Object read(CodedInputStream in, Field field) throws IOException {
+				return in.readBool();
+			}
+		},
+		BYTE {
+			@Override void write(CodedOutputStream out, Object value) throws IOException {
+				out.writeSInt32NoTag((Byte) value);
+			}
+
+			@Override Object read(CodedInputStream in, Field field) throws IOException {
+				return (byte) in.readSInt32();
+			}
+		},
+		SHORT {
+			@Override void write(CodedOutputStream out, Object value) throws IOException {
+				out.writeSInt32NoTag((Short) value);
+			}
+
+			@Override Object read(CodedInputStream in, Field field) throws IOException {
+				return (short) in.readSInt32();
+			}
+		},
+		INT {
+			@Override void write(CodedOutputStream out, Object value) throws IOException {
+				out.writeSInt32NoTag((Integer) value);
+			}
+
+			@Override Object read(CodedInputStream in, Field field) throws IOException {
+				return in.readSInt32();
+			}
+		},
+		LONG {
+			@Override void write(CodedOutputStream out, Object value) throws IOException {
+				out.writeSInt64NoTag((Long) value);
+			}
+
+			@Override Object read(CodedInputStream in, Field field) throws IOException {
+				return in.readSInt64();
+			}
+		},
+		FLOAT {
+			@Override void write(CodedOutputStream out, Object value) throws IOException {
+				out.writeFloatNoTag((Float) value);
+			}
+
+			@Override Object read(CodedInputStream in, Field field) throws IOException {
+				return in.readFloat();
+			}
+		},
+		DOUBLE {
+			@Override void write(CodedOutputStream out, Object value) throws IOException {
+				out.writeDoubleNoTag((Double) value);
+			}
+
+			@Override Object read(CodedInputStream in, Field field) throws IOException {
+				return in.readDouble();
+			}
+		},
+		STRING {
+			@Override void write(CodedOutputStream out, Object value) throws IOException {
+				out.writeStringNoTag((String) value);
+			}
+
+			@Override Object read(CodedInputStream in, Field field) throws IOException {
+				return in.readString();
+			}
+		},
+		BYTES {
+			@Override void write(CodedOutputStream out, Object value) throws IOException {
+				out.writeByteArrayNoTag((byte[]) value);
+			}
+
+			@Override Object read(CodedInputStream in, Field field) throws IOException {
+				return in.readByteArray();
+			}
+		},
+		DATE {
+			@Override void write(CodedOutputStream out, Object value) throws IOException {
+				out.writeSInt64NoTag(((Date) value).getTime());
+			}
+
+			@Override Object read(CodedInputStream in, Field field) throws IOException {
+				return new Date(in.readSInt64());
+			}
+		},
+		JSON {
+			@Override void write(CodedOutputStream out, Object value) throws IOException {
+				byte[] bytes = JsonUtils.object2Bytes(value);
+				out.writeByteArrayNoTag(bytes == null ? new byte[0] : bytes);
+			}
+
+			@Override Object read(CodedInputStream in, Field field) throws IOException {
+				return JsonUtils.bytes2Object(in.readByteArray(), field.getGenericType());
+			}
+		},
+
+		;
+
+		abstract void write(CodedOutputStream out, Object value) throws IOException;
+
+		abstract Object read(CodedInputStream in, Field field) throws IOException;
+
+		static FieldType of(Class<?> type) {
+			if (type == boolean.class || type == Boolean.class) {
+				return BOOLEAN;
+			} else if (type == byte.class || type == Byte.class) {
+				return BYTE;
+			} else if (type == short.class || type == Short.class) {
+				return SHORT;
+			} else if (type == int.class || type == Integer.class) {
+				return INT;
+			} else if (type == long.class || type == Long.class) {
+				return LONG;
+			} else if (type == float.class || type == Float.class) {
+				return FLOAT;
+			} else if (type == double.class || type == Double.class) {
+				return DOUBLE;
+			} else if (type == String.class) {
+				return STRING;
+			} else if (type == byte[].class) {
+				return BYTES;
+			} else if (type == Date.class) {
+				return DATE;
+			}
+			return JSON;
+		}
+	}
+}
@@ -0,0 +1,38 @@
+package net.db.codec;
+
+import net.db.BasePo;
+
+/**
+ * 缓存格式
+ *
+ * @author ckf
+ */
+public enum CodecType {
+
+	/**
+	 * json字符串，和数据服对外的数据格式一致
+	 */
+	JSON,
+
+	/**
+	 * 按props()顺序排列的二进制格式
+	 */
+	BINARY,
+
+	;
+
+	/**
+	 * 创建po对应的编解码器
+	 *
+	 * @param cls
+	 * @return
+	 */
+	public <T extends BasePo> PoCodec<T> create(Class<T> cls) {
+		switch (this) {
+		case BINARY:
+			return new BinaryPoCodec<>(cls);
+		default:
+			return new JsonPoCodec<>(cls);
+		}
+	}
+}
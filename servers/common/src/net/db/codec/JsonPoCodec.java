@@ -0,0 +1,28 @@
+package net.db.codec;
+
+import java.nio.charset.StandardCharsets;
+import net.db.BasePo;
+import net.utils.JsonUtils;
+
+/**
+ * json格式，redis中存放的是utf-8编码的json字符串，和没有使用编解码器之前的格式相同
+ *
+ * @author ckf
+ */
+public final class JsonPoCodec<T extends BasePo> implements PoCodec<T> {
+
+	private final Class<T> cls;
+
+	public JsonPoCodec(Class<T> cls) {
+		this.cls = cls;
+	}
+
+	@Override public byte[] encode(T t) {
+		String data = JsonUtils.object2String(t);
+		return data == null ? null : data.getBytes(StandardCharsets.UTF_8);
+	}
+
+	@Override public T decode(byte[] data) {
+		return JsonUtils.string2Object(new String(data, StandardCharsets.UTF_8), cls);
+	}
+}
@@ -0,0 +1,29 @@
+package net.db.codec;
+
+import net.db.BasePo;
+
+/**
+ * po在缓存中的存储格式
+ *
+ * @author ckf
+ * @see CodecType
+ * @see net.db.anno.Cacheable#codec()
+ */
+public interface PoCodec<T extends BasePo> {
+
+	/**
+	 * 编码
+	 *
+	 * @param t
+	 * @return
+	 */
+	byte[] encode(T t);
+
+	/**
+	 * 解码
+	 *
+	 * @param data
+	 * @return 数据格式不兼容时返回null，调用方当作缓存不存在处理，从数据库重新加载
+	 */
+	T decode(byte[] data);
+}
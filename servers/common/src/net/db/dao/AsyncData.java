@@ -1,16 +1,26 @@
 package net.db.dao;
 
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import net.db.BasePo;
+import net.utils.OrderedExecutor;
 import net.utils.OrderedThreadPoolExecutor;
 
 /**
  * 异步数据操作（更新和删除的异步，取数据等操作需要同步返回）
  * 采用netty的OrderedMemoryAwareThreadPoolExecutor的设计通过高效的forkjoin线程池实现异步，
  * 不保证用户数据按提交顺序执行，只保证同一条数据按顺序执行，支持状态合并
+ * 缓存更新后数据库的写入交给每张表的WriteBehindQueue合并，按批次写入数据库
+ *
+ * @see WriteBehindQueue
  *
  * @author ckf
  */
@@ -18,9 +28,102 @@ public final class AsyncData extends SyncData {
 
 	private final static Logger logger = LoggerFactory.getLogger(AsyncData.class);
 
-	private final Map<String, BasePo> map = new ConcurrentHashMap<>();
-	private final OrderedThreadPoolExecutor executor = OrderedThreadPoolExecutor
-			.newFixesOrderedThreadPool(Runtime.getRuntime().availableProcessors());
+	/**
+	 * 重放日志时一个批次写入的数量
+	 */
+	private final static int REPLAY_BATCH = 1000;
+
+	/**
+	 * 停服时等待回写线程池执行完剩余任务的时间(秒)
+	 */
+	private final static long SHUTDOWN_TIMEOUT = 60;
+
+	/**
+	 * 每张缓存表的回写队列
+	 */
+	private final Map<CachedDao<?>, WriteBehindQueue<?>> queues = new ConcurrentHashMap<>();
+
+	private final OrderedExecutor executor;
+
+	/**
+	 * 预写日志，为null时不记录
+	 */
+	private final AsyncJournal journal;
+
+	public AsyncData() {
+		this(null);
+	}
+
+	/**
+	 * @param journal 已经重放过的预写日志
+	 */
+	public AsyncData(AsyncJournal journal) {
+		this(journal, OrderedThreadPoolExecutor.newFixesOrderedThreadPool(Runtime.getRuntime().availableProcessors()));
+	}
+
+	/**
+	 * @param journal 已经重放过的预写日志
+	 * @param executor 回写队列刷新使用的有序线程池
+	 */
+	public AsyncData(AsyncJournal journal, OrderedExecutor executor) {
+		this.journal = journal;
+		this.executor = executor;
+	}
+
+	/**
+	 * 重放预写日志中还没有写入mysql的数据，同一条数据只写入最后一次操作
+	 * 需要在所有dao初始化之后，数据服对外提供服务之前调用
+	 *
+	 * @param journal
+	 * @return 读取的记录数
+	 * @throws IOException 写入mysql失败，日志文件保留到下次起服
+	 */
+	public static int replay(AsyncJournal journal) throws IOException {
+		return journal.replay(new AsyncJournal.Handler() {
+
+			/**
+			 * 每张表每条数据的最后一次操作 true为删除
+			 */
+			private final Map<CachedDao<BasePo>, Map<MarkKey, Replayed>> latest = new LinkedHashMap<>();
+
+			@Override public void handle(byte op, int dsId, String className, String data) {
+				Dao<BasePo> dao = Dao.getDao(dsId, className);
+				if (!(dao instanceof CachedDao)) {
+					logger.error("重放异步日志找不到对应的缓存dao dsId = {} className = {}", dsId, className);
+					return;
+				}
+
+				CachedDao<BasePo> d = (CachedDao<BasePo>) dao;
+				BasePo t = d.decode(data);
+				if (t == null) {
+					return;
+				}
+
+				Map<MarkKey, Replayed> map = latest.computeIfAbsent(d, k -> new LinkedHashMap<>());
+				map.put(d.getMarkKey(t), new Replayed(t, op == AsyncJournal.OP_DELETE));
+			}
+
+			@Override public void apply() throws SQLException {
+				for (Map.Entry<CachedDao<BasePo>, Map<MarkKey, Replayed>> entry : latest.entrySet()) {
+					CachedDao<BasePo> d = entry.getKey();
+					List<BasePo> deletes = new ArrayList<>();
+					List<BasePo> updates = new ArrayList<>();
+					for (Replayed replayed : entry.getValue().values()) {
+						(replayed.delete ? deletes : updates).add(replayed.data);
+					}
+
+					for (int i = 0; i < deletes.size(); i += REPLAY_BATCH) {
+						d.deleteBatch(deletes.subList(i, Math.min(i + REPLAY_BATCH, deletes.size())));
+					}
+					for (int i = 0; i < updates.size(); i += REPLAY_BATCH) {
+						d.updateBatch(updates.subList(i, Math.min(i + REPLAY_BATCH, updates.size())));
+					}
+					logger.info("异步日志重放 po = {} delete = {} update = {}", d.cls.getSimpleName(), deletes.size(),
+							updates.size());
+				}
+			}
+		});
+	}
 
 	@Override public <T extends BasePo> int delete(int dsId, String className, String data) {
 		Dao<T> dao = Dao.getDao(dsId, className);
@@ -32,21 +135,17 @@ public final class AsyncData extends SyncData {
 		if (dao instanceof CachedDao) {
 			final CachedDao<T> d = (CachedDao<T>) dao;
 
-			String markKey = d.getMarkKey(t);
+			MarkKey markKey = d.getMarkKey(t);
+			//缓存出错时数据库的删除仍然走回写队列，覆盖队列中同一条数据还未写入的修改
+			int res = 1;
 			try {
-				int res = d.asyncDelete(t);
-
-				map.remove(markKey);
-				executor.execute(new OrderedThreadPoolExecutor.OrderedRunable((long) markKey.hashCode()) {
-					@Override public void run() {
-						d.asyncDeleteDb(t);
-					}
-				});
-				return res;
+				res = d.asyncDelete(t);
 			} catch (RuntimeException e) {
 				logger.error("cache error", e);
-				return d.asyncDeleteDb(t);
 			}
+
+			getQueue(dsId, d).delete(markKey, t, journal(AsyncJournal.OP_DELETE, dsId, className, data));
+			return res;
 		} else {
 			return super.delete(dsId, className, data);
 		}
@@ -61,30 +160,125 @@ public final class AsyncData extends SyncData {
 
 		if (dao instanceof CachedDao) {
 			final CachedDao<T> d = (CachedDao<T>) dao;
-			final String markKey = d.getMarkKey(t);
+			final MarkKey markKey = d.getMarkKey(t);
+			//缓存出错时数据库的更新仍然走回写队列，覆盖队列中同一条数据还未写入的修改
+			boolean res = true;
 			try {
-				boolean res = d.asyncUpdate(data);
-
-				map.put(markKey, t);
-				executor.execute(new OrderedThreadPoolExecutor.OrderedRunable((long) markKey.hashCode()) {
-					@Override public void run() {
-						Object o = map.remove(markKey);
-						if (o != null) {
-							d.asyncUpdateDb((T) o);
-						}
-					}
-				});
-				return res;
+				res = d.asyncUpdate(t, data);
 			} catch (RuntimeException e) {
 				logger.error("cache error", e);
-				return d.asyncUpdateDb(t);
 			}
+
+			getQueue(dsId, d).update(markKey, t, journal(AsyncJournal.OP_UPDATE, dsId, className, data));
+			return res;
 		} else {
 			return super.update(dsId, className, data);
 		}
 	}
 
+	/**
+	 * 缓存类的批量更新直接写入数据库，不写预写日志，返回前已经落库
+	 * 写入成功后移除回写队列中同一条数据更旧的修改，避免之后的刷新用旧数据覆盖
+	 */
+	@Override public int updateBatch(int dsId, String className, List<String> dataList) throws SQLException {
+		Dao<BasePo> dao = Dao.getDao(dsId, className);
+		if (!(dao instanceof CachedDao)) {
+			return super.updateBatch(dsId, className, dataList);
+		}
+
+		CachedDao<BasePo> d = (CachedDao<BasePo>) dao;
+		List<BasePo> tList = d.decodeAll(dataList);
+		try {
+			d.updateCacheBatch(tList, dataList);
+		} catch (RuntimeException e) {
+			logger.error("cache error", e);
+		}
+
+		List<MarkKey> markKeys = new ArrayList<>(tList.size());
+		for (BasePo t : tList) {
+			markKeys.add(d.getMarkKey(t));
+		}
+		return Dao.affectedRows(getQueue(dsId, d).writeThrough(markKeys, tList));
+	}
+
+	/**
+	 * 记录到预写日志，返回时记录已经落盘
+	 *
+	 * @return 记录所在的段，没有开启日志时为null
+	 */
+	private AsyncJournal.Segment journal(byte op, int dsId, String className, String data) {
+		if (journal == null) {
+			return null;
+		}
+
+		return journal.append(op, dsId, className, data);
+	}
+
+	/**
+	 * 取得表对应的回写队列
+	 *
+	 * @param dsId
+	 * @param dao
+	 * @return
+	 */
+	@SuppressWarnings("unchecked") //queues中队列的类型和作为key的dao一致
+	private <T extends BasePo> WriteBehindQueue<T> getQueue(int dsId, CachedDao<T> dao) {
+		WriteBehindQueue<T> queue = (WriteBehindQueue<T>) queues.get(dao);
+		if (queue == null) {
+			queue = new WriteBehindQueue<>(dsId, dao, executor);
+			WriteBehindQueue<T> exists = (WriteBehindQueue<T>) queues.putIfAbsent(dao, queue);
+			if (exists != null) {
+				queue.stop();
+				queue = exists;
+			} else {
+				dao.setWriteBehind(queue);
+			}
+		}
+
+		return queue;
+	}
+
 	public void shutdown() {
+		//停服前把还没有写入的数据全部刷到数据库
+		for (WriteBehindQueue<?> queue : queues.values()) {
+			queue.stop();
+		}
 		this.executor.shutdown();
+		if (!awaitTermination(SHUTDOWN_TIMEOUT, TimeUnit.SECONDS)) {
+			logger.error("回写线程池没有在{}秒内结束 {}", SHUTDOWN_TIMEOUT, executor.getMetrics());
+		}
+		//正在执行的写入完成后再关闭预写日志
+		if (journal != null) {
+			journal.close();
+		}
+	}
+
+	/**
+	 * 等待回写线程池中已经提交的任务执行完，需要在{@link #shutdown()}中的线程池关闭之后调用
+	 *
+	 * @param timeout
+	 * @param unit
+	 * @return 超时或者被中断返回false
+	 */
+	public boolean awaitTermination(long timeout, TimeUnit unit) {
+		try {
+			return executor.awaitTermination(timeout, unit);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	/**
+	 * 重放时一条数据的最后一次操作
+	 */
+	private static final class Replayed {
+		final BasePo data;
+		final boolean delete;
+
+		Replayed(BasePo data, boolean delete) {
+			this.data = data;
+			this.delete = delete;
+		}
 	}
 }
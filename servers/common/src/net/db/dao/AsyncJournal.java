@@ -0,0 +1,357 @@
+package net.db.dao;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import net.utils.CloseUtils;
+import net.utils.Tool;
+
+/**
+ * 异步写入的预写日志
+ * <p/>
+ * AsyncData接受的每一次异步更新和删除在返回前都会先追加到这里，停服或者宕机时还没有写入mysql的数据可以在
+ * 下次起服时通过{@link #replay(Handler)}重新写入，同一条数据只写入最后一次操作，全部写入成功后才删除日志
+ * <ul>
+ * <li>日志按段存放，每段是一个固定大小的内存映射文件，写满后滚动到下一段</li>
+ * <li>fsync采用组提交，一次force会把之前所有线程追加的记录一起落盘</li>
+ * <li>每段记录还未写入mysql的记录数，段写满且其中的记录都已写入mysql(或被后续的修改覆盖)后删除该段</li>
+ * </ul>
+ * 记录格式: [int 内容长度][int 校验码][byte 操作][int dsId][short 类名长度][类名][int 数据长度][数据]
+ *
+ * @author ckf
+ */
+public final class AsyncJournal {
+
+	private final static Logger logger = LoggerFactory.getLogger(AsyncJournal.class);
+
+	/**
+	 * 操作:更新
+	 */
+	public final static byte OP_UPDATE = 1;
+
+	/**
+	 * 操作:删除
+	 */
+	public final static byte OP_DELETE = 2;
+
+	private final static String SUFFIX = ".journal";
+
+	/**
+	 * 记录头长度 内容长度+校验码
+	 */
+	private final static int HEAD_SIZE = 8;
+
+	/**
+	 * 日志目录
+	 */
+	private final File dir;
+
+	/**
+	 * 每段的大小
+	 */
+	private final int segmentSize;
+
+	/**
+	 * 当前写入的段
+	 */
+	private Segment active;
+
+	/**
+	 * 已经追加的记录序号
+	 */
+	private volatile long writtenSeq;
+
+	/**
+	 * 已经落盘的记录序号
+	 */
+	private volatile long syncedSeq;
+
+	/**
+	 * 组提交锁
+	 */
+	private final Object syncLock = new Object();
+
+	public AsyncJournal(String dirPath, int segmentSize) {
+		this.dir = new File(dirPath);
+		this.segmentSize = segmentSize;
+		if (!dir.exists() && !dir.mkdirs()) {
+			throw new RuntimeException("创建异步日志目录失败 dir = " + dir.getAbsolutePath());
+		}
+	}
+
+	/**
+	 * 重放目录中残留的日志，所有段按追加顺序读出后交给handler合并，同一条数据只写入最后一次操作
+	 * 全部写入成功后才删除旧的段并且打开新的日志段，写入失败时保留所有段并抛出异常中止起服
+	 * 需要在数据服对外提供服务之前调用
+	 *
+	 * @param handler
+	 * @return 读取的记录数
+	 */
+	public synchronized int replay(Handler handler) throws IOException {
+		File[] files = dir.listFiles();
+		List<Long> ids = new ArrayList<>();
+		if (files != null) {
+			for (File file : files) {
+				String name = file.getName();
+				if (name.endsWith(SUFFIX)) {
+					ids.add(Long.parseLong(name.substring(0, name.length() - SUFFIX.length())));
+				}
+			}
+		}
+		Long[] sorted = ids.toArray(new Long[ids.size()]);
+		Arrays.sort(sorted);
+
+		//记录在追加锁内按段号和段内位置顺序写入，读出的顺序就是操作的先后顺序
+		int count = 0;
+		for (Long id : sorted) {
+			count += replaySegment(segmentFile(id), handler);
+		}
+
+		try {
+			handler.apply();
+		} catch (SQLException | RuntimeException e) {
+			throw new IOException("异步日志重放写入mysql失败，保留日志文件 dir = " + dir.getAbsolutePath(), e);
+		}
+
+		for (Long id : sorted) {
+			File file = segmentFile(id);
+			if (!file.delete()) {
+				logger.error("删除已重放的异步日志失败 file = {}", file.getAbsolutePath());
+			}
+		}
+
+		long nextId = sorted.length > 0 ? sorted[sorted.length - 1] + 1 : 1;
+		this.active = new Segment(nextId, segmentFile(nextId), segmentSize);
+		logger.info("异步日志重放完成 segments = {} records = {}", sorted.length, count);
+		return count;
+	}
+
+	private int replaySegment(File file, Handler handler) throws IOException {
+		RandomAccessFile raf = new RandomAccessFile(file, "r");
+		try {
+			MappedByteBuffer buffer = raf.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, raf.length());
+			int count = 0;
+			while (buffer.remaining() > HEAD_SIZE) {
+				int length = buffer.getInt();
+				int crc = buffer.getInt();
+				if (length <= 0 || length > buffer.remaining()) {
+					break;
+				}
+
+				byte[] body = new byte[length];
+				buffer.get(body);
+				if (Tool.calcCrc(body) != crc) {
+					//宕机时没有写完的记录
+					logger.error("异步日志记录校验失败，忽略之后的记录 file = {} pos = {}", file.getName(),
+							buffer.position() - length - HEAD_SIZE);
+					break;
+				}
+
+				ByteBuffer bb = ByteBuffer.wrap(body);
+				byte op = bb.get();
+				int dsId = bb.getInt();
+				byte[] classBytes = new byte[bb.getShort()];
+				bb.get(classBytes);
+				byte[] dataBytes = new byte[bb.getInt()];
+				bb.get(dataBytes);
+
+				try {
+					handler.handle(op, dsId, new String(classBytes, StandardCharsets.UTF_8),
+							new String(dataBytes, StandardCharsets.UTF_8));
+				} catch (RuntimeException e) {
+					logger.error("异步日志读取出错 file = " + file.getName(), e);
+				}
+				count++;
+			}
+			return count;
+		} finally {
+			CloseUtils.close(raf);
+		}
+	}
+
+	/**
+	 * 追加一条记录并等待落盘
+	 *
+	 * @param op
+	 * @param dsId
+	 * @param className
+	 * @param data
+	 * @return 记录所在的段，记录写入mysql后需要调用{@link Segment#release()}
+	 */
+	public Segment append(byte op, int dsId, String className, String data) {
+		byte[] classBytes = className.getBytes(StandardCharsets.UTF_8);
+		byte[] dataBytes = data.getBytes(StandardCharsets.UTF_8);
+		byte[] body = new byte[1 + 4 + 2 + classBytes.length + 4 + dataBytes.length];
+		ByteBuffer bb = ByteBuffer.wrap(body);
+		bb.put(op);
+		bb.putInt(dsId);
+		bb.putShort((short) classBytes.length);
+		bb.put(classBytes);
+		bb.putInt(dataBytes.length);
+		bb.put(dataBytes);
+		int crc = Tool.calcCrc(body);
+
+		Segment segment;
+		long seq;
+		synchronized (this) {
+			if (active == null) {
+				throw new IllegalStateException("异步日志还没有重放");
+			}
+
+			if (active.buffer.remaining() < HEAD_SIZE + body.length) {
+				roll(HEAD_SIZE + body.length);
+			}
+
+			segment = active;
+			segment.outstanding.incrementAndGet();
+			segment.buffer.putInt(body.length);
+			segment.buffer.putInt(crc);
+			segment.buffer.put(body);
+			seq = ++writtenSeq;
+		}
+
+		sync(seq);
+		return segment;
+	}
+
+	/**
+	 * 组提交，第一个拿到锁的线程替所有已追加的记录做一次force
+	 *
+	 * @param seq
+	 */
+	private void sync(long seq) {
+		if (syncedSeq >= seq) {
+			return;
+		}
+
+		synchronized (syncLock) {
+			if (syncedSeq >= seq) {
+				return;
+			}
+
+			long target = writtenSeq;
+			Segment segment;
+			synchronized (this) {
+				segment = active;
+			}
+			segment.buffer.force();
+			syncedSeq = target;
+		}
+	}
+
+	/**
+	 * 滚动到下一个日志段，旧的段在滚动前先落盘
+	 *
+	 * @param need 新记录需要的空间
+	 */
+	private void roll(int need) {
+		Segment old = active;
+		old.buffer.force();
+		old.sealed = true;
+		long nextId = old.id + 1;
+		try {
+			active = new Segment(nextId, segmentFile(nextId), Math.max(segmentSize, need));
+		} catch (IOException e) {
+			throw new RuntimeException("创建异步日志段失败 id = " + nextId, e);
+		}
+		old.tryDelete();
+	}
+
+	/**
+	 * 停服时关闭日志，所有记录已经写入mysql时删除当前段
+	 */
+	public synchronized void close() {
+		if (active == null) {
+			return;
+		}
+
+		active.buffer.force();
+		active.sealed = true;
+		active.tryDelete();
+	}
+
+	private File segmentFile(long id) {
+		return new File(dir, String.format("%020d", id) + SUFFIX);
+	}
+
+	/**
+	 * 日志段
+	 */
+	public static final class Segment {
+		private final long id;
+		private final File file;
+		private final MappedByteBuffer buffer;
+
+		/**
+		 * 还没有写入mysql的记录数
+		 */
+		private final AtomicInteger outstanding = new AtomicInteger();
+
+		/**
+		 * 是否已写满不再追加
+		 */
+		private volatile boolean sealed;
+
+		private Segment(long id, File file, int size) throws IOException {
+			this.id = id;
+			this.file = file;
+			RandomAccessFile raf = new RandomAccessFile(file, "rw");
+			try {
+				this.buffer = raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, size);
+			} finally {
+				CloseUtils.close(raf);
+			}
+		}
+
+		/**
+		 * 段内一条记录已经写入mysql或者被后续修改覆盖
+		 */
+		public void release() {
+			if (outstanding.decrementAndGet() == 0) {
+				tryDelete();
+			}
+		}
+
+		private synchronized void tryDelete() {
+			if (sealed && outstanding.get() == 0 && file.exists()) {
+				if (!file.delete()) {
+					logger.error("删除异步日志失败 file = {}", file.getAbsolutePath());
+				}
+			}
+		}
+	}
+
+	/**
+	 * 重放处理
+	 */
+	public interface Handler {
+
+		/**
+		 * 按追加顺序读到一条记录，同一条数据后读到的记录覆盖之前的记录
+		 *
+		 * @param op
+		 * @param dsId
+		 * @param className
+		 * @param data
+		 */
+		void handle(byte op, int dsId, String className, String data);
+
+		/**
+		 * 所有记录读取完后，把每条数据的最后一次操作写入mysql
+		 *
+		 * @throws SQLException 写入失败，日志文件会被保留
+		 */
+		void apply() throws SQLException;
+	}
+}
@@ -1,16 +1,37 @@
 package net.db.dao;
 
 import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import net.db.BasePo;
 import net.db.PoProxy;
 import net.db.anno.Cacheable;
+import net.db.codec.BinaryPoCodec;
+import net.db.codec.JsonPoCodec;
+import net.db.codec.PoCodec;
+import net.utils.MetricsUtils;
+import net.utils.db.SqlUtils;
 
 /**
  * 缓存Dao
@@ -22,6 +43,11 @@ public class CachedDao<T extends BasePo> extends Dao<T> {
 
 	private Logger logger = LoggerFactory.getLogger(CachedDao.class);
 
+	/**
+	 * 批量加载时一条sql中IN的最大数量
+	 */
+	private final static int MAX_IN_SIZE = 500;
+
 	/**
 	 * 是否Key映射到多份数据
 	 */
@@ -37,32 +63,119 @@ public class CachedDao<T extends BasePo> extends Dao<T> {
 	 */
 	protected Field subkeyField;
 
+	/**
+	 * key属性的读取函数
+	 */
+	protected Function<Object, Object> keyGetter;
+
+	/**
+	 * subkey属性的读取函数
+	 */
+	protected Function<Object, Object> subkeyGetter;
+
+	/**
+	 * 缓存key的前缀 类名_
+	 */
+	protected final String keyPrefix;
+
 	/**
 	 * 通过key取得多份数据的sql
 	 */
 	protected String manyInitSql;
 
+	/**
+	 * key所在的列，批量加载时用于 WHERE key IN (...)
+	 */
+	protected String keyColumn;
+
+	/**
+	 * manyInitSql是否只是按key查询，是的话批量加载一对多关系时可以合并成一条sql
+	 */
+	protected boolean manyInitByKey;
+
 	/**
 	 * 缓存工具
 	 */
 	protected RedisCache cache;
 
+	/**
+	 * 缓存中的存储格式
+	 */
+	protected final PoCodec<T> codec;
+
+	/**
+	 * 进程内一级缓存，没有开启时为null
+	 */
+	protected NearCache nearCache;
+
+	/**
+	 * 一级缓存过期后是否先返回过期的数据再后台刷新
+	 */
+	protected boolean staleWhileRevalidate;
+
+	/**
+	 * 异步模式下的回写队列，从数据库加载到缓存时用其中还没有写入的操作覆盖读到的数据，同步模式为null
+	 */
+	private volatile WriteBehindQueue<T> writeBehind;
+
+	/**
+	 * 加载期间回写队列有写入完成时重新加载的次数上限
+	 */
+	private final static int RELOAD_TIMES = 3;
+
+	/**
+	 * 缓存不存在时合并同一个key的数据库加载
+	 */
+	private final SingleFlight loads = new SingleFlight();
+
+	/**
+	 * 正在后台刷新的key
+	 */
+	private final Set<String> refreshing = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+
+	/**
+	 * 后台刷新的线程数
+	 */
+	private final static int REFRESH_THREADS = 4;
+
+	/**
+	 * 后台刷新排队的上限，满了以后不再刷新，继续返回过期的数据
+	 */
+	private final static int REFRESH_QUEUE_SIZE = 1024;
+
 	public CachedDao(Class<T> cls, PoProxy poProxy, RedisCache cache) {
 		super(cls, poProxy);
+		this.keyPrefix = (cls.getSimpleName() + "_").intern();
 		try {
 			Cacheable cacheable = cls.getAnnotation(Cacheable.class);
 			this.manyInitSql = cacheable.manyInitSql();
+			this.keyColumn = cls.newInstance().ids()[0];
+			this.manyInitByKey = manyInitSql.replaceAll("[\\s`]", "")
+					.equalsIgnoreCase(keyColumn.replace("`", "") + "=?");
 			this.keyField = cls.getSuperclass().getDeclaredField(cacheable.key());
 			this.keyField.setAccessible(true);
+			this.keyGetter = FieldGetter.of(keyField);
 			if (cacheable.subkey().length() > 0) {
 				this.isMany = true;
 				this.subkeyField = cls.getSuperclass().getDeclaredField(cacheable.subkey());
 				this.subkeyField.setAccessible(true);
+				this.subkeyGetter = FieldGetter.of(subkeyField);
 			}
 			this.cache = cache;
+			if (cacheable.nearCacheSize() > 0) {
+				this.staleWhileRevalidate = cacheable.staleWhileRevalidate();
+				this.nearCache = new NearCache(cacheable.nearCacheSize(), cacheable.nearCacheTtl(),
+						cacheable.nearCachePolicy(), staleWhileRevalidate);
+				this.nearCache.bindTo(cls.getName(), MetricsUtils.getRegistry());
+				if (cache != null) {
+					cache.registerNearCache(cls.getName(), nearCache);
+				}
+			}
 		} catch (Exception e) {
 			logger.error("!!!", e);
 		}
+		//格式不可用时直接启动失败，不能在运行中写入无法读取的缓存
+		this.codec = cls.getAnnotation(Cacheable.class).codec().create(cls);
 	}
 
 	@Deprecated @Override public String findByIdFromDb(Object... ids) {
@@ -96,6 +209,7 @@ public class CachedDao<T extends BasePo> extends Dao<T> {
 			String key = getKey(t);
 			cache.delete(key);
 		}
+		invalidateNear(getKey(t));
 
 		return super.deleteById(t.idValues());
 	}
@@ -111,7 +225,7 @@ public class CachedDao<T extends BasePo> extends Dao<T> {
 			String subkey = getSubkey(t);
 
 			try {
-				cache.mapSet(key, subkey, data);
+				cache.mapSetBytes(key, subkey, toCache(t, data));
 			} catch (RuntimeException e) {
 				logger.error("cache error", e);
 			}
@@ -119,13 +233,12 @@ public class CachedDao<T extends BasePo> extends Dao<T> {
 			String key = getKey(t);
 
 			try {
-				if (!cache.update(key, data)) {
-					return false;
-				}
+				cache.setBytes(key, toCache(t, data));
 			} catch (RuntimeException e) {
 				logger.error("cache error", e);
 			}
 		}
+		invalidateNear(getKey(t));
 
 		return super.update(t);
 	}
@@ -143,7 +256,7 @@ public class CachedDao<T extends BasePo> extends Dao<T> {
 			String subkey = getSubkey(t);
 
 			try {
-				cache.mapSet(key, subkey, data);
+				cache.mapSetBytes(key, subkey, toCache(t, data));
 			} catch (RuntimeException e) {
 				logger.error("cache error", e);
 			}
@@ -151,11 +264,23 @@ public class CachedDao<T extends BasePo> extends Dao<T> {
 			String key = getKey(t);
 
 			try {
-				cache.add(key, t);
+				cache.addBytes(key, toCache(t, data));
 			} catch (RuntimeException e) {
 				logger.error("cache error", e);
 			}
 		}
+		invalidateNear(getKey(t));
+	}
+
+	@Override public int updateBatchData(List<String> dataList) throws SQLException {
+		List<T> tList = decodeAll(dataList);
+		try {
+			updateCacheBatch(tList, dataList);
+		} catch (RuntimeException e) {
+			logger.error("cache error", e);
+		}
+
+		return affectedRows(updateBatch(tList));
 	}
 
 	@Override public void insertBatch(List<String> dataList) throws SQLException {
@@ -165,32 +290,67 @@ public class CachedDao<T extends BasePo> extends Dao<T> {
 
 		super.insertBatch(dataList);
 
-		String tmp = dataList.get(0);
-		T tmpT = decode(tmp);
-		if (isMany) {
-			String key = this.getKey(tmpT);
-			boolean isExist = cache.exists(key);
-
-			if (isExist) {
-				Map<String, String> map = new HashMap<>();
+		try {
+			if (isMany) {
+				//一批数据可能属于不同的key，按key分组
+				Map<Object, Map<String, byte[]>> groups = new HashMap<>();
 				for (String data : dataList) {
 					T t = decode(data);
-					map.put(getSubkey(t), data);
+					Object id = getKeyId(t);
+					Map<String, byte[]> map = groups.get(id);
+					if (map == null) {
+						map = new HashMap<>();
+						groups.put(id, map);
+					}
+					map.put(getSubkey(t), toCache(t, data));
+				}
+
+				//一次往返检查所有key是否存在
+				RedisBatch batch = cache.batch();
+				Map<Object, RedisBatch.Result<Boolean>> exists = new HashMap<>();
+				for (Object id : groups.keySet()) {
+					exists.put(id, batch.exists(getKey(id)));
+				}
+				batch.execute();
+
+				//一次往返写入，存在的只进行追加，不存在的全部从数据库捞入redis
+				RedisBatch write = cache.transaction();
+				for (Map.Entry<Object, Map<String, byte[]>> entry : groups.entrySet()) {
+					Object id = entry.getKey();
+					if (Boolean.TRUE.equals(exists.get(id).get())) {
+						write.mapSetAllBytes(getKey(id), entry.getValue(), false);
+					} else {
+						Map<String, byte[]> values = new HashMap<>();
+						loadManyFromDb(id, values);
+						if (values.size() > 0) {
+							write.mapSetAllBytes(getKey(id), values, true);
+						}
+					}
 				}
-				//只进行追加
-				cache.mapSetAll(key, map, false);
+				List<String> keys = new ArrayList<>(groups.size());
+				for (Object id : groups.keySet()) {
+					keys.add(getKey(id));
+				}
+				publishNear(write, keys);
+				write.execute();
+
+				invalidateNearLocal(keys);
 			} else {
-				//全部捞入redis
-				check(tmpT);
-			}
-		} else {
-			Map<String, String> map = new HashMap<>();
-			for (String data : dataList) {
-				T t = decode(data);
-				map.put(getSubkey(t), data);
+				Map<String, byte[]> map = new HashMap<>();
+				for (String data : dataList) {
+					T t = decode(data);
+					map.put(getKey(t), toCache(t, data));
+				}
+				//全部设置到redis
+				RedisBatch write = cache.batch();
+				write.msetBytes(map);
+				publishNear(write, map.keySet());
+				write.execute();
+
+				invalidateNearLocal(map.keySet());
 			}
-			//全部设置到redis
-			cache.mset(map);
+		} catch (RuntimeException e) {
+			logger.error("cache error", e);
 		}
 	}
 
@@ -210,7 +370,9 @@ public class CachedDao<T extends BasePo> extends Dao<T> {
 		String subkey = getSubkey(t);
 
 		cache.mapDelete(oldKey, subkey);
-		cache.mapSet(newKey, subkey, data);
+		cache.mapSetBytes(newKey, subkey, toCache(t, data));
+		invalidateNear(oldKey);
+		invalidateNear(newKey);
 
 		super.update(t);
 	}
@@ -233,15 +395,16 @@ public class CachedDao<T extends BasePo> extends Dao<T> {
 			throw new RuntimeException("get is blocked in CacheType MANY!");
 		}
 		// 从数据库load数据
-		T t = super.findById(id);
+		T t = loadOneFromDb(id);
 		String r = encode(t);
 		if (r != null) {
 			logger.debug("load data from db, key=" + getKey(t));
 			try {
-				cache.set(getKey(t), r);
+				cache.setBytes(getKey(t), toCache(t, r));
 			} catch (RuntimeException e) {
 				logger.error("cache error", e);
 			}
+			invalidateNear(getKey(t));
 		}
 
 		return r;
@@ -253,34 +416,107 @@ public class CachedDao<T extends BasePo> extends Dao<T> {
 	 * @param id
 	 * @return
 	 */
-	public String get(Object id) {
+	public String get(final Object id) {
 		if (isMany) {
 			throw new RuntimeException("get is blocked in CacheType MANY!");
 		}
 
+		final String key = getKey(id);
+		long nearEpoch = 0;
+		if (nearCache != null) {
+			String r = nearCache.get(key);
+			if (r != null) {
+				return r;
+			}
+			if (staleWhileRevalidate) {
+				r = nearCache.getStale(key);
+				if (r != null) {
+					refresh(key, new Callable<String>() {
+						@Override public String call() {
+							return loadOne(id, key);
+						}
+					});
+					return r;
+				}
+			}
+			nearEpoch = nearCache.epoch(key);
+		}
+
+		String r = loadOne(id, key);
+		if (nearCache != null && r != null) {
+			nearCache.put(key, r, nearEpoch);
+		}
+		return r;
+	}
+
+	/**
+	 * 通过id获取一条数据的原始格式，适用于CacheType.ONE
+	 * 二进制格式的表在redis命中并且列结构一致时原样返回缓存中的数据，不经过解码和json编码，由客户端解码
+	 * 其他情况返回utf-8编码的json，开启了一级缓存的表使用一级缓存中已经编码好的json
+	 *
+	 * @param id
+	 * @return 不存在时为null
+	 */
+	public byte[] getRaw(final Object id) {
+		if (!(codec instanceof BinaryPoCodec) || nearCache != null) {
+			return utf8(get(id));
+		}
+
+		try {
+			byte[] value = cache.getBytes(getKey(id));
+			if (((BinaryPoCodec<T>) codec).isCurrent(value)) {
+				return value;
+			}
+		} catch (RuntimeException e) {
+			logger.error("cache error", e);
+		}
+		return utf8(get(id));
+	}
+
+	/**
+	 * 从redis取得一条数据，不存在时从数据库加载，同一个key同时只有一个线程访问数据库
+	 *
+	 * @param id
+	 * @param key
+	 * @return
+	 */
+	private String loadOne(final Object id, final String key) {
 		String r = null;
 		try {
-			r = cache.get(getKey(id));
+			r = fromCache(cache.getBytes(key));
 		} catch (RuntimeException e) {
 			logger.error("cache error", e);
 		}
+		if (r != null) {
+			return r;
+		}
 
 		// 从数据库load数据
-		if (r == null) {
-			T t = super.findById(id);
-			if (t != null) {
-				logger.debug("load data from db, key=" + getKey(t));
+		return loads.load(key, new Callable<String>() {
+			@Override public String call() {
+				//等待期间可能已经被其他线程加载到redis
 				try {
-					cache.set(getKey(t), encode(t));
+					String r = fromCache(cache.getBytes(key));
+					if (r != null) {
+						return r;
+					}
 				} catch (RuntimeException e) {
 					logger.error("cache error", e);
 				}
-			}
-
-			r = encode(t);
-		}
 
-		return r;
+				T t = loadOneFromDb(id);
+				String r = encode(t);
+				if (t != null) {
+					logger.debug("load data from db, key=" + getKey(t));
+					try {
+						cache.setBytes(getKey(t), toCache(t, r));
+					} catch (RuntimeException e) {
+						logger.error("cache error", e);
+					}
+				}
+				return r;
+			}
+		});
 	}
 
 	/**
@@ -291,19 +527,15 @@ public class CachedDao<T extends BasePo> extends Dao<T> {
 	 * @return
 	 */
 	public String getListFromDb(Object id) {
-		Map<String, String> map = new HashMap<>();
-		List<T> ls = super.findBySQL(manyInitSql, new Object[] { id });
-		if (ls != null && ls.size() > 0) {
-			logger.debug("load data from db, key=" + getKey(id));
-
-			for (T t : ls) {
-				map.put(getSubkey(t), encode(t));
-			}
+		Map<String, byte[]> values = new HashMap<>();
+		Map<String, String> map = loadManyFromDb(id, values);
+		if (map.size() > 0) {
 			try {
-				cache.mapSetAll(getKey(id), map);
+				cache.mapSetAllBytes(getKey(id), values, true);
 			} catch (RuntimeException e) {
 				logger.error("cache error", e);
 			}
+			invalidateNear(getKey(id));
 		}
 
 		return encode(map.values());
@@ -315,39 +547,144 @@ public class CachedDao<T extends BasePo> extends Dao<T> {
 	 * @param id
 	 * @return
 	 */
-	public String getList(Object id) {
+	public String getList(final Object id) {
 		if (!isMany) {
 			throw new RuntimeException("getList is blocked in CacheType ONE!");
 		}
 
+		final String key = getKey(id);
+		long nearEpoch = 0;
+		if (nearCache != null) {
+			String r = nearCache.get(key);
+			if (r != null) {
+				return r;
+			}
+			if (staleWhileRevalidate) {
+				r = nearCache.getStale(key);
+				if (r != null) {
+					refresh(key, new Callable<String>() {
+						@Override public String call() {
+							return encode(loadList(id, key).values());
+						}
+					});
+					return r;
+				}
+			}
+			nearEpoch = nearCache.epoch(key);
+		}
+
+		String r = encode(loadList(id, key).values());
+		if (nearCache != null && r != null) {
+			nearCache.put(key, r, nearEpoch);
+		}
+		return r;
+	}
+
+	/**
+	 * 通过id获取一组数据的原始格式，适用于CacheType.MANY
+	 * 二进制格式的表在redis命中并且每条数据的列结构都一致时拼成{@link BinaryPoCodec#joinList(Collection)}的列表格式返回，不经过解码和json编码
+	 * 其他情况和{@link #getRaw(Object)}一样返回utf-8编码的json数组
+	 *
+	 * @param id
+	 * @return
+	 */
+	public byte[] getListRaw(final Object id) {
+		if (!isMany) {
+			throw new RuntimeException("getList is blocked in CacheType ONE!");
+		}
+		if (!(codec instanceof BinaryPoCodec) || nearCache != null) {
+			return utf8(getList(id));
+		}
+
+		String key = getKey(id);
+		try {
+			RedisBatch batch = cache.batch();
+			RedisBatch.Result<Map<byte[], byte[]>> result = batch.mapGetAllBytes(key);
+			batch.mapSetDelay(key);
+			batch.execute();
+			Map<byte[], byte[]> values = result.get();
+			if (values != null && values.size() > 0 && isCurrent(values.values())) {
+				return BinaryPoCodec.joinList(values.values());
+			}
+		} catch (RuntimeException e) {
+			logger.error("cache error", e);
+		}
+		return utf8(getList(id));
+	}
+
+	private boolean isCurrent(Collection<byte[]> values) {
+		BinaryPoCodec<T> binary = (BinaryPoCodec<T>) codec;
+		for (byte[] value : values) {
+			if (!binary.isCurrent(value)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 从redis取得一组数据，不存在时从数据库加载
+	 *
+	 * @param id
+	 * @param key
+	 * @return subkey -> 数据
+	 */
+	private Map<String, String> loadList(Object id, String key) {
 		Map<String, String> map = null;
 		try {
-			map = cache.mapGetAll(getKey(id));
+			//读取和自动延期在同一次往返中完成
+			RedisBatch batch = cache.batch();
+			RedisBatch.Result<Map<byte[], byte[]>> result = batch.mapGetAllBytes(key);
+			batch.mapSetDelay(key);
+			batch.execute();
+			//有格式不兼容的数据时整组从数据库重新加载
+			map = fromCache(RedisCache.decodeKeys(result.get()));
 		} catch (RuntimeException e) {
 			logger.error("cache error", e);
 		}
 
 		// 从数据库load数据
 		if (map == null || map.size() == 0) {
-			map = new HashMap<>();
-			List<T> ls = super.findBySQL(manyInitSql, new Object[] { id });
-			if (ls != null && ls.size() > 0) {
-				logger.debug("load data from db, key=" + getKey(id));
+			map = loadListFromDb(id, key, true);
+		}
+		return map;
+	}
 
-				for (T t : ls) {
-					map.put(getSubkey(t), encode(t));
+	/**
+	 * 从数据库加载一组数据并写入redis，同一个key同时只有一个线程访问数据库
+	 *
+	 * @param id
+	 * @param key
+	 * @param recheck 是否先检查redis，等待期间可能已经被其他线程加载
+	 * @return subkey -> 数据，调用方不能修改
+	 */
+	private Map<String, String> loadListFromDb(final Object id, final String key, final boolean recheck) {
+		//强制刷新和先检查redis的加载使用不同的key，避免强制刷新等到的是redis中的旧数据
+		return loads.load(recheck ? key : key + "#refresh", new Callable<Map<String, String>>() {
+			@Override public Map<String, String> call() {
+				if (recheck) {
+					try {
+						Map<String, String> map = fromCache(cache.mapGetAllBytes(key));
+						if (map != null && map.size() > 0) {
+							return map;
+						}
+					} catch (RuntimeException e) {
+						logger.error("cache error", e);
+					}
 				}
-				try {
-					cache.mapSetAll(getKey(id), map);
-				} catch (RuntimeException e) {
-					logger.error("cache error", e);
+
+				Map<String, byte[]> values = new HashMap<>();
+				Map<String, String> map = loadManyFromDb(id, values);
+				if (map.size() > 0) {
+					try {
+						cache.mapSetAllBytes(key, values, true);
+					} catch (RuntimeException e) {
+						logger.error("cache error", e);
+					}
 				}
+				return map;
 			}
-		} else {
-			cache.mapSetDelay(getKey(id));//自动延期
-		}
-
-		return encode(map.values());
+		});
 	}
 
 	/**
@@ -357,7 +694,7 @@ public class CachedDao<T extends BasePo> extends Dao<T> {
 	 * @param subId
 	 * @return
 	 */
-	public String getOne(Object id, Object subId, boolean isFlushCache) {
+	public String getOne(Object id, final Object subId, boolean isFlushCache) {
 		if (!isMany) {
 			throw new RuntimeException("getList is blocked in CacheType ONE!");
 		}
@@ -365,42 +702,345 @@ public class CachedDao<T extends BasePo> extends Dao<T> {
 		String key = getKey(id);
 		String subkey = getSubkey(subId);
 
-		boolean exists = false;
 		try {
-			exists = cache.exists(key);
-			if (exists) {
-				String r = cache.mapGet(key, subkey);
-				if (r != null) {
-					return r;
-				}
-
-				//否则就从数据库查一次
+			RedisBatch batch = cache.batch();
+			RedisBatch.Result<Boolean> exists = batch.exists(key);
+			RedisBatch.Result<byte[]> r = batch.mapGetBytes(key, subkey);
+			batch.execute();
+			String data = fromCache(r.get());
+			if (Boolean.TRUE.equals(exists.get()) && data != null) {
+				return data;
 			}
+
+			//否则就从数据库查一次
 		} catch (RuntimeException e) {
 			logger.error("cache error", e);
 		}
 		// 从数据库load数据
 		if (isFlushCache) {
-			HashMap<String, String> map = new HashMap<>();
-			List<T> ls = super.findBySQL(manyInitSql, new Object[] { id });
-			if (ls != null && ls.size() > 0) {
-				logger.debug("load data from db, key=" + getKey(id));
-				for (T t : ls) {
-					map.put(getSubkey(t), encode(t));
+			//key存在但没有这条数据时也需要重新加载，不能复用redis中的结果，也不能合并到先检查redis的加载中
+			return loadListFromDb(id, key, false).get(subkey);
+		} else {
+			return loads.load(key + "#" + subkey, new Callable<String>() {
+				@Override public String call() {
+					return encode(loadOneFromDb(subId));
+				}
+			});
+		}
+	}
+
+	/**
+	 * 从一对多关系中获取一条数据的原始格式，和{@link #getRaw(Object)}一样只有二进制格式的表会返回缓存中的数据
+	 *
+	 * @param id
+	 * @param subId
+	 * @param isFlushCache
+	 * @return 不存在时为null
+	 */
+	public byte[] getOneRaw(Object id, Object subId, boolean isFlushCache) {
+		if (!(codec instanceof BinaryPoCodec)) {
+			return utf8(getOne(id, subId, isFlushCache));
+		}
+
+		try {
+			RedisBatch batch = cache.batch();
+			RedisBatch.Result<Boolean> exists = batch.exists(getKey(id));
+			RedisBatch.Result<byte[]> r = batch.mapGetBytes(getKey(id), getSubkey(subId));
+			batch.execute();
+			if (Boolean.TRUE.equals(exists.get()) && ((BinaryPoCodec<T>) codec).isCurrent(r.get())) {
+				return r.get();
+			}
+		} catch (RuntimeException e) {
+			logger.error("cache error", e);
+		}
+		return utf8(getOne(id, subId, isFlushCache));
+	}
+
+	/**
+	 * 通过一组id获取多条数据，适用于CacheType.ONE
+	 * redis通过一次MGET读取，不存在的通过一条sql从数据库加载
+	 *
+	 * @param ids
+	 * @return 和ids的顺序一致，不存在的为null
+	 */
+	public List<String> getMany(List<?> ids) {
+		if (isMany) {
+			throw new RuntimeException("getMany is blocked in CacheType MANY!");
+		}
+
+		return readMany(ids);
+	}
+
+	/**
+	 * 通过一组id获取多组数据，适用于CacheType.MANY
+	 * redis通过一次往返读取全部HGETALL，不存在的通过一条sql从数据库加载
+	 *
+	 * @param ids
+	 * @return 和ids的顺序一致
+	 */
+	public List<String> getListMany(List<?> ids) {
+		if (!isMany) {
+			throw new RuntimeException("getListMany is blocked in CacheType ONE!");
+		}
+
+		return readMany(ids);
+	}
+
+	private List<String> readMany(List<?> ids) {
+		RedisBatch batch = cache.batch();
+		ManyRead read = prepareMany(ids, batch);
+		boolean cached = true;
+		try {
+			batch.execute();
+		} catch (RuntimeException e) {
+			logger.error("cache error", e);
+			cached = false;
+		}
+		return finishMany(read, cached);
+	}
+
+	/**
+	 * 批量读取 1.一级缓存中没有的把读取命令加入批量操作
+	 * 多张表的命令可以放到同一个批量操作中，执行后再分别调用{@link #finishMany(ManyRead, boolean)}
+	 *
+	 * @param ids
+	 * @param batch
+	 * @return
+	 */
+	ManyRead prepareMany(List<?> ids, RedisBatch batch) {
+		ManyRead read = new ManyRead(ids);
+
+		List<String> keys = new ArrayList<>(ids.size());
+		for (int i = 0; i < ids.size(); i++) {
+			String key = getKey(ids.get(i));
+			read.keys[i] = key;
+			if (nearCache != null) {
+				read.nearEpochs[i] = nearCache.epoch(key);
+				String r = nearCache.get(key);
+				if (r != null) {
+					read.results[i] = r;
+					continue;
 				}
+			}
+			read.pending.add(i);
+			keys.add(key);
+		}
+		if (keys.isEmpty()) {
+			return read;
+		}
 
+		if (isMany) {
+			read.maps = new ArrayList<>(keys.size());
+			for (String key : keys) {
+				read.maps.add(batch.mapGetAllBytes(key));
+				batch.mapSetDelay(key);
+			}
+		} else {
+			read.values = batch.mgetBytes(keys);
+		}
+		return read;
+	}
+
+	/**
+	 * 批量读取 2.批量操作执行后取得结果，不在redis中的从数据库加载并写回redis
+	 *
+	 * @param read
+	 * @param cached 批量操作是否执行成功，失败时全部从数据库加载
+	 * @return 和ids的顺序一致
+	 */
+	List<String> finishMany(ManyRead read, boolean cached) {
+		List<Integer> misses = new ArrayList<>();
+		for (int n = 0; n < read.pending.size(); n++) {
+			int i = read.pending.get(n);
+			String r = null;
+			if (cached) {
 				try {
-					cache.mapSetAll(getKey(id), map);
+					if (isMany) {
+						//有格式不兼容的数据时整组从数据库重新加载
+						Map<String, String> map = fromCache(RedisCache.decodeKeys(read.maps.get(n).get()));
+						if (map != null && map.size() > 0) {
+							r = encode(map.values());
+						}
+					} else {
+						r = fromCache(read.values.get().get(n));
+					}
 				} catch (RuntimeException e) {
 					logger.error("cache error", e);
 				}
 			}
 
-			return map.get(getSubkey(subId));
+			if (r == null) {
+				misses.add(i);
+			} else {
+				read.results[i] = r;
+			}
+		}
 
-		} else {
-			return encode(super.findById(subId));
+		if (misses.size() > 0) {
+			loadMisses(read, misses);
+		}
 
+		if (nearCache != null) {
+			for (int i : read.pending) {
+				if (read.results[i] != null) {
+					nearCache.put(read.keys[i], read.results[i], read.nearEpochs[i]);
+				}
+			}
+		}
+		return Arrays.asList(read.results);
+	}
+
+	/**
+	 * 从数据库加载批量读取中不在redis的数据
+	 * 只有一个时沿用单个读取的路径，和其他线程的加载合并；多个时通过一条 WHERE key IN (...) 加载
+	 *
+	 * @param read
+	 * @param misses
+	 */
+	private void loadMisses(ManyRead read, List<Integer> misses) {
+		if (misses.size() == 1 || (isMany && !manyInitByKey)) {
+			for (int i : misses) {
+				Object id = read.ids.get(i);
+				if (isMany) {
+					read.results[i] = encode(loadListFromDb(id, read.keys[i], true).values());
+				} else {
+					read.results[i] = loadOne(id, read.keys[i]);
+				}
+			}
+			return;
+		}
+
+		//同一个key可能出现多次
+		Map<String, Object> ids = new LinkedHashMap<>();
+		for (int i : misses) {
+			ids.put(read.keys[i], read.ids.get(i));
+		}
+
+		Map<String, String> ones = new HashMap<>();
+		Map<String, Map<String, String>> lists = new HashMap<>();
+		Map<String, byte[]> values = new HashMap<>();
+		Map<String, Map<String, byte[]>> listValues = new HashMap<>();
+		final List<Object> keyIds = new ArrayList<>(ids.values());
+		List<T> rows = loadFromDb(new Supplier<List<T>>() {
+			@Override public List<T> get() {
+				return findByKeys(keyIds);
+			}
+		});
+		for (T t : rows) {
+			String key = getKey(t);
+			String data = encode(t);
+			if (isMany) {
+				Map<String, String> map = lists.get(key);
+				if (map == null) {
+					map = new HashMap<>();
+					lists.put(key, map);
+					listValues.put(key, new HashMap<String, byte[]>());
+				}
+				map.put(getSubkey(t), data);
+				listValues.get(key).put(getSubkey(t), toCache(t, data));
+			} else {
+				ones.put(key, data);
+				values.put(key, toCache(t, data));
+			}
+		}
+		logger.debug("load data from db, keys=" + ids.keySet());
+
+		//一次往返全部写回redis
+		try {
+			if (isMany) {
+				RedisBatch write = cache.transaction();
+				for (Map.Entry<String, Map<String, byte[]>> node : listValues.entrySet()) {
+					write.mapSetAllBytes(node.getKey(), node.getValue(), true);
+				}
+				write.execute();
+			} else if (values.size() > 0) {
+				cache.msetBytes(values);
+			}
+		} catch (RuntimeException e) {
+			logger.error("cache error", e);
+		}
+
+		for (int i : misses) {
+			if (isMany) {
+				Map<String, String> map = lists.get(read.keys[i]);
+				read.results[i] = encode(map == null ? Collections.emptyList() : map.values());
+			} else {
+				read.results[i] = ones.get(read.keys[i]);
+			}
+		}
+	}
+
+	/**
+	 * 通过 WHERE key IN (...) 从数据库加载一组key的数据，key太多时分成几条sql
+	 *
+	 * @param ids
+	 * @return
+	 */
+	private List<T> findByKeys(List<Object> ids) {
+		List<T> r = new ArrayList<>();
+		for (int from = 0; from < ids.size(); from += MAX_IN_SIZE) {
+			List<Object> part = ids.subList(from, Math.min(ids.size(), from + MAX_IN_SIZE));
+			List<T> ls = super.loadBySQL(SqlUtils.in(keyColumn, part.size()), part.toArray());
+			if (ls != null) {
+				r.addAll(ls);
+			}
+		}
+		return r;
+	}
+
+	/**
+	 * 后台刷新一级缓存，同一个key同时只有一个刷新任务
+	 *
+	 * @param key
+	 * @param loader
+	 */
+	private void refresh(final String key, final Callable<String> loader) {
+		if (!refreshing.add(key)) {
+			return;
+		}
+
+		final long nearEpoch = nearCache.epoch(key);
+		try {
+			RefreshHolder.EXECUTOR.execute(new Runnable() {
+				@Override public void run() {
+					try {
+						String r = loader.call();
+						if (r != null) {
+							nearCache.put(key, r, nearEpoch);
+						} else {
+							nearCache.invalidate(key);
+						}
+					} catch (Exception e) {
+						logger.error("refresh near cache error, key=" + key, e);
+					} finally {
+						refreshing.remove(key);
+					}
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			refreshing.remove(key);
+			logger.warn("refresh queue full, key={}", key);
+		}
+	}
+
+	/**
+	 * 一级缓存后台刷新的线程池，所有表共用，刷新会阻塞读redis和数据库，不能占用Scheduler的线程
+	 */
+	private static final class RefreshHolder {
+		static final ThreadPoolExecutor EXECUTOR = new ThreadPoolExecutor(REFRESH_THREADS, REFRESH_THREADS, 60L,
+				TimeUnit.SECONDS, new ArrayBlockingQueue<Runnable>(REFRESH_QUEUE_SIZE), new ThreadFactory() {
+					private final AtomicInteger index = new AtomicInteger();
+
+					@Override public Thread newThread(Runnable r) {
+						Thread thread = new Thread(r);
+						thread.setName("nearCacheRefresh-" + index.incrementAndGet());
+						thread.setDaemon(true);
+						return thread;
+					}
+				});
+
+		static {
+			EXECUTOR.allowCoreThreadTimeOut(true);
 		}
 	}
 
@@ -411,14 +1051,17 @@ public class CachedDao<T extends BasePo> extends Dao<T> {
 	 * @return
 	 */
 	public int asyncDelete(T t) {
+		boolean r;
 		if (isMany) {
 			String key = getKey(t);
 			String subkey = getSubkey(t);
-			return cache.mapDelete(key, subkey) ? 1 : 0;
+			r = cache.mapDelete(key, subkey);
 		} else {
 			String key = getKey(t);
-			return cache.delete(key) ? 1 : 0;
+			r = cache.delete(key);
 		}
+		invalidateNear(getKey(t));
+		return r ? 1 : 0;
 	}
 
 	/**
@@ -434,11 +1077,11 @@ public class CachedDao<T extends BasePo> extends Dao<T> {
 	/**
 	 * 异步更新 1.更新缓存
 	 *
-	 * @param data
+	 * @param t 调用方已经解码的数据
+	 * @param data t对应的json
 	 * @return
 	 */
-	public boolean asyncUpdate(String data) {
-		T t = decode(data);
+	public boolean asyncUpdate(T t, String data) {
 		if (isMany) {
 
 			check(t);
@@ -446,17 +1089,49 @@ public class CachedDao<T extends BasePo> extends Dao<T> {
 			String key = getKey(t);
 			String subkey = getSubkey(t);
 
-			cache.mapSet(key, subkey, data);
+			cache.mapSetBytes(key, subkey, toCache(t, data));
 		} else {
 			String key = getKey(t);
 
-			if (!cache.update(key, data)) {
-				return false;
-			}
+			cache.setBytes(key, toCache(t, data));
 		}
+		invalidateNear(getKey(t));
 		return true;
 	}
 
+	/**
+	 * 批量更新缓存，通过一次redis往返写入，和asyncUpdate一样不检查一对多关系的key是否存在
+	 *
+	 * @param tList
+	 * @param dataList 和tList一一对应
+	 */
+	void updateCacheBatch(List<T> tList, List<String> dataList) {
+		RedisBatch batch = cache.batch();
+		Map<String, byte[]> values = new HashMap<>();
+		for (int i = 0; i < tList.size(); i++) {
+			T t = tList.get(i);
+			if (isMany) {
+
+				check(t);
+
+				batch.mapSetBytes(getKey(t), getSubkey(t), toCache(t, dataList.get(i)));
+			} else {
+				values.put(getKey(t), toCache(t, dataList.get(i)));
+			}
+		}
+		if (!values.isEmpty()) {
+			batch.msetBytes(values);
+		}
+		List<String> keys = new ArrayList<>(tList.size());
+		for (T t : tList) {
+			keys.add(getKey(t));
+		}
+		publishNear(batch, keys);
+		batch.execute();
+
+		invalidateNearLocal(keys);
+	}
+
 	/**
 	 * 异步更新 
 	 *
@@ -483,76 +1158,67 @@ public class CachedDao<T extends BasePo> extends Dao<T> {
 		String subkey = getSubkey(t);
 
 		cache.mapDelete(oldKey, subkey);
-		cache.mapSet(newKey, subkey, data);
+		cache.mapSetBytes(newKey, subkey, toCache(t, data));
+		invalidateNear(oldKey);
+		invalidateNear(newKey);
 	}
 
 	protected String getKey(T obj) {
-		try {
-			return cls.getSimpleName() + "_" + keyField.get(obj);
-		} catch (IllegalAccessException e) {
-			logger.error("!!!", e);
-		}
-
-		return "";
+		return keyPrefix + keyGetter.apply(obj);
 	}
 
 	protected String getSubkey(T obj) {
 		if (isMany) {
-			try {
-				return String.valueOf(subkeyField.get(obj));
-			} catch (IllegalAccessException e) {
-				logger.error("!!!", e);
-			}
+			return String.valueOf(subkeyGetter.apply(obj));
 		}
 		return "";
 	}
 
+	/**
+	 * 取得对象key属性的值
+	 */
+	protected Object getKeyId(T obj) {
+		return keyGetter.apply(obj);
+	}
+
+	/**
+	 * 取得对象subkey属性的值，一对一关系时为null
+	 */
+	protected Object getSubkeyId(T obj) {
+		return isMany ? subkeyGetter.apply(obj) : null;
+	}
+
 	protected String getKey(Object id) {
-		return cls.getSimpleName() + "_" + id;
+		return keyPrefix + id;
 	}
 
 	protected String getSubkey(Object subId) {
 		return String.valueOf(subId);
 	}
 
-	protected String getMarkKey(Object... ids) {
+	protected MarkKey getMarkKey(Object... ids) {
 		if (isMany) {
 			if (ids.length != 2) {
 				throw new RuntimeException("must give key and subkey");
 			}
 
-			String key = getKey(ids[0]);
-			String subkey = getSubkey(ids[1]);
-			return key + subkey;
+			return new MarkKey(ids[0], ids[1]);
 		} else {
 			if (ids.length != 1) {
 				throw new RuntimeException("must give key");
 			}
 
-			String key = getKey(ids[0]);
-			return key;
+			return new MarkKey(ids[0], null);
 		}
 	}
 
-	protected String getMarkKey(T t) {
-		if (isMany) {
-			String key = getKey(t);
-			String subkey = getSubkey(t);
-
-			return key + subkey;
-		} else {
-			String key = getKey(t);
-
-			return key;
-		}
+	protected MarkKey getMarkKey(T t) {
+		return new MarkKey(getKeyId(t), getSubkeyId(t));
 	}
 
-	protected String getOldMarkKey(Object oldId, T t) {
+	protected MarkKey getOldMarkKey(Object oldId, T t) {
 		if (isMany) {
-			String key = getKey(oldId);
-			String subkey = getSubkey(t);
-
-			return key + subkey;
+			return new MarkKey(oldId, getSubkeyId(t));
 		} else {
 			throw new RuntimeException("one to one unsupperted getOldMarkKey");
 		}
@@ -560,6 +1226,69 @@ public class CachedDao<T extends BasePo> extends Dao<T> {
 
 	public void setCache(RedisCache cache) {
 		this.cache = cache;
+		if (nearCache != null) {
+			nearCache.clear();
+			cache.registerNearCache(cls.getName(), nearCache);
+		}
+	}
+
+	/**
+	 * 一级缓存，用于查看命中率等统计，没有开启时为null
+	 *
+	 * @return
+	 */
+	public NearCache getNearCache() {
+		return nearCache;
+	}
+
+	/**
+	 * redis写入后使本地和其他数据服的一级缓存失效
+	 *
+	 * @param key
+	 */
+	protected void invalidateNear(String key) {
+		if (nearCache == null) {
+			return;
+		}
+
+		nearCache.invalidate(key);
+		try {
+			cache.publishNearCacheInvalidate(cls.getName(), key);
+		} catch (RuntimeException e) {
+			logger.error("cache error", e);
+		}
+	}
+
+	/**
+	 * 批量写入时把失效消息加入同一个批量操作，跟在写命令后面通过同一次往返广播
+	 * execute之后还需要调用{@link #invalidateNearLocal(Collection)}
+	 *
+	 * @param batch
+	 * @param keys
+	 */
+	private void publishNear(RedisBatch batch, Collection<String> keys) {
+		if (nearCache == null) {
+			return;
+		}
+
+		for (String key : keys) {
+			cache.publishNearCacheInvalidate(batch, cls.getName(), key);
+		}
+	}
+
+	/**
+	 * 批量写入后使本地的一级缓存失效
+	 *
+	 * @param keys
+	 */
+	private void invalidateNearLocal(Collection<String> keys) {
+		if (nearCache == null) {
+			return;
+		}
+
+		for (String key : keys) {
+			nearCache.invalidate(key);
+		}
 	}
 
 	/**
@@ -584,30 +1313,105 @@ public class CachedDao<T extends BasePo> extends Dao<T> {
 		boolean isExist = cache.exists(key);
 
 		if (!isExist) { //不存在可能被过期移除了，需要重新从数据库捞一遍
-			Object id = null;
-			try {
-				id = keyField.get(t);
-			} catch (IllegalAccessException e) {
-				logger.error("CacheDao.check", e);
-				return;
-			}
-			Map<String, String> map = new HashMap<>();
-			List<T> ls = super.findBySQL(manyInitSql, new Object[] { id });
-			if (ls != null && ls.size() > 0) {
-				logger.debug("load data from db, key=" + getKey(id));
-
-				for (T t1 : ls) {
-					map.put(getSubkey(t1), encode(t1));
-				}
-				try {
-					cache.mapSetAll(key, map);
-				} catch (RuntimeException e) {
-					logger.error("cache error", e);
+			Object id = getKeyId(t);
+			loadListFromDb(id, key, true);
+		}
+	}
+
+	/**
+	 * 从数据库取得一对多关系中key对应的全部数据
+	 *
+	 * @param id
+	 * @param values 写入redis的数据 subkey -> 缓存格式的数据
+	 * @return subkey -> 数据
+	 */
+	private Map<String, String> loadManyFromDb(Object id, Map<String, byte[]> values) {
+		Map<String, String> map = new HashMap<>();
+		List<T> ls = loadManyRows(id);
+		if (ls != null && ls.size() > 0) {
+			logger.debug("load data from db, key=" + getKey(id));
+
+			for (T t : ls) {
+				String subkey = getSubkey(t);
+				String data = encode(t);
+				map.put(subkey, data);
+				values.put(subkey, toCache(t, data));
+			}
+		}
+		return map;
+	}
+
+	/**
+	 * 从数据库取得一对多关系中key对应的全部数据，已经合并回写队列中还没有写入的操作
+	 *
+	 * @param id
+	 * @return
+	 */
+	private List<T> loadManyRows(final Object id) {
+		return loadFromDb(new Supplier<List<T>>() {
+			@Override public List<T> get() {
+				return CachedDao.super.loadBySQL(manyInitSql, new Object[] { id });
+			}
+		});
+	}
+
+	/**
+	 * 从数据库取得一条数据，已经合并回写队列中还没有写入的操作
+	 *
+	 * @param id
+	 * @return 不存在或者等待删除时为null
+	 */
+	private T loadOneFromDb(final Object id) {
+		List<T> ls = loadFromDb(new Supplier<List<T>>() {
+			@Override public List<T> get() {
+				return Collections.singletonList(CachedDao.super.loadById(id));
+			}
+		});
+		return ls.isEmpty() ? null : ls.get(0);
+	}
+
+	/**
+	 * 从数据库读取要写入缓存的数据，用回写队列中还没有写入数据库的操作覆盖读到的结果:
+	 * 等待写入的更新使用队列中的数据，等待写入的删除从结果中去掉
+	 * 读取期间队列有写入完成时重新读取，避免把写入前读到的旧数据写入缓存
+	 *
+	 * @param reader
+	 * @return 不会为null
+	 */
+	private List<T> loadFromDb(Supplier<List<T>> reader) {
+		WriteBehindQueue<T> queue = writeBehind;
+		for (int i = 0;; i++) {
+			long version = queue == null ? 0 : queue.getWriteVersion();
+			List<T> ls = reader.get();
+			List<T> r = new ArrayList<>(ls == null ? 0 : ls.size());
+			if (ls != null) {
+				for (T t : ls) {
+					if (t == null) {
+						continue;
+					}
+					WriteBehindQueue.Pending<T> pending = queue == null ? null : queue.getPending(getMarkKey(t));
+					if (pending == null) {
+						r.add(t);
+					} else if (!pending.delete) {
+						r.add(pending.data);
+					}
 				}
 			}
+			if (queue == null || version == queue.getWriteVersion() || i >= RELOAD_TIMES) {
+				return r;
+			}
 		}
 	}
 
+	/**
+	 * 设置回写队列，由AsyncData在创建队列时调用
+	 *
+	 * @param writeBehind
+	 */
+	void setWriteBehind(WriteBehindQueue<T> writeBehind) {
+		this.writeBehind = writeBehind;
+	}
+
 	/**
 	 * 重新加载列表的数据到缓存
 	 *
@@ -615,18 +1419,18 @@ public class CachedDao<T extends BasePo> extends Dao<T> {
 	 * @return
 	 */
 	private List<T> reloadListToCache(Object id) {
-		List<T> ls = super.findBySQL(manyInitSql, new Object[] { id });
+		List<T> ls = loadManyRows(id);
 		if (ls != null && ls.size() > 0) {
 			logger.debug("load data from db, key=" + getKey(id));
 
 			String key = getKey(ls.get(0));
 
-			Map<String, String> map = new HashMap<>();
+			Map<String, byte[]> values = new HashMap<>();
 			for (T t1 : ls) {
-				map.put(getSubkey(t1), encode(t1));
+				values.put(getSubkey(t1), toCache(t1, null));
 			}
 			try {
-				cache.mapSetAll(key, map);
+				cache.mapSetAllBytes(key, values, true);
 			} catch (RuntimeException e) {
 				logger.error("cache error", e);
 			}
@@ -635,4 +1439,104 @@ public class CachedDao<T extends BasePo> extends Dao<T> {
 		}
 		return ls;
 	}
+
+	/**
+	 * 转换成缓存中的格式
+	 *
+	 * @param t
+	 * @param data t对应的json，json格式时直接使用，为null时重新编码
+	 * @return
+	 */
+	protected byte[] toCache(T t, String data) {
+		if (codec instanceof JsonPoCodec) {
+			return (data != null ? data : encode(t)).getBytes(StandardCharsets.UTF_8);
+		}
+		return codec.encode(t);
+	}
+
+	/**
+	 * 缓存中的数据转换成对外的json
+	 *
+	 * @param value
+	 * @return 不存在或者格式不兼容时返回null
+	 */
+	protected String fromCache(byte[] value) {
+		if (value == null) {
+			return null;
+		}
+		if (codec instanceof JsonPoCodec) {
+			return new String(value, StandardCharsets.UTF_8);
+		}
+
+		T t = codec.decode(value);
+		return t == null ? null : encode(t);
+	}
+
+	private static byte[] utf8(String data) {
+		return data == null ? null : data.getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * 一组缓存中的数据转换成对外的json
+	 *
+	 * @param values
+	 * @return 不存在或者其中有格式不兼容的数据时返回null
+	 */
+	protected Map<String, String> fromCache(Map<String, byte[]> values) {
+		if (values == null) {
+			return null;
+		}
+
+		Map<String, String> map = new HashMap<>(values.size() * 2);
+		for (Map.Entry<String, byte[]> node : values.entrySet()) {
+			String data = fromCache(node.getValue());
+			if (data == null) {
+				return null;
+			}
+			map.put(node.getKey(), data);
+		}
+		return map;
+	}
+
+	/**
+	 * 批量读取的中间状态
+	 */
+	static final class ManyRead {
+
+		final List<?> ids;
+
+		final String[] keys;
+
+		/**
+		 * 和ids的顺序一致的结果
+		 */
+		final String[] results;
+
+		/**
+		 * 需要从redis读取的位置
+		 */
+		final List<Integer> pending = new ArrayList<>();
+
+		/**
+		 * 一对一关系的MGET结果，和pending的顺序一致
+		 */
+		RedisBatch.Result<List<byte[]>> values;
+
+		/**
+		 * 一对多关系的HGETALL结果，和pending的顺序一致
+		 */
+		List<RedisBatch.Result<Map<byte[], byte[]>>> maps;
+
+		/**
+		 * 一级缓存的失效版本号，和ids的顺序一致
+		 */
+		final long[] nearEpochs;
+
+		ManyRead(List<?> ids) {
+			this.ids = ids;
+			this.keys = new String[ids.size()];
+			this.results = new String[ids.size()];
+			this.nearEpochs = new long[ids.size()];
+		}
+	}
 }
@@ -1,19 +1,22 @@
 package net.db.dao;
 
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import org.apache.commons.dbutils.QueryRunner;
 import org.apache.commons.dbutils.ResultSetHandler;
-import org.apache.commons.dbutils.handlers.BeanHandler;
-import org.apache.commons.dbutils.handlers.BeanListHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import com.fasterxml.jackson.core.type.TypeReference;
 import net.db.BasePo;
 import net.db.PoProxy;
+import net.db.ReadReplicas;
+import net.db.sqlhandler.PoHandler;
+import net.db.sqlhandler.PoListHandler;
 import net.db.sqlhandler.SqlHandlerType;
 import net.utils.JsonUtils;
 
@@ -37,11 +40,9 @@ public abstract class Dao<T extends BasePo> {
 	protected Map<Integer, ResultSetHandler> RESULT_HANDLERS = new HashMap<>();
 	
 	/**
-	 * Some drivers don't support {@link java.sql.ParameterMetaData#getParameterType(int) };
-	 * if <code>pmdKnownBroken</code> is set to true, we won't even try it; if false, we'll try it,
-	 * and if it breaks, we'll remember not to use it again.
+	 * @see PoProxy#PMD_KNOWN_BROKEN
 	 */
-	protected final static boolean PMD_KNOWN_BROKEN = true;
+	protected final static boolean PMD_KNOWN_BROKEN = PoProxy.PMD_KNOWN_BROKEN;
 
 	/**
 	 * po对应的java类
@@ -49,14 +50,14 @@ public abstract class Dao<T extends BasePo> {
 	protected final Class<T> cls;
 
 	/**
-	 * 查询结果处理器
+	 * 查询结果处理器，启动时生成按列序号映射的处理器
 	 */
-	protected final BeanHandler<T> beanHandler;
+	protected final ResultSetHandler<T> beanHandler;
 
 	/**
 	 * 查询结果集合处理器
 	 */
-	protected final BeanListHandler<T> beanListHandler;
+	protected final ResultSetHandler<List<T>> beanListHandler;
 
 	/**
 	 * po操作代理
@@ -82,6 +83,9 @@ public abstract class Dao<T extends BasePo> {
 
 	public static <T extends BasePo> Dao<T> getDao(int dsid, String className) {
 		Map<String, Dao> daos = ALL_DAOS.get(dsid);
+		if (daos == null) {
+			return null;
+		}
 		Dao dao = daos.get(className);
 		return dao;
 	}
@@ -94,21 +98,44 @@ public abstract class Dao<T extends BasePo> {
 	 */
 	public Dao(Class<T> cls, PoProxy proxy) {
 		this.cls = cls;
-		this.beanHandler = new BeanHandler<>(cls);
-		this.beanListHandler = new BeanListHandler<>(cls);
+		this.beanHandler = new PoHandler<>(cls);
+		this.beanListHandler = new PoListHandler<>(cls);
 		this.poProxy = proxy;
 	}
 
 	/**
-	 * 通过id查找数据
+	 * 只读查询，配置了从库时从可用的从库读取，没有可用的从库或者从库连接出错时从主库读取
+	 *
+	 * @param sql
+	 * @param handler
+	 * @param params
+	 * @return
+	 * @throws SQLException
+	 */
+	protected <V> V readQuery(String sql, ResultSetHandler<V> handler, Object... params) throws SQLException {
+		ReadReplicas replicas = poProxy.replicas;
+		QueryRunner replica = replicas == null ? null : replicas.select();
+		if (replica != null) {
+			try {
+				return replica.query(sql, handler, params);
+			} catch (SQLException e) {
+				replicas.onError(replica, e);
+			}
+		}
+
+		QueryRunner qr = poProxy.runner;
+		return qr.query(sql, handler, params);
+	}
+
+	/**
+	 * 通过id查找数据，配置了从库时从从库读取
 	 *
 	 * @param ids
 	 * @return
 	 */
 	public T findById(Object... ids) {
 		try {
-			QueryRunner qr = new QueryRunner(poProxy.ds, PMD_KNOWN_BROKEN);
-			T data = qr.query(poProxy.select, beanHandler, ids);
+			T data = readQuery(poProxy.select, beanHandler, ids);
 			return data;
 		} catch (Exception e) {
 			logger.error("findById ERROR!!!", e);
@@ -116,10 +143,26 @@ public abstract class Dao<T extends BasePo> {
 		return null;
 	}
 
+	/**
+	 * 通过id从主库查找数据，用于需要和写入一致的读取(缓存加载等)
+	 *
+	 * @param ids
+	 * @return
+	 */
+	protected T loadById(Object... ids) {
+		try {
+			QueryRunner qr = poProxy.runner;
+			T data = qr.query(poProxy.select, beanHandler, ids);
+			return data;
+		} catch (Exception e) {
+			logger.error("loadById ERROR!!!", e);
+		}
+		return null;
+	}
+
 	public String findAll() {
 		try {
-			QueryRunner qr = new QueryRunner(poProxy.ds, PMD_KNOWN_BROKEN);
-			List<T> tList = qr.query(poProxy.selectAll, beanListHandler);
+			List<T> tList = readQuery(poProxy.selectAll, beanListHandler);
 			return encode(tList);
 		} catch (Exception e) {
 			logger.error("findAll ERROR!!!", e);
@@ -137,14 +180,7 @@ public abstract class Dao<T extends BasePo> {
 	 */
 	public String findByProp(String[] propNames, Object[] values) {
 		try {
-			StringBuilder sb = new StringBuilder(poProxy.selectAll);
-			sb.append(" WHERE ");
-			sb.append(propNames[0]).append("=").append("?");
-			for (int i = 1; i < propNames.length; ++i) {
-				sb.append(" and ").append(propNames[i]).append("=?");
-			}
-			QueryRunner qr = new QueryRunner(poProxy.ds, PMD_KNOWN_BROKEN);
-			List<T> tList = qr.query(sb.toString(), beanListHandler, values);
+			List<T> tList = readQuery(poProxy.selectByProps(propNames), beanListHandler, values);
 			return encode(tList);
 		} catch (Exception e) {
 			logger.error("findByProp ERROR!!!", e);
@@ -154,14 +190,13 @@ public abstract class Dao<T extends BasePo> {
 	}
 
 	/**
-	 * 通过sql查找数据
+	 * 通过sql查找数据，配置了从库时从从库读取
 	 *
 	 * @param sql 只需条件部分
 	 */
 	public List<T> findBySQL(String sql, Object[] values) {
 		try {
-			QueryRunner qr = new QueryRunner(poProxy.ds, PMD_KNOWN_BROKEN);
-			List<T> tList = qr.query(poProxy.selectAll + " WHERE " + sql, beanListHandler, values);
+			List<T> tList = readQuery(poProxy.selectAll + " WHERE " + sql, beanListHandler, values);
 			return tList;
 		} catch (Exception e) {
 			logger.error("findBySQL ERROR!!!", e);
@@ -170,6 +205,23 @@ public abstract class Dao<T extends BasePo> {
 		return null;
 	}
 
+	/**
+	 * 通过sql从主库查找数据，用于需要和写入一致的读取(缓存加载等)
+	 *
+	 * @param sql 只需条件部分
+	 */
+	protected List<T> loadBySQL(String sql, Object[] values) {
+		try {
+			QueryRunner qr = poProxy.runner;
+			List<T> tList = qr.query(poProxy.selectAll + " WHERE " + sql, beanListHandler, values);
+			return tList;
+		} catch (Exception e) {
+			logger.error("loadBySQL ERROR!!!", e);
+		}
+
+		return null;
+	}
+
 	/**
 	 * 通过id删除数据
 	 *
@@ -178,7 +230,7 @@ public abstract class Dao<T extends BasePo> {
 	 */
 	public int deleteById(Object... ids) {
 		try {
-			QueryRunner qr = new QueryRunner(poProxy.ds, PMD_KNOWN_BROKEN);
+			QueryRunner qr = poProxy.runner;
 			int ret = qr.update(poProxy.delete, ids);
 			return ret;
 		} catch (Exception e) {
@@ -197,14 +249,8 @@ public abstract class Dao<T extends BasePo> {
 	 */
 	public int deleteByProp(String[] propName, Object[] values) {
 		try {
-			StringBuilder sb = new StringBuilder(poProxy.deleteAll);
-			sb.append(" WHERE ");
-			sb.append(propName[0]).append("=").append("?");
-			for (int i = 1; i < propName.length; ++i) {
-				sb.append(" and ").append(propName[i]).append("=?");
-			}
-			QueryRunner qr = new QueryRunner(poProxy.ds, PMD_KNOWN_BROKEN);
-			int ret = qr.update(sb.toString(), values);
+			QueryRunner qr = poProxy.runner;
+			int ret = qr.update(poProxy.deleteByProps(propName), values);
 			return ret;
 		} catch (Exception e) {
 			logger.error("deleteByProp ERROR!!!", e);
@@ -221,7 +267,7 @@ public abstract class Dao<T extends BasePo> {
 	 */
 	public int deleteBySQL(String sql, Object[] values) {
 		try {
-			QueryRunner qr = new QueryRunner(poProxy.ds, PMD_KNOWN_BROKEN);
+			QueryRunner qr = poProxy.runner;
 			int ret = qr.update(poProxy.deleteAll + " WHERE " + sql, values);
 			return ret;
 		} catch (Exception e) {
@@ -278,7 +324,7 @@ public abstract class Dao<T extends BasePo> {
 			System.arraycopy(props, 0, objects, 0, props.length);
 			System.arraycopy(ids, 0, objects, props.length, ids.length);
 
-			QueryRunner qr = new QueryRunner(poProxy.ds, PMD_KNOWN_BROKEN);
+			QueryRunner qr = poProxy.runner;
 			int ret = qr.update(poProxy.update, objects);
 			return ret > 0;
 		} catch (Exception e) {
@@ -295,7 +341,7 @@ public abstract class Dao<T extends BasePo> {
 	 */
 	public void insert(T t) throws SQLException {
 		try {
-			QueryRunner qr = new QueryRunner(poProxy.ds, PMD_KNOWN_BROKEN);
+			QueryRunner qr = poProxy.runner;
 			qr.update(poProxy.insert, t.propValues());
 		} catch (Exception e) {
 			throw e;
@@ -321,13 +367,74 @@ public abstract class Dao<T extends BasePo> {
 				params[i] = t.propValues();
 			}
 			
-			QueryRunner qr = new QueryRunner(poProxy.ds, PMD_KNOWN_BROKEN);
+			QueryRunner qr = poProxy.runner;
 			qr.batch(poProxy.insert, params);
 		} catch (Exception e) {
 			throw e;
 		}
 	}
 
+	/**
+	 * 批量更新，一个批次只用一次数据库往返
+	 * mysql需要在url上配置rewriteBatchedStatements=true才会真正合并成一条语句发送
+	 *
+	 * @param tList
+	 * @return 每条数据受影响的行数
+	 * @throws SQLException
+	 */
+	public int[] updateBatch(List<T> tList) throws SQLException {
+		if (tList.size() == 0) {
+			return new int[0];
+		}
+
+		Object[][] params = new Object[tList.size()][];
+		for (int i = 0; i < params.length; i++) {
+			T t = tList.get(i);
+			Object[] props = t.propValues();
+			Object[] ids = t.idValues();
+			Object[] objects = new Object[props.length + ids.length];
+
+			System.arraycopy(props, 0, objects, 0, props.length);
+			System.arraycopy(ids, 0, objects, props.length, ids.length);
+			params[i] = objects;
+		}
+
+		QueryRunner qr = poProxy.runner;
+		return qr.batch(poProxy.update, params);
+	}
+
+	/**
+	 * 批量更新
+	 *
+	 * @param dataList
+	 * @return 受影响的行数
+	 * @throws SQLException
+	 */
+	public int updateBatchData(List<String> dataList) throws SQLException {
+		return affectedRows(updateBatch(decodeAll(dataList)));
+	}
+
+	/**
+	 * 批量删除
+	 *
+	 * @param tList
+	 * @return 每条数据受影响的行数
+	 * @throws SQLException
+	 */
+	public int[] deleteBatch(List<T> tList) throws SQLException {
+		if (tList.size() == 0) {
+			return new int[0];
+		}
+
+		Object[][] params = new Object[tList.size()][];
+		for (int i = 0; i < params.length; i++) {
+			params[i] = tList.get(i).idValues();
+		}
+
+		QueryRunner qr = poProxy.runner;
+		return qr.batch(poProxy.delete, params);
+	}
+
 	/**
 	 * 执行sql
 	 *
@@ -338,7 +445,7 @@ public abstract class Dao<T extends BasePo> {
 	 */
 	public int execute(String sql, Object... params) throws SQLException {
 		try {
-			QueryRunner qr = new QueryRunner(poProxy.ds, PMD_KNOWN_BROKEN);
+			QueryRunner qr = poProxy.runner;
 			int ret = qr.update(sql, params);
 			return ret;
 		} catch (Exception e) {
@@ -347,7 +454,7 @@ public abstract class Dao<T extends BasePo> {
 	}
 
 	/**
-	 * 通过sql查询
+	 * 通过sql查询，配置了从库时从从库读取
 	 *
 	 * @param sql
 	 * @param handler
@@ -358,8 +465,7 @@ public abstract class Dao<T extends BasePo> {
 	 */
 	public <V> V query(String sql, ResultSetHandler<V> handler, Object... params) throws SQLException {
 		try {
-			QueryRunner qr = new QueryRunner(poProxy.ds, PMD_KNOWN_BROKEN);
-			V result = qr.query(sql, handler, params);
+			V result = readQuery(sql, handler, params);
 			return result;
 		} catch (Exception e) {
 			throw e;
@@ -407,6 +513,32 @@ public abstract class Dao<T extends BasePo> {
 		return JsonUtils.string2Object(data, cls);
 	}
 
+	/**
+	 * 逐条解码，有一条解码失败时抛出异常
+	 */
+	protected List<T> decodeAll(List<String> dataList) {
+		List<T> tList = new ArrayList<>(dataList.size());
+		for (String data : dataList) {
+			T t = decode(data);
+			if (t == null) {
+				throw new IllegalArgumentException("decode error, po = " + cls.getSimpleName() + " data = " + data);
+			}
+			tList.add(t);
+		}
+		return tList;
+	}
+
+	/**
+	 * 批量执行的总行数，驱动返回SUCCESS_NO_INFO时按1行计算
+	 */
+	protected static int affectedRows(int[] counts) {
+		int total = 0;
+		for (int count : counts) {
+			total += count == Statement.SUCCESS_NO_INFO ? 1 : Math.max(count, 0);
+		}
+		return total;
+	}
+
 	public List<T> decode2List(String data) {
 		TypeReference<List<T>> type = new TypeReference<List<T>>() {
 		};
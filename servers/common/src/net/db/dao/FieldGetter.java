@@ -0,0 +1,102 @@
+package net.db.dao;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 启动时为属性生成读取函数，替代每次调用的Field.get
+ * <ul>
+ * <li>有public的getter时通过LambdaMetafactory生成直接调用getter的函数，和手写的代码一样可以被JIT内联</li>
+ * <li>否则退化为MethodHandle读取属性，省去反射的访问检查</li>
+ * </ul>
+ *
+ * @author ckf
+ */
+final class FieldGetter {
+
+	private final static Logger logger = LoggerFactory.getLogger(FieldGetter.class);
+
+	private FieldGetter() {
+	}
+
+	/**
+	 * 生成属性的读取函数
+	 *
+	 * @param field
+	 * @return 参数为属性所在的对象，返回属性的值(基本类型会装箱)
+	 */
+	@SuppressWarnings("unchecked")
+	static Function<Object, Object> of(Field field) {
+		Method getter = findGetter(field);
+		if (getter != null) {
+			try {
+				MethodHandles.Lookup lookup = MethodHandles.lookup();
+				MethodHandle handle = lookup.unreflect(getter);
+				CallSite site = LambdaMetafactory.metafactory(lookup, "apply", MethodType.methodType(Function.class),
+						MethodType.methodType(Object.class, Object.class), handle,
+						MethodType.methodType(wrap(getter.getReturnType()), getter.getDeclaringClass()));
+				return (Function<Object, Object>) site.getTarget().invoke();
+			} catch (Throwable e) {
+				logger.warn("生成getter函数失败，改用MethodHandle field = " + field, e);
+			}
+		}
+
+		final MethodHandle handle;
+		try {
+			field.setAccessible(true);
+			handle = MethodHandles.lookup().unreflectGetter(field)
+					.asType(MethodType.methodType(Object.class, Object.class));
+		} catch (IllegalAccessException e) {
+			throw new RuntimeException("生成属性读取函数失败 field = " + field, e);
+		}
+		return new Function<Object, Object>() {
+			@Override public Object apply(Object obj) {
+				try {
+					return handle.invokeExact(obj);
+				} catch (RuntimeException | Error e) {
+					throw e;
+				} catch (Throwable e) {
+					throw new RuntimeException(e);
+				}
+			}
+		};
+	}
+
+	/**
+	 * 查找属性对应的public getter
+	 */
+	private static Method findGetter(Field field) {
+		Class<?> cls = field.getDeclaringClass();
+		if (!Modifier.isPublic(cls.getModifiers())) {
+			return null;
+		}
+
+		String name = Character.toUpperCase(field.getName().charAt(0)) + field.getName().substring(1);
+		String[] candidates = field.getType() == boolean.class ? new String[] { "is" + name, "get" + name }
+				: new String[] { "get" + name };
+		for (String candidate : candidates) {
+			try {
+				Method method = cls.getMethod(candidate);
+				if (method.getReturnType() == field.getType() && !Modifier.isStatic(method.getModifiers())) {
+					return method;
+				}
+			} catch (NoSuchMethodException e) {
+				//继续查找下一个
+			}
+		}
+		return null;
+	}
+
+	private static Class<?> wrap(Class<?> type) {
+		return type.isPrimitive() ? MethodType.methodType(type).wrap().returnType() : type;
+	}
+}
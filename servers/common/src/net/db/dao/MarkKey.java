@@ -0,0 +1,58 @@
+package net.db.dao;
+
+/**
+ * 异步写入时一条数据的标识，用于合并同一条数据的多次修改
+ * 回写队列按表划分，所以只包含key和subkey，不再拼接类名
+ * 整数统一转换成long，调用方传入的Integer和属性中的long视为同一个key
+ *
+ * @author ckf
+ * @see CachedDao#getMarkKey(BasePo)
+ */
+public final class MarkKey {
+
+	private final Object key;
+
+	/**
+	 * 一对一关系时为null
+	 */
+	private final Object subkey;
+
+	private final int hash;
+
+	public MarkKey(Object key, Object subkey) {
+		this.key = normalize(key);
+		this.subkey = normalize(subkey);
+		this.hash = 31 * (this.key == null ? 0 : this.key.hashCode()) + (this.subkey == null ? 0 : this.subkey.hashCode());
+	}
+
+	private static Object normalize(Object id) {
+		if (id instanceof Integer || id instanceof Short || id instanceof Byte) {
+			return ((Number) id).longValue();
+		}
+		return id;
+	}
+
+	@Override public int hashCode() {
+		return hash;
+	}
+
+	@Override public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof MarkKey)) {
+			return false;
+		}
+
+		MarkKey other = (MarkKey) obj;
+		return hash == other.hash && eq(key, other.key) && eq(subkey, other.subkey);
+	}
+
+	private static boolean eq(Object a, Object b) {
+		return a == null ? b == null : a.equals(b);
+	}
+
+	@Override public String toString() {
+		return subkey == null ? String.valueOf(key) : key + "_" + subkey;
+	}
+}
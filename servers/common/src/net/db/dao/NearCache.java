@@ -0,0 +1,381 @@
+package net.db.dao;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 进程内的一级缓存，放在redis前面减少热点数据的网络访问
+ * <ul>
+ * <li>按访问顺序淘汰，容量满了以后淘汰最久没有访问的数据</li>
+ * <li>TINY_LFU策略下用频率草图记录访问频率，新数据的频率不高于被淘汰的数据时不放入缓存，避免一次性扫描冲掉热点</li>
+ * <li>写入后超过ttl的数据视为失效，保留过期数据时过期的数据仍然可以通过{@link #getStale(String)}取得，直到被淘汰或失效</li>
+ * <li>每次失效会递增key所在分段的版本号，加载前取得的版本号和放入时不一致说明期间有写入，此时不放入缓存</li>
+ * <li>按key的hash分段，每段有自己的锁、版本号和容量，失效只影响同一段中正在加载的数据，写入也只和同一段竞争</li>
+ * </ul>
+ *
+ * @author ckf
+ * @see net.db.anno.Cacheable#nearCacheSize()
+ */
+public final class NearCache {
+
+	/**
+	 * 淘汰策略
+	 */
+	public enum Policy {
+		/**
+		 * 最近最少使用
+		 */
+		LRU,
+
+		/**
+		 * LRU + 按访问频率准入
+		 */
+		TINY_LFU,
+	}
+
+	/**
+	 * 最大分段数
+	 */
+	private final static int MAX_SEGMENTS = 16;
+
+	/**
+	 * 每段的最小容量，容量小的缓存少分几段，避免按段淘汰偏离LRU太多
+	 */
+	private final static int MIN_SEGMENT_SIZE = 16;
+
+	/**
+	 * 过期时间(毫秒)
+	 */
+	private final long ttl;
+
+	private final Policy policy;
+
+	/**
+	 * 是否保留过期的数据
+	 */
+	private final boolean keepStale;
+
+	private final Segment[] segments;
+
+	private final int mask;
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+	private final LongAdder rejections = new LongAdder();
+
+	public NearCache(int maxSize, long ttl, Policy policy) {
+		this(maxSize, ttl, policy, false);
+	}
+
+	public NearCache(int maxSize, long ttl, Policy policy, boolean keepStale) {
+		this.ttl = ttl;
+		this.policy = policy;
+		this.keepStale = keepStale;
+		int count = Integer.highestOneBit(Math.max(1, Math.min(MAX_SEGMENTS, maxSize / MIN_SEGMENT_SIZE)));
+		this.segments = new Segment[count];
+		for (int i = 0; i < count; i++) {
+			//余数分给前几段，总容量和maxSize一致
+			segments[i] = new Segment(Math.max(1, maxSize / count + (i < maxSize % count ? 1 : 0)),
+					policy == Policy.TINY_LFU);
+		}
+		this.mask = count - 1;
+	}
+
+	private Segment segmentFor(String key) {
+		int h = key.hashCode();
+		return segments[(h ^ (h >>> 16)) & mask];
+	}
+
+	/**
+	 * 取得缓存，不存在或者过期时返回null
+	 *
+	 * @param key
+	 * @return
+	 */
+	public String get(String key) {
+		Segment segment = segmentFor(key);
+		String value = null;
+		synchronized (segment) {
+			if (segment.sketch != null) {
+				segment.sketch.increment(key);
+			}
+
+			Node node = segment.map.get(key);
+			if (node != null) {
+				if (System.currentTimeMillis() - node.writeTime > ttl) {
+					if (!keepStale) {
+						segment.map.remove(key);
+					}
+				} else {
+					value = node.value;
+				}
+			}
+		}
+
+		if (value == null) {
+			misses.increment();
+		} else {
+			hits.increment();
+		}
+		return value;
+	}
+
+	/**
+	 * 取得缓存，不检查是否过期，不计入命中统计
+	 *
+	 * @param key
+	 * @return
+	 */
+	public String getStale(String key) {
+		Segment segment = segmentFor(key);
+		synchronized (segment) {
+			Node node = segment.map.get(key);
+			return node == null ? null : node.value;
+		}
+	}
+
+	/**
+	 * key所在分段当前的失效版本号，需要在从redis加载数据前取得
+	 *
+	 * @param key
+	 * @return
+	 */
+	public long epoch(String key) {
+		Segment segment = segmentFor(key);
+		synchronized (segment) {
+			return segment.epoch;
+		}
+	}
+
+	/**
+	 * 放入缓存
+	 *
+	 * @param key
+	 * @param value
+	 * @param loadEpoch 加载前通过{@link #epoch(String)}取得的版本号
+	 */
+	public void put(String key, String value, long loadEpoch) {
+		Segment segment = segmentFor(key);
+		synchronized (segment) {
+			if (loadEpoch != segment.epoch) {
+				return;
+			}
+
+			Node node = segment.map.get(key);
+			if (node != null) {
+				node.value = value;
+				node.writeTime = System.currentTimeMillis();
+				return;
+			}
+
+			if (segment.map.size() >= segment.maxSize) {
+				Iterator<Map.Entry<String, Node>> it = segment.map.entrySet().iterator();
+				Map.Entry<String, Node> victim = it.next();
+				if (segment.sketch != null
+						&& segment.sketch.frequency(key) <= segment.sketch.frequency(victim.getKey())) {
+					rejections.increment();
+					return;
+				}
+
+				it.remove();
+				evictions.increment();
+			}
+
+			segment.map.put(key, new Node(value, System.currentTimeMillis()));
+		}
+	}
+
+	/**
+	 * 使一个key失效
+	 *
+	 * @param key
+	 */
+	public void invalidate(String key) {
+		Segment segment = segmentFor(key);
+		synchronized (segment) {
+			segment.epoch++;
+			segment.map.remove(key);
+		}
+	}
+
+	/**
+	 * 清空，用于失效消息可能丢失的情况
+	 */
+	public void clear() {
+		for (Segment segment : segments) {
+			synchronized (segment) {
+				segment.epoch++;
+				segment.map.clear();
+			}
+		}
+	}
+
+	/**
+	 * 注册到micrometer，按cache标签区分，重复注册返回已有的指标
+	 *
+	 * @param name 缓存名，一般是po的类名
+	 * @param registry
+	 */
+	public void bindTo(String name, MeterRegistry registry) {
+		FunctionCounter.builder("near.cache.hits", hits, LongAdder::doubleValue).tag("cache", name).register(registry);
+		FunctionCounter.builder("near.cache.misses", misses, LongAdder::doubleValue).tag("cache", name)
+				.register(registry);
+		FunctionCounter.builder("near.cache.evictions", evictions, LongAdder::doubleValue).tag("cache", name)
+				.register(registry);
+		FunctionCounter.builder("near.cache.rejections", rejections, LongAdder::doubleValue).tag("cache", name)
+				.register(registry);
+		Gauge.builder("near.cache.size", this, NearCache::size).tag("cache", name).register(registry);
+	}
+
+	public int size() {
+		int size = 0;
+		for (Segment segment : segments) {
+			synchronized (segment) {
+				size += segment.map.size();
+			}
+		}
+		return size;
+	}
+
+	public Policy getPolicy() {
+		return policy;
+	}
+
+	public long getHitCount() {
+		return hits.sum();
+	}
+
+	public long getMissCount() {
+		return misses.sum();
+	}
+
+	public long getEvictionCount() {
+		return evictions.sum();
+	}
+
+	/**
+	 * TINY_LFU策略下因为访问频率不够没有放入的次数
+	 */
+	public long getRejectionCount() {
+		return rejections.sum();
+	}
+
+	public double getHitRate() {
+		long hit = hits.sum();
+		long total = hit + misses.sum();
+		return total == 0 ? 0 : (double) hit / total;
+	}
+
+	@Override public String toString() {
+		return "NearCache{policy=" + policy + ", size=" + size() + ", hit=" + getHitCount() + ", miss="
+				+ getMissCount() + ", eviction=" + getEvictionCount() + ", rejection=" + getRejectionCount() + '}';
+	}
+
+	/**
+	 * 一个分段，所有字段都在持有这个分段的锁时访问
+	 */
+	private static final class Segment {
+		final int maxSize;
+
+		/**
+		 * 按访问顺序排列的数据
+		 */
+		final LinkedHashMap<String, Node> map = new LinkedHashMap<>(16, 0.75f, true);
+
+		/**
+		 * 访问频率草图，LRU策略下为null
+		 */
+		final FrequencySketch sketch;
+
+		/**
+		 * 失效版本号
+		 */
+		long epoch;
+
+		Segment(int maxSize, boolean tinyLfu) {
+			this.maxSize = maxSize;
+			this.sketch = tinyLfu ? new FrequencySketch(maxSize) : null;
+		}
+	}
+
+	private static final class Node {
+		String value;
+		long writeTime;
+
+		Node(String value, long writeTime) {
+			this.value = value;
+			this.writeTime = writeTime;
+		}
+	}
+
+	/**
+	 * 4行的count-min草图，计数上限15，总计数达到容量的10倍时全部减半，让频率随时间衰减
+	 */
+	private static final class FrequencySketch {
+		private static final int DEPTH = 4;
+		private static final int MAX_COUNT = 15;
+		private static final int[] SEEDS = { 0x97cb3127, 0x7ed55d16, 0x165667b1, 0xd3a2646c };
+
+		private final byte[][] table;
+		private final int mask;
+		private final int sampleSize;
+		private int additions;
+
+		FrequencySketch(int maxSize) {
+			int width = Integer.highestOneBit(Math.max(16, maxSize) * 2 - 1);
+			this.table = new byte[DEPTH][width];
+			this.mask = width - 1;
+			this.sampleSize = Math.max(16, maxSize) * 10;
+		}
+
+		void increment(String key) {
+			int hash = spread(key.hashCode());
+			for (int i = 0; i < DEPTH; i++) {
+				int index = indexOf(hash, i);
+				if (table[i][index] < MAX_COUNT) {
+					table[i][index]++;
+				}
+			}
+
+			if (++additions >= sampleSize) {
+				reset();
+			}
+		}
+
+		int frequency(String key) {
+			int hash = spread(key.hashCode());
+			int min = MAX_COUNT;
+			for (int i = 0; i < DEPTH; i++) {
+				min = Math.min(min, table[i][indexOf(hash, i)]);
+			}
+			return min;
+		}
+
+		private int indexOf(int hash, int i) {
+			int h = (hash ^ SEEDS[i]) * 0x9e3779b9;
+			return (h ^ (h >>> 16)) & mask;
+		}
+
+		private void reset() {
+			for (byte[] row : table) {
+				for (int j = 0; j < row.length; j++) {
+					row[j] = (byte) (row[j] >>> 1);
+				}
+			}
+			additions /= 2;
+		}
+
+		private static int spread(int h) {
+			h ^= h >>> 17;
+			h *= 0xed5ad4bb;
+			h ^= h >>> 11;
+			return h;
+		}
+	}
+}
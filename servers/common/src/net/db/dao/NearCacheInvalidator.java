@@ -0,0 +1,152 @@
+package net.db.dao;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import net.utils.Tool;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPubSub;
+
+/**
+ * 一级缓存的跨进程失效
+ * 数据服写入redis后通过pub/sub广播失效消息，所有连接同一个redis的数据服收到后使本地的一级缓存失效
+ * 订阅连接断开期间的消息会丢失，所以每次(重新)订阅成功时清空所有一级缓存
+ *
+ * @author ckf
+ * @see NearCache
+ */
+final class NearCacheInvalidator {
+
+	private final static Logger logger = LoggerFactory.getLogger(NearCacheInvalidator.class);
+
+	/**
+	 * 失效消息频道
+	 */
+	final static String CHANNEL = "near_cache_invalidate";
+
+	/**
+	 * 消息中类名和key的分隔符
+	 */
+	private final static char SEPARATOR = ':';
+
+	/**
+	 * 重连间隔(毫秒)
+	 */
+	private final static int RECONNECT_INTERVAL = 1000;
+
+	private final RedisCache cache;
+
+	/**
+	 * 类名 -> 一级缓存
+	 */
+	private final Map<String, NearCache> nearCaches = new ConcurrentHashMap<>();
+
+	private volatile boolean running;
+
+	NearCacheInvalidator(RedisCache cache) {
+		this.cache = cache;
+	}
+
+	/**
+	 * 注册一级缓存，第一次注册时启动订阅线程
+	 *
+	 * @param className
+	 * @param nearCache
+	 */
+	synchronized void register(String className, NearCache nearCache) {
+		nearCaches.put(className, nearCache);
+		if (running) {
+			return;
+		}
+
+		running = true;
+		Thread thread = new Thread(new Runnable() {
+			@Override public void run() {
+				subscribeLoop();
+			}
+		});
+		thread.setName("nearCacheSub-" + cache.getHost() + ":" + cache.getPort());
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	/**
+	 * 广播失效消息
+	 *
+	 * @param className
+	 * @param key
+	 */
+	void publish(String className, String key) {
+		cache.publish(CHANNEL, className + SEPARATOR + key);
+	}
+
+	/**
+	 * 把失效消息加入批量操作，随批量写入一起发送
+	 *
+	 * @param batch
+	 * @param className
+	 * @param key
+	 */
+	void publish(RedisBatch batch, String className, String key) {
+		batch.publish(CHANNEL, className + SEPARATOR + key);
+	}
+
+	private void subscribeLoop() {
+		while (running) {
+			Jedis jedis = null;
+			try {
+				//订阅会一直阻塞读取，不能使用带读超时的池连接
+				jedis = cache.createConnect(0);
+				JedisPubSub pubSub = new JedisPubSub() {
+					@Override public void onMessage(String channel, String message) {
+						handleMessage(message);
+					}
+
+					@Override public void onSubscribe(String channel, int subscribedChannels) {
+						logger.info("一级缓存失效频道订阅成功 redis = {}:{}", cache.getHost(), cache.getPort());
+						for (NearCache nearCache : nearCaches.values()) {
+							nearCache.clear();
+						}
+					}
+
+					@Override public void onPMessage(String pattern, String channel, String message) {
+					}
+
+					@Override public void onUnsubscribe(String channel, int subscribedChannels) {
+					}
+
+					@Override public void onPUnsubscribe(String pattern, int subscribedChannels) {
+					}
+
+					@Override public void onPSubscribe(String pattern, int subscribedChannels) {
+					}
+				};
+				jedis.subscribe(pubSub, CHANNEL);
+			} catch (RuntimeException e) {
+				logger.error("一级缓存失效频道订阅断开 redis = " + cache.getHost() + ":" + cache.getPort(), e);
+				Tool.sleep(RECONNECT_INTERVAL);
+			} finally {
+				if (jedis != null) {
+					try {
+						jedis.close();
+					} catch (RuntimeException e) {
+						logger.error("close subscribe connect", e);
+					}
+				}
+			}
+		}
+	}
+
+	private void handleMessage(String message) {
+		int index = message.indexOf(SEPARATOR);
+		if (index < 0) {
+			return;
+		}
+
+		NearCache nearCache = nearCaches.get(message.substring(0, index));
+		if (nearCache != null) {
+			nearCache.invalidate(message.substring(index + 1));
+		}
+	}
+}
@@ -0,0 +1,390 @@
+package net.db.dao;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+import redis.clients.util.SafeEncoder;
+
+/**
+ * redis批量操作，收集多个命令后通过一次Pipeline.sync()发送，只需要一次网络往返
+ * 事务模式下所有命令包在MULTI/EXEC中执行，其他连接不会看到中间状态
+ * <p/>
+ * 读命令返回{@link Result}，在{@link #execute()}之后才能取值
+ * 过期时间的处理和RedisCache中对应的方法保持一致
+ *
+ * <pre>
+ * RedisBatch batch = cache.batch();
+ * RedisBatch.Result&lt;Map&lt;String, String&gt;&gt; r = batch.mapGetAll(key);
+ * batch.mapSetDelay(key);
+ * batch.execute();
+ * r.get();
+ * </pre>
+ *
+ * @author ckf
+ * @see RedisCache#batch()
+ * @see RedisCache#transaction()
+ */
+public class RedisBatch {
+
+	private final RedisCache cache;
+
+	/**
+	 * 是否使用MULTI/EXEC
+	 */
+	private final boolean transaction;
+
+	/**
+	 * 等待执行的命令
+	 */
+	private final List<Op> ops = new ArrayList<>();
+
+	RedisBatch(RedisCache cache, boolean transaction) {
+		this.cache = cache;
+		this.transaction = transaction;
+	}
+
+	/**
+	 * 检查key是否存在，开启过期时同时做延期
+	 */
+	public Result<Boolean> exists(final String key) {
+		final Result<Boolean> result = new Result<>();
+		ops.add(new Op() {
+			@Override public void apply(Pipeline p) {
+				result.response = p.exists(key);
+				if (cache.expireTime != 0) {
+					p.expire(key, cache.expireTime);
+				}
+			}
+		});
+		return result;
+	}
+
+	/**
+	 * get
+	 */
+	public Result<String> get(final String key) {
+		final Result<String> result = new Result<>();
+		ops.add(new Op() {
+			@Override public void apply(Pipeline p) {
+				result.response = p.get(key);
+			}
+		});
+		return result;
+	}
+
+	/**
+	 * set
+	 */
+	public void set(final String key, final String value) {
+		ops.add(new Op() {
+			@Override public void apply(Pipeline p) {
+				if (cache.expireTime == 0) {
+					p.set(key, value);
+				} else {
+					p.setex(key, cache.expireTime, value);
+				}
+			}
+		});
+	}
+
+	/**
+	 * multi set
+	 */
+	public <T> void mset(final Map<String, T> map) {
+		ops.add(new Op() {
+			@Override public void apply(Pipeline p) {
+				for (Entry<String, T> node : map.entrySet()) {
+					String value = cache.encode(node.getValue());
+					if (cache.expireTime == 0) {
+						p.set(node.getKey(), value);
+					} else {
+						p.setex(node.getKey(), cache.expireTime, value);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * delete
+	 */
+	public Result<Long> delete(final String key) {
+		final Result<Long> result = new Result<>();
+		ops.add(new Op() {
+			@Override public void apply(Pipeline p) {
+				result.response = p.del(key);
+			}
+		});
+		return result;
+	}
+
+	/**
+	 * set one key in a map
+	 */
+	public void mapSet(final String key, final String subkey, final String data) {
+		ops.add(new Op() {
+			@Override public void apply(Pipeline p) {
+				p.hset(key, subkey, data);
+				if (cache.expireTime != 0) {
+					p.expire(key, cache.expireTime);
+				}
+			}
+		});
+	}
+
+	/**
+	 * set a map totally,deletePrevKey means all reset
+	 */
+	public void mapSetAll(final String key, final Map<String, String> map, final boolean deletePrevKey) {
+		ops.add(new Op() {
+			@Override public void apply(Pipeline p) {
+				if (deletePrevKey) {
+					p.del(key);
+				}
+				if (!map.isEmpty()) {
+					p.hmset(key, map);
+				}
+				if (cache.expireTime != 0) {
+					p.expire(key, cache.expireTime);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Delay for one key
+	 */
+	public void mapSetDelay(final String key) {
+		if (cache.expireTime == 0) {
+			return;
+		}
+
+		ops.add(new Op() {
+			@Override public void apply(Pipeline p) {
+				p.expire(key, cache.expireTime);
+			}
+		});
+	}
+
+	/**
+	 * get one key in the map
+	 */
+	public Result<String> mapGet(final String key, final String subkey) {
+		final Result<String> result = new Result<>();
+		ops.add(new Op() {
+			@Override public void apply(Pipeline p) {
+				result.response = p.hget(key, subkey);
+			}
+		});
+		return result;
+	}
+
+	/**
+	 * get a map totally
+	 */
+	public Result<Map<String, String>> mapGetAll(final String key) {
+		final Result<Map<String, String>> result = new Result<>();
+		ops.add(new Op() {
+			@Override public void apply(Pipeline p) {
+				result.response = p.hgetAll(key);
+			}
+		});
+		return result;
+	}
+
+	/**
+	 * delete one key in map
+	 */
+	public Result<Long> mapDelete(final String key, final String subkey) {
+		final Result<Long> result = new Result<>();
+		ops.add(new Op() {
+			@Override public void apply(Pipeline p) {
+				result.response = p.hdel(key, subkey);
+			}
+		});
+		return result;
+	}
+
+	/**
+	 * get，值为二进制
+	 */
+	public Result<byte[]> getBytes(final String key) {
+		final Result<byte[]> result = new Result<>();
+		ops.add(new Op() {
+			@Override public void apply(Pipeline p) {
+				result.response = p.get(SafeEncoder.encode(key));
+			}
+		});
+		return result;
+	}
+
+	/**
+	 * multi get，值为二进制，结果和keys的顺序一致，不存在的为null
+	 */
+	public Result<List<byte[]>> mgetBytes(final List<String> keys) {
+		final Result<List<byte[]>> result = new Result<>();
+		ops.add(new Op() {
+			@Override public void apply(Pipeline p) {
+				byte[][] bkeys = new byte[keys.size()][];
+				for (int i = 0; i < bkeys.length; i++) {
+					bkeys[i] = SafeEncoder.encode(keys.get(i));
+				}
+				result.response = p.mget(bkeys);
+			}
+		});
+		return result;
+	}
+
+	/**
+	 * multi set，值为二进制
+	 */
+	public void msetBytes(final Map<String, byte[]> map) {
+		ops.add(new Op() {
+			@Override public void apply(Pipeline p) {
+				for (Entry<String, byte[]> node : map.entrySet()) {
+					byte[] key = SafeEncoder.encode(node.getKey());
+					if (cache.expireTime == 0) {
+						p.set(key, node.getValue());
+					} else {
+						p.setex(key, cache.expireTime, node.getValue());
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * set one key in a map，值为二进制
+	 */
+	public void mapSetBytes(final String key, final String subkey, final byte[] data) {
+		ops.add(new Op() {
+			@Override public void apply(Pipeline p) {
+				p.hset(SafeEncoder.encode(key), SafeEncoder.encode(subkey), data);
+				if (cache.expireTime != 0) {
+					p.expire(key, cache.expireTime);
+				}
+			}
+		});
+	}
+
+	/**
+	 * set a map totally,deletePrevKey means all reset，值为二进制
+	 */
+	public void mapSetAllBytes(final String key, final Map<String, byte[]> map, final boolean deletePrevKey) {
+		ops.add(new Op() {
+			@Override public void apply(Pipeline p) {
+				if (deletePrevKey) {
+					p.del(key);
+				}
+				if (!map.isEmpty()) {
+					p.hmset(SafeEncoder.encode(key), RedisCache.encodeKeys(map));
+				}
+				if (cache.expireTime != 0) {
+					p.expire(key, cache.expireTime);
+				}
+			}
+		});
+	}
+
+	/**
+	 * get one key in the map，值为二进制
+	 */
+	public Result<byte[]> mapGetBytes(final String key, final String subkey) {
+		final Result<byte[]> result = new Result<>();
+		ops.add(new Op() {
+			@Override public void apply(Pipeline p) {
+				result.response = p.hget(SafeEncoder.encode(key), SafeEncoder.encode(subkey));
+			}
+		});
+		return result;
+	}
+
+	/**
+	 * get a map totally，值为二进制，需要通过{@link RedisCache#decodeKeys(Map)}转换key
+	 */
+	public Result<Map<byte[], byte[]>> mapGetAllBytes(final String key) {
+		final Result<Map<byte[], byte[]>> result = new Result<>();
+		ops.add(new Op() {
+			@Override public void apply(Pipeline p) {
+				result.response = p.hgetAll(SafeEncoder.encode(key));
+			}
+		});
+		return result;
+	}
+
+	/**
+	 * publish，和前面的写命令在同一个pipeline中按顺序执行
+	 */
+	public void publish(final String channel, final String message) {
+		ops.add(new Op() {
+			@Override public void apply(Pipeline p) {
+				p.publish(channel, message);
+			}
+		});
+	}
+
+	/**
+	 * 已收集的命令数
+	 */
+	public int size() {
+		return ops.size();
+	}
+
+	/**
+	 * 通过一次网络往返执行所有命令
+	 */
+	public void execute() {
+		if (ops.isEmpty()) {
+			return;
+		}
+
+		Jedis jedis = null;
+		boolean isBroken = false;
+		try {
+			jedis = cache.getConnect();
+			Pipeline p = jedis.pipelined();
+			if (transaction) {
+				p.multi();
+			}
+			for (Op op : ops) {
+				op.apply(p);
+			}
+			if (transaction) {
+				p.exec();
+			}
+			p.sync();
+		} catch (RuntimeException e) {
+			isBroken = true;
+			cache.logger.error("redis batch exception, size=" + ops.size(), e);
+			throw e;
+		} finally {
+			cache.returnConnect(jedis, isBroken);
+			ops.clear();
+		}
+	}
+
+	/**
+	 * 批量命令中的读结果
+	 */
+	public static final class Result<T> {
+		private Response<T> response;
+
+		/**
+		 * 取得结果，需要在execute之后调用
+		 */
+		public T get() {
+			return response == null ? null : response.get();
+		}
+	}
+
+	/**
+	 * 一次命令
+	 */
+	private interface Op {
+		void apply(Pipeline p);
+	}
+}
@@ -1,10 +1,11 @@
 package net.db.dao;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 
 import redis.clients.jedis.Jedis;
+import redis.clients.util.SafeEncoder;
 
 /**
  * 基础cache功能
@@ -13,6 +14,11 @@ import redis.clients.jedis.Jedis;
  */
 public class RedisCache extends RedisClient {
 
+	/**
+	 * 一级缓存的跨进程失效，第一次注册一级缓存时创建
+	 */
+	private NearCacheInvalidator nearCacheInvalidator;
+
 	public RedisCache(String ip, int port, int expireTime, String password) {
 		super(ip, port, expireTime, password);
 	}
@@ -21,6 +27,82 @@ public class RedisCache extends RedisClient {
 		super(ip, port, maxActive, maxIdle, maxWait, expireTime, password);
 	}
 
+	/**
+	 * 创建一个pipeline批量操作
+	 *
+	 * @return
+	 */
+	public RedisBatch batch() {
+		return new RedisBatch(this, false);
+	}
+
+	/**
+	 * 创建一个MULTI/EXEC事务批量操作
+	 *
+	 * @return
+	 */
+	public RedisBatch transaction() {
+		return new RedisBatch(this, true);
+	}
+
+	/**
+	 * 注册一级缓存，接收其他数据服广播的失效消息
+	 *
+	 * @param className
+	 * @param nearCache
+	 */
+	public synchronized void registerNearCache(String className, NearCache nearCache) {
+		if (nearCacheInvalidator == null) {
+			nearCacheInvalidator = new NearCacheInvalidator(this);
+		}
+		nearCacheInvalidator.register(className, nearCache);
+	}
+
+	/**
+	 * 广播一级缓存失效
+	 *
+	 * @param className
+	 * @param key
+	 */
+	public void publishNearCacheInvalidate(String className, String key) {
+		NearCacheInvalidator invalidator = nearCacheInvalidator;
+		if (invalidator != null) {
+			invalidator.publish(className, key);
+		}
+	}
+
+	/**
+	 * 把一级缓存失效消息加入批量操作，在批量写入之后的同一次往返中广播
+	 *
+	 * @param batch
+	 * @param className
+	 * @param key
+	 */
+	public void publishNearCacheInvalidate(RedisBatch batch, String className, String key) {
+		NearCacheInvalidator invalidator = nearCacheInvalidator;
+		if (invalidator != null) {
+			invalidator.publish(batch, className, key);
+		}
+	}
+
+	/**
+	 * publish
+	 */
+	public Long publish(String channel, String message) {
+		Jedis jedis = null;
+		boolean isBroken = false;
+		try {
+			jedis = getConnect();
+			return jedis.publish(channel, message);
+		} catch (RuntimeException e) {
+			isBroken = true;
+			logger.error("redis exception", e);
+			throw e;
+		} finally {
+			returnConnect(jedis, isBroken);
+		}
+	}
+
 	public boolean check() {
 		Jedis jedis = null;
 		boolean isBroken = false;
@@ -64,38 +146,14 @@ public class RedisCache extends RedisClient {
 
 	/**
 	 * multi set
+	 * 值和过期时间通过pipeline一次发送
 	 * 
 	 * @param map
 	 */
 	public <T> void mset(Map<String, T> map) {
-		Jedis jedis = null;
-		boolean isBroken = false;
-
-		try {
-			int k = 0;
-			String[] strInfos = new String[map.size() * 2];
-			for (Entry<String, T> node : map.entrySet()) {
-				strInfos[k++] = node.getKey();
-				strInfos[k++] = encode(node.getValue());
-			}
-
-			jedis = getConnect();
-
-			jedis.mset(strInfos);
-
-			//需要设置过期时间，只能逐一设置
-			if (expireTime > 0) {
-				for (String key : map.keySet()) {
-					jedis.expire(key, expireTime);
-				}
-			}
-		} catch (RuntimeException e) {
-			isBroken = true;
-			logger.error("redis exception", e);
-			throw e;
-		} finally {
-			returnConnect(jedis, isBroken);
-		}
+		RedisBatch batch = batch();
+		batch.mset(map);
+		batch.execute();
 	}
 
 	/**
@@ -272,18 +330,62 @@ public class RedisCache extends RedisClient {
 	 * set one key in a map
 	 */
 	public void mapSet(String key, String subkey, String data) {
+		RedisBatch batch = batch();
+		batch.mapSet(key, subkey, data);
+		batch.execute();
+	}
+
+	/**
+	 * set a map totally
+	 */
+	public <T> void mapSetAll(String key, Map<String, String> map) {
+		mapSetAll(key, map, true);
+	}
+
+	/**
+	 * set a map totally,deletePrevKey means all reset
+	 * 全部重置时使用事务，其他连接不会读到删除后还没有写入的空map
+	 */
+	public <T> void mapSetAll(String key, Map<String, String> map, boolean deletePrevKey) {
+		RedisBatch batch = deletePrevKey ? transaction() : batch();
+		batch.mapSetAll(key, map, deletePrevKey);
+		batch.execute();
+	}
+
+	/**
+	 * Delay for one key
+	 * 
+	 */
+	public void mapSetDelay(String key) {
 		Jedis jedis = null;
 		boolean isBroken = false;
 		try {
 			jedis = getConnect();
-			jedis.hset(key, subkey, data);
 			if (expireTime != 0) {
 				jedis.expire(key, expireTime);
 			}
+		} catch (RuntimeException e) {
+			isBroken = true;
+			logger.error("redis exception", e);
+			throw e;
+		} finally {
+			returnConnect(jedis, isBroken);
+		}
+	}
 
+	/**
+	 * get one key in the map
+	 */
+	public String mapGet(String key, String subkey) {
+		Jedis jedis = null;
+		boolean isBroken = false;
+
+		try {
+			jedis = getConnect();
+			return jedis.hget(key, subkey);
 		} catch (RuntimeException e) {
 			isBroken = true;
-			logger.error("redis exception, key=" + key + ",subkey=" + subkey, e);
+			logger.error("redis exception", e);
 			throw e;
 		} finally {
 			returnConnect(jedis, isBroken);
@@ -291,32 +393,61 @@ public class RedisCache extends RedisClient {
 	}
 
 	/**
-	 * set a map totally
+	 * get a map totally
 	 */
-	public <T> void mapSetAll(String key, Map<String, String> map) {
-		mapSetAll(key, map, true);
+	public Map<String, String> mapGetAll(String key) {
+		Jedis jedis = null;
+		boolean isBroken = false;
+
+		try {
+			jedis = getConnect();
+			return jedis.hgetAll(key);
+		} catch (RuntimeException e) {
+			isBroken = true;
+			logger.error("redis exception", e);
+			throw e;
+		} finally {
+			returnConnect(jedis, isBroken);
+		}
 	}
 
 	/**
-	 * set a map totally,deletePrevKey means all reset
+	 * get，值为二进制
 	 */
-	public <T> void mapSetAll(String key, Map<String, String> map, boolean deletePrevKey) {
+	public byte[] getBytes(String key) {
 		Jedis jedis = null;
 		boolean isBroken = false;
-		
+
 		try {
 			jedis = getConnect();
-			if (deletePrevKey) {
-				jedis.del(key);
-			}
-			jedis.hmset(key, map);
-			if (expireTime != 0) {
-				jedis.expire(key, expireTime);
+			return jedis.get(SafeEncoder.encode(key));
+		} catch (RuntimeException e) {
+			isBroken = true;
+			logger.error("redis exception", e);
+			throw e;
+		} finally {
+			returnConnect(jedis, isBroken);
+		}
+	}
+
+	/**
+	 * set，值为二进制
+	 */
+	public void setBytes(String key, byte[] value) {
+		Jedis jedis = null;
+		boolean isBroken = false;
+		try {
+			jedis = getConnect();
+
+			if (expireTime == 0) {
+				jedis.set(SafeEncoder.encode(key), value);
+			} else {
+				jedis.setex(SafeEncoder.encode(key), expireTime, value);
 			}
 
 		} catch (RuntimeException e) {
 			isBroken = true;
-			logger.error("redis exception key=" + key, e);
+			logger.error("redis exception", e);
 			throw e;
 		} finally {
 			returnConnect(jedis, isBroken);
@@ -324,16 +455,19 @@ public class RedisCache extends RedisClient {
 	}
 
 	/**
-	 * Delay for one key
-	 * 
+	 * add，值为二进制
 	 */
-	public void mapSetDelay(String key) {
+	public boolean addBytes(String key, byte[] value) {
 		Jedis jedis = null;
 		boolean isBroken = false;
 		try {
 			jedis = getConnect();
-			if (expireTime != 0) {
-				jedis.expire(key, expireTime);
+			if (expireTime == 0) {
+				return jedis.setnx(SafeEncoder.encode(key), value) == 1;
+			} else {
+				String res = jedis.set(SafeEncoder.encode(key), value, SafeEncoder.encode(RedisClient.NX),
+						SafeEncoder.encode(RedisClient.EX), expireTime);
+				return res == null ? false : res.equals("OK");
 			}
 		} catch (RuntimeException e) {
 			isBroken = true;
@@ -345,15 +479,42 @@ public class RedisCache extends RedisClient {
 	}
 
 	/**
-	 * get one key in the map
+	 * multi set，值为二进制
 	 */
-	public String mapGet(String key, String subkey) {
+	public void msetBytes(Map<String, byte[]> map) {
+		RedisBatch batch = batch();
+		batch.msetBytes(map);
+		batch.execute();
+	}
+
+	/**
+	 * set one key in a map，值为二进制
+	 */
+	public void mapSetBytes(String key, String subkey, byte[] data) {
+		RedisBatch batch = batch();
+		batch.mapSetBytes(key, subkey, data);
+		batch.execute();
+	}
+
+	/**
+	 * set a map totally,deletePrevKey means all reset，值为二进制
+	 */
+	public void mapSetAllBytes(String key, Map<String, byte[]> map, boolean deletePrevKey) {
+		RedisBatch batch = deletePrevKey ? transaction() : batch();
+		batch.mapSetAllBytes(key, map, deletePrevKey);
+		batch.execute();
+	}
+
+	/**
+	 * get one key in the map，值为二进制
+	 */
+	public byte[] mapGetBytes(String key, String subkey) {
 		Jedis jedis = null;
 		boolean isBroken = false;
 
 		try {
 			jedis = getConnect();
-			return jedis.hget(key, subkey);
+			return jedis.hget(SafeEncoder.encode(key), SafeEncoder.encode(subkey));
 		} catch (RuntimeException e) {
 			isBroken = true;
 			logger.error("redis exception", e);
@@ -364,15 +525,15 @@ public class RedisCache extends RedisClient {
 	}
 
 	/**
-	 * get a map totally
+	 * get a map totally，值为二进制
 	 */
-	public Map<String, String> mapGetAll(String key) {
+	public Map<String, byte[]> mapGetAllBytes(String key) {
 		Jedis jedis = null;
 		boolean isBroken = false;
 
 		try {
 			jedis = getConnect();
-			return jedis.hgetAll(key);
+			return decodeKeys(jedis.hgetAll(SafeEncoder.encode(key)));
 		} catch (RuntimeException e) {
 			isBroken = true;
 			logger.error("redis exception", e);
@@ -382,6 +543,32 @@ public class RedisCache extends RedisClient {
 		}
 	}
 
+	/**
+	 * map的key转换成二进制
+	 */
+	static Map<byte[], byte[]> encodeKeys(Map<String, byte[]> map) {
+		Map<byte[], byte[]> r = new HashMap<>(map.size() * 2);
+		for (Map.Entry<String, byte[]> node : map.entrySet()) {
+			r.put(SafeEncoder.encode(node.getKey()), node.getValue());
+		}
+		return r;
+	}
+
+	/**
+	 * map的key转换成字符串
+	 */
+	public static Map<String, byte[]> decodeKeys(Map<byte[], byte[]> map) {
+		if (map == null) {
+			return null;
+		}
+
+		Map<String, byte[]> r = new HashMap<>(map.size() * 2);
+		for (Map.Entry<byte[], byte[]> node : map.entrySet()) {
+			r.put(SafeEncoder.encode(node.getKey()), node.getValue());
+		}
+		return r;
+	}
+
 	/**
 	 * delete one key in map
 	 */
@@ -65,6 +65,11 @@ public abstract class RedisClient {
 	 */
 	private int port;
 
+	/**
+	 * 连接的密码
+	 */
+	private String password;
+
 	/**
 	 * 过期时间，为0不过期
 	 */
@@ -123,6 +128,7 @@ public abstract class RedisClient {
 		this.expireTime = expireTime;
 		this.host = ip;
 		this.port = port;
+		this.password = password;
 	}
 
 	/**
@@ -133,20 +139,20 @@ public abstract class RedisClient {
 	 * @param port
 	 *            redis-port
 	 * @param maxActive
-	 *            对象池的大小
+	 *            对象池的大小，小于等于0时使用默认值
 	 * @param maxIdle
-	 *            最大保持空闲状态的对象
+	 *            最大保持空闲状态的对象，小于等于0时使用默认值
 	 * @param maxWait
-	 *            获取jedis对象最长等待时间(ms)
+	 *            获取jedis对象最长等待时间(ms)，小于等于0时使用默认值
 	 * @param expireTime
 	 *            过期时间
 	 * @param password
 	 */
 	public RedisClient(String ip, int port, int maxActive, int maxIdle, int maxWait, int expireTime, String password) {
 		JedisPoolConfig config = new JedisPoolConfig();
-		config.setMaxTotal(maxActive);
-		config.setMaxIdle(maxIdle);
-		config.setMaxWaitMillis(maxWait);
+		config.setMaxTotal(maxActive > 0 ? maxActive : MAX_ACTIVE);
+		config.setMaxIdle(maxIdle > 0 ? maxIdle : MAX_IDLE);
+		config.setMaxWaitMillis(maxWait > 0 ? maxWait : MAX_WAIT);
 		config.setTestOnBorrow(TEST_ON_BORROW);
 		config.setTestOnReturn(TEST_ON_RETURN);
 
@@ -159,6 +165,7 @@ public abstract class RedisClient {
 		this.expireTime = expireTime;
 		this.host = ip;
 		this.port = port;
+		this.password = password;
 	}
 
 	/**
@@ -188,6 +195,20 @@ public abstract class RedisClient {
 		return pool.getResource();
 	}
 
+	/**
+	 * 创建一个不在对象池中的独立连接，用于订阅这类长时间占用的操作，使用完毕后需要close
+	 *
+	 * @param timeout 读超时(毫秒)，0为不超时
+	 * @return
+	 */
+	protected Jedis createConnect(int timeout) {
+		Jedis jedis = new Jedis(host, port, timeout);
+		if (password != null && password.length() > 0) {
+			jedis.auth(password);
+		}
+		return jedis;
+	}
+
 	/**
 	 * 向对象池返回一个使用完毕的连接
 	 *
@@ -0,0 +1,59 @@
+package net.db.dao;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+/**
+ * 按key合并并发的加载
+ * 同一个key同时只有一个线程执行加载，其他线程等待并共享它的结果，用于缓存失效时避免大量请求同时打到数据库
+ * 加载结束后立即移除，之后的请求重新加载
+ *
+ * @author ckf
+ */
+final class SingleFlight {
+
+	/**
+	 * 正在进行的加载 key -> 加载任务
+	 */
+	private final ConcurrentMap<String, FutureTask<?>> calls = new ConcurrentHashMap<>();
+
+	/**
+	 * 加载数据，同一个key已经在加载时等待其结果
+	 *
+	 * @param key
+	 * @param loader
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	<V> V load(String key, Callable<V> loader) {
+		FutureTask<V> task = new FutureTask<>(loader);
+		FutureTask<V> call = (FutureTask<V>) calls.putIfAbsent(key, task);
+		if (call == null) {
+			call = task;
+			try {
+				task.run();
+			} finally {
+				calls.remove(key, task);
+			}
+		}
+
+		try {
+			return call.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("load interrupted, key=" + key, e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new RuntimeException("load error, key=" + key, cause);
+		}
+	}
+}
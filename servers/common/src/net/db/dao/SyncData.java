@@ -1,8 +1,18 @@
 package net.db.dao;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import net.db.BasePo;
+import net.db.BundleKey;
 import net.db.Data;
 import net.db.sqlhandler.SqlHandlerType;
 import net.utils.SpringContext;
@@ -14,6 +24,16 @@ import net.utils.SpringContext;
  */
 public class SyncData implements Data {
 
+	private final static Logger logger = LoggerFactory.getLogger(SyncData.class);
+
+	/**
+	 * 取得缓存类的dao
+	 */
+	private static <T extends BasePo> CachedDao<T> cachedDao(int dsId, String className) {
+		Dao<T> dao = Dao.getDao(dsId, className);
+		return (CachedDao<T>) dao;
+	}
+
 	@Override public String findById(int dsId, String className, Object... ids) {
 		return Dao.getDao(dsId, className).findByIdFromDb(ids);
 	}
@@ -64,23 +84,97 @@ public class SyncData implements Data {
 	}
 
 	@Override public <T extends BasePo> String get(int dsId, String className, Object id) {
-		return ((CachedDao<T>) Dao.getDao(dsId, className)).get(id);
+		return SyncData.<T>cachedDao(dsId, className).get(id);
+	}
+
+	@Override public <T extends BasePo> byte[] getRaw(int dsId, String className, Object id) {
+		return SyncData.<T>cachedDao(dsId, className).getRaw(id);
 	}
 
 	@Override public <T extends BasePo> String getList(int dsId, String className, Object id) {
-		return ((CachedDao<T>) Dao.getDao(dsId, className)).getList(id);
+		return SyncData.<T>cachedDao(dsId, className).getList(id);
+	}
+
+	@Override public <T extends BasePo> byte[] getListRaw(int dsId, String className, Object id) {
+		return SyncData.<T>cachedDao(dsId, className).getListRaw(id);
+	}
+
+	@Override public <T extends BasePo> List<String> getMany(int dsId, String className, Object... ids) {
+		return SyncData.<T>cachedDao(dsId, className).getMany(Arrays.asList(ids));
+	}
+
+	@Override public <T extends BasePo> List<String> getListMany(int dsId, String className, Object... ids) {
+		return SyncData.<T>cachedDao(dsId, className).getListMany(Arrays.asList(ids));
+	}
+
+	@Override public List<String> loadBundle(int dsId, List<BundleKey> keys) {
+		//按表分组，同一张表的key一起读取
+		Map<String, List<Integer>> groups = new LinkedHashMap<>();
+		for (int i = 0; i < keys.size(); i++) {
+			String className = keys.get(i).getClassName();
+			List<Integer> group = groups.get(className);
+			if (group == null) {
+				group = new ArrayList<>();
+				groups.put(className, group);
+			}
+			group.add(i);
+		}
+
+		//所有表的读取命令放到同一个批量操作中，一次往返完成
+		Map<RedisCache, RedisBatch> batches = new IdentityHashMap<>();
+		Map<String, CachedDao.ManyRead> reads = new LinkedHashMap<>();
+		for (Map.Entry<String, List<Integer>> group : groups.entrySet()) {
+			CachedDao<BasePo> dao = (CachedDao<BasePo>) Dao.getDao(dsId, group.getKey());
+			List<Object> ids = new ArrayList<>(group.getValue().size());
+			for (int i : group.getValue()) {
+				ids.add(keys.get(i).getId());
+			}
+
+			RedisBatch batch = batches.get(dao.cache);
+			if (batch == null) {
+				batch = dao.cache.batch();
+				batches.put(dao.cache, batch);
+			}
+			reads.put(group.getKey(), dao.prepareMany(ids, batch));
+		}
+
+		Set<RedisCache> failed = new HashSet<>();
+		for (Map.Entry<RedisCache, RedisBatch> node : batches.entrySet()) {
+			try {
+				node.getValue().execute();
+			} catch (RuntimeException e) {
+				logger.error("cache error", e);
+				failed.add(node.getKey());
+			}
+		}
+
+		//不在redis中的每张表通过一条sql从数据库加载
+		String[] results = new String[keys.size()];
+		for (Map.Entry<String, CachedDao.ManyRead> node : reads.entrySet()) {
+			CachedDao<BasePo> dao = (CachedDao<BasePo>) Dao.getDao(dsId, node.getKey());
+			List<String> r = dao.finishMany(node.getValue(), !failed.contains(dao.cache));
+			List<Integer> group = groups.get(node.getKey());
+			for (int n = 0; n < group.size(); n++) {
+				results[group.get(n)] = r.get(n);
+			}
+		}
+		return Arrays.asList(results);
 	}
 
 	@Override public <T extends BasePo> String getOne(int dsId, String className, Object id, Object subId, boolean isFlushCache) {
-		return ((CachedDao<T>) Dao.getDao(dsId, className)).getOne(id, subId, isFlushCache);
+		return SyncData.<T>cachedDao(dsId, className).getOne(id, subId, isFlushCache);
+	}
+
+	@Override public <T extends BasePo> byte[] getOneRaw(int dsId, String className, Object id, Object subId, boolean isFlushCache) {
+		return SyncData.<T>cachedDao(dsId, className).getOneRaw(id, subId, isFlushCache);
 	}
 
 	@Override public <T extends BasePo> String getFromDb(int dsId, String className, Object id) {
-		return ((CachedDao<T>) Dao.getDao(dsId, className)).getFromDb(id);
+		return SyncData.<T>cachedDao(dsId, className).getFromDb(id);
 	}
 
 	@Override public <T extends BasePo> String getListFromDb(int dsId, String className, Object id) {
-		return ((CachedDao<T>) Dao.getDao(dsId, className)).getListFromDb(id);
+		return SyncData.<T>cachedDao(dsId, className).getListFromDb(id);
 	}
 
 	@Override public boolean patrol() {
@@ -94,10 +188,14 @@ public class SyncData implements Data {
 	}
 
 	@Override public <T extends BasePo> void listDelay(int dsId, String className, Object id) {
-		((CachedDao<T>) Dao.getDao(dsId, className)).listDelay(id);
+		SyncData.<T>cachedDao(dsId, className).listDelay(id);
 	}
 
 	@Override public void insertBatch(int dsId, String className, List<String> dataList) throws SQLException {
 		Dao.getDao(dsId, className).insertBatch(dataList);
 	}
+
+	@Override public int updateBatch(int dsId, String className, List<String> dataList) throws SQLException {
+		return Dao.getDao(dsId, className).updateBatchData(dataList);
+	}
 }
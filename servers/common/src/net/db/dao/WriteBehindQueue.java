@@ -0,0 +1,421 @@
+package net.db.dao;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import net.db.BasePo;
+import net.db.anno.PO;
+import net.utils.OrderedExecutor;
+import net.utils.OrderedThreadPoolExecutor;
+import net.utils.thread.Scheduler;
+
+/**
+ * 异步回写队列，每张缓存表一个
+ * <ul>
+ * <li>同一条数据在一个刷新周期内的多次修改只保留最后一次</li>
+ * <li>删除会覆盖还未写入的更新，删除之后的更新不会再写入(数据库中的update本来也不会生效)</li>
+ * <li>达到刷新间隔或者脏数据数量达到批次大小时，按表做一次批量删除和批量更新</li>
+ * <li>同一张表的刷新在有序线程池中使用同一个key，保证刷新不会并发执行</li>
+ * <li>数据写入数据库或者被后续修改覆盖后释放对应的预写日志记录，写入失败的数据留在队列，按退避时间重试</li>
+ * <li>连续失败{@link #MAX_RETRIES}次的数据(约束冲突、数据错误等)移出队列，完整数据写入deadLetter日志并释放预写日志记录</li>
+ * <li>正在写入的数据写入成功后才移出队列，从数据库加载到缓存时通过{@link #getPending(MarkKey)}取得还没有写入的操作</li>
+ * <li>脏数据超过maxPending时由提交修改的线程同步刷新，数据库跟不上时阻塞调用者而不是无限占用内存</li>
+ * </ul>
+ *
+ * @author ckf
+ * @see PO#flushInterval()
+ * @see PO#flushSize()
+ */
+final class WriteBehindQueue<T extends BasePo> {
+
+	private final static Logger logger = LoggerFactory.getLogger(WriteBehindQueue.class);
+
+	/**
+	 * 放弃写入的数据，日志配置中可以单独输出到文件，需要人工处理
+	 */
+	private final static Logger deadLetter = LoggerFactory.getLogger("deadLetter");
+
+	/**
+	 * 一条数据连续写入失败的次数上限，超过后放弃
+	 */
+	private final static int MAX_RETRIES = 5;
+
+	/**
+	 * 写入失败后第一次重试的等待时间(毫秒)，之后每次翻倍
+	 */
+	private final static long RETRY_BACKOFF = 1000;
+
+	/**
+	 * 没有配置批次大小时的脏数据上限
+	 */
+	private final static int DEFAULT_MAX_PENDING = 65536;
+
+	/**
+	 * 配置了批次大小时，脏数据上限为批次大小的倍数
+	 */
+	private final static int MAX_PENDING_BATCHES = 8;
+
+	/**
+	 * 表对应的dao
+	 */
+	private final CachedDao<T> dao;
+
+	/**
+	 * 刷新任务在有序线程池中使用的key
+	 */
+	private final long orderKey;
+
+	/**
+	 * 刷新间隔(毫秒)，小于等于0时每次修改都立即触发刷新
+	 */
+	private final int flushInterval;
+
+	/**
+	 * 批次大小，小于等于0时不限制
+	 */
+	private final int flushSize;
+
+	/**
+	 * 脏数据上限，超过时调用者同步刷新
+	 */
+	private final int maxPending;
+
+	/**
+	 * 等待写入的数据 markKey -> 最后一次操作
+	 */
+	private final Map<MarkKey, Pending<T>> pendings = new ConcurrentHashMap<>();
+
+	/**
+	 * 写入完成并移出队列的次数，加载前后不一致说明期间可能读到了写入前的数据
+	 */
+	private volatile long writeVersion;
+
+	/**
+	 * 是否已经有刷新任务在线程池中排队
+	 */
+	private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+	private final OrderedExecutor executor;
+
+	/**
+	 * 定时刷新任务id
+	 */
+	private final String timerTaskId;
+
+	WriteBehindQueue(int dsId, CachedDao<T> dao, OrderedExecutor executor) {
+		this.dao = dao;
+		this.executor = executor;
+		this.orderKey = (dsId + "_" + dao.cls.getName()).hashCode();
+
+		PO po = dao.cls.getAnnotation(PO.class);
+		this.flushInterval = po.flushInterval();
+		this.flushSize = po.flushSize();
+		this.maxPending = flushSize > 0 ? flushSize * MAX_PENDING_BATCHES : DEFAULT_MAX_PENDING;
+
+		if (flushInterval > 0) {
+			this.timerTaskId = Scheduler.submit(Scheduler.tag("WriteBehindQueue.flush", new Runnable() {
+				@Override public void run() {
+					if (!pendings.isEmpty()) {
+						scheduleFlush();
+					}
+				}
+			}), flushInterval, flushInterval);
+		} else {
+			this.timerTaskId = null;
+		}
+	}
+
+	/**
+	 * 记录一次更新
+	 *
+	 * @param markKey
+	 * @param t
+	 * @param segment 预写日志中记录所在的段，没有开启日志时为null
+	 */
+	void update(MarkKey markKey, T t, AsyncJournal.Segment segment) {
+		Pending<T> pending = new Pending<>(markKey, t, false, segment);
+		pendings.compute(markKey, (k, old) -> {
+			if (old != null && old.delete) {
+				pending.release();
+				return old;
+			}
+			if (old != null) {
+				old.release();
+			}
+			return pending;
+		});
+		afterOffer();
+	}
+
+	/**
+	 * 记录一次删除
+	 *
+	 * @param markKey
+	 * @param t
+	 * @param segment 预写日志中记录所在的段，没有开启日志时为null
+	 */
+	void delete(MarkKey markKey, T t, AsyncJournal.Segment segment) {
+		Pending<T> old = pendings.put(markKey, new Pending<>(markKey, t, true, segment));
+		if (old != null) {
+			old.release();
+		}
+		afterOffer();
+	}
+
+	/**
+	 * 一条数据还没有写入数据库的最后一次操作，包括正在写入的
+	 *
+	 * @param markKey
+	 * @return 没有时为null
+	 */
+	Pending<T> getPending(MarkKey markKey) {
+		return pendings.get(markKey);
+	}
+
+	/**
+	 * @return 写入完成并移出队列的次数
+	 */
+	long getWriteVersion() {
+		return writeVersion;
+	}
+
+	/**
+	 * 等待写入的数量
+	 *
+	 * @return
+	 */
+	int size() {
+		return pendings.size();
+	}
+
+	private void afterOffer() {
+		int size = pendings.size();
+		if (size >= maxPending) {
+			//数据库写入跟不上，调用者同步刷新，正在刷新时在flush的锁上等待
+			logger.warn("回写队列过大，同步刷新 po = " + dao.cls.getSimpleName() + " size = " + size);
+			flush();
+		} else if (flushInterval <= 0 || (flushSize > 0 && size >= flushSize)) {
+			scheduleFlush();
+		}
+	}
+
+	private void scheduleFlush() {
+		if (!flushScheduled.compareAndSet(false, true)) {
+			return;
+		}
+
+		executor.execute(new OrderedThreadPoolExecutor.OrderedRunable(orderKey) {
+			@Override public void run() {
+				flushScheduled.set(false);
+				flush();
+			}
+		});
+	}
+
+	/**
+	 * 把当前所有脏数据写入数据库
+	 */
+	synchronized void flush() {
+		List<Pending<T>> updates = new ArrayList<>();
+		List<Pending<T>> deletes = new ArrayList<>();
+		//写入成功后才移出队列，写入期间加载缓存的读取仍然能看到
+		long now = System.currentTimeMillis();
+		for (Pending<T> pending : pendings.values()) {
+			if (pending.retryTime > now) {
+				continue;
+			}
+			if (pending.delete) {
+				deletes.add(pending);
+			} else {
+				updates.add(pending);
+			}
+
+			if (flushSize > 0 && deletes.size() >= flushSize) {
+				writeDeletes(deletes);
+				deletes.clear();
+			}
+			if (flushSize > 0 && updates.size() >= flushSize) {
+				writeUpdates(updates);
+				updates.clear();
+			}
+		}
+
+		writeDeletes(deletes);
+		writeUpdates(updates);
+	}
+
+	/**
+	 * 同步写入一批更新，不经过队列
+	 * 和刷新持有同一把锁，写入成功后移除队列中同一条数据在写入前就已经存在的更新(比这次写入旧)并释放日志记录，
+	 * 写入期间进来的新修改保留在队列中，队列中的删除也保留
+	 *
+	 * @param markKeys 和tList一一对应
+	 * @param tList
+	 * @return 每条数据受影响的行数
+	 * @throws SQLException 写入失败，队列不变
+	 */
+	synchronized int[] writeThrough(List<MarkKey> markKeys, List<T> tList) throws SQLException {
+		List<Pending<T>> olds = new ArrayList<>(markKeys.size());
+		for (MarkKey markKey : markKeys) {
+			olds.add(pendings.get(markKey));
+		}
+
+		int[] counts = dao.updateBatch(tList);
+
+		for (Pending<T> old : olds) {
+			if (old != null && !old.delete && pendings.remove(old.markKey, old)) {
+				old.release();
+			}
+		}
+		writeVersion++;
+		return counts;
+	}
+
+	/**
+	 * 停止定时刷新并且写入剩余的数据
+	 */
+	void stop() {
+		Scheduler.cancel(timerTaskId);
+		flush();
+		if (!pendings.isEmpty()) {
+			logger.error("停服时仍有数据写入失败，保留在预写日志中 po = " + dao.cls.getSimpleName() + " size = " + pendings.size());
+		}
+	}
+
+	private void writeDeletes(List<Pending<T>> deletes) {
+		if (deletes.isEmpty()) {
+			return;
+		}
+
+		List<T> tList = dataOf(deletes);
+		try {
+			dao.deleteBatch(tList);
+			written(deletes);
+		} catch (SQLException e) {
+			logger.error("批量删除失败，改为逐条删除 po = " + dao.cls.getSimpleName() + " size = " + tList.size(), e);
+			for (Pending<T> pending : deletes) {
+				try {
+					dao.deleteBatch(Collections.singletonList(pending.data));
+					written(Collections.singletonList(pending));
+				} catch (SQLException ex) {
+					failed(pending, ex);
+				}
+			}
+		}
+	}
+
+	private void writeUpdates(List<Pending<T>> updates) {
+		if (updates.isEmpty()) {
+			return;
+		}
+
+		List<T> tList = dataOf(updates);
+		try {
+			dao.updateBatch(tList);
+			written(updates);
+		} catch (SQLException e) {
+			logger.error("批量更新失败，改为逐条更新 po = " + dao.cls.getSimpleName() + " size = " + tList.size(), e);
+			for (Pending<T> pending : updates) {
+				try {
+					dao.updateBatch(Collections.singletonList(pending.data));
+					written(Collections.singletonList(pending));
+				} catch (SQLException ex) {
+					failed(pending, ex);
+				}
+			}
+		}
+	}
+
+	/**
+	 * 单条写入失败，没有超过重试次数时留在队列中等待退避时间后重试，否则放弃写入
+	 *
+	 * @param pending
+	 * @param e
+	 */
+	private void failed(Pending<T> pending, SQLException e) {
+		String op = pending.delete ? "删除" : "更新";
+		pending.failures++;
+		if (pending.failures < MAX_RETRIES) {
+			long backoff = RETRY_BACKOFF << (pending.failures - 1);
+			pending.retryTime = System.currentTimeMillis() + backoff;
+			logger.error(op + "失败，" + backoff + "毫秒后重试 po = " + dao.cls.getSimpleName() + " key = "
+					+ pending.markKey + " failures = " + pending.failures, e);
+			return;
+		}
+
+		if (pendings.remove(pending.markKey, pending)) {
+			deadLetter.error("{} po = {} key = {} data = {}", op, dao.cls.getName(), pending.markKey,
+					dao.encode(pending.data));
+			pending.release();
+		}
+		logger.error(op + "连续失败" + pending.failures + "次，放弃写入，数据见deadLetter日志 po = " + dao.cls.getSimpleName()
+				+ " key = " + pending.markKey, e);
+	}
+
+	private List<T> dataOf(List<Pending<T>> pendingList) {
+		List<T> tList = new ArrayList<>(pendingList.size());
+		for (Pending<T> pending : pendingList) {
+			tList.add(pending.data);
+		}
+		return tList;
+	}
+
+	/**
+	 * 写入成功后移出队列并释放日志记录
+	 * 写入期间被新的修改覆盖的操作已经在覆盖时释放，新的修改留在队列中
+	 */
+	private void written(List<Pending<T>> pendingList) {
+		for (Pending<T> pending : pendingList) {
+			if (pendings.remove(pending.markKey, pending)) {
+				pending.release();
+			}
+		}
+		writeVersion++;
+	}
+
+	/**
+	 * 等待写入的操作
+	 */
+	static final class Pending<T> {
+		final MarkKey markKey;
+		final T data;
+		final boolean delete;
+
+		/**
+		 * 预写日志中记录所在的段
+		 */
+		final AsyncJournal.Segment segment;
+
+		/**
+		 * 连续写入失败的次数，只在刷新的锁中访问
+		 */
+		int failures;
+
+		/**
+		 * 下次重试的时间，之前的刷新跳过这条数据
+		 */
+		volatile long retryTime;
+
+		Pending(MarkKey markKey, T data, boolean delete, AsyncJournal.Segment segment) {
+			this.markKey = markKey;
+			this.data = data;
+			this.delete = delete;
+			this.segment = segment;
+		}
+
+		/**
+		 * 数据已写入或者被覆盖，释放日志记录
+		 */
+		void release() {
+			if (segment != null) {
+				segment.release();
+			}
+		}
+	}
+}
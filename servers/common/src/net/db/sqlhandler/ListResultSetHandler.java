@@ -7,7 +7,6 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.apache.commons.dbutils.ResultSetHandler;
-import org.apache.commons.dbutils.handlers.BeanListHandler;
 
 /**
  * 列表结果处理器
@@ -20,7 +19,7 @@ public class ListResultSetHandler<T> implements ResultSetHandler<List<T>>, Seria
 
 	private Class<T> clazz;
 	private boolean isComplexType;
-	private transient BeanListHandler<T> beanListHandler;
+	private transient PoListHandler<T> beanListHandler;
 
 	public ListResultSetHandler(Class<T> paramType) {
 		this.clazz = paramType;
@@ -34,7 +33,9 @@ public class ListResultSetHandler<T> implements ResultSetHandler<List<T>>, Seria
 			List<T> dataList = new ArrayList<>();
 
 			if (isComplexType) {
-				beanListHandler = new BeanListHandler<>(clazz);
+				if (beanListHandler == null) {
+					beanListHandler = new PoListHandler<>(clazz);
+				}
 				dataList = beanListHandler.handle(rs);
 			} else {
 				while (rs.next()) {
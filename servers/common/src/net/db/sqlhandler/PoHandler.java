@@ -0,0 +1,25 @@
+package net.db.sqlhandler;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import org.apache.commons.dbutils.ResultSetHandler;
+
+/**
+ * 查询结果的第一行映射为对象，没有数据时为null，代替BeanHandler
+ *
+ * @author ckf
+ * @see PoRowMapper
+ */
+public class PoHandler<T> implements ResultSetHandler<T> {
+
+	private final PoRowMapper<T> mapper;
+
+	public PoHandler(Class<T> cls) {
+		this.mapper = PoRowMapper.of(cls);
+	}
+
+	@Override
+	public T handle(ResultSet rs) throws SQLException {
+		return mapper.first(rs);
+	}
+}
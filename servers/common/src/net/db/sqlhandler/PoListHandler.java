@@ -0,0 +1,26 @@
+package net.db.sqlhandler;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import org.apache.commons.dbutils.ResultSetHandler;
+
+/**
+ * 查询结果的所有行映射为对象列表，代替BeanListHandler
+ *
+ * @author ckf
+ * @see PoRowMapper
+ */
+public class PoListHandler<T> implements ResultSetHandler<List<T>> {
+
+	private final PoRowMapper<T> mapper;
+
+	public PoListHandler(Class<T> cls) {
+		this.mapper = PoRowMapper.of(cls);
+	}
+
+	@Override
+	public List<T> handle(ResultSet rs) throws SQLException {
+		return mapper.list(rs);
+	}
+}
@@ -0,0 +1,297 @@
+package net.db.sqlhandler;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 查询结果到po的映射，代替dbutils的BeanHandler
+ * <p/>
+ * 创建时为每个属性生成一个按列类型读取并直接写入属性的MethodHandle，每次查询只按列名解析一次列序号到属性的对应，
+ * 之后每一行按列序号读取，不再有内省和反射调用setter，基本类型的列也不装箱
+ * <p/>
+ * 列名和属性名先精确匹配再忽略大小写，和{@link net.db.codec.BinaryPoCodec}一样直接写属性，不调用setter，
+ * 没有对应属性的列忽略，NULL写入基本类型属性时为驱动返回的0/false(不保留属性的初始值，和BeanListHandler一致)，
+ * 包装类型、String等为null
+ *
+ * @author ckf
+ */
+public final class PoRowMapper<T> {
+
+	private final static Map<Class<?>, PoRowMapper<?>> MAPPERS = new ConcurrentHashMap<>();
+
+	private final Class<T> cls;
+
+	private final MethodHandle constructor;
+
+	/**
+	 * 属性名 -> 列的读取
+	 */
+	private final Map<String, Column> columns = new HashMap<>();
+
+	/**
+	 * 小写的属性名 -> 列的读取
+	 */
+	private final Map<String, Column> lowerColumns = new HashMap<>();
+
+	/**
+	 * 取得类型的映射，每个类型只生成一次
+	 *
+	 * @param cls 需要有无参构造函数
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> PoRowMapper<T> of(Class<T> cls) {
+		PoRowMapper<T> mapper = (PoRowMapper<T>) MAPPERS.get(cls);
+		if (mapper == null) {
+			mapper = new PoRowMapper<>(cls);
+			PoRowMapper<T> exists = (PoRowMapper<T>) MAPPERS.putIfAbsent(cls, mapper);
+			if (exists != null) {
+				mapper = exists;
+			}
+		}
+		return mapper;
+	}
+
+	private PoRowMapper(Class<T> cls) {
+		this.cls = cls;
+		MethodHandles.Lookup lookup = MethodHandles.lookup();
+		try {
+			Constructor<T> c = cls.getDeclaredConstructor();
+			c.setAccessible(true);
+			this.constructor = lookup.unreflectConstructor(c).asType(MethodType.methodType(Object.class));
+
+			for (Class<?> k = cls; k != null && k != Object.class; k = k.getSuperclass()) {
+				for (Field field : k.getDeclaredFields()) {
+					int modifiers = field.getModifiers();
+					if (Modifier.isStatic(modifiers) || Modifier.isFinal(modifiers) || columns.containsKey(field.getName())) {
+						//子类的属性优先
+						continue;
+					}
+					field.setAccessible(true);
+					Column column = Column.of(field, lookup.unreflectSetter(field));
+					columns.put(field.getName(), column);
+					String lower = field.getName().toLowerCase(Locale.ROOT);
+					if (!lowerColumns.containsKey(lower)) {
+						lowerColumns.put(lower, column);
+					}
+				}
+			}
+		} catch (NoSuchMethodException | IllegalAccessException e) {
+			throw new RuntimeException("生成查询结果映射失败 cls = " + cls.getName(), e);
+		}
+	}
+
+	/**
+	 * 按结果集的列解析列序号到属性的对应
+	 *
+	 * @param rs
+	 * @return 下标为列序号-1，没有对应属性的列为null
+	 * @throws SQLException
+	 */
+	public Column[] resolve(ResultSet rs) throws SQLException {
+		ResultSetMetaData meta = rs.getMetaData();
+		Column[] r = new Column[meta.getColumnCount()];
+		for (int i = 0; i < r.length; i++) {
+			String name = meta.getColumnLabel(i + 1);
+			if (name == null || name.length() == 0) {
+				name = meta.getColumnName(i + 1);
+			}
+			Column column = columns.get(name);
+			if (column == null) {
+				column = lowerColumns.get(name.toLowerCase(Locale.ROOT));
+			}
+			r[i] = column;
+		}
+		return r;
+	}
+
+	/**
+	 * 把当前行映射为对象
+	 *
+	 * @param rs
+	 * @param resolved {@link #resolve(ResultSet)}的结果
+	 * @return
+	 * @throws SQLException
+	 */
+	@SuppressWarnings("unchecked")
+	public T map(ResultSet rs, Column[] resolved) throws SQLException {
+		Object t;
+		try {
+			t = constructor.invokeExact();
+		} catch (Throwable e) {
+			throw new SQLException("创建对象失败 cls = " + cls.getName(), e);
+		}
+
+		for (int i = 0; i < resolved.length; i++) {
+			Column column = resolved[i];
+			if (column == null) {
+				continue;
+			}
+			try {
+				column.set(t, rs, i + 1);
+			} catch (SQLException e) {
+				throw e;
+			} catch (Throwable e) {
+				throw new SQLException("设置属性失败 cls = " + cls.getName() + " column = " + (i + 1), e);
+			}
+		}
+		return (T) t;
+	}
+
+	/**
+	 * @return 第一行，没有数据时为null
+	 */
+	public T first(ResultSet rs) throws SQLException {
+		if (!rs.next()) {
+			return null;
+		}
+		return map(rs, resolve(rs));
+	}
+
+	/**
+	 * @return 所有行
+	 */
+	public List<T> list(ResultSet rs) throws SQLException {
+		List<T> r = new ArrayList<>();
+		if (!rs.next()) {
+			return r;
+		}
+		Column[] resolved = resolve(rs);
+		do {
+			r.add(map(rs, resolved));
+		} while (rs.next());
+		return r;
+	}
+
+	public Class<T> getType() {
+		return cls;
+	}
+
+	/**
+	 * 一个属性的读取和写入，按属性类型选择ResultSet的getter
+	 */
+	public abstract static class Column {
+
+		/**
+		 * 写入属性的MethodHandle，类型已经适配为(Object, 属性类型)void
+		 */
+		protected final MethodHandle setter;
+
+		Column(MethodHandle setter) {
+			this.setter = setter;
+		}
+
+		abstract void set(Object t, ResultSet rs, int index) throws Throwable;
+
+		static Column of(Field field, MethodHandle setter) {
+			Class<?> type = field.getType();
+			MethodHandle h = setter.asType(MethodType.methodType(void.class, Object.class, type));
+			if (type == int.class) {
+				return new Column(h) {
+					@Override void set(Object t, ResultSet rs, int index) throws Throwable {
+						setter.invokeExact(t, rs.getInt(index));
+					}
+				};
+			} else if (type == long.class) {
+				return new Column(h) {
+					@Override void set(Object t, ResultSet rs, int index) throws Throwable {
+						setter.invokeExact(t, rs.getLong(index));
+					}
+				};
+			} else if (type == boolean.class) {
+				return new Column(h) {
+					@Override void set(Object t, ResultSet rs, int index) throws Throwable {
+						setter.invokeExact(t, rs.getBoolean(index));
+					}
+				};
+			} else if (type == double.class) {
+				return new Column(h) {
+					@Override void set(Object t, ResultSet rs, int index) throws Throwable {
+						setter.invokeExact(t, rs.getDouble(index));
+					}
+				};
+			} else if (type == float.class) {
+				return new Column(h) {
+					@Override void set(Object t, ResultSet rs, int index) throws Throwable {
+						setter.invokeExact(t, rs.getFloat(index));
+					}
+				};
+			} else if (type == short.class) {
+				return new Column(h) {
+					@Override void set(Object t, ResultSet rs, int index) throws Throwable {
+						setter.invokeExact(t, rs.getShort(index));
+					}
+				};
+			} else if (type == byte.class) {
+				return new Column(h) {
+					@Override void set(Object t, ResultSet rs, int index) throws Throwable {
+						setter.invokeExact(t, rs.getByte(index));
+					}
+				};
+			} else if (type == String.class) {
+				return new Column(h) {
+					@Override void set(Object t, ResultSet rs, int index) throws Throwable {
+						setter.invokeExact(t, rs.getString(index));
+					}
+				};
+			} else if (type == Integer.class) {
+				return new Column(h) {
+					@Override void set(Object t, ResultSet rs, int index) throws Throwable {
+						int v = rs.getInt(index);
+						setter.invokeExact(t, rs.wasNull() ? (Integer) null : Integer.valueOf(v));
+					}
+				};
+			} else if (type == Long.class) {
+				return new Column(h) {
+					@Override void set(Object t, ResultSet rs, int index) throws Throwable {
+						long v = rs.getLong(index);
+						setter.invokeExact(t, rs.wasNull() ? (Long) null : Long.valueOf(v));
+					}
+				};
+			} else if (type == byte[].class) {
+				return new Column(h) {
+					@Override void set(Object t, ResultSet rs, int index) throws Throwable {
+						setter.invokeExact(t, rs.getBytes(index));
+					}
+				};
+			} else if (type == BigDecimal.class) {
+				return new Column(h) {
+					@Override void set(Object t, ResultSet rs, int index) throws Throwable {
+						setter.invokeExact(t, rs.getBigDecimal(index));
+					}
+				};
+			} else if (type == Date.class || type == Timestamp.class) {
+				final MethodHandle g = setter.asType(MethodType.methodType(void.class, Object.class, Timestamp.class));
+				return new Column(g) {
+					@Override void set(Object t, ResultSet rs, int index) throws Throwable {
+						setter.invokeExact(t, rs.getTimestamp(index));
+					}
+				};
+			}
+
+			//其他类型按驱动返回的对象写入
+			final MethodHandle g = setter.asType(MethodType.methodType(void.class, Object.class, Object.class));
+			return new Column(g) {
+				@Override void set(Object t, ResultSet rs, int index) throws Throwable {
+					setter.invokeExact(t, rs.getObject(index));
+				}
+			};
+		}
+	}
+}
@@ -14,6 +14,306 @@ public final class DbRpcService {
     registerAllExtensions(
         (com.google.protobuf.ExtensionRegistryLite) registry);
   }
+  /**
+   * <pre>
+   * 错误码
+   * </pre>
+   *
+   * Protobuf enum {@code DbCode}
+   */
+  public enum DbCode
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>OK = 0;</code>
+     */
+    OK(0),
+    /**
+     * <pre>
+     * 数据不存在
+     * </pre>
+     *
+     * <code>NOT_FOUND = 1;</code>
+     */
+    NOT_FOUND(1),
+    /**
+     * <pre>
+     * 数据源或者表不存在
+     * </pre>
+     *
+     * <code>UNKNOWN_CLASS = 2;</code>
+     */
+    UNKNOWN_CLASS(2),
+    /**
+     * <pre>
+     * 参数错误
+     * </pre>
+     *
+     * <code>BAD_REQUEST = 3;</code>
+     */
+    BAD_REQUEST(3),
+    /**
+     * <pre>
+     * 数据库错误
+     * </pre>
+     *
+     * <code>DB_ERROR = 4;</code>
+     */
+    DB_ERROR(4),
+    /**
+     * <pre>
+     * 其他错误
+     * </pre>
+     *
+     * <code>INTERNAL = 5;</code>
+     */
+    INTERNAL(5),
+    UNRECOGNIZED(-1),
+    ;
+
+    /**
+     * <code>OK = 0;</code>
+     */
+    public static final int OK_VALUE = 0;
+    /**
+     * <pre>
+     * 数据不存在
+     * </pre>
+     *
+     * <code>NOT_FOUND = 1;</code>
+     */
+    public static final int NOT_FOUND_VALUE = 1;
+    /**
+     * <pre>
+     * 数据源或者表不存在
+     * </pre>
+     *
+     * <code>UNKNOWN_CLASS = 2;</code>
+     */
+    public static final int UNKNOWN_CLASS_VALUE = 2;
+    /**
+     * <pre>
+     * 参数错误
+     * </pre>
+     *
+     * <code>BAD_REQUEST = 3;</code>
+     */
+    public static final int BAD_REQUEST_VALUE = 3;
+    /**
+     * <pre>
+     * 数据库错误
+     * </pre>
+     *
+     * <code>DB_ERROR = 4;</code>
+     */
+    public static final int DB_ERROR_VALUE = 4;
+    /**
+     * <pre>
+     * 其他错误
+     * </pre>
+     *
+     * <code>INTERNAL = 5;</code>
+     */
+    public static final int INTERNAL_VALUE = 5;
+
+
+    public final int getNumber() {
+      if (this == UNRECOGNIZED) {
+        throw new IllegalArgumentException(
+            "Can't get the number of an unknown enum value.");
+      }
+      return value;
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     * @deprecated Use {@link #forNumber(int)} instead.
+     */
+    @Deprecated
+    public static DbCode valueOf(int value) {
+      return forNumber(value);
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     */
+    public static DbCode forNumber(int value) {
+      switch (value) {
+        case 0: return OK;
+        case 1: return NOT_FOUND;
+        case 2: return UNKNOWN_CLASS;
+        case 3: return BAD_REQUEST;
+        case 4: return DB_ERROR;
+        case 5: return INTERNAL;
+        default: return null;
+      }
+    }
+
+    public static com.google.protobuf.Internal.EnumLiteMap<DbCode>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        DbCode> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<DbCode>() {
+            public DbCode findValueByNumber(int number) {
+              return DbCode.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      if (this == UNRECOGNIZED) {
+        throw new IllegalStateException(
+            "Can't get the descriptor of an unrecognized enum value.");
+      }
+      return getDescriptor().getValues().get(ordinal());
+    }
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return DbRpcService.getDescriptor().getEnumTypes().get(0);
+    }
+
+    private static final DbCode[] VALUES = values();
+
+    public static DbCode valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
+      }
+      if (desc.getIndex() == -1) {
+        return UNRECOGNIZED;
+      }
+      return VALUES[desc.getIndex()];
+    }
+
+    private final int value;
+
+    private DbCode(int value) {
+      this.value = value;
+    }
+
+    // @@protoc_insertion_point(enum_scope:DbCode)
+  }
+
+  /**
+   * <pre>
+   * 批量写入的操作类型
+   * </pre>
+   *
+   * Protobuf enum {@code WriteOp}
+   */
+  public enum WriteOp
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>INSERT = 0;</code>
+     */
+    INSERT(0),
+    /**
+     * <code>UPDATE = 1;</code>
+     */
+    UPDATE(1),
+    UNRECOGNIZED(-1),
+    ;
+
+    /**
+     * <code>INSERT = 0;</code>
+     */
+    public static final int INSERT_VALUE = 0;
+    /**
+     * <code>UPDATE = 1;</code>
+     */
+    public static final int UPDATE_VALUE = 1;
+
+
+    public final int getNumber() {
+      if (this == UNRECOGNIZED) {
+        throw new IllegalArgumentException(
+            "Can't get the number of an unknown enum value.");
+      }
+      return value;
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     * @deprecated Use {@link #forNumber(int)} instead.
+     */
+    @Deprecated
+    public static WriteOp valueOf(int value) {
+      return forNumber(value);
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     */
+    public static WriteOp forNumber(int value) {
+      switch (value) {
+        case 0: return INSERT;
+        case 1: return UPDATE;
+        default: return null;
+      }
+    }
+
+    public static com.google.protobuf.Internal.EnumLiteMap<WriteOp>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        WriteOp> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<WriteOp>() {
+            public WriteOp findValueByNumber(int number) {
+              return WriteOp.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      if (this == UNRECOGNIZED) {
+        throw new IllegalStateException(
+            "Can't get the descriptor of an unrecognized enum value.");
+      }
+      return getDescriptor().getValues().get(ordinal());
+    }
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return DbRpcService.getDescriptor().getEnumTypes().get(1);
+    }
+
+    private static final WriteOp[] VALUES = values();
+
+    public static WriteOp valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
+      }
+      if (desc.getIndex() == -1) {
+        return UNRECOGNIZED;
+      }
+      return VALUES[desc.getIndex()];
+    }
+
+    private final int value;
+
+    private WriteOp(int value) {
+      this.value = value;
+    }
+
+    // @@protoc_insertion_point(enum_scope:WriteOp)
+  }
+
   public interface SelectRequestOrBuilder extends
       // @@protoc_insertion_point(interface_extends:SelectRequest)
       com.google.protobuf.MessageOrBuilder {
@@ -1291,48 +1591,8700 @@ public final class DbRpcService {
 
   }
 
-  private static final com.google.protobuf.Descriptors.Descriptor
-    internal_static_SelectRequest_descriptor;
-  private static final 
-    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-      internal_static_SelectRequest_fieldAccessorTable;
-  private static final com.google.protobuf.Descriptors.Descriptor
-    internal_static_SelectResponse_descriptor;
-  private static final 
-    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-      internal_static_SelectResponse_fieldAccessorTable;
+  public interface MultiGetKeyOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:MultiGetKey)
+      com.google.protobuf.MessageOrBuilder {
 
-  public static com.google.protobuf.Descriptors.FileDescriptor
-      getDescriptor() {
-    return descriptor;
+    /**
+     * <code>string className = 1;</code>
+     * @return The className.
+     */
+    String getClassName();
+    /**
+     * <code>string className = 1;</code>
+     * @return The bytes for className.
+     */
+    com.google.protobuf.ByteString
+        getClassNameBytes();
+
+    /**
+     * <code>int64 id = 2;</code>
+     * @return The id.
+     */
+    long getId();
   }
-  private static  com.google.protobuf.Descriptors.FileDescriptor
-      descriptor;
-  static {
-    String[] descriptorData = {
-      "\n\017dbservice.proto\"<\n\rSelectRequest\022\014\n\004ds" +
-      "Id\030\001 \001(\005\022\021\n\tclassName\030\002 \001(\t\022\n\n\002id\030\003 \001(\003\"" +
-      "\033\n\016SelectResponse\022\t\n\001r\030\001 \001(\t26\n\tDbServic" +
-      "e\022)\n\006select\022\016.SelectRequest\032\017.SelectResp" +
-      "onseB\036\n\016net.proto.grpcB\014DbRpcServiceb\006pr" +
-      "oto3"
-    };
-    descriptor = com.google.protobuf.Descriptors.FileDescriptor
-      .internalBuildGeneratedFileFrom(descriptorData,
-        new com.google.protobuf.Descriptors.FileDescriptor[] {
-        });
-    internal_static_SelectRequest_descriptor =
-      getDescriptor().getMessageTypes().get(0);
-    internal_static_SelectRequest_fieldAccessorTable = new
-      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
-        internal_static_SelectRequest_descriptor,
-        new String[] { "DsId", "ClassName", "Id", });
-    internal_static_SelectResponse_descriptor =
-      getDescriptor().getMessageTypes().get(1);
-    internal_static_SelectResponse_fieldAccessorTable = new
-      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
-        internal_static_SelectResponse_descriptor,
-        new String[] { "R", });
+  /**
+   * Protobuf type {@code MultiGetKey}
+   */
+  public static final class MultiGetKey extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:MultiGetKey)
+      MultiGetKeyOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use MultiGetKey.newBuilder() to construct.
+    private MultiGetKey(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private MultiGetKey() {
+      className_ = "";
+    }
+
+    @Override
+    @SuppressWarnings({"unused"})
+    protected Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new MultiGetKey();
+    }
+
+    @Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private MultiGetKey(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              String s = input.readStringRequireUtf8();
+
+              className_ = s;
+              break;
+            }
+            case 16: {
+
+              id_ = input.readInt64();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return DbRpcService.internal_static_MultiGetKey_descriptor;
+    }
+
+    @Override
+    protected FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return DbRpcService.internal_static_MultiGetKey_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              MultiGetKey.class, Builder.class);
+    }
+
+    public static final int CLASSNAME_FIELD_NUMBER = 1;
+    private volatile Object className_;
+    /**
+     * <code>string className = 1;</code>
+     * @return The className.
+     */
+    @Override
+    public String getClassName() {
+      Object ref = className_;
+      if (ref instanceof String) {
+        return (String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        String s = bs.toStringUtf8();
+        className_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string className = 1;</code>
+     * @return The bytes for className.
+     */
+    @Override
+    public com.google.protobuf.ByteString
+        getClassNameBytes() {
+      Object ref = className_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (String) ref);
+        className_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int ID_FIELD_NUMBER = 2;
+    private long id_;
+    /**
+     * <code>int64 id = 2;</code>
+     * @return The id.
+     */
+    @Override
+    public long getId() {
+      return id_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!getClassNameBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, className_);
+      }
+      if (id_ != 0L) {
+        output.writeInt64(2, id_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!getClassNameBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, className_);
+      }
+      if (id_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(2, id_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof MultiGetKey)) {
+        return super.equals(obj);
+      }
+      MultiGetKey other = (MultiGetKey) obj;
+
+      if (!getClassName()
+          .equals(other.getClassName())) return false;
+      if (getId()
+          != other.getId()) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + CLASSNAME_FIELD_NUMBER;
+      hash = (53 * hash) + getClassName().hashCode();
+      hash = (37 * hash) + ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getId());
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static MultiGetKey parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static MultiGetKey parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static MultiGetKey parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static MultiGetKey parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static MultiGetKey parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static MultiGetKey parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static MultiGetKey parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static MultiGetKey parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static MultiGetKey parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static MultiGetKey parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static MultiGetKey parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static MultiGetKey parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(MultiGetKey prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @Override
+    protected Builder newBuilderForType(
+        BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code MultiGetKey}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:MultiGetKey)
+        MultiGetKeyOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return DbRpcService.internal_static_MultiGetKey_descriptor;
+      }
+
+      @Override
+      protected FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return DbRpcService.internal_static_MultiGetKey_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                MultiGetKey.class, Builder.class);
+      }
+
+      // Construct using net.proto.grpc.DbRpcService.MultiGetKey.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @Override
+      public Builder clear() {
+        super.clear();
+        className_ = "";
+
+        id_ = 0L;
+
+        return this;
+      }
+
+      @Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return DbRpcService.internal_static_MultiGetKey_descriptor;
+      }
+
+      @Override
+      public MultiGetKey getDefaultInstanceForType() {
+        return MultiGetKey.getDefaultInstance();
+      }
+
+      @Override
+      public MultiGetKey build() {
+        MultiGetKey result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @Override
+      public MultiGetKey buildPartial() {
+        MultiGetKey result = new MultiGetKey(this);
+        result.className_ = className_;
+        result.id_ = id_;
+        onBuilt();
+        return result;
+      }
+
+      @Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return super.setField(field, value);
+      }
+      @Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof MultiGetKey) {
+          return mergeFrom((MultiGetKey)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(MultiGetKey other) {
+        if (other == MultiGetKey.getDefaultInstance()) return this;
+        if (!other.getClassName().isEmpty()) {
+          className_ = other.className_;
+          onChanged();
+        }
+        if (other.getId() != 0L) {
+          setId(other.getId());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        MultiGetKey parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (MultiGetKey) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private Object className_ = "";
+      /**
+       * <code>string className = 1;</code>
+       * @return The className.
+       */
+      public String getClassName() {
+        Object ref = className_;
+        if (!(ref instanceof String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          String s = bs.toStringUtf8();
+          className_ = s;
+          return s;
+        } else {
+          return (String) ref;
+        }
+      }
+      /**
+       * <code>string className = 1;</code>
+       * @return The bytes for className.
+       */
+      public com.google.protobuf.ByteString
+          getClassNameBytes() {
+        Object ref = className_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (String) ref);
+          className_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string className = 1;</code>
+       * @param value The className to set.
+       * @return This builder for chaining.
+       */
+      public Builder setClassName(
+          String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        className_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string className = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearClassName() {
+        
+        className_ = getDefaultInstance().getClassName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string className = 1;</code>
+       * @param value The bytes for className to set.
+       * @return This builder for chaining.
+       */
+      public Builder setClassNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        className_ = value;
+        onChanged();
+        return this;
+      }
+
+      private long id_ ;
+      /**
+       * <code>int64 id = 2;</code>
+       * @return The id.
+       */
+      @Override
+      public long getId() {
+        return id_;
+      }
+      /**
+       * <code>int64 id = 2;</code>
+       * @param value The id to set.
+       * @return This builder for chaining.
+       */
+      public Builder setId(long value) {
+        
+        id_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 id = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearId() {
+        
+        id_ = 0L;
+        onChanged();
+        return this;
+      }
+      @Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:MultiGetKey)
+    }
+
+    // @@protoc_insertion_point(class_scope:MultiGetKey)
+    private static final MultiGetKey DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new MultiGetKey();
+    }
+
+    public static MultiGetKey getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<MultiGetKey>
+        PARSER = new com.google.protobuf.AbstractParser<MultiGetKey>() {
+      @Override
+      public MultiGetKey parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new MultiGetKey(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<MultiGetKey> parser() {
+      return PARSER;
+    }
+
+    @Override
+    public com.google.protobuf.Parser<MultiGetKey> getParserForType() {
+      return PARSER;
+    }
+
+    @Override
+    public MultiGetKey getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface MultiGetRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:MultiGetRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int32 dsId = 1;</code>
+     * @return The dsId.
+     */
+    int getDsId();
+
+    /**
+     * <code>repeated .MultiGetKey keys = 2;</code>
+     */
+    java.util.List<MultiGetKey> 
+        getKeysList();
+    /**
+     * <code>repeated .MultiGetKey keys = 2;</code>
+     */
+    MultiGetKey getKeys(int index);
+    /**
+     * <code>repeated .MultiGetKey keys = 2;</code>
+     */
+    int getKeysCount();
+    /**
+     * <code>repeated .MultiGetKey keys = 2;</code>
+     */
+    java.util.List<? extends MultiGetKeyOrBuilder> 
+        getKeysOrBuilderList();
+    /**
+     * <code>repeated .MultiGetKey keys = 2;</code>
+     */
+    MultiGetKeyOrBuilder getKeysOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code MultiGetRequest}
+   */
+  public static final class MultiGetRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:MultiGetRequest)
+      MultiGetRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use MultiGetRequest.newBuilder() to construct.
+    private MultiGetRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private MultiGetRequest() {
+      keys_ = java.util.Collections.emptyList();
+    }
+
+    @Override
+    @SuppressWarnings({"unused"})
+    protected Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new MultiGetRequest();
+    }
+
+    @Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private MultiGetRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              dsId_ = input.readInt32();
+              break;
+            }
+            case 18: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                keys_ = new java.util.ArrayList<MultiGetKey>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              keys_.add(
+                  input.readMessage(MultiGetKey.parser(), extensionRegistry));
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          keys_ = java.util.Collections.unmodifiableList(keys_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return DbRpcService.internal_static_MultiGetRequest_descriptor;
+    }
+
+    @Override
+    protected FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return DbRpcService.internal_static_MultiGetRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              MultiGetRequest.class, Builder.class);
+    }
+
+    public static final int DSID_FIELD_NUMBER = 1;
+    private int dsId_;
+    /**
+     * <code>int32 dsId = 1;</code>
+     * @return The dsId.
+     */
+    @Override
+    public int getDsId() {
+      return dsId_;
+    }
+
+    public static final int KEYS_FIELD_NUMBER = 2;
+    private java.util.List<MultiGetKey> keys_;
+    /**
+     * <code>repeated .MultiGetKey keys = 2;</code>
+     */
+    @Override
+    public java.util.List<MultiGetKey> getKeysList() {
+      return keys_;
+    }
+    /**
+     * <code>repeated .MultiGetKey keys = 2;</code>
+     */
+    @Override
+    public java.util.List<? extends MultiGetKeyOrBuilder> 
+        getKeysOrBuilderList() {
+      return keys_;
+    }
+    /**
+     * <code>repeated .MultiGetKey keys = 2;</code>
+     */
+    @Override
+    public int getKeysCount() {
+      return keys_.size();
+    }
+    /**
+     * <code>repeated .MultiGetKey keys = 2;</code>
+     */
+    @Override
+    public MultiGetKey getKeys(int index) {
+      return keys_.get(index);
+    }
+    /**
+     * <code>repeated .MultiGetKey keys = 2;</code>
+     */
+    @Override
+    public MultiGetKeyOrBuilder getKeysOrBuilder(
+        int index) {
+      return keys_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (dsId_ != 0) {
+        output.writeInt32(1, dsId_);
+      }
+      for (int i = 0; i < keys_.size(); i++) {
+        output.writeMessage(2, keys_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (dsId_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, dsId_);
+      }
+      for (int i = 0; i < keys_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, keys_.get(i));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof MultiGetRequest)) {
+        return super.equals(obj);
+      }
+      MultiGetRequest other = (MultiGetRequest) obj;
+
+      if (getDsId()
+          != other.getDsId()) return false;
+      if (!getKeysList()
+          .equals(other.getKeysList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + DSID_FIELD_NUMBER;
+      hash = (53 * hash) + getDsId();
+      if (getKeysCount() > 0) {
+        hash = (37 * hash) + KEYS_FIELD_NUMBER;
+        hash = (53 * hash) + getKeysList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static MultiGetRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static MultiGetRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static MultiGetRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static MultiGetRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static MultiGetRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static MultiGetRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static MultiGetRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static MultiGetRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static MultiGetRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static MultiGetRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static MultiGetRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static MultiGetRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(MultiGetRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @Override
+    protected Builder newBuilderForType(
+        BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code MultiGetRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:MultiGetRequest)
+        MultiGetRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return DbRpcService.internal_static_MultiGetRequest_descriptor;
+      }
+
+      @Override
+      protected FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return DbRpcService.internal_static_MultiGetRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                MultiGetRequest.class, Builder.class);
+      }
+
+      // Construct using net.proto.grpc.DbRpcService.MultiGetRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getKeysFieldBuilder();
+        }
+      }
+      @Override
+      public Builder clear() {
+        super.clear();
+        dsId_ = 0;
+
+        if (keysBuilder_ == null) {
+          keys_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          keysBuilder_.clear();
+        }
+        return this;
+      }
+
+      @Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return DbRpcService.internal_static_MultiGetRequest_descriptor;
+      }
+
+      @Override
+      public MultiGetRequest getDefaultInstanceForType() {
+        return MultiGetRequest.getDefaultInstance();
+      }
+
+      @Override
+      public MultiGetRequest build() {
+        MultiGetRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @Override
+      public MultiGetRequest buildPartial() {
+        MultiGetRequest result = new MultiGetRequest(this);
+        int from_bitField0_ = bitField0_;
+        result.dsId_ = dsId_;
+        if (keysBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            keys_ = java.util.Collections.unmodifiableList(keys_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.keys_ = keys_;
+        } else {
+          result.keys_ = keysBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return super.setField(field, value);
+      }
+      @Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof MultiGetRequest) {
+          return mergeFrom((MultiGetRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(MultiGetRequest other) {
+        if (other == MultiGetRequest.getDefaultInstance()) return this;
+        if (other.getDsId() != 0) {
+          setDsId(other.getDsId());
+        }
+        if (keysBuilder_ == null) {
+          if (!other.keys_.isEmpty()) {
+            if (keys_.isEmpty()) {
+              keys_ = other.keys_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureKeysIsMutable();
+              keys_.addAll(other.keys_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.keys_.isEmpty()) {
+            if (keysBuilder_.isEmpty()) {
+              keysBuilder_.dispose();
+              keysBuilder_ = null;
+              keys_ = other.keys_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              keysBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getKeysFieldBuilder() : null;
+            } else {
+              keysBuilder_.addAllMessages(other.keys_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        MultiGetRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (MultiGetRequest) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private int dsId_ ;
+      /**
+       * <code>int32 dsId = 1;</code>
+       * @return The dsId.
+       */
+      @Override
+      public int getDsId() {
+        return dsId_;
+      }
+      /**
+       * <code>int32 dsId = 1;</code>
+       * @param value The dsId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDsId(int value) {
+        
+        dsId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 dsId = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDsId() {
+        
+        dsId_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<MultiGetKey> keys_ =
+        java.util.Collections.emptyList();
+      private void ensureKeysIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          keys_ = new java.util.ArrayList<MultiGetKey>(keys_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          MultiGetKey, MultiGetKey.Builder, MultiGetKeyOrBuilder> keysBuilder_;
+
+      /**
+       * <code>repeated .MultiGetKey keys = 2;</code>
+       */
+      public java.util.List<MultiGetKey> getKeysList() {
+        if (keysBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(keys_);
+        } else {
+          return keysBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .MultiGetKey keys = 2;</code>
+       */
+      public int getKeysCount() {
+        if (keysBuilder_ == null) {
+          return keys_.size();
+        } else {
+          return keysBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .MultiGetKey keys = 2;</code>
+       */
+      public MultiGetKey getKeys(int index) {
+        if (keysBuilder_ == null) {
+          return keys_.get(index);
+        } else {
+          return keysBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .MultiGetKey keys = 2;</code>
+       */
+      public Builder setKeys(
+          int index, MultiGetKey value) {
+        if (keysBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureKeysIsMutable();
+          keys_.set(index, value);
+          onChanged();
+        } else {
+          keysBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .MultiGetKey keys = 2;</code>
+       */
+      public Builder setKeys(
+          int index, MultiGetKey.Builder builderForValue) {
+        if (keysBuilder_ == null) {
+          ensureKeysIsMutable();
+          keys_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          keysBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .MultiGetKey keys = 2;</code>
+       */
+      public Builder addKeys(MultiGetKey value) {
+        if (keysBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureKeysIsMutable();
+          keys_.add(value);
+          onChanged();
+        } else {
+          keysBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .MultiGetKey keys = 2;</code>
+       */
+      public Builder addKeys(
+          int index, MultiGetKey value) {
+        if (keysBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureKeysIsMutable();
+          keys_.add(index, value);
+          onChanged();
+        } else {
+          keysBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .MultiGetKey keys = 2;</code>
+       */
+      public Builder addKeys(
+          MultiGetKey.Builder builderForValue) {
+        if (keysBuilder_ == null) {
+          ensureKeysIsMutable();
+          keys_.add(builderForValue.build());
+          onChanged();
+        } else {
+          keysBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .MultiGetKey keys = 2;</code>
+       */
+      public Builder addKeys(
+          int index, MultiGetKey.Builder builderForValue) {
+        if (keysBuilder_ == null) {
+          ensureKeysIsMutable();
+          keys_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          keysBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .MultiGetKey keys = 2;</code>
+       */
+      public Builder addAllKeys(
+          Iterable<? extends MultiGetKey> values) {
+        if (keysBuilder_ == null) {
+          ensureKeysIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, keys_);
+          onChanged();
+        } else {
+          keysBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .MultiGetKey keys = 2;</code>
+       */
+      public Builder clearKeys() {
+        if (keysBuilder_ == null) {
+          keys_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          keysBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .MultiGetKey keys = 2;</code>
+       */
+      public Builder removeKeys(int index) {
+        if (keysBuilder_ == null) {
+          ensureKeysIsMutable();
+          keys_.remove(index);
+          onChanged();
+        } else {
+          keysBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .MultiGetKey keys = 2;</code>
+       */
+      public MultiGetKey.Builder getKeysBuilder(
+          int index) {
+        return getKeysFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .MultiGetKey keys = 2;</code>
+       */
+      public MultiGetKeyOrBuilder getKeysOrBuilder(
+          int index) {
+        if (keysBuilder_ == null) {
+          return keys_.get(index);  } else {
+          return keysBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .MultiGetKey keys = 2;</code>
+       */
+      public java.util.List<? extends MultiGetKeyOrBuilder> 
+           getKeysOrBuilderList() {
+        if (keysBuilder_ != null) {
+          return keysBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(keys_);
+        }
+      }
+      /**
+       * <code>repeated .MultiGetKey keys = 2;</code>
+       */
+      public MultiGetKey.Builder addKeysBuilder() {
+        return getKeysFieldBuilder().addBuilder(
+            MultiGetKey.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .MultiGetKey keys = 2;</code>
+       */
+      public MultiGetKey.Builder addKeysBuilder(
+          int index) {
+        return getKeysFieldBuilder().addBuilder(
+            index, MultiGetKey.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .MultiGetKey keys = 2;</code>
+       */
+      public java.util.List<MultiGetKey.Builder> 
+           getKeysBuilderList() {
+        return getKeysFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          MultiGetKey, MultiGetKey.Builder, MultiGetKeyOrBuilder> 
+          getKeysFieldBuilder() {
+        if (keysBuilder_ == null) {
+          keysBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              MultiGetKey, MultiGetKey.Builder, MultiGetKeyOrBuilder>(
+                  keys_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          keys_ = null;
+        }
+        return keysBuilder_;
+      }
+      @Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:MultiGetRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:MultiGetRequest)
+    private static final MultiGetRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new MultiGetRequest();
+    }
+
+    public static MultiGetRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<MultiGetRequest>
+        PARSER = new com.google.protobuf.AbstractParser<MultiGetRequest>() {
+      @Override
+      public MultiGetRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new MultiGetRequest(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<MultiGetRequest> parser() {
+      return PARSER;
+    }
+
+    @Override
+    public com.google.protobuf.Parser<MultiGetRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @Override
+    public MultiGetRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface MultiGetResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:MultiGetResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated string r = 1;</code>
+     * @return A list containing the r.
+     */
+    java.util.List<String>
+        getRList();
+    /**
+     * <code>repeated string r = 1;</code>
+     * @return The count of r.
+     */
+    int getRCount();
+    /**
+     * <code>repeated string r = 1;</code>
+     * @param index The index of the element to return.
+     * @return The r at the given index.
+     */
+    String getR(int index);
+    /**
+     * <code>repeated string r = 1;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the r at the given index.
+     */
+    com.google.protobuf.ByteString
+        getRBytes(int index);
+  }
+  /**
+   * Protobuf type {@code MultiGetResponse}
+   */
+  public static final class MultiGetResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:MultiGetResponse)
+      MultiGetResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use MultiGetResponse.newBuilder() to construct.
+    private MultiGetResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private MultiGetResponse() {
+      r_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+    }
+
+    @Override
+    @SuppressWarnings({"unused"})
+    protected Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new MultiGetResponse();
+    }
+
+    @Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private MultiGetResponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              String s = input.readStringRequireUtf8();
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                r_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              r_.add(s);
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          r_ = r_.getUnmodifiableView();
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return DbRpcService.internal_static_MultiGetResponse_descriptor;
+    }
+
+    @Override
+    protected FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return DbRpcService.internal_static_MultiGetResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              MultiGetResponse.class, Builder.class);
+    }
+
+    public static final int R_FIELD_NUMBER = 1;
+    private com.google.protobuf.LazyStringList r_;
+    /**
+     * <code>repeated string r = 1;</code>
+     * @return A list containing the r.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getRList() {
+      return r_;
+    }
+    /**
+     * <code>repeated string r = 1;</code>
+     * @return The count of r.
+     */
+    public int getRCount() {
+      return r_.size();
+    }
+    /**
+     * <code>repeated string r = 1;</code>
+     * @param index The index of the element to return.
+     * @return The r at the given index.
+     */
+    public String getR(int index) {
+      return r_.get(index);
+    }
+    /**
+     * <code>repeated string r = 1;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the r at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getRBytes(int index) {
+      return r_.getByteString(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < r_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, r_.getRaw(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      {
+        int dataSize = 0;
+        for (int i = 0; i < r_.size(); i++) {
+          dataSize += computeStringSizeNoTag(r_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getRList().size();
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof MultiGetResponse)) {
+        return super.equals(obj);
+      }
+      MultiGetResponse other = (MultiGetResponse) obj;
+
+      if (!getRList()
+          .equals(other.getRList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getRCount() > 0) {
+        hash = (37 * hash) + R_FIELD_NUMBER;
+        hash = (53 * hash) + getRList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static MultiGetResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static MultiGetResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static MultiGetResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static MultiGetResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static MultiGetResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static MultiGetResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static MultiGetResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static MultiGetResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static MultiGetResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static MultiGetResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static MultiGetResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static MultiGetResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(MultiGetResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @Override
+    protected Builder newBuilderForType(
+        BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code MultiGetResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:MultiGetResponse)
+        MultiGetResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return DbRpcService.internal_static_MultiGetResponse_descriptor;
+      }
+
+      @Override
+      protected FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return DbRpcService.internal_static_MultiGetResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                MultiGetResponse.class, Builder.class);
+      }
+
+      // Construct using net.proto.grpc.DbRpcService.MultiGetResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @Override
+      public Builder clear() {
+        super.clear();
+        r_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+
+      @Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return DbRpcService.internal_static_MultiGetResponse_descriptor;
+      }
+
+      @Override
+      public MultiGetResponse getDefaultInstanceForType() {
+        return MultiGetResponse.getDefaultInstance();
+      }
+
+      @Override
+      public MultiGetResponse build() {
+        MultiGetResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @Override
+      public MultiGetResponse buildPartial() {
+        MultiGetResponse result = new MultiGetResponse(this);
+        int from_bitField0_ = bitField0_;
+        if (((bitField0_ & 0x00000001) != 0)) {
+          r_ = r_.getUnmodifiableView();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.r_ = r_;
+        onBuilt();
+        return result;
+      }
+
+      @Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return super.setField(field, value);
+      }
+      @Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof MultiGetResponse) {
+          return mergeFrom((MultiGetResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(MultiGetResponse other) {
+        if (other == MultiGetResponse.getDefaultInstance()) return this;
+        if (!other.r_.isEmpty()) {
+          if (r_.isEmpty()) {
+            r_ = other.r_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureRIsMutable();
+            r_.addAll(other.r_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        MultiGetResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (MultiGetResponse) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private com.google.protobuf.LazyStringList r_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensureRIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          r_ = new com.google.protobuf.LazyStringArrayList(r_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+      /**
+       * <code>repeated string r = 1;</code>
+       * @return A list containing the r.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getRList() {
+        return r_.getUnmodifiableView();
+      }
+      /**
+       * <code>repeated string r = 1;</code>
+       * @return The count of r.
+       */
+      public int getRCount() {
+        return r_.size();
+      }
+      /**
+       * <code>repeated string r = 1;</code>
+       * @param index The index of the element to return.
+       * @return The r at the given index.
+       */
+      public String getR(int index) {
+        return r_.get(index);
+      }
+      /**
+       * <code>repeated string r = 1;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the r at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getRBytes(int index) {
+        return r_.getByteString(index);
+      }
+      /**
+       * <code>repeated string r = 1;</code>
+       * @param index The index to set the value at.
+       * @param value The r to set.
+       * @return This builder for chaining.
+       */
+      public Builder setR(
+          int index, String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureRIsMutable();
+        r_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string r = 1;</code>
+       * @param value The r to add.
+       * @return This builder for chaining.
+       */
+      public Builder addR(
+          String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureRIsMutable();
+        r_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string r = 1;</code>
+       * @param values The r to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllR(
+          Iterable<String> values) {
+        ensureRIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, r_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string r = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearR() {
+        r_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string r = 1;</code>
+       * @param value The bytes of the r to add.
+       * @return This builder for chaining.
+       */
+      public Builder addRBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        ensureRIsMutable();
+        r_.add(value);
+        onChanged();
+        return this;
+      }
+      @Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:MultiGetResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:MultiGetResponse)
+    private static final MultiGetResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new MultiGetResponse();
+    }
+
+    public static MultiGetResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<MultiGetResponse>
+        PARSER = new com.google.protobuf.AbstractParser<MultiGetResponse>() {
+      @Override
+      public MultiGetResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new MultiGetResponse(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<MultiGetResponse> parser() {
+      return PARSER;
+    }
+
+    @Override
+    public com.google.protobuf.Parser<MultiGetResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @Override
+    public MultiGetResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface DbKeyOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:DbKey)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int64 id = 1;</code>
+     * @return The id.
+     */
+    long getId();
+
+    /**
+     * <code>string sid = 2;</code>
+     * @return The sid.
+     */
+    String getSid();
+    /**
+     * <code>string sid = 2;</code>
+     * @return The bytes for sid.
+     */
+    com.google.protobuf.ByteString
+        getSidBytes();
+  }
+  /**
+   * <pre>
+   * 一个id，sid不为空时使用字符串id，否则使用数字id
+   * </pre>
+   *
+   * Protobuf type {@code DbKey}
+   */
+  public static final class DbKey extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:DbKey)
+      DbKeyOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use DbKey.newBuilder() to construct.
+    private DbKey(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private DbKey() {
+      sid_ = "";
+    }
+
+    @Override
+    @SuppressWarnings({"unused"})
+    protected Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new DbKey();
+    }
+
+    @Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private DbKey(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              id_ = input.readInt64();
+              break;
+            }
+            case 18: {
+              String s = input.readStringRequireUtf8();
+
+              sid_ = s;
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return DbRpcService.internal_static_DbKey_descriptor;
+    }
+
+    @Override
+    protected FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return DbRpcService.internal_static_DbKey_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              DbKey.class, Builder.class);
+    }
+
+    public static final int ID_FIELD_NUMBER = 1;
+    private long id_;
+    /**
+     * <code>int64 id = 1;</code>
+     * @return The id.
+     */
+    @Override
+    public long getId() {
+      return id_;
+    }
+
+    public static final int SID_FIELD_NUMBER = 2;
+    private volatile Object sid_;
+    /**
+     * <code>string sid = 2;</code>
+     * @return The sid.
+     */
+    @Override
+    public String getSid() {
+      Object ref = sid_;
+      if (ref instanceof String) {
+        return (String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        String s = bs.toStringUtf8();
+        sid_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string sid = 2;</code>
+     * @return The bytes for sid.
+     */
+    @Override
+    public com.google.protobuf.ByteString
+        getSidBytes() {
+      Object ref = sid_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (String) ref);
+        sid_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (id_ != 0L) {
+        output.writeInt64(1, id_);
+      }
+      if (!getSidBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, sid_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (id_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, id_);
+      }
+      if (!getSidBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, sid_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof DbKey)) {
+        return super.equals(obj);
+      }
+      DbKey other = (DbKey) obj;
+
+      if (getId()
+          != other.getId()) return false;
+      if (!getSid()
+          .equals(other.getSid())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getId());
+      hash = (37 * hash) + SID_FIELD_NUMBER;
+      hash = (53 * hash) + getSid().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static DbKey parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static DbKey parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static DbKey parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static DbKey parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static DbKey parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static DbKey parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static DbKey parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static DbKey parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static DbKey parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static DbKey parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static DbKey parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static DbKey parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(DbKey prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @Override
+    protected Builder newBuilderForType(
+        BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * 一个id，sid不为空时使用字符串id，否则使用数字id
+     * </pre>
+     *
+     * Protobuf type {@code DbKey}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:DbKey)
+        DbKeyOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return DbRpcService.internal_static_DbKey_descriptor;
+      }
+
+      @Override
+      protected FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return DbRpcService.internal_static_DbKey_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                DbKey.class, Builder.class);
+      }
+
+      // Construct using net.proto.grpc.DbRpcService.DbKey.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @Override
+      public Builder clear() {
+        super.clear();
+        id_ = 0L;
+
+        sid_ = "";
+
+        return this;
+      }
+
+      @Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return DbRpcService.internal_static_DbKey_descriptor;
+      }
+
+      @Override
+      public DbKey getDefaultInstanceForType() {
+        return DbKey.getDefaultInstance();
+      }
+
+      @Override
+      public DbKey build() {
+        DbKey result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @Override
+      public DbKey buildPartial() {
+        DbKey result = new DbKey(this);
+        result.id_ = id_;
+        result.sid_ = sid_;
+        onBuilt();
+        return result;
+      }
+
+      @Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return super.setField(field, value);
+      }
+      @Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof DbKey) {
+          return mergeFrom((DbKey)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(DbKey other) {
+        if (other == DbKey.getDefaultInstance()) return this;
+        if (other.getId() != 0L) {
+          setId(other.getId());
+        }
+        if (!other.getSid().isEmpty()) {
+          sid_ = other.sid_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        DbKey parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (DbKey) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private long id_ ;
+      /**
+       * <code>int64 id = 1;</code>
+       * @return The id.
+       */
+      @Override
+      public long getId() {
+        return id_;
+      }
+      /**
+       * <code>int64 id = 1;</code>
+       * @param value The id to set.
+       * @return This builder for chaining.
+       */
+      public Builder setId(long value) {
+        
+        id_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearId() {
+        
+        id_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private Object sid_ = "";
+      /**
+       * <code>string sid = 2;</code>
+       * @return The sid.
+       */
+      public String getSid() {
+        Object ref = sid_;
+        if (!(ref instanceof String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          String s = bs.toStringUtf8();
+          sid_ = s;
+          return s;
+        } else {
+          return (String) ref;
+        }
+      }
+      /**
+       * <code>string sid = 2;</code>
+       * @return The bytes for sid.
+       */
+      public com.google.protobuf.ByteString
+          getSidBytes() {
+        Object ref = sid_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (String) ref);
+          sid_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string sid = 2;</code>
+       * @param value The sid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSid(
+          String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        sid_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string sid = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSid() {
+        
+        sid_ = getDefaultInstance().getSid();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string sid = 2;</code>
+       * @param value The bytes for sid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSidBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        sid_ = value;
+        onChanged();
+        return this;
+      }
+      @Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:DbKey)
+    }
+
+    // @@protoc_insertion_point(class_scope:DbKey)
+    private static final DbKey DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new DbKey();
+    }
+
+    public static DbKey getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<DbKey>
+        PARSER = new com.google.protobuf.AbstractParser<DbKey>() {
+      @Override
+      public DbKey parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new DbKey(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<DbKey> parser() {
+      return PARSER;
+    }
+
+    @Override
+    public com.google.protobuf.Parser<DbKey> getParserForType() {
+      return PARSER;
+    }
+
+    @Override
+    public DbKey getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface GetRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:GetRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int32 dsId = 1;</code>
+     * @return The dsId.
+     */
+    int getDsId();
+
+    /**
+     * <code>string className = 2;</code>
+     * @return The className.
+     */
+    String getClassName();
+    /**
+     * <code>string className = 2;</code>
+     * @return The bytes for className.
+     */
+    com.google.protobuf.ByteString
+        getClassNameBytes();
+
+    /**
+     * <code>repeated .DbKey ids = 3;</code>
+     */
+    java.util.List<DbKey> 
+        getIdsList();
+    /**
+     * <code>repeated .DbKey ids = 3;</code>
+     */
+    DbKey getIds(int index);
+    /**
+     * <code>repeated .DbKey ids = 3;</code>
+     */
+    int getIdsCount();
+    /**
+     * <code>repeated .DbKey ids = 3;</code>
+     */
+    java.util.List<? extends DbKeyOrBuilder> 
+        getIdsOrBuilderList();
+    /**
+     * <code>repeated .DbKey ids = 3;</code>
+     */
+    DbKeyOrBuilder getIdsOrBuilder(
+        int index);
+
+    /**
+     * <pre>
+     * get和getList时强制从数据库刷新缓存
+     * </pre>
+     *
+     * <code>bool fromDb = 4;</code>
+     * @return The fromDb.
+     */
+    boolean getFromDb();
+
+    /**
+     * <pre>
+     * getOne不在缓存中时查询db后是否同时刷新缓存
+     * </pre>
+     *
+     * <code>bool flushCache = 5;</code>
+     * @return The flushCache.
+     */
+    boolean getFlushCache();
+
+    /**
+     * <pre>
+     * get和getOne时接受缓存中的二进制格式，二进制格式的表缓存命中时原样返回，不再转换成json
+     * </pre>
+     *
+     * <code>bool binary = 6;</code>
+     * @return The binary.
+     */
+    boolean getBinary();
+  }
+  /**
+   * Protobuf type {@code GetRequest}
+   */
+  public static final class GetRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:GetRequest)
+      GetRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use GetRequest.newBuilder() to construct.
+    private GetRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private GetRequest() {
+      className_ = "";
+      ids_ = java.util.Collections.emptyList();
+    }
+
+    @Override
+    @SuppressWarnings({"unused"})
+    protected Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new GetRequest();
+    }
+
+    @Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private GetRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              dsId_ = input.readInt32();
+              break;
+            }
+            case 18: {
+              String s = input.readStringRequireUtf8();
+
+              className_ = s;
+              break;
+            }
+            case 26: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                ids_ = new java.util.ArrayList<DbKey>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              ids_.add(
+                  input.readMessage(DbKey.parser(), extensionRegistry));
+              break;
+            }
+            case 32: {
+
+              fromDb_ = input.readBool();
+              break;
+            }
+            case 40: {
+
+              flushCache_ = input.readBool();
+              break;
+            }
+            case 48: {
+
+              binary_ = input.readBool();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          ids_ = java.util.Collections.unmodifiableList(ids_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return DbRpcService.internal_static_GetRequest_descriptor;
+    }
+
+    @Override
+    protected FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return DbRpcService.internal_static_GetRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              GetRequest.class, Builder.class);
+    }
+
+    public static final int DSID_FIELD_NUMBER = 1;
+    private int dsId_;
+    /**
+     * <code>int32 dsId = 1;</code>
+     * @return The dsId.
+     */
+    @Override
+    public int getDsId() {
+      return dsId_;
+    }
+
+    public static final int CLASSNAME_FIELD_NUMBER = 2;
+    private volatile Object className_;
+    /**
+     * <code>string className = 2;</code>
+     * @return The className.
+     */
+    @Override
+    public String getClassName() {
+      Object ref = className_;
+      if (ref instanceof String) {
+        return (String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        String s = bs.toStringUtf8();
+        className_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string className = 2;</code>
+     * @return The bytes for className.
+     */
+    @Override
+    public com.google.protobuf.ByteString
+        getClassNameBytes() {
+      Object ref = className_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (String) ref);
+        className_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int IDS_FIELD_NUMBER = 3;
+    private java.util.List<DbKey> ids_;
+    /**
+     * <code>repeated .DbKey ids = 3;</code>
+     */
+    @Override
+    public java.util.List<DbKey> getIdsList() {
+      return ids_;
+    }
+    /**
+     * <code>repeated .DbKey ids = 3;</code>
+     */
+    @Override
+    public java.util.List<? extends DbKeyOrBuilder> 
+        getIdsOrBuilderList() {
+      return ids_;
+    }
+    /**
+     * <code>repeated .DbKey ids = 3;</code>
+     */
+    @Override
+    public int getIdsCount() {
+      return ids_.size();
+    }
+    /**
+     * <code>repeated .DbKey ids = 3;</code>
+     */
+    @Override
+    public DbKey getIds(int index) {
+      return ids_.get(index);
+    }
+    /**
+     * <code>repeated .DbKey ids = 3;</code>
+     */
+    @Override
+    public DbKeyOrBuilder getIdsOrBuilder(
+        int index) {
+      return ids_.get(index);
+    }
+
+    public static final int FROMDB_FIELD_NUMBER = 4;
+    private boolean fromDb_;
+    /**
+     * <pre>
+     * get和getList时强制从数据库刷新缓存
+     * </pre>
+     *
+     * <code>bool fromDb = 4;</code>
+     * @return The fromDb.
+     */
+    @Override
+    public boolean getFromDb() {
+      return fromDb_;
+    }
+
+    public static final int FLUSHCACHE_FIELD_NUMBER = 5;
+    private boolean flushCache_;
+    /**
+     * <pre>
+     * getOne不在缓存中时查询db后是否同时刷新缓存
+     * </pre>
+     *
+     * <code>bool flushCache = 5;</code>
+     * @return The flushCache.
+     */
+    @Override
+    public boolean getFlushCache() {
+      return flushCache_;
+    }
+
+    public static final int BINARY_FIELD_NUMBER = 6;
+    private boolean binary_;
+    /**
+     * <pre>
+     * get和getOne时接受缓存中的二进制格式，二进制格式的表缓存命中时原样返回，不再转换成json
+     * </pre>
+     *
+     * <code>bool binary = 6;</code>
+     * @return The binary.
+     */
+    @Override
+    public boolean getBinary() {
+      return binary_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (dsId_ != 0) {
+        output.writeInt32(1, dsId_);
+      }
+      if (!getClassNameBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, className_);
+      }
+      for (int i = 0; i < ids_.size(); i++) {
+        output.writeMessage(3, ids_.get(i));
+      }
+      if (fromDb_ != false) {
+        output.writeBool(4, fromDb_);
+      }
+      if (flushCache_ != false) {
+        output.writeBool(5, flushCache_);
+      }
+      if (binary_ != false) {
+        output.writeBool(6, binary_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (dsId_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, dsId_);
+      }
+      if (!getClassNameBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, className_);
+      }
+      for (int i = 0; i < ids_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, ids_.get(i));
+      }
+      if (fromDb_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(4, fromDb_);
+      }
+      if (flushCache_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(5, flushCache_);
+      }
+      if (binary_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(6, binary_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof GetRequest)) {
+        return super.equals(obj);
+      }
+      GetRequest other = (GetRequest) obj;
+
+      if (getDsId()
+          != other.getDsId()) return false;
+      if (!getClassName()
+          .equals(other.getClassName())) return false;
+      if (!getIdsList()
+          .equals(other.getIdsList())) return false;
+      if (getFromDb()
+          != other.getFromDb()) return false;
+      if (getFlushCache()
+          != other.getFlushCache()) return false;
+      if (getBinary()
+          != other.getBinary()) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + DSID_FIELD_NUMBER;
+      hash = (53 * hash) + getDsId();
+      hash = (37 * hash) + CLASSNAME_FIELD_NUMBER;
+      hash = (53 * hash) + getClassName().hashCode();
+      if (getIdsCount() > 0) {
+        hash = (37 * hash) + IDS_FIELD_NUMBER;
+        hash = (53 * hash) + getIdsList().hashCode();
+      }
+      hash = (37 * hash) + FROMDB_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getFromDb());
+      hash = (37 * hash) + FLUSHCACHE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getFlushCache());
+      hash = (37 * hash) + BINARY_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getBinary());
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static GetRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static GetRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static GetRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static GetRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static GetRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static GetRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static GetRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static GetRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static GetRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static GetRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static GetRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static GetRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(GetRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @Override
+    protected Builder newBuilderForType(
+        BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code GetRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:GetRequest)
+        GetRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return DbRpcService.internal_static_GetRequest_descriptor;
+      }
+
+      @Override
+      protected FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return DbRpcService.internal_static_GetRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                GetRequest.class, Builder.class);
+      }
+
+      // Construct using net.proto.grpc.DbRpcService.GetRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getIdsFieldBuilder();
+        }
+      }
+      @Override
+      public Builder clear() {
+        super.clear();
+        dsId_ = 0;
+
+        className_ = "";
+
+        if (idsBuilder_ == null) {
+          ids_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          idsBuilder_.clear();
+        }
+        fromDb_ = false;
+
+        flushCache_ = false;
+
+        binary_ = false;
+
+        return this;
+      }
+
+      @Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return DbRpcService.internal_static_GetRequest_descriptor;
+      }
+
+      @Override
+      public GetRequest getDefaultInstanceForType() {
+        return GetRequest.getDefaultInstance();
+      }
+
+      @Override
+      public GetRequest build() {
+        GetRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @Override
+      public GetRequest buildPartial() {
+        GetRequest result = new GetRequest(this);
+        int from_bitField0_ = bitField0_;
+        result.dsId_ = dsId_;
+        result.className_ = className_;
+        if (idsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            ids_ = java.util.Collections.unmodifiableList(ids_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.ids_ = ids_;
+        } else {
+          result.ids_ = idsBuilder_.build();
+        }
+        result.fromDb_ = fromDb_;
+        result.flushCache_ = flushCache_;
+        result.binary_ = binary_;
+        onBuilt();
+        return result;
+      }
+
+      @Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return super.setField(field, value);
+      }
+      @Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof GetRequest) {
+          return mergeFrom((GetRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(GetRequest other) {
+        if (other == GetRequest.getDefaultInstance()) return this;
+        if (other.getDsId() != 0) {
+          setDsId(other.getDsId());
+        }
+        if (!other.getClassName().isEmpty()) {
+          className_ = other.className_;
+          onChanged();
+        }
+        if (idsBuilder_ == null) {
+          if (!other.ids_.isEmpty()) {
+            if (ids_.isEmpty()) {
+              ids_ = other.ids_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureIdsIsMutable();
+              ids_.addAll(other.ids_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.ids_.isEmpty()) {
+            if (idsBuilder_.isEmpty()) {
+              idsBuilder_.dispose();
+              idsBuilder_ = null;
+              ids_ = other.ids_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              idsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getIdsFieldBuilder() : null;
+            } else {
+              idsBuilder_.addAllMessages(other.ids_);
+            }
+          }
+        }
+        if (other.getFromDb() != false) {
+          setFromDb(other.getFromDb());
+        }
+        if (other.getFlushCache() != false) {
+          setFlushCache(other.getFlushCache());
+        }
+        if (other.getBinary() != false) {
+          setBinary(other.getBinary());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        GetRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (GetRequest) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private int dsId_ ;
+      /**
+       * <code>int32 dsId = 1;</code>
+       * @return The dsId.
+       */
+      @Override
+      public int getDsId() {
+        return dsId_;
+      }
+      /**
+       * <code>int32 dsId = 1;</code>
+       * @param value The dsId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDsId(int value) {
+        
+        dsId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 dsId = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDsId() {
+        
+        dsId_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private Object className_ = "";
+      /**
+       * <code>string className = 2;</code>
+       * @return The className.
+       */
+      public String getClassName() {
+        Object ref = className_;
+        if (!(ref instanceof String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          String s = bs.toStringUtf8();
+          className_ = s;
+          return s;
+        } else {
+          return (String) ref;
+        }
+      }
+      /**
+       * <code>string className = 2;</code>
+       * @return The bytes for className.
+       */
+      public com.google.protobuf.ByteString
+          getClassNameBytes() {
+        Object ref = className_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (String) ref);
+          className_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string className = 2;</code>
+       * @param value The className to set.
+       * @return This builder for chaining.
+       */
+      public Builder setClassName(
+          String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        className_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string className = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearClassName() {
+        
+        className_ = getDefaultInstance().getClassName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string className = 2;</code>
+       * @param value The bytes for className to set.
+       * @return This builder for chaining.
+       */
+      public Builder setClassNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        className_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<DbKey> ids_ =
+        java.util.Collections.emptyList();
+      private void ensureIdsIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          ids_ = new java.util.ArrayList<DbKey>(ids_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          DbKey, DbKey.Builder, DbKeyOrBuilder> idsBuilder_;
+
+      /**
+       * <code>repeated .DbKey ids = 3;</code>
+       */
+      public java.util.List<DbKey> getIdsList() {
+        if (idsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(ids_);
+        } else {
+          return idsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .DbKey ids = 3;</code>
+       */
+      public int getIdsCount() {
+        if (idsBuilder_ == null) {
+          return ids_.size();
+        } else {
+          return idsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .DbKey ids = 3;</code>
+       */
+      public DbKey getIds(int index) {
+        if (idsBuilder_ == null) {
+          return ids_.get(index);
+        } else {
+          return idsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .DbKey ids = 3;</code>
+       */
+      public Builder setIds(
+          int index, DbKey value) {
+        if (idsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureIdsIsMutable();
+          ids_.set(index, value);
+          onChanged();
+        } else {
+          idsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .DbKey ids = 3;</code>
+       */
+      public Builder setIds(
+          int index, DbKey.Builder builderForValue) {
+        if (idsBuilder_ == null) {
+          ensureIdsIsMutable();
+          ids_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          idsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .DbKey ids = 3;</code>
+       */
+      public Builder addIds(DbKey value) {
+        if (idsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureIdsIsMutable();
+          ids_.add(value);
+          onChanged();
+        } else {
+          idsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .DbKey ids = 3;</code>
+       */
+      public Builder addIds(
+          int index, DbKey value) {
+        if (idsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureIdsIsMutable();
+          ids_.add(index, value);
+          onChanged();
+        } else {
+          idsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .DbKey ids = 3;</code>
+       */
+      public Builder addIds(
+          DbKey.Builder builderForValue) {
+        if (idsBuilder_ == null) {
+          ensureIdsIsMutable();
+          ids_.add(builderForValue.build());
+          onChanged();
+        } else {
+          idsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .DbKey ids = 3;</code>
+       */
+      public Builder addIds(
+          int index, DbKey.Builder builderForValue) {
+        if (idsBuilder_ == null) {
+          ensureIdsIsMutable();
+          ids_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          idsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .DbKey ids = 3;</code>
+       */
+      public Builder addAllIds(
+          Iterable<? extends DbKey> values) {
+        if (idsBuilder_ == null) {
+          ensureIdsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, ids_);
+          onChanged();
+        } else {
+          idsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .DbKey ids = 3;</code>
+       */
+      public Builder clearIds() {
+        if (idsBuilder_ == null) {
+          ids_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          idsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .DbKey ids = 3;</code>
+       */
+      public Builder removeIds(int index) {
+        if (idsBuilder_ == null) {
+          ensureIdsIsMutable();
+          ids_.remove(index);
+          onChanged();
+        } else {
+          idsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .DbKey ids = 3;</code>
+       */
+      public DbKey.Builder getIdsBuilder(
+          int index) {
+        return getIdsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .DbKey ids = 3;</code>
+       */
+      public DbKeyOrBuilder getIdsOrBuilder(
+          int index) {
+        if (idsBuilder_ == null) {
+          return ids_.get(index);  } else {
+          return idsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .DbKey ids = 3;</code>
+       */
+      public java.util.List<? extends DbKeyOrBuilder> 
+           getIdsOrBuilderList() {
+        if (idsBuilder_ != null) {
+          return idsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(ids_);
+        }
+      }
+      /**
+       * <code>repeated .DbKey ids = 3;</code>
+       */
+      public DbKey.Builder addIdsBuilder() {
+        return getIdsFieldBuilder().addBuilder(
+            DbKey.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .DbKey ids = 3;</code>
+       */
+      public DbKey.Builder addIdsBuilder(
+          int index) {
+        return getIdsFieldBuilder().addBuilder(
+            index, DbKey.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .DbKey ids = 3;</code>
+       */
+      public java.util.List<DbKey.Builder> 
+           getIdsBuilderList() {
+        return getIdsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          DbKey, DbKey.Builder, DbKeyOrBuilder> 
+          getIdsFieldBuilder() {
+        if (idsBuilder_ == null) {
+          idsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              DbKey, DbKey.Builder, DbKeyOrBuilder>(
+                  ids_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          ids_ = null;
+        }
+        return idsBuilder_;
+      }
+
+      private boolean fromDb_ ;
+      /**
+       * <pre>
+       * get和getList时强制从数据库刷新缓存
+       * </pre>
+       *
+       * <code>bool fromDb = 4;</code>
+       * @return The fromDb.
+       */
+      @Override
+      public boolean getFromDb() {
+        return fromDb_;
+      }
+      /**
+       * <pre>
+       * get和getList时强制从数据库刷新缓存
+       * </pre>
+       *
+       * <code>bool fromDb = 4;</code>
+       * @param value The fromDb to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFromDb(boolean value) {
+        
+        fromDb_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * get和getList时强制从数据库刷新缓存
+       * </pre>
+       *
+       * <code>bool fromDb = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearFromDb() {
+        
+        fromDb_ = false;
+        onChanged();
+        return this;
+      }
+
+      private boolean flushCache_ ;
+      /**
+       * <pre>
+       * getOne不在缓存中时查询db后是否同时刷新缓存
+       * </pre>
+       *
+       * <code>bool flushCache = 5;</code>
+       * @return The flushCache.
+       */
+      @Override
+      public boolean getFlushCache() {
+        return flushCache_;
+      }
+      /**
+       * <pre>
+       * getOne不在缓存中时查询db后是否同时刷新缓存
+       * </pre>
+       *
+       * <code>bool flushCache = 5;</code>
+       * @param value The flushCache to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFlushCache(boolean value) {
+        
+        flushCache_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * getOne不在缓存中时查询db后是否同时刷新缓存
+       * </pre>
+       *
+       * <code>bool flushCache = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearFlushCache() {
+        
+        flushCache_ = false;
+        onChanged();
+        return this;
+      }
+
+      private boolean binary_ ;
+      /**
+       * <pre>
+       * get和getOne时接受缓存中的二进制格式，二进制格式的表缓存命中时原样返回，不再转换成json
+       * </pre>
+       *
+       * <code>bool binary = 6;</code>
+       * @return The binary.
+       */
+      @Override
+      public boolean getBinary() {
+        return binary_;
+      }
+      /**
+       * <pre>
+       * get和getOne时接受缓存中的二进制格式，二进制格式的表缓存命中时原样返回，不再转换成json
+       * </pre>
+       *
+       * <code>bool binary = 6;</code>
+       * @param value The binary to set.
+       * @return This builder for chaining.
+       */
+      public Builder setBinary(boolean value) {
+        
+        binary_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * get和getOne时接受缓存中的二进制格式，二进制格式的表缓存命中时原样返回，不再转换成json
+       * </pre>
+       *
+       * <code>bool binary = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearBinary() {
+        
+        binary_ = false;
+        onChanged();
+        return this;
+      }
+      @Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:GetRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:GetRequest)
+    private static final GetRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new GetRequest();
+    }
+
+    public static GetRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<GetRequest>
+        PARSER = new com.google.protobuf.AbstractParser<GetRequest>() {
+      @Override
+      public GetRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new GetRequest(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<GetRequest> parser() {
+      return PARSER;
+    }
+
+    @Override
+    public com.google.protobuf.Parser<GetRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @Override
+    public GetRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface DataResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:DataResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.DbCode code = 1;</code>
+     * @return The enum numeric value on the wire for code.
+     */
+    int getCodeValue();
+    /**
+     * <code>.DbCode code = 1;</code>
+     * @return The code.
+     */
+    DbCode getCode();
+
+    /**
+     * <code>string msg = 2;</code>
+     * @return The msg.
+     */
+    String getMsg();
+    /**
+     * <code>string msg = 2;</code>
+     * @return The bytes for msg.
+     */
+    com.google.protobuf.ByteString
+        getMsgBytes();
+
+    /**
+     * <pre>
+     * utf-8编码的json，getList时为json数组
+     * </pre>
+     *
+     * <code>bytes data = 3;</code>
+     * @return The data.
+     */
+    com.google.protobuf.ByteString getData();
+  }
+  /**
+   * Protobuf type {@code DataResponse}
+   */
+  public static final class DataResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:DataResponse)
+      DataResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use DataResponse.newBuilder() to construct.
+    private DataResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private DataResponse() {
+      code_ = 0;
+      msg_ = "";
+      data_ = com.google.protobuf.ByteString.EMPTY;
+    }
+
+    @Override
+    @SuppressWarnings({"unused"})
+    protected Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new DataResponse();
+    }
+
+    @Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private DataResponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+              int rawValue = input.readEnum();
+
+              code_ = rawValue;
+              break;
+            }
+            case 18: {
+              String s = input.readStringRequireUtf8();
+
+              msg_ = s;
+              break;
+            }
+            case 26: {
+
+              data_ = input.readBytes();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return DbRpcService.internal_static_DataResponse_descriptor;
+    }
+
+    @Override
+    protected FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return DbRpcService.internal_static_DataResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              DataResponse.class, Builder.class);
+    }
+
+    public static final int CODE_FIELD_NUMBER = 1;
+    private int code_;
+    /**
+     * <code>.DbCode code = 1;</code>
+     * @return The enum numeric value on the wire for code.
+     */
+    @Override public int getCodeValue() {
+      return code_;
+    }
+    /**
+     * <code>.DbCode code = 1;</code>
+     * @return The code.
+     */
+    @Override public DbCode getCode() {
+      @SuppressWarnings("deprecation")
+      DbCode result = DbCode.valueOf(code_);
+      return result == null ? DbCode.UNRECOGNIZED : result;
+    }
+
+    public static final int MSG_FIELD_NUMBER = 2;
+    private volatile Object msg_;
+    /**
+     * <code>string msg = 2;</code>
+     * @return The msg.
+     */
+    @Override
+    public String getMsg() {
+      Object ref = msg_;
+      if (ref instanceof String) {
+        return (String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        String s = bs.toStringUtf8();
+        msg_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string msg = 2;</code>
+     * @return The bytes for msg.
+     */
+    @Override
+    public com.google.protobuf.ByteString
+        getMsgBytes() {
+      Object ref = msg_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (String) ref);
+        msg_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DATA_FIELD_NUMBER = 3;
+    private com.google.protobuf.ByteString data_;
+    /**
+     * <pre>
+     * utf-8编码的json，getList时为json数组
+     * </pre>
+     *
+     * <code>bytes data = 3;</code>
+     * @return The data.
+     */
+    @Override
+    public com.google.protobuf.ByteString getData() {
+      return data_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (code_ != DbCode.OK.getNumber()) {
+        output.writeEnum(1, code_);
+      }
+      if (!getMsgBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, msg_);
+      }
+      if (!data_.isEmpty()) {
+        output.writeBytes(3, data_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (code_ != DbCode.OK.getNumber()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(1, code_);
+      }
+      if (!getMsgBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, msg_);
+      }
+      if (!data_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(3, data_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof DataResponse)) {
+        return super.equals(obj);
+      }
+      DataResponse other = (DataResponse) obj;
+
+      if (code_ != other.code_) return false;
+      if (!getMsg()
+          .equals(other.getMsg())) return false;
+      if (!getData()
+          .equals(other.getData())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + CODE_FIELD_NUMBER;
+      hash = (53 * hash) + code_;
+      hash = (37 * hash) + MSG_FIELD_NUMBER;
+      hash = (53 * hash) + getMsg().hashCode();
+      hash = (37 * hash) + DATA_FIELD_NUMBER;
+      hash = (53 * hash) + getData().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static DataResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static DataResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static DataResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static DataResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static DataResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static DataResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static DataResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static DataResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static DataResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static DataResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static DataResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static DataResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(DataResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @Override
+    protected Builder newBuilderForType(
+        BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code DataResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:DataResponse)
+        DataResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return DbRpcService.internal_static_DataResponse_descriptor;
+      }
+
+      @Override
+      protected FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return DbRpcService.internal_static_DataResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                DataResponse.class, Builder.class);
+      }
+
+      // Construct using net.proto.grpc.DbRpcService.DataResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @Override
+      public Builder clear() {
+        super.clear();
+        code_ = 0;
+
+        msg_ = "";
+
+        data_ = com.google.protobuf.ByteString.EMPTY;
+
+        return this;
+      }
+
+      @Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return DbRpcService.internal_static_DataResponse_descriptor;
+      }
+
+      @Override
+      public DataResponse getDefaultInstanceForType() {
+        return DataResponse.getDefaultInstance();
+      }
+
+      @Override
+      public DataResponse build() {
+        DataResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @Override
+      public DataResponse buildPartial() {
+        DataResponse result = new DataResponse(this);
+        result.code_ = code_;
+        result.msg_ = msg_;
+        result.data_ = data_;
+        onBuilt();
+        return result;
+      }
+
+      @Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return super.setField(field, value);
+      }
+      @Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof DataResponse) {
+          return mergeFrom((DataResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(DataResponse other) {
+        if (other == DataResponse.getDefaultInstance()) return this;
+        if (other.code_ != 0) {
+          setCodeValue(other.getCodeValue());
+        }
+        if (!other.getMsg().isEmpty()) {
+          msg_ = other.msg_;
+          onChanged();
+        }
+        if (other.getData() != com.google.protobuf.ByteString.EMPTY) {
+          setData(other.getData());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        DataResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (DataResponse) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private int code_ = 0;
+      /**
+       * <code>.DbCode code = 1;</code>
+       * @return The enum numeric value on the wire for code.
+       */
+      @Override public int getCodeValue() {
+        return code_;
+      }
+      /**
+       * <code>.DbCode code = 1;</code>
+       * @param value The enum numeric value on the wire for code to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCodeValue(int value) {
+        
+        code_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.DbCode code = 1;</code>
+       * @return The code.
+       */
+      @Override
+      public DbCode getCode() {
+        @SuppressWarnings("deprecation")
+        DbCode result = DbCode.valueOf(code_);
+        return result == null ? DbCode.UNRECOGNIZED : result;
+      }
+      /**
+       * <code>.DbCode code = 1;</code>
+       * @param value The code to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCode(DbCode value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        
+        code_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.DbCode code = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCode() {
+        
+        code_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private Object msg_ = "";
+      /**
+       * <code>string msg = 2;</code>
+       * @return The msg.
+       */
+      public String getMsg() {
+        Object ref = msg_;
+        if (!(ref instanceof String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          String s = bs.toStringUtf8();
+          msg_ = s;
+          return s;
+        } else {
+          return (String) ref;
+        }
+      }
+      /**
+       * <code>string msg = 2;</code>
+       * @return The bytes for msg.
+       */
+      public com.google.protobuf.ByteString
+          getMsgBytes() {
+        Object ref = msg_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (String) ref);
+          msg_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string msg = 2;</code>
+       * @param value The msg to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMsg(
+          String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        msg_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string msg = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMsg() {
+        
+        msg_ = getDefaultInstance().getMsg();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string msg = 2;</code>
+       * @param value The bytes for msg to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMsgBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        msg_ = value;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString data_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <pre>
+       * utf-8编码的json，getList时为json数组
+       * </pre>
+       *
+       * <code>bytes data = 3;</code>
+       * @return The data.
+       */
+      @Override
+      public com.google.protobuf.ByteString getData() {
+        return data_;
+      }
+      /**
+       * <pre>
+       * utf-8编码的json，getList时为json数组
+       * </pre>
+       *
+       * <code>bytes data = 3;</code>
+       * @param value The data to set.
+       * @return This builder for chaining.
+       */
+      public Builder setData(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        data_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * utf-8编码的json，getList时为json数组
+       * </pre>
+       *
+       * <code>bytes data = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearData() {
+        
+        data_ = getDefaultInstance().getData();
+        onChanged();
+        return this;
+      }
+      @Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:DataResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:DataResponse)
+    private static final DataResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new DataResponse();
+    }
+
+    public static DataResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<DataResponse>
+        PARSER = new com.google.protobuf.AbstractParser<DataResponse>() {
+      @Override
+      public DataResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new DataResponse(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<DataResponse> parser() {
+      return PARSER;
+    }
+
+    @Override
+    public com.google.protobuf.Parser<DataResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @Override
+    public DataResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface WriteRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:WriteRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int32 dsId = 1;</code>
+     * @return The dsId.
+     */
+    int getDsId();
+
+    /**
+     * <code>string className = 2;</code>
+     * @return The className.
+     */
+    String getClassName();
+    /**
+     * <code>string className = 2;</code>
+     * @return The bytes for className.
+     */
+    com.google.protobuf.ByteString
+        getClassNameBytes();
+
+    /**
+     * <pre>
+     * utf-8编码的json，除insertBatch外只有一条
+     * </pre>
+     *
+     * <code>repeated bytes data = 3;</code>
+     * @return A list containing the data.
+     */
+    java.util.List<com.google.protobuf.ByteString> getDataList();
+    /**
+     * <pre>
+     * utf-8编码的json，除insertBatch外只有一条
+     * </pre>
+     *
+     * <code>repeated bytes data = 3;</code>
+     * @return The count of data.
+     */
+    int getDataCount();
+    /**
+     * <pre>
+     * utf-8编码的json，除insertBatch外只有一条
+     * </pre>
+     *
+     * <code>repeated bytes data = 3;</code>
+     * @param index The index of the element to return.
+     * @return The data at the given index.
+     */
+    com.google.protobuf.ByteString getData(int index);
+  }
+  /**
+   * Protobuf type {@code WriteRequest}
+   */
+  public static final class WriteRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:WriteRequest)
+      WriteRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use WriteRequest.newBuilder() to construct.
+    private WriteRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private WriteRequest() {
+      className_ = "";
+      data_ = java.util.Collections.emptyList();
+    }
+
+    @Override
+    @SuppressWarnings({"unused"})
+    protected Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new WriteRequest();
+    }
+
+    @Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private WriteRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              dsId_ = input.readInt32();
+              break;
+            }
+            case 18: {
+              String s = input.readStringRequireUtf8();
+
+              className_ = s;
+              break;
+            }
+            case 26: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                data_ = new java.util.ArrayList<com.google.protobuf.ByteString>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              data_.add(input.readBytes());
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          data_ = java.util.Collections.unmodifiableList(data_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return DbRpcService.internal_static_WriteRequest_descriptor;
+    }
+
+    @Override
+    protected FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return DbRpcService.internal_static_WriteRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              WriteRequest.class, Builder.class);
+    }
+
+    public static final int DSID_FIELD_NUMBER = 1;
+    private int dsId_;
+    /**
+     * <code>int32 dsId = 1;</code>
+     * @return The dsId.
+     */
+    @Override
+    public int getDsId() {
+      return dsId_;
+    }
+
+    public static final int CLASSNAME_FIELD_NUMBER = 2;
+    private volatile Object className_;
+    /**
+     * <code>string className = 2;</code>
+     * @return The className.
+     */
+    @Override
+    public String getClassName() {
+      Object ref = className_;
+      if (ref instanceof String) {
+        return (String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        String s = bs.toStringUtf8();
+        className_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string className = 2;</code>
+     * @return The bytes for className.
+     */
+    @Override
+    public com.google.protobuf.ByteString
+        getClassNameBytes() {
+      Object ref = className_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (String) ref);
+        className_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DATA_FIELD_NUMBER = 3;
+    private java.util.List<com.google.protobuf.ByteString> data_;
+    /**
+     * <pre>
+     * utf-8编码的json，除insertBatch外只有一条
+     * </pre>
+     *
+     * <code>repeated bytes data = 3;</code>
+     * @return A list containing the data.
+     */
+    @Override
+    public java.util.List<com.google.protobuf.ByteString>
+        getDataList() {
+      return data_;
+    }
+    /**
+     * <pre>
+     * utf-8编码的json，除insertBatch外只有一条
+     * </pre>
+     *
+     * <code>repeated bytes data = 3;</code>
+     * @return The count of data.
+     */
+    public int getDataCount() {
+      return data_.size();
+    }
+    /**
+     * <pre>
+     * utf-8编码的json，除insertBatch外只有一条
+     * </pre>
+     *
+     * <code>repeated bytes data = 3;</code>
+     * @param index The index of the element to return.
+     * @return The data at the given index.
+     */
+    public com.google.protobuf.ByteString getData(int index) {
+      return data_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (dsId_ != 0) {
+        output.writeInt32(1, dsId_);
+      }
+      if (!getClassNameBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, className_);
+      }
+      for (int i = 0; i < data_.size(); i++) {
+        output.writeBytes(3, data_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (dsId_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, dsId_);
+      }
+      if (!getClassNameBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, className_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < data_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(data_.get(i));
+        }
+        size += dataSize;
+        size += 1 * getDataList().size();
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof WriteRequest)) {
+        return super.equals(obj);
+      }
+      WriteRequest other = (WriteRequest) obj;
+
+      if (getDsId()
+          != other.getDsId()) return false;
+      if (!getClassName()
+          .equals(other.getClassName())) return false;
+      if (!getDataList()
+          .equals(other.getDataList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + DSID_FIELD_NUMBER;
+      hash = (53 * hash) + getDsId();
+      hash = (37 * hash) + CLASSNAME_FIELD_NUMBER;
+      hash = (53 * hash) + getClassName().hashCode();
+      if (getDataCount() > 0) {
+        hash = (37 * hash) + DATA_FIELD_NUMBER;
+        hash = (53 * hash) + getDataList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static WriteRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static WriteRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static WriteRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static WriteRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static WriteRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static WriteRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static WriteRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static WriteRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static WriteRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static WriteRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static WriteRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static WriteRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(WriteRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @Override
+    protected Builder newBuilderForType(
+        BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code WriteRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:WriteRequest)
+        WriteRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return DbRpcService.internal_static_WriteRequest_descriptor;
+      }
+
+      @Override
+      protected FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return DbRpcService.internal_static_WriteRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                WriteRequest.class, Builder.class);
+      }
+
+      // Construct using net.proto.grpc.DbRpcService.WriteRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @Override
+      public Builder clear() {
+        super.clear();
+        dsId_ = 0;
+
+        className_ = "";
+
+        data_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+
+      @Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return DbRpcService.internal_static_WriteRequest_descriptor;
+      }
+
+      @Override
+      public WriteRequest getDefaultInstanceForType() {
+        return WriteRequest.getDefaultInstance();
+      }
+
+      @Override
+      public WriteRequest build() {
+        WriteRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @Override
+      public WriteRequest buildPartial() {
+        WriteRequest result = new WriteRequest(this);
+        int from_bitField0_ = bitField0_;
+        result.dsId_ = dsId_;
+        result.className_ = className_;
+        if (((bitField0_ & 0x00000001) != 0)) {
+          data_ = java.util.Collections.unmodifiableList(data_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.data_ = data_;
+        onBuilt();
+        return result;
+      }
+
+      @Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return super.setField(field, value);
+      }
+      @Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof WriteRequest) {
+          return mergeFrom((WriteRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(WriteRequest other) {
+        if (other == WriteRequest.getDefaultInstance()) return this;
+        if (other.getDsId() != 0) {
+          setDsId(other.getDsId());
+        }
+        if (!other.getClassName().isEmpty()) {
+          className_ = other.className_;
+          onChanged();
+        }
+        if (!other.data_.isEmpty()) {
+          if (data_.isEmpty()) {
+            data_ = other.data_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureDataIsMutable();
+            data_.addAll(other.data_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        WriteRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (WriteRequest) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private int dsId_ ;
+      /**
+       * <code>int32 dsId = 1;</code>
+       * @return The dsId.
+       */
+      @Override
+      public int getDsId() {
+        return dsId_;
+      }
+      /**
+       * <code>int32 dsId = 1;</code>
+       * @param value The dsId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDsId(int value) {
+        
+        dsId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 dsId = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDsId() {
+        
+        dsId_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private Object className_ = "";
+      /**
+       * <code>string className = 2;</code>
+       * @return The className.
+       */
+      public String getClassName() {
+        Object ref = className_;
+        if (!(ref instanceof String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          String s = bs.toStringUtf8();
+          className_ = s;
+          return s;
+        } else {
+          return (String) ref;
+        }
+      }
+      /**
+       * <code>string className = 2;</code>
+       * @return The bytes for className.
+       */
+      public com.google.protobuf.ByteString
+          getClassNameBytes() {
+        Object ref = className_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (String) ref);
+          className_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string className = 2;</code>
+       * @param value The className to set.
+       * @return This builder for chaining.
+       */
+      public Builder setClassName(
+          String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        className_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string className = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearClassName() {
+        
+        className_ = getDefaultInstance().getClassName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string className = 2;</code>
+       * @param value The bytes for className to set.
+       * @return This builder for chaining.
+       */
+      public Builder setClassNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        className_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<com.google.protobuf.ByteString> data_ = java.util.Collections.emptyList();
+      private void ensureDataIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          data_ = new java.util.ArrayList<com.google.protobuf.ByteString>(data_);
+          bitField0_ |= 0x00000001;
+        }
+      }
+      /**
+       * <pre>
+       * utf-8编码的json，除insertBatch外只有一条
+       * </pre>
+       *
+       * <code>repeated bytes data = 3;</code>
+       * @return A list containing the data.
+       */
+      public java.util.List<com.google.protobuf.ByteString>
+          getDataList() {
+        return ((bitField0_ & 0x00000001) != 0) ?
+                 java.util.Collections.unmodifiableList(data_) : data_;
+      }
+      /**
+       * <pre>
+       * utf-8编码的json，除insertBatch外只有一条
+       * </pre>
+       *
+       * <code>repeated bytes data = 3;</code>
+       * @return The count of data.
+       */
+      public int getDataCount() {
+        return data_.size();
+      }
+      /**
+       * <pre>
+       * utf-8编码的json，除insertBatch外只有一条
+       * </pre>
+       *
+       * <code>repeated bytes data = 3;</code>
+       * @param index The index of the element to return.
+       * @return The data at the given index.
+       */
+      public com.google.protobuf.ByteString getData(int index) {
+        return data_.get(index);
+      }
+      /**
+       * <pre>
+       * utf-8编码的json，除insertBatch外只有一条
+       * </pre>
+       *
+       * <code>repeated bytes data = 3;</code>
+       * @param index The index to set the value at.
+       * @param value The data to set.
+       * @return This builder for chaining.
+       */
+      public Builder setData(
+          int index, com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureDataIsMutable();
+        data_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * utf-8编码的json，除insertBatch外只有一条
+       * </pre>
+       *
+       * <code>repeated bytes data = 3;</code>
+       * @param value The data to add.
+       * @return This builder for chaining.
+       */
+      public Builder addData(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureDataIsMutable();
+        data_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * utf-8编码的json，除insertBatch外只有一条
+       * </pre>
+       *
+       * <code>repeated bytes data = 3;</code>
+       * @param values The data to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllData(
+          Iterable<? extends com.google.protobuf.ByteString> values) {
+        ensureDataIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, data_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * utf-8编码的json，除insertBatch外只有一条
+       * </pre>
+       *
+       * <code>repeated bytes data = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearData() {
+        data_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      @Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:WriteRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:WriteRequest)
+    private static final WriteRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new WriteRequest();
+    }
+
+    public static WriteRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<WriteRequest>
+        PARSER = new com.google.protobuf.AbstractParser<WriteRequest>() {
+      @Override
+      public WriteRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new WriteRequest(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<WriteRequest> parser() {
+      return PARSER;
+    }
+
+    @Override
+    public com.google.protobuf.Parser<WriteRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @Override
+    public WriteRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface WriteResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:WriteResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.DbCode code = 1;</code>
+     * @return The enum numeric value on the wire for code.
+     */
+    int getCodeValue();
+    /**
+     * <code>.DbCode code = 1;</code>
+     * @return The code.
+     */
+    DbCode getCode();
+
+    /**
+     * <code>string msg = 2;</code>
+     * @return The msg.
+     */
+    String getMsg();
+    /**
+     * <code>string msg = 2;</code>
+     * @return The bytes for msg.
+     */
+    com.google.protobuf.ByteString
+        getMsgBytes();
+
+    /**
+     * <pre>
+     * 受影响的数据条数
+     * </pre>
+     *
+     * <code>int32 count = 3;</code>
+     * @return The count.
+     */
+    int getCount();
+  }
+  /**
+   * Protobuf type {@code WriteResponse}
+   */
+  public static final class WriteResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:WriteResponse)
+      WriteResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use WriteResponse.newBuilder() to construct.
+    private WriteResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private WriteResponse() {
+      code_ = 0;
+      msg_ = "";
+    }
+
+    @Override
+    @SuppressWarnings({"unused"})
+    protected Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new WriteResponse();
+    }
+
+    @Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private WriteResponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+              int rawValue = input.readEnum();
+
+              code_ = rawValue;
+              break;
+            }
+            case 18: {
+              String s = input.readStringRequireUtf8();
+
+              msg_ = s;
+              break;
+            }
+            case 24: {
+
+              count_ = input.readInt32();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return DbRpcService.internal_static_WriteResponse_descriptor;
+    }
+
+    @Override
+    protected FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return DbRpcService.internal_static_WriteResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              WriteResponse.class, Builder.class);
+    }
+
+    public static final int CODE_FIELD_NUMBER = 1;
+    private int code_;
+    /**
+     * <code>.DbCode code = 1;</code>
+     * @return The enum numeric value on the wire for code.
+     */
+    @Override public int getCodeValue() {
+      return code_;
+    }
+    /**
+     * <code>.DbCode code = 1;</code>
+     * @return The code.
+     */
+    @Override public DbCode getCode() {
+      @SuppressWarnings("deprecation")
+      DbCode result = DbCode.valueOf(code_);
+      return result == null ? DbCode.UNRECOGNIZED : result;
+    }
+
+    public static final int MSG_FIELD_NUMBER = 2;
+    private volatile Object msg_;
+    /**
+     * <code>string msg = 2;</code>
+     * @return The msg.
+     */
+    @Override
+    public String getMsg() {
+      Object ref = msg_;
+      if (ref instanceof String) {
+        return (String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        String s = bs.toStringUtf8();
+        msg_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string msg = 2;</code>
+     * @return The bytes for msg.
+     */
+    @Override
+    public com.google.protobuf.ByteString
+        getMsgBytes() {
+      Object ref = msg_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (String) ref);
+        msg_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int COUNT_FIELD_NUMBER = 3;
+    private int count_;
+    /**
+     * <pre>
+     * 受影响的数据条数
+     * </pre>
+     *
+     * <code>int32 count = 3;</code>
+     * @return The count.
+     */
+    @Override
+    public int getCount() {
+      return count_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (code_ != DbCode.OK.getNumber()) {
+        output.writeEnum(1, code_);
+      }
+      if (!getMsgBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, msg_);
+      }
+      if (count_ != 0) {
+        output.writeInt32(3, count_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (code_ != DbCode.OK.getNumber()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(1, code_);
+      }
+      if (!getMsgBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, msg_);
+      }
+      if (count_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, count_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof WriteResponse)) {
+        return super.equals(obj);
+      }
+      WriteResponse other = (WriteResponse) obj;
+
+      if (code_ != other.code_) return false;
+      if (!getMsg()
+          .equals(other.getMsg())) return false;
+      if (getCount()
+          != other.getCount()) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + CODE_FIELD_NUMBER;
+      hash = (53 * hash) + code_;
+      hash = (37 * hash) + MSG_FIELD_NUMBER;
+      hash = (53 * hash) + getMsg().hashCode();
+      hash = (37 * hash) + COUNT_FIELD_NUMBER;
+      hash = (53 * hash) + getCount();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static WriteResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static WriteResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static WriteResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static WriteResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static WriteResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static WriteResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static WriteResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static WriteResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static WriteResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static WriteResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static WriteResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static WriteResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(WriteResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @Override
+    protected Builder newBuilderForType(
+        BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code WriteResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:WriteResponse)
+        WriteResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return DbRpcService.internal_static_WriteResponse_descriptor;
+      }
+
+      @Override
+      protected FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return DbRpcService.internal_static_WriteResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                WriteResponse.class, Builder.class);
+      }
+
+      // Construct using net.proto.grpc.DbRpcService.WriteResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @Override
+      public Builder clear() {
+        super.clear();
+        code_ = 0;
+
+        msg_ = "";
+
+        count_ = 0;
+
+        return this;
+      }
+
+      @Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return DbRpcService.internal_static_WriteResponse_descriptor;
+      }
+
+      @Override
+      public WriteResponse getDefaultInstanceForType() {
+        return WriteResponse.getDefaultInstance();
+      }
+
+      @Override
+      public WriteResponse build() {
+        WriteResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @Override
+      public WriteResponse buildPartial() {
+        WriteResponse result = new WriteResponse(this);
+        result.code_ = code_;
+        result.msg_ = msg_;
+        result.count_ = count_;
+        onBuilt();
+        return result;
+      }
+
+      @Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return super.setField(field, value);
+      }
+      @Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof WriteResponse) {
+          return mergeFrom((WriteResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(WriteResponse other) {
+        if (other == WriteResponse.getDefaultInstance()) return this;
+        if (other.code_ != 0) {
+          setCodeValue(other.getCodeValue());
+        }
+        if (!other.getMsg().isEmpty()) {
+          msg_ = other.msg_;
+          onChanged();
+        }
+        if (other.getCount() != 0) {
+          setCount(other.getCount());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        WriteResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (WriteResponse) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private int code_ = 0;
+      /**
+       * <code>.DbCode code = 1;</code>
+       * @return The enum numeric value on the wire for code.
+       */
+      @Override public int getCodeValue() {
+        return code_;
+      }
+      /**
+       * <code>.DbCode code = 1;</code>
+       * @param value The enum numeric value on the wire for code to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCodeValue(int value) {
+        
+        code_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.DbCode code = 1;</code>
+       * @return The code.
+       */
+      @Override
+      public DbCode getCode() {
+        @SuppressWarnings("deprecation")
+        DbCode result = DbCode.valueOf(code_);
+        return result == null ? DbCode.UNRECOGNIZED : result;
+      }
+      /**
+       * <code>.DbCode code = 1;</code>
+       * @param value The code to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCode(DbCode value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        
+        code_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.DbCode code = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCode() {
+        
+        code_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private Object msg_ = "";
+      /**
+       * <code>string msg = 2;</code>
+       * @return The msg.
+       */
+      public String getMsg() {
+        Object ref = msg_;
+        if (!(ref instanceof String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          String s = bs.toStringUtf8();
+          msg_ = s;
+          return s;
+        } else {
+          return (String) ref;
+        }
+      }
+      /**
+       * <code>string msg = 2;</code>
+       * @return The bytes for msg.
+       */
+      public com.google.protobuf.ByteString
+          getMsgBytes() {
+        Object ref = msg_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (String) ref);
+          msg_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string msg = 2;</code>
+       * @param value The msg to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMsg(
+          String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        msg_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string msg = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMsg() {
+        
+        msg_ = getDefaultInstance().getMsg();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string msg = 2;</code>
+       * @param value The bytes for msg to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMsgBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        msg_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int count_ ;
+      /**
+       * <pre>
+       * 受影响的数据条数
+       * </pre>
+       *
+       * <code>int32 count = 3;</code>
+       * @return The count.
+       */
+      @Override
+      public int getCount() {
+        return count_;
+      }
+      /**
+       * <pre>
+       * 受影响的数据条数
+       * </pre>
+       *
+       * <code>int32 count = 3;</code>
+       * @param value The count to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCount(int value) {
+        
+        count_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 受影响的数据条数
+       * </pre>
+       *
+       * <code>int32 count = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCount() {
+        
+        count_ = 0;
+        onChanged();
+        return this;
+      }
+      @Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:WriteResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:WriteResponse)
+    private static final WriteResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new WriteResponse();
+    }
+
+    public static WriteResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<WriteResponse>
+        PARSER = new com.google.protobuf.AbstractParser<WriteResponse>() {
+      @Override
+      public WriteResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new WriteResponse(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<WriteResponse> parser() {
+      return PARSER;
+    }
+
+    @Override
+    public com.google.protobuf.Parser<WriteResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @Override
+    public WriteResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface BulkWriteChunkOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:BulkWriteChunk)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int32 dsId = 1;</code>
+     * @return The dsId.
+     */
+    int getDsId();
+
+    /**
+     * <code>string className = 2;</code>
+     * @return The className.
+     */
+    String getClassName();
+    /**
+     * <code>string className = 2;</code>
+     * @return The bytes for className.
+     */
+    com.google.protobuf.ByteString
+        getClassNameBytes();
+
+    /**
+     * <code>.WriteOp op = 3;</code>
+     * @return The enum numeric value on the wire for op.
+     */
+    int getOpValue();
+    /**
+     * <code>.WriteOp op = 3;</code>
+     * @return The op.
+     */
+    WriteOp getOp();
+
+    /**
+     * <pre>
+     * utf-8编码的json
+     * </pre>
+     *
+     * <code>repeated bytes data = 4;</code>
+     * @return A list containing the data.
+     */
+    java.util.List<com.google.protobuf.ByteString> getDataList();
+    /**
+     * <pre>
+     * utf-8编码的json
+     * </pre>
+     *
+     * <code>repeated bytes data = 4;</code>
+     * @return The count of data.
+     */
+    int getDataCount();
+    /**
+     * <pre>
+     * utf-8编码的json
+     * </pre>
+     *
+     * <code>repeated bytes data = 4;</code>
+     * @param index The index of the element to return.
+     * @return The data at the given index.
+     */
+    com.google.protobuf.ByteString getData(int index);
+  }
+  /**
+   * <pre>
+   * 一个分块只包含同一张表的同一种操作
+   * </pre>
+   *
+   * Protobuf type {@code BulkWriteChunk}
+   */
+  public static final class BulkWriteChunk extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:BulkWriteChunk)
+      BulkWriteChunkOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use BulkWriteChunk.newBuilder() to construct.
+    private BulkWriteChunk(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private BulkWriteChunk() {
+      className_ = "";
+      op_ = 0;
+      data_ = java.util.Collections.emptyList();
+    }
+
+    @Override
+    @SuppressWarnings({"unused"})
+    protected Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new BulkWriteChunk();
+    }
+
+    @Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private BulkWriteChunk(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              dsId_ = input.readInt32();
+              break;
+            }
+            case 18: {
+              String s = input.readStringRequireUtf8();
+
+              className_ = s;
+              break;
+            }
+            case 24: {
+              int rawValue = input.readEnum();
+
+              op_ = rawValue;
+              break;
+            }
+            case 34: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                data_ = new java.util.ArrayList<com.google.protobuf.ByteString>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              data_.add(input.readBytes());
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          data_ = java.util.Collections.unmodifiableList(data_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return DbRpcService.internal_static_BulkWriteChunk_descriptor;
+    }
+
+    @Override
+    protected FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return DbRpcService.internal_static_BulkWriteChunk_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              BulkWriteChunk.class, Builder.class);
+    }
+
+    public static final int DSID_FIELD_NUMBER = 1;
+    private int dsId_;
+    /**
+     * <code>int32 dsId = 1;</code>
+     * @return The dsId.
+     */
+    @Override
+    public int getDsId() {
+      return dsId_;
+    }
+
+    public static final int CLASSNAME_FIELD_NUMBER = 2;
+    private volatile Object className_;
+    /**
+     * <code>string className = 2;</code>
+     * @return The className.
+     */
+    @Override
+    public String getClassName() {
+      Object ref = className_;
+      if (ref instanceof String) {
+        return (String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        String s = bs.toStringUtf8();
+        className_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string className = 2;</code>
+     * @return The bytes for className.
+     */
+    @Override
+    public com.google.protobuf.ByteString
+        getClassNameBytes() {
+      Object ref = className_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (String) ref);
+        className_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int OP_FIELD_NUMBER = 3;
+    private int op_;
+    /**
+     * <code>.WriteOp op = 3;</code>
+     * @return The enum numeric value on the wire for op.
+     */
+    @Override public int getOpValue() {
+      return op_;
+    }
+    /**
+     * <code>.WriteOp op = 3;</code>
+     * @return The op.
+     */
+    @Override public WriteOp getOp() {
+      @SuppressWarnings("deprecation")
+      WriteOp result = WriteOp.valueOf(op_);
+      return result == null ? WriteOp.UNRECOGNIZED : result;
+    }
+
+    public static final int DATA_FIELD_NUMBER = 4;
+    private java.util.List<com.google.protobuf.ByteString> data_;
+    /**
+     * <pre>
+     * utf-8编码的json
+     * </pre>
+     *
+     * <code>repeated bytes data = 4;</code>
+     * @return A list containing the data.
+     */
+    @Override
+    public java.util.List<com.google.protobuf.ByteString>
+        getDataList() {
+      return data_;
+    }
+    /**
+     * <pre>
+     * utf-8编码的json
+     * </pre>
+     *
+     * <code>repeated bytes data = 4;</code>
+     * @return The count of data.
+     */
+    public int getDataCount() {
+      return data_.size();
+    }
+    /**
+     * <pre>
+     * utf-8编码的json
+     * </pre>
+     *
+     * <code>repeated bytes data = 4;</code>
+     * @param index The index of the element to return.
+     * @return The data at the given index.
+     */
+    public com.google.protobuf.ByteString getData(int index) {
+      return data_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (dsId_ != 0) {
+        output.writeInt32(1, dsId_);
+      }
+      if (!getClassNameBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, className_);
+      }
+      if (op_ != WriteOp.INSERT.getNumber()) {
+        output.writeEnum(3, op_);
+      }
+      for (int i = 0; i < data_.size(); i++) {
+        output.writeBytes(4, data_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (dsId_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, dsId_);
+      }
+      if (!getClassNameBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, className_);
+      }
+      if (op_ != WriteOp.INSERT.getNumber()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(3, op_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < data_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(data_.get(i));
+        }
+        size += dataSize;
+        size += 1 * getDataList().size();
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof BulkWriteChunk)) {
+        return super.equals(obj);
+      }
+      BulkWriteChunk other = (BulkWriteChunk) obj;
+
+      if (getDsId()
+          != other.getDsId()) return false;
+      if (!getClassName()
+          .equals(other.getClassName())) return false;
+      if (op_ != other.op_) return false;
+      if (!getDataList()
+          .equals(other.getDataList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + DSID_FIELD_NUMBER;
+      hash = (53 * hash) + getDsId();
+      hash = (37 * hash) + CLASSNAME_FIELD_NUMBER;
+      hash = (53 * hash) + getClassName().hashCode();
+      hash = (37 * hash) + OP_FIELD_NUMBER;
+      hash = (53 * hash) + op_;
+      if (getDataCount() > 0) {
+        hash = (37 * hash) + DATA_FIELD_NUMBER;
+        hash = (53 * hash) + getDataList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static BulkWriteChunk parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static BulkWriteChunk parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static BulkWriteChunk parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static BulkWriteChunk parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static BulkWriteChunk parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static BulkWriteChunk parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static BulkWriteChunk parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static BulkWriteChunk parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static BulkWriteChunk parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static BulkWriteChunk parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static BulkWriteChunk parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static BulkWriteChunk parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(BulkWriteChunk prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @Override
+    protected Builder newBuilderForType(
+        BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * 一个分块只包含同一张表的同一种操作
+     * </pre>
+     *
+     * Protobuf type {@code BulkWriteChunk}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:BulkWriteChunk)
+        BulkWriteChunkOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return DbRpcService.internal_static_BulkWriteChunk_descriptor;
+      }
+
+      @Override
+      protected FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return DbRpcService.internal_static_BulkWriteChunk_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                BulkWriteChunk.class, Builder.class);
+      }
+
+      // Construct using net.proto.grpc.DbRpcService.BulkWriteChunk.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @Override
+      public Builder clear() {
+        super.clear();
+        dsId_ = 0;
+
+        className_ = "";
+
+        op_ = 0;
+
+        data_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+
+      @Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return DbRpcService.internal_static_BulkWriteChunk_descriptor;
+      }
+
+      @Override
+      public BulkWriteChunk getDefaultInstanceForType() {
+        return BulkWriteChunk.getDefaultInstance();
+      }
+
+      @Override
+      public BulkWriteChunk build() {
+        BulkWriteChunk result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @Override
+      public BulkWriteChunk buildPartial() {
+        BulkWriteChunk result = new BulkWriteChunk(this);
+        int from_bitField0_ = bitField0_;
+        result.dsId_ = dsId_;
+        result.className_ = className_;
+        result.op_ = op_;
+        if (((bitField0_ & 0x00000001) != 0)) {
+          data_ = java.util.Collections.unmodifiableList(data_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.data_ = data_;
+        onBuilt();
+        return result;
+      }
+
+      @Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return super.setField(field, value);
+      }
+      @Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof BulkWriteChunk) {
+          return mergeFrom((BulkWriteChunk)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(BulkWriteChunk other) {
+        if (other == BulkWriteChunk.getDefaultInstance()) return this;
+        if (other.getDsId() != 0) {
+          setDsId(other.getDsId());
+        }
+        if (!other.getClassName().isEmpty()) {
+          className_ = other.className_;
+          onChanged();
+        }
+        if (other.op_ != 0) {
+          setOpValue(other.getOpValue());
+        }
+        if (!other.data_.isEmpty()) {
+          if (data_.isEmpty()) {
+            data_ = other.data_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureDataIsMutable();
+            data_.addAll(other.data_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        BulkWriteChunk parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (BulkWriteChunk) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private int dsId_ ;
+      /**
+       * <code>int32 dsId = 1;</code>
+       * @return The dsId.
+       */
+      @Override
+      public int getDsId() {
+        return dsId_;
+      }
+      /**
+       * <code>int32 dsId = 1;</code>
+       * @param value The dsId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDsId(int value) {
+        
+        dsId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 dsId = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDsId() {
+        
+        dsId_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private Object className_ = "";
+      /**
+       * <code>string className = 2;</code>
+       * @return The className.
+       */
+      public String getClassName() {
+        Object ref = className_;
+        if (!(ref instanceof String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          String s = bs.toStringUtf8();
+          className_ = s;
+          return s;
+        } else {
+          return (String) ref;
+        }
+      }
+      /**
+       * <code>string className = 2;</code>
+       * @return The bytes for className.
+       */
+      public com.google.protobuf.ByteString
+          getClassNameBytes() {
+        Object ref = className_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (String) ref);
+          className_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string className = 2;</code>
+       * @param value The className to set.
+       * @return This builder for chaining.
+       */
+      public Builder setClassName(
+          String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        className_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string className = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearClassName() {
+        
+        className_ = getDefaultInstance().getClassName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string className = 2;</code>
+       * @param value The bytes for className to set.
+       * @return This builder for chaining.
+       */
+      public Builder setClassNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        className_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int op_ = 0;
+      /**
+       * <code>.WriteOp op = 3;</code>
+       * @return The enum numeric value on the wire for op.
+       */
+      @Override public int getOpValue() {
+        return op_;
+      }
+      /**
+       * <code>.WriteOp op = 3;</code>
+       * @param value The enum numeric value on the wire for op to set.
+       * @return This builder for chaining.
+       */
+      public Builder setOpValue(int value) {
+        
+        op_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.WriteOp op = 3;</code>
+       * @return The op.
+       */
+      @Override
+      public WriteOp getOp() {
+        @SuppressWarnings("deprecation")
+        WriteOp result = WriteOp.valueOf(op_);
+        return result == null ? WriteOp.UNRECOGNIZED : result;
+      }
+      /**
+       * <code>.WriteOp op = 3;</code>
+       * @param value The op to set.
+       * @return This builder for chaining.
+       */
+      public Builder setOp(WriteOp value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        
+        op_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.WriteOp op = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearOp() {
+        
+        op_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<com.google.protobuf.ByteString> data_ = java.util.Collections.emptyList();
+      private void ensureDataIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          data_ = new java.util.ArrayList<com.google.protobuf.ByteString>(data_);
+          bitField0_ |= 0x00000001;
+        }
+      }
+      /**
+       * <pre>
+       * utf-8编码的json
+       * </pre>
+       *
+       * <code>repeated bytes data = 4;</code>
+       * @return A list containing the data.
+       */
+      public java.util.List<com.google.protobuf.ByteString>
+          getDataList() {
+        return ((bitField0_ & 0x00000001) != 0) ?
+                 java.util.Collections.unmodifiableList(data_) : data_;
+      }
+      /**
+       * <pre>
+       * utf-8编码的json
+       * </pre>
+       *
+       * <code>repeated bytes data = 4;</code>
+       * @return The count of data.
+       */
+      public int getDataCount() {
+        return data_.size();
+      }
+      /**
+       * <pre>
+       * utf-8编码的json
+       * </pre>
+       *
+       * <code>repeated bytes data = 4;</code>
+       * @param index The index of the element to return.
+       * @return The data at the given index.
+       */
+      public com.google.protobuf.ByteString getData(int index) {
+        return data_.get(index);
+      }
+      /**
+       * <pre>
+       * utf-8编码的json
+       * </pre>
+       *
+       * <code>repeated bytes data = 4;</code>
+       * @param index The index to set the value at.
+       * @param value The data to set.
+       * @return This builder for chaining.
+       */
+      public Builder setData(
+          int index, com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureDataIsMutable();
+        data_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * utf-8编码的json
+       * </pre>
+       *
+       * <code>repeated bytes data = 4;</code>
+       * @param value The data to add.
+       * @return This builder for chaining.
+       */
+      public Builder addData(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureDataIsMutable();
+        data_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * utf-8编码的json
+       * </pre>
+       *
+       * <code>repeated bytes data = 4;</code>
+       * @param values The data to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllData(
+          Iterable<? extends com.google.protobuf.ByteString> values) {
+        ensureDataIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, data_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * utf-8编码的json
+       * </pre>
+       *
+       * <code>repeated bytes data = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearData() {
+        data_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      @Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:BulkWriteChunk)
+    }
+
+    // @@protoc_insertion_point(class_scope:BulkWriteChunk)
+    private static final BulkWriteChunk DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new BulkWriteChunk();
+    }
+
+    public static BulkWriteChunk getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<BulkWriteChunk>
+        PARSER = new com.google.protobuf.AbstractParser<BulkWriteChunk>() {
+      @Override
+      public BulkWriteChunk parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new BulkWriteChunk(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<BulkWriteChunk> parser() {
+      return PARSER;
+    }
+
+    @Override
+    public com.google.protobuf.Parser<BulkWriteChunk> getParserForType() {
+      return PARSER;
+    }
+
+    @Override
+    public BulkWriteChunk getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface BulkWriteResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:BulkWriteResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * 第一个失败分块的错误码，全部成功时为OK
+     * </pre>
+     *
+     * <code>.DbCode code = 1;</code>
+     * @return The enum numeric value on the wire for code.
+     */
+    int getCodeValue();
+    /**
+     * <pre>
+     * 第一个失败分块的错误码，全部成功时为OK
+     * </pre>
+     *
+     * <code>.DbCode code = 1;</code>
+     * @return The code.
+     */
+    DbCode getCode();
+
+    /**
+     * <code>string msg = 2;</code>
+     * @return The msg.
+     */
+    String getMsg();
+    /**
+     * <code>string msg = 2;</code>
+     * @return The bytes for msg.
+     */
+    com.google.protobuf.ByteString
+        getMsgBytes();
+
+    /**
+     * <pre>
+     * 和分块的顺序一致，失败的分块为-1
+     * </pre>
+     *
+     * <code>repeated int32 counts = 3;</code>
+     * @return A list containing the counts.
+     */
+    java.util.List<Integer> getCountsList();
+    /**
+     * <pre>
+     * 和分块的顺序一致，失败的分块为-1
+     * </pre>
+     *
+     * <code>repeated int32 counts = 3;</code>
+     * @return The count of counts.
+     */
+    int getCountsCount();
+    /**
+     * <pre>
+     * 和分块的顺序一致，失败的分块为-1
+     * </pre>
+     *
+     * <code>repeated int32 counts = 3;</code>
+     * @param index The index of the element to return.
+     * @return The counts at the given index.
+     */
+    int getCounts(int index);
+
+    /**
+     * <pre>
+     * 写入的总条数
+     * </pre>
+     *
+     * <code>int64 total = 4;</code>
+     * @return The total.
+     */
+    long getTotal();
+  }
+  /**
+   * Protobuf type {@code BulkWriteResponse}
+   */
+  public static final class BulkWriteResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:BulkWriteResponse)
+      BulkWriteResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use BulkWriteResponse.newBuilder() to construct.
+    private BulkWriteResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private BulkWriteResponse() {
+      code_ = 0;
+      msg_ = "";
+      counts_ = emptyIntList();
+    }
+
+    @Override
+    @SuppressWarnings({"unused"})
+    protected Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new BulkWriteResponse();
+    }
+
+    @Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private BulkWriteResponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+              int rawValue = input.readEnum();
+
+              code_ = rawValue;
+              break;
+            }
+            case 18: {
+              String s = input.readStringRequireUtf8();
+
+              msg_ = s;
+              break;
+            }
+            case 24: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                counts_ = newIntList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              counts_.addInt(input.readInt32());
+              break;
+            }
+            case 26: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000001) != 0) && input.getBytesUntilLimit() > 0) {
+                counts_ = newIntList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                counts_.addInt(input.readInt32());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 32: {
+
+              total_ = input.readInt64();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          counts_.makeImmutable(); // C
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return DbRpcService.internal_static_BulkWriteResponse_descriptor;
+    }
+
+    @Override
+    protected FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return DbRpcService.internal_static_BulkWriteResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              BulkWriteResponse.class, Builder.class);
+    }
+
+    public static final int CODE_FIELD_NUMBER = 1;
+    private int code_;
+    /**
+     * <pre>
+     * 第一个失败分块的错误码，全部成功时为OK
+     * </pre>
+     *
+     * <code>.DbCode code = 1;</code>
+     * @return The enum numeric value on the wire for code.
+     */
+    @Override public int getCodeValue() {
+      return code_;
+    }
+    /**
+     * <pre>
+     * 第一个失败分块的错误码，全部成功时为OK
+     * </pre>
+     *
+     * <code>.DbCode code = 1;</code>
+     * @return The code.
+     */
+    @Override public DbCode getCode() {
+      @SuppressWarnings("deprecation")
+      DbCode result = DbCode.valueOf(code_);
+      return result == null ? DbCode.UNRECOGNIZED : result;
+    }
+
+    public static final int MSG_FIELD_NUMBER = 2;
+    private volatile Object msg_;
+    /**
+     * <code>string msg = 2;</code>
+     * @return The msg.
+     */
+    @Override
+    public String getMsg() {
+      Object ref = msg_;
+      if (ref instanceof String) {
+        return (String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        String s = bs.toStringUtf8();
+        msg_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string msg = 2;</code>
+     * @return The bytes for msg.
+     */
+    @Override
+    public com.google.protobuf.ByteString
+        getMsgBytes() {
+      Object ref = msg_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (String) ref);
+        msg_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int COUNTS_FIELD_NUMBER = 3;
+    private com.google.protobuf.Internal.IntList counts_;
+    /**
+     * <pre>
+     * 和分块的顺序一致，失败的分块为-1
+     * </pre>
+     *
+     * <code>repeated int32 counts = 3;</code>
+     * @return A list containing the counts.
+     */
+    @Override
+    public java.util.List<Integer>
+        getCountsList() {
+      return counts_;
+    }
+    /**
+     * <pre>
+     * 和分块的顺序一致，失败的分块为-1
+     * </pre>
+     *
+     * <code>repeated int32 counts = 3;</code>
+     * @return The count of counts.
+     */
+    public int getCountsCount() {
+      return counts_.size();
+    }
+    /**
+     * <pre>
+     * 和分块的顺序一致，失败的分块为-1
+     * </pre>
+     *
+     * <code>repeated int32 counts = 3;</code>
+     * @param index The index of the element to return.
+     * @return The counts at the given index.
+     */
+    public int getCounts(int index) {
+      return counts_.getInt(index);
+    }
+    private int countsMemoizedSerializedSize = -1;
+
+    public static final int TOTAL_FIELD_NUMBER = 4;
+    private long total_;
+    /**
+     * <pre>
+     * 写入的总条数
+     * </pre>
+     *
+     * <code>int64 total = 4;</code>
+     * @return The total.
+     */
+    @Override
+    public long getTotal() {
+      return total_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (code_ != DbCode.OK.getNumber()) {
+        output.writeEnum(1, code_);
+      }
+      if (!getMsgBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, msg_);
+      }
+      if (getCountsList().size() > 0) {
+        output.writeUInt32NoTag(26);
+        output.writeUInt32NoTag(countsMemoizedSerializedSize);
+      }
+      for (int i = 0; i < counts_.size(); i++) {
+        output.writeInt32NoTag(counts_.getInt(i));
+      }
+      if (total_ != 0L) {
+        output.writeInt64(4, total_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (code_ != DbCode.OK.getNumber()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(1, code_);
+      }
+      if (!getMsgBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, msg_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < counts_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(counts_.getInt(i));
+        }
+        size += dataSize;
+        if (!getCountsList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        countsMemoizedSerializedSize = dataSize;
+      }
+      if (total_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(4, total_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof BulkWriteResponse)) {
+        return super.equals(obj);
+      }
+      BulkWriteResponse other = (BulkWriteResponse) obj;
+
+      if (code_ != other.code_) return false;
+      if (!getMsg()
+          .equals(other.getMsg())) return false;
+      if (!getCountsList()
+          .equals(other.getCountsList())) return false;
+      if (getTotal()
+          != other.getTotal()) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + CODE_FIELD_NUMBER;
+      hash = (53 * hash) + code_;
+      hash = (37 * hash) + MSG_FIELD_NUMBER;
+      hash = (53 * hash) + getMsg().hashCode();
+      if (getCountsCount() > 0) {
+        hash = (37 * hash) + COUNTS_FIELD_NUMBER;
+        hash = (53 * hash) + getCountsList().hashCode();
+      }
+      hash = (37 * hash) + TOTAL_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getTotal());
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static BulkWriteResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static BulkWriteResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static BulkWriteResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static BulkWriteResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static BulkWriteResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static BulkWriteResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static BulkWriteResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static BulkWriteResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static BulkWriteResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static BulkWriteResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static BulkWriteResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static BulkWriteResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(BulkWriteResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @Override
+    protected Builder newBuilderForType(
+        BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code BulkWriteResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:BulkWriteResponse)
+        BulkWriteResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return DbRpcService.internal_static_BulkWriteResponse_descriptor;
+      }
+
+      @Override
+      protected FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return DbRpcService.internal_static_BulkWriteResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                BulkWriteResponse.class, Builder.class);
+      }
+
+      // Construct using net.proto.grpc.DbRpcService.BulkWriteResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @Override
+      public Builder clear() {
+        super.clear();
+        code_ = 0;
+
+        msg_ = "";
+
+        counts_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        total_ = 0L;
+
+        return this;
+      }
+
+      @Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return DbRpcService.internal_static_BulkWriteResponse_descriptor;
+      }
+
+      @Override
+      public BulkWriteResponse getDefaultInstanceForType() {
+        return BulkWriteResponse.getDefaultInstance();
+      }
+
+      @Override
+      public BulkWriteResponse build() {
+        BulkWriteResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @Override
+      public BulkWriteResponse buildPartial() {
+        BulkWriteResponse result = new BulkWriteResponse(this);
+        int from_bitField0_ = bitField0_;
+        result.code_ = code_;
+        result.msg_ = msg_;
+        if (((bitField0_ & 0x00000001) != 0)) {
+          counts_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.counts_ = counts_;
+        result.total_ = total_;
+        onBuilt();
+        return result;
+      }
+
+      @Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return super.setField(field, value);
+      }
+      @Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof BulkWriteResponse) {
+          return mergeFrom((BulkWriteResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(BulkWriteResponse other) {
+        if (other == BulkWriteResponse.getDefaultInstance()) return this;
+        if (other.code_ != 0) {
+          setCodeValue(other.getCodeValue());
+        }
+        if (!other.getMsg().isEmpty()) {
+          msg_ = other.msg_;
+          onChanged();
+        }
+        if (!other.counts_.isEmpty()) {
+          if (counts_.isEmpty()) {
+            counts_ = other.counts_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureCountsIsMutable();
+            counts_.addAll(other.counts_);
+          }
+          onChanged();
+        }
+        if (other.getTotal() != 0L) {
+          setTotal(other.getTotal());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        BulkWriteResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (BulkWriteResponse) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private int code_ = 0;
+      /**
+       * <pre>
+       * 第一个失败分块的错误码，全部成功时为OK
+       * </pre>
+       *
+       * <code>.DbCode code = 1;</code>
+       * @return The enum numeric value on the wire for code.
+       */
+      @Override public int getCodeValue() {
+        return code_;
+      }
+      /**
+       * <pre>
+       * 第一个失败分块的错误码，全部成功时为OK
+       * </pre>
+       *
+       * <code>.DbCode code = 1;</code>
+       * @param value The enum numeric value on the wire for code to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCodeValue(int value) {
+        
+        code_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 第一个失败分块的错误码，全部成功时为OK
+       * </pre>
+       *
+       * <code>.DbCode code = 1;</code>
+       * @return The code.
+       */
+      @Override
+      public DbCode getCode() {
+        @SuppressWarnings("deprecation")
+        DbCode result = DbCode.valueOf(code_);
+        return result == null ? DbCode.UNRECOGNIZED : result;
+      }
+      /**
+       * <pre>
+       * 第一个失败分块的错误码，全部成功时为OK
+       * </pre>
+       *
+       * <code>.DbCode code = 1;</code>
+       * @param value The code to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCode(DbCode value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        
+        code_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 第一个失败分块的错误码，全部成功时为OK
+       * </pre>
+       *
+       * <code>.DbCode code = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCode() {
+        
+        code_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private Object msg_ = "";
+      /**
+       * <code>string msg = 2;</code>
+       * @return The msg.
+       */
+      public String getMsg() {
+        Object ref = msg_;
+        if (!(ref instanceof String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          String s = bs.toStringUtf8();
+          msg_ = s;
+          return s;
+        } else {
+          return (String) ref;
+        }
+      }
+      /**
+       * <code>string msg = 2;</code>
+       * @return The bytes for msg.
+       */
+      public com.google.protobuf.ByteString
+          getMsgBytes() {
+        Object ref = msg_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (String) ref);
+          msg_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string msg = 2;</code>
+       * @param value The msg to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMsg(
+          String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        msg_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string msg = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMsg() {
+        
+        msg_ = getDefaultInstance().getMsg();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string msg = 2;</code>
+       * @param value The bytes for msg to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMsgBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        msg_ = value;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.IntList counts_ = emptyIntList();
+      private void ensureCountsIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          counts_ = mutableCopy(counts_);
+          bitField0_ |= 0x00000001;
+        }
+      }
+      /**
+       * <pre>
+       * 和分块的顺序一致，失败的分块为-1
+       * </pre>
+       *
+       * <code>repeated int32 counts = 3;</code>
+       * @return A list containing the counts.
+       */
+      public java.util.List<Integer>
+          getCountsList() {
+        return ((bitField0_ & 0x00000001) != 0) ?
+                 java.util.Collections.unmodifiableList(counts_) : counts_;
+      }
+      /**
+       * <pre>
+       * 和分块的顺序一致，失败的分块为-1
+       * </pre>
+       *
+       * <code>repeated int32 counts = 3;</code>
+       * @return The count of counts.
+       */
+      public int getCountsCount() {
+        return counts_.size();
+      }
+      /**
+       * <pre>
+       * 和分块的顺序一致，失败的分块为-1
+       * </pre>
+       *
+       * <code>repeated int32 counts = 3;</code>
+       * @param index The index of the element to return.
+       * @return The counts at the given index.
+       */
+      public int getCounts(int index) {
+        return counts_.getInt(index);
+      }
+      /**
+       * <pre>
+       * 和分块的顺序一致，失败的分块为-1
+       * </pre>
+       *
+       * <code>repeated int32 counts = 3;</code>
+       * @param index The index to set the value at.
+       * @param value The counts to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCounts(
+          int index, int value) {
+        ensureCountsIsMutable();
+        counts_.setInt(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 和分块的顺序一致，失败的分块为-1
+       * </pre>
+       *
+       * <code>repeated int32 counts = 3;</code>
+       * @param value The counts to add.
+       * @return This builder for chaining.
+       */
+      public Builder addCounts(int value) {
+        ensureCountsIsMutable();
+        counts_.addInt(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 和分块的顺序一致，失败的分块为-1
+       * </pre>
+       *
+       * <code>repeated int32 counts = 3;</code>
+       * @param values The counts to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllCounts(
+          Iterable<? extends Integer> values) {
+        ensureCountsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, counts_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 和分块的顺序一致，失败的分块为-1
+       * </pre>
+       *
+       * <code>repeated int32 counts = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCounts() {
+        counts_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+
+      private long total_ ;
+      /**
+       * <pre>
+       * 写入的总条数
+       * </pre>
+       *
+       * <code>int64 total = 4;</code>
+       * @return The total.
+       */
+      @Override
+      public long getTotal() {
+        return total_;
+      }
+      /**
+       * <pre>
+       * 写入的总条数
+       * </pre>
+       *
+       * <code>int64 total = 4;</code>
+       * @param value The total to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTotal(long value) {
+        
+        total_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 写入的总条数
+       * </pre>
+       *
+       * <code>int64 total = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTotal() {
+        
+        total_ = 0L;
+        onChanged();
+        return this;
+      }
+      @Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:BulkWriteResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:BulkWriteResponse)
+    private static final BulkWriteResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new BulkWriteResponse();
+    }
+
+    public static BulkWriteResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<BulkWriteResponse>
+        PARSER = new com.google.protobuf.AbstractParser<BulkWriteResponse>() {
+      @Override
+      public BulkWriteResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new BulkWriteResponse(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<BulkWriteResponse> parser() {
+      return PARSER;
+    }
+
+    @Override
+    public com.google.protobuf.Parser<BulkWriteResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @Override
+    public BulkWriteResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_SelectRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_SelectRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_SelectResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_SelectResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_MultiGetKey_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_MultiGetKey_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_MultiGetRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_MultiGetRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_MultiGetResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_MultiGetResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_DbKey_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_DbKey_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_GetRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_GetRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_DataResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_DataResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_WriteRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_WriteRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_WriteResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_WriteResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_BulkWriteChunk_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_BulkWriteChunk_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_BulkWriteResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_BulkWriteResponse_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    String[] descriptorData = {
+      "\n\017dbservice.proto\"<\n\rSelectRequest\022\014\n\004ds" +
+      "Id\030\001 \001(\005\022\021\n\tclassName\030\002 \001(\t\022\n\n\002id\030\003 \001(\003\"" +
+      "\033\n\016SelectResponse\022\t\n\001r\030\001 \001(\t\",\n\013MultiGet" +
+      "Key\022\021\n\tclassName\030\001 \001(\t\022\n\n\002id\030\002 \001(\003\";\n\017Mu" +
+      "ltiGetRequest\022\014\n\004dsId\030\001 \001(\005\022\032\n\004keys\030\002 \003(" +
+      "\0132\014.MultiGetKey\"\035\n\020MultiGetResponse\022\t\n\001r" +
+      "\030\001 \003(\t\" \n\005DbKey\022\n\n\002id\030\001 \001(\003\022\013\n\003sid\030\002 \001(\t" +
+      "\"v\n\nGetRequest\022\014\n\004dsId\030\001 \001(\005\022\021\n\tclassNam" +
+      "e\030\002 \001(\t\022\023\n\003ids\030\003 \003(\0132\006.DbKey\022\016\n\006fromDb\030\004" +
+      " \001(\010\022\022\n\nflushCache\030\005 \001(\010\022\016\n\006binary" +
+      "\030\006 \001(\010\"@\n\014DataResponse" +
+      "\022\025\n\004code\030\001 \001(\0162\007.DbCode\022\013\n\003msg\030\002 \001(\t\022\014\n\004" +
+      "data\030\003 \001(\014\"=\n\014WriteRequest\022\014\n\004dsId\030\001 \001(\005" +
+      "\022\021\n\tclassName\030\002 \001(\t\022\014\n\004data\030\003 \003(\014\"B\n\rWri" +
+      "teResponse\022\025\n\004code\030\001 \001(\0162\007.DbCode\022\013\n\003msg" +
+      "\030\002 \001(\t\022\r\n\005count\030\003 \001(\005\"U\n\016BulkWriteChunk\022" +
+      "\014\n\004dsId\030\001 \001(\005\022\021\n\tclassName\030\002 \001(\t\022\024\n\002op\030\003" +
+      " \001(\0162\010.WriteOp\022\014\n\004data\030\004 \003(\014\"V\n\021BulkWrit" +
+      "eResponse\022\025\n\004code\030\001 \001(\0162\007.DbCode\022\013\n\003msg\030" +
+      "\002 \001(\t\022\016\n\006counts\030\003 \003(\005\022\r\n\005total\030\004 \001(\003*_\n\006" +
+      "DbCode\022\006\n\002OK\020\000\022\r\n\tNOT_FOUND\020\001\022\021\n\rUNKNOWN" +
+      "_CLASS\020\002\022\017\n\013BAD_REQUEST\020\003\022\014\n\010DB_ERROR\020\004\022" +
+      "\014\n\010INTERNAL\020\005*!\n\007WriteOp\022\n\n\006INSERT\020\000\022\n\n\006" +
+      "UPDATE\020\0012\336\003\n\tDbService\022)\n\006select\022\016.Selec" +
+      "tRequest\032\017.SelectResponse\022/\n\010multiGet\022\020." +
+      "MultiGetRequest\032\021.MultiGetResponse\022!\n\003ge" +
+      "t\022\013.GetRequest\032\r.DataResponse\022%\n\007getList" +
+      "\022\013.GetRequest\032\r.DataResponse\022$\n\006getOne\022\013" +
+      ".GetRequest\032\r.DataResponse\022(\n\tlistDelay\022" +
+      "\013.GetRequest\032\016.WriteResponse\022\'\n\006update\022\r" +
+      ".WriteRequest\032\016.WriteResponse\022\'\n\006insert\022" +
+      "\r.WriteRequest\032\016.WriteResponse\022\'\n\006delete" +
+      "\022\r.WriteRequest\032\016.WriteResponse\022,\n\013inser" +
+      "tBatch\022\r.WriteRequest\032\016.WriteResponse\0222\n" +
+      "\tbulkWrite\022\017.BulkWriteChunk\032\022.BulkWriteR" +
+      "esponse(\001B\036\n\016net.proto.grpcB\014DbRpcServic" +
+      "eb\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+        });
+    internal_static_SelectRequest_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_SelectRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_SelectRequest_descriptor,
+        new String[] { "DsId", "ClassName", "Id", });
+    internal_static_SelectResponse_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_SelectResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_SelectResponse_descriptor,
+        new String[] { "R", });
+    internal_static_MultiGetKey_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_MultiGetKey_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_MultiGetKey_descriptor,
+        new String[] { "ClassName", "Id", });
+    internal_static_MultiGetRequest_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_MultiGetRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_MultiGetRequest_descriptor,
+        new String[] { "DsId", "Keys", });
+    internal_static_MultiGetResponse_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_MultiGetResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_MultiGetResponse_descriptor,
+        new String[] { "R", });
+    internal_static_DbKey_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_DbKey_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_DbKey_descriptor,
+        new String[] { "Id", "Sid", });
+    internal_static_GetRequest_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_GetRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_GetRequest_descriptor,
+        new String[] { "DsId", "ClassName", "Ids", "FromDb", "FlushCache", "Binary", });
+    internal_static_DataResponse_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_DataResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_DataResponse_descriptor,
+        new String[] { "Code", "Msg", "Data", });
+    internal_static_WriteRequest_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_WriteRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_WriteRequest_descriptor,
+        new String[] { "DsId", "ClassName", "Data", });
+    internal_static_WriteResponse_descriptor =
+      getDescriptor().getMessageTypes().get(9);
+    internal_static_WriteResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_WriteResponse_descriptor,
+        new String[] { "Code", "Msg", "Count", });
+    internal_static_BulkWriteChunk_descriptor =
+      getDescriptor().getMessageTypes().get(10);
+    internal_static_BulkWriteChunk_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_BulkWriteChunk_descriptor,
+        new String[] { "DsId", "ClassName", "Op", "Data", });
+    internal_static_BulkWriteResponse_descriptor =
+      getDescriptor().getMessageTypes().get(11);
+    internal_static_BulkWriteResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_BulkWriteResponse_descriptor,
+        new String[] { "Code", "Msg", "Counts", "Total", });
   }
 
   // @@protoc_insertion_point(outer_class_scope)
@@ -45,6 +45,316 @@ public final class DbServiceGrpc {
     return getSelectMethod;
   }
 
+  private static volatile io.grpc.MethodDescriptor<DbRpcService.MultiGetRequest,
+      DbRpcService.MultiGetResponse> getMultiGetMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "multiGet",
+      requestType = DbRpcService.MultiGetRequest.class,
+      responseType = DbRpcService.MultiGetResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<DbRpcService.MultiGetRequest,
+      DbRpcService.MultiGetResponse> getMultiGetMethod() {
+    io.grpc.MethodDescriptor<DbRpcService.MultiGetRequest, DbRpcService.MultiGetResponse> getMultiGetMethod;
+    if ((getMultiGetMethod = DbServiceGrpc.getMultiGetMethod) == null) {
+      synchronized (DbServiceGrpc.class) {
+        if ((getMultiGetMethod = DbServiceGrpc.getMultiGetMethod) == null) {
+          DbServiceGrpc.getMultiGetMethod = getMultiGetMethod =
+              io.grpc.MethodDescriptor.<DbRpcService.MultiGetRequest, DbRpcService.MultiGetResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "multiGet"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  DbRpcService.MultiGetRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  DbRpcService.MultiGetResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new DbServiceMethodDescriptorSupplier("multiGet"))
+              .build();
+        }
+      }
+    }
+    return getMultiGetMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<DbRpcService.GetRequest,
+      DbRpcService.DataResponse> getGetMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "get",
+      requestType = DbRpcService.GetRequest.class,
+      responseType = DbRpcService.DataResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<DbRpcService.GetRequest,
+      DbRpcService.DataResponse> getGetMethod() {
+    io.grpc.MethodDescriptor<DbRpcService.GetRequest, DbRpcService.DataResponse> getGetMethod;
+    if ((getGetMethod = DbServiceGrpc.getGetMethod) == null) {
+      synchronized (DbServiceGrpc.class) {
+        if ((getGetMethod = DbServiceGrpc.getGetMethod) == null) {
+          DbServiceGrpc.getGetMethod = getGetMethod =
+              io.grpc.MethodDescriptor.<DbRpcService.GetRequest, DbRpcService.DataResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "get"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  DbRpcService.GetRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  DbRpcService.DataResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new DbServiceMethodDescriptorSupplier("get"))
+              .build();
+        }
+      }
+    }
+    return getGetMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<DbRpcService.GetRequest,
+      DbRpcService.DataResponse> getGetListMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "getList",
+      requestType = DbRpcService.GetRequest.class,
+      responseType = DbRpcService.DataResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<DbRpcService.GetRequest,
+      DbRpcService.DataResponse> getGetListMethod() {
+    io.grpc.MethodDescriptor<DbRpcService.GetRequest, DbRpcService.DataResponse> getGetListMethod;
+    if ((getGetListMethod = DbServiceGrpc.getGetListMethod) == null) {
+      synchronized (DbServiceGrpc.class) {
+        if ((getGetListMethod = DbServiceGrpc.getGetListMethod) == null) {
+          DbServiceGrpc.getGetListMethod = getGetListMethod =
+              io.grpc.MethodDescriptor.<DbRpcService.GetRequest, DbRpcService.DataResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "getList"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  DbRpcService.GetRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  DbRpcService.DataResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new DbServiceMethodDescriptorSupplier("getList"))
+              .build();
+        }
+      }
+    }
+    return getGetListMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<DbRpcService.GetRequest,
+      DbRpcService.DataResponse> getGetOneMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "getOne",
+      requestType = DbRpcService.GetRequest.class,
+      responseType = DbRpcService.DataResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<DbRpcService.GetRequest,
+      DbRpcService.DataResponse> getGetOneMethod() {
+    io.grpc.MethodDescriptor<DbRpcService.GetRequest, DbRpcService.DataResponse> getGetOneMethod;
+    if ((getGetOneMethod = DbServiceGrpc.getGetOneMethod) == null) {
+      synchronized (DbServiceGrpc.class) {
+        if ((getGetOneMethod = DbServiceGrpc.getGetOneMethod) == null) {
+          DbServiceGrpc.getGetOneMethod = getGetOneMethod =
+              io.grpc.MethodDescriptor.<DbRpcService.GetRequest, DbRpcService.DataResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "getOne"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  DbRpcService.GetRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  DbRpcService.DataResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new DbServiceMethodDescriptorSupplier("getOne"))
+              .build();
+        }
+      }
+    }
+    return getGetOneMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<DbRpcService.GetRequest,
+      DbRpcService.WriteResponse> getListDelayMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "listDelay",
+      requestType = DbRpcService.GetRequest.class,
+      responseType = DbRpcService.WriteResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<DbRpcService.GetRequest,
+      DbRpcService.WriteResponse> getListDelayMethod() {
+    io.grpc.MethodDescriptor<DbRpcService.GetRequest, DbRpcService.WriteResponse> getListDelayMethod;
+    if ((getListDelayMethod = DbServiceGrpc.getListDelayMethod) == null) {
+      synchronized (DbServiceGrpc.class) {
+        if ((getListDelayMethod = DbServiceGrpc.getListDelayMethod) == null) {
+          DbServiceGrpc.getListDelayMethod = getListDelayMethod =
+              io.grpc.MethodDescriptor.<DbRpcService.GetRequest, DbRpcService.WriteResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "listDelay"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  DbRpcService.GetRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  DbRpcService.WriteResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new DbServiceMethodDescriptorSupplier("listDelay"))
+              .build();
+        }
+      }
+    }
+    return getListDelayMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<DbRpcService.WriteRequest,
+      DbRpcService.WriteResponse> getUpdateMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "update",
+      requestType = DbRpcService.WriteRequest.class,
+      responseType = DbRpcService.WriteResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<DbRpcService.WriteRequest,
+      DbRpcService.WriteResponse> getUpdateMethod() {
+    io.grpc.MethodDescriptor<DbRpcService.WriteRequest, DbRpcService.WriteResponse> getUpdateMethod;
+    if ((getUpdateMethod = DbServiceGrpc.getUpdateMethod) == null) {
+      synchronized (DbServiceGrpc.class) {
+        if ((getUpdateMethod = DbServiceGrpc.getUpdateMethod) == null) {
+          DbServiceGrpc.getUpdateMethod = getUpdateMethod =
+              io.grpc.MethodDescriptor.<DbRpcService.WriteRequest, DbRpcService.WriteResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "update"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  DbRpcService.WriteRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  DbRpcService.WriteResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new DbServiceMethodDescriptorSupplier("update"))
+              .build();
+        }
+      }
+    }
+    return getUpdateMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<DbRpcService.WriteRequest,
+      DbRpcService.WriteResponse> getInsertMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "insert",
+      requestType = DbRpcService.WriteRequest.class,
+      responseType = DbRpcService.WriteResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<DbRpcService.WriteRequest,
+      DbRpcService.WriteResponse> getInsertMethod() {
+    io.grpc.MethodDescriptor<DbRpcService.WriteRequest, DbRpcService.WriteResponse> getInsertMethod;
+    if ((getInsertMethod = DbServiceGrpc.getInsertMethod) == null) {
+      synchronized (DbServiceGrpc.class) {
+        if ((getInsertMethod = DbServiceGrpc.getInsertMethod) == null) {
+          DbServiceGrpc.getInsertMethod = getInsertMethod =
+              io.grpc.MethodDescriptor.<DbRpcService.WriteRequest, DbRpcService.WriteResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "insert"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  DbRpcService.WriteRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  DbRpcService.WriteResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new DbServiceMethodDescriptorSupplier("insert"))
+              .build();
+        }
+      }
+    }
+    return getInsertMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<DbRpcService.WriteRequest,
+      DbRpcService.WriteResponse> getDeleteMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "delete",
+      requestType = DbRpcService.WriteRequest.class,
+      responseType = DbRpcService.WriteResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<DbRpcService.WriteRequest,
+      DbRpcService.WriteResponse> getDeleteMethod() {
+    io.grpc.MethodDescriptor<DbRpcService.WriteRequest, DbRpcService.WriteResponse> getDeleteMethod;
+    if ((getDeleteMethod = DbServiceGrpc.getDeleteMethod) == null) {
+      synchronized (DbServiceGrpc.class) {
+        if ((getDeleteMethod = DbServiceGrpc.getDeleteMethod) == null) {
+          DbServiceGrpc.getDeleteMethod = getDeleteMethod =
+              io.grpc.MethodDescriptor.<DbRpcService.WriteRequest, DbRpcService.WriteResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "delete"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  DbRpcService.WriteRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  DbRpcService.WriteResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new DbServiceMethodDescriptorSupplier("delete"))
+              .build();
+        }
+      }
+    }
+    return getDeleteMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<DbRpcService.WriteRequest,
+      DbRpcService.WriteResponse> getInsertBatchMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "insertBatch",
+      requestType = DbRpcService.WriteRequest.class,
+      responseType = DbRpcService.WriteResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<DbRpcService.WriteRequest,
+      DbRpcService.WriteResponse> getInsertBatchMethod() {
+    io.grpc.MethodDescriptor<DbRpcService.WriteRequest, DbRpcService.WriteResponse> getInsertBatchMethod;
+    if ((getInsertBatchMethod = DbServiceGrpc.getInsertBatchMethod) == null) {
+      synchronized (DbServiceGrpc.class) {
+        if ((getInsertBatchMethod = DbServiceGrpc.getInsertBatchMethod) == null) {
+          DbServiceGrpc.getInsertBatchMethod = getInsertBatchMethod =
+              io.grpc.MethodDescriptor.<DbRpcService.WriteRequest, DbRpcService.WriteResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "insertBatch"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  DbRpcService.WriteRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  DbRpcService.WriteResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new DbServiceMethodDescriptorSupplier("insertBatch"))
+              .build();
+        }
+      }
+    }
+    return getInsertBatchMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<DbRpcService.BulkWriteChunk,
+      DbRpcService.BulkWriteResponse> getBulkWriteMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "bulkWrite",
+      requestType = DbRpcService.BulkWriteChunk.class,
+      responseType = DbRpcService.BulkWriteResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.CLIENT_STREAMING)
+  public static io.grpc.MethodDescriptor<DbRpcService.BulkWriteChunk,
+      DbRpcService.BulkWriteResponse> getBulkWriteMethod() {
+    io.grpc.MethodDescriptor<DbRpcService.BulkWriteChunk, DbRpcService.BulkWriteResponse> getBulkWriteMethod;
+    if ((getBulkWriteMethod = DbServiceGrpc.getBulkWriteMethod) == null) {
+      synchronized (DbServiceGrpc.class) {
+        if ((getBulkWriteMethod = DbServiceGrpc.getBulkWriteMethod) == null) {
+          DbServiceGrpc.getBulkWriteMethod = getBulkWriteMethod =
+              io.grpc.MethodDescriptor.<DbRpcService.BulkWriteChunk, DbRpcService.BulkWriteResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.CLIENT_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "bulkWrite"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  DbRpcService.BulkWriteChunk.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  DbRpcService.BulkWriteResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new DbServiceMethodDescriptorSupplier("bulkWrite"))
+              .build();
+        }
+      }
+    }
+    return getBulkWriteMethod;
+  }
+
   /**
    * Creates a new async stub that supports all call types for the service
    */
@@ -94,12 +404,106 @@ public final class DbServiceGrpc {
   public static abstract class DbServiceImplBase implements io.grpc.BindableService {
 
     /**
+     * <pre>
+     * 旧接口，缓存类的get，不存在时返回空字符串
+     * </pre>
+     *
      */
     public void select(DbRpcService.SelectRequest request,
         io.grpc.stub.StreamObserver<DbRpcService.SelectResponse> responseObserver) {
       io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getSelectMethod(), responseObserver);
     }
 
+    /**
+     */
+    public void multiGet(DbRpcService.MultiGetRequest request,
+        io.grpc.stub.StreamObserver<DbRpcService.MultiGetResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getMultiGetMethod(), responseObserver);
+    }
+
+    /**
+     * <pre>
+     * 一对一关系中的一条数据，ids为key
+     * </pre>
+     *
+     */
+    public void get(DbRpcService.GetRequest request,
+        io.grpc.stub.StreamObserver<DbRpcService.DataResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetMethod(), responseObserver);
+    }
+
+    /**
+     * <pre>
+     * 一对多关系中的一组数据，ids为一级key
+     * </pre>
+     *
+     */
+    public void getList(DbRpcService.GetRequest request,
+        io.grpc.stub.StreamObserver<DbRpcService.DataResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetListMethod(), responseObserver);
+    }
+
+    /**
+     * <pre>
+     * 一对多关系中的一条数据，ids为一级key和二级key
+     * </pre>
+     *
+     */
+    public void getOne(DbRpcService.GetRequest request,
+        io.grpc.stub.StreamObserver<DbRpcService.DataResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetOneMethod(), responseObserver);
+    }
+
+    /**
+     * <pre>
+     * 对列表缓存做延期，ids为一级key
+     * </pre>
+     *
+     */
+    public void listDelay(DbRpcService.GetRequest request,
+        io.grpc.stub.StreamObserver<DbRpcService.WriteResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getListDelayMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void update(DbRpcService.WriteRequest request,
+        io.grpc.stub.StreamObserver<DbRpcService.WriteResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getUpdateMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void insert(DbRpcService.WriteRequest request,
+        io.grpc.stub.StreamObserver<DbRpcService.WriteResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getInsertMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void delete(DbRpcService.WriteRequest request,
+        io.grpc.stub.StreamObserver<DbRpcService.WriteResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getDeleteMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void insertBatch(DbRpcService.WriteRequest request,
+        io.grpc.stub.StreamObserver<DbRpcService.WriteResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getInsertBatchMethod(), responseObserver);
+    }
+
+    /**
+     * <pre>
+     * 大批量写入，客户端流式推送分块，服务端写完一个分块才读取下一个，结束时返回每个分块的写入数量
+     * </pre>
+     *
+     */
+    public io.grpc.stub.StreamObserver<DbRpcService.BulkWriteChunk> bulkWrite(
+        io.grpc.stub.StreamObserver<DbRpcService.BulkWriteResponse> responseObserver) {
+      return io.grpc.stub.ServerCalls.asyncUnimplementedStreamingCall(getBulkWriteMethod(), responseObserver);
+    }
+
     @Override public final io.grpc.ServerServiceDefinition bindService() {
       return io.grpc.ServerServiceDefinition.builder(getServiceDescriptor())
           .addMethod(
@@ -109,6 +513,76 @@ public final class DbServiceGrpc {
                 DbRpcService.SelectRequest,
                 DbRpcService.SelectResponse>(
                   this, METHODID_SELECT)))
+          .addMethod(
+            getMultiGetMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                DbRpcService.MultiGetRequest,
+                DbRpcService.MultiGetResponse>(
+                  this, METHODID_MULTI_GET)))
+          .addMethod(
+            getGetMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                DbRpcService.GetRequest,
+                DbRpcService.DataResponse>(
+                  this, METHODID_GET)))
+          .addMethod(
+            getGetListMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                DbRpcService.GetRequest,
+                DbRpcService.DataResponse>(
+                  this, METHODID_GET_LIST)))
+          .addMethod(
+            getGetOneMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                DbRpcService.GetRequest,
+                DbRpcService.DataResponse>(
+                  this, METHODID_GET_ONE)))
+          .addMethod(
+            getListDelayMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                DbRpcService.GetRequest,
+                DbRpcService.WriteResponse>(
+                  this, METHODID_LIST_DELAY)))
+          .addMethod(
+            getUpdateMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                DbRpcService.WriteRequest,
+                DbRpcService.WriteResponse>(
+                  this, METHODID_UPDATE)))
+          .addMethod(
+            getInsertMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                DbRpcService.WriteRequest,
+                DbRpcService.WriteResponse>(
+                  this, METHODID_INSERT)))
+          .addMethod(
+            getDeleteMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                DbRpcService.WriteRequest,
+                DbRpcService.WriteResponse>(
+                  this, METHODID_DELETE)))
+          .addMethod(
+            getInsertBatchMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                DbRpcService.WriteRequest,
+                DbRpcService.WriteResponse>(
+                  this, METHODID_INSERT_BATCH)))
+          .addMethod(
+            getBulkWriteMethod(),
+            io.grpc.stub.ServerCalls.asyncClientStreamingCall(
+              new MethodHandlers<
+                DbRpcService.BulkWriteChunk,
+                DbRpcService.BulkWriteResponse>(
+                  this, METHODID_BULK_WRITE)))
           .build();
     }
   }
@@ -128,12 +602,116 @@ public final class DbServiceGrpc {
     }
 
     /**
+     * <pre>
+     * 旧接口，缓存类的get，不存在时返回空字符串
+     * </pre>
+     *
      */
     public void select(DbRpcService.SelectRequest request,
         io.grpc.stub.StreamObserver<DbRpcService.SelectResponse> responseObserver) {
       io.grpc.stub.ClientCalls.asyncUnaryCall(
           getChannel().newCall(getSelectMethod(), getCallOptions()), request, responseObserver);
     }
+
+    /**
+     */
+    public void multiGet(DbRpcService.MultiGetRequest request,
+        io.grpc.stub.StreamObserver<DbRpcService.MultiGetResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getMultiGetMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     * <pre>
+     * 一对一关系中的一条数据，ids为key
+     * </pre>
+     *
+     */
+    public void get(DbRpcService.GetRequest request,
+        io.grpc.stub.StreamObserver<DbRpcService.DataResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getGetMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     * <pre>
+     * 一对多关系中的一组数据，ids为一级key
+     * </pre>
+     *
+     */
+    public void getList(DbRpcService.GetRequest request,
+        io.grpc.stub.StreamObserver<DbRpcService.DataResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getGetListMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     * <pre>
+     * 一对多关系中的一条数据，ids为一级key和二级key
+     * </pre>
+     *
+     */
+    public void getOne(DbRpcService.GetRequest request,
+        io.grpc.stub.StreamObserver<DbRpcService.DataResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getGetOneMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     * <pre>
+     * 对列表缓存做延期，ids为一级key
+     * </pre>
+     *
+     */
+    public void listDelay(DbRpcService.GetRequest request,
+        io.grpc.stub.StreamObserver<DbRpcService.WriteResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getListDelayMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void update(DbRpcService.WriteRequest request,
+        io.grpc.stub.StreamObserver<DbRpcService.WriteResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getUpdateMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void insert(DbRpcService.WriteRequest request,
+        io.grpc.stub.StreamObserver<DbRpcService.WriteResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getInsertMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void delete(DbRpcService.WriteRequest request,
+        io.grpc.stub.StreamObserver<DbRpcService.WriteResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getDeleteMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void insertBatch(DbRpcService.WriteRequest request,
+        io.grpc.stub.StreamObserver<DbRpcService.WriteResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getInsertBatchMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     * <pre>
+     * 大批量写入，客户端流式推送分块，服务端写完一个分块才读取下一个，结束时返回每个分块的写入数量
+     * </pre>
+     *
+     */
+    public io.grpc.stub.StreamObserver<DbRpcService.BulkWriteChunk> bulkWrite(
+        io.grpc.stub.StreamObserver<DbRpcService.BulkWriteResponse> responseObserver) {
+      return io.grpc.stub.ClientCalls.asyncClientStreamingCall(
+          getChannel().newCall(getBulkWriteMethod(), getCallOptions()), responseObserver);
+    }
   }
 
   /**
@@ -151,11 +729,94 @@ public final class DbServiceGrpc {
     }
 
     /**
+     * <pre>
+     * 旧接口，缓存类的get，不存在时返回空字符串
+     * </pre>
+     *
      */
     public DbRpcService.SelectResponse select(DbRpcService.SelectRequest request) {
       return io.grpc.stub.ClientCalls.blockingUnaryCall(
           getChannel(), getSelectMethod(), getCallOptions(), request);
     }
+
+    /**
+     */
+    public DbRpcService.MultiGetResponse multiGet(DbRpcService.MultiGetRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getMultiGetMethod(), getCallOptions(), request);
+    }
+
+    /**
+     * <pre>
+     * 一对一关系中的一条数据，ids为key
+     * </pre>
+     *
+     */
+    public DbRpcService.DataResponse get(DbRpcService.GetRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getGetMethod(), getCallOptions(), request);
+    }
+
+    /**
+     * <pre>
+     * 一对多关系中的一组数据，ids为一级key
+     * </pre>
+     *
+     */
+    public DbRpcService.DataResponse getList(DbRpcService.GetRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getGetListMethod(), getCallOptions(), request);
+    }
+
+    /**
+     * <pre>
+     * 一对多关系中的一条数据，ids为一级key和二级key
+     * </pre>
+     *
+     */
+    public DbRpcService.DataResponse getOne(DbRpcService.GetRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getGetOneMethod(), getCallOptions(), request);
+    }
+
+    /**
+     * <pre>
+     * 对列表缓存做延期，ids为一级key
+     * </pre>
+     *
+     */
+    public DbRpcService.WriteResponse listDelay(DbRpcService.GetRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getListDelayMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public DbRpcService.WriteResponse update(DbRpcService.WriteRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getUpdateMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public DbRpcService.WriteResponse insert(DbRpcService.WriteRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getInsertMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public DbRpcService.WriteResponse delete(DbRpcService.WriteRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getDeleteMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public DbRpcService.WriteResponse insertBatch(DbRpcService.WriteRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getInsertBatchMethod(), getCallOptions(), request);
+    }
   }
 
   /**
@@ -173,15 +834,117 @@ public final class DbServiceGrpc {
     }
 
     /**
+     * <pre>
+     * 旧接口，缓存类的get，不存在时返回空字符串
+     * </pre>
+     *
      */
     public com.google.common.util.concurrent.ListenableFuture<DbRpcService.SelectResponse> select(
         DbRpcService.SelectRequest request) {
       return io.grpc.stub.ClientCalls.futureUnaryCall(
           getChannel().newCall(getSelectMethod(), getCallOptions()), request);
     }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<DbRpcService.MultiGetResponse> multiGet(
+        DbRpcService.MultiGetRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getMultiGetMethod(), getCallOptions()), request);
+    }
+
+    /**
+     * <pre>
+     * 一对一关系中的一条数据，ids为key
+     * </pre>
+     *
+     */
+    public com.google.common.util.concurrent.ListenableFuture<DbRpcService.DataResponse> get(
+        DbRpcService.GetRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getGetMethod(), getCallOptions()), request);
+    }
+
+    /**
+     * <pre>
+     * 一对多关系中的一组数据，ids为一级key
+     * </pre>
+     *
+     */
+    public com.google.common.util.concurrent.ListenableFuture<DbRpcService.DataResponse> getList(
+        DbRpcService.GetRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getGetListMethod(), getCallOptions()), request);
+    }
+
+    /**
+     * <pre>
+     * 一对多关系中的一条数据，ids为一级key和二级key
+     * </pre>
+     *
+     */
+    public com.google.common.util.concurrent.ListenableFuture<DbRpcService.DataResponse> getOne(
+        DbRpcService.GetRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getGetOneMethod(), getCallOptions()), request);
+    }
+
+    /**
+     * <pre>
+     * 对列表缓存做延期，ids为一级key
+     * </pre>
+     *
+     */
+    public com.google.common.util.concurrent.ListenableFuture<DbRpcService.WriteResponse> listDelay(
+        DbRpcService.GetRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getListDelayMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<DbRpcService.WriteResponse> update(
+        DbRpcService.WriteRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getUpdateMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<DbRpcService.WriteResponse> insert(
+        DbRpcService.WriteRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getInsertMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<DbRpcService.WriteResponse> delete(
+        DbRpcService.WriteRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getDeleteMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<DbRpcService.WriteResponse> insertBatch(
+        DbRpcService.WriteRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getInsertBatchMethod(), getCallOptions()), request);
+    }
   }
 
   private static final int METHODID_SELECT = 0;
+  private static final int METHODID_MULTI_GET = 1;
+  private static final int METHODID_GET = 2;
+  private static final int METHODID_GET_LIST = 3;
+  private static final int METHODID_GET_ONE = 4;
+  private static final int METHODID_LIST_DELAY = 5;
+  private static final int METHODID_UPDATE = 6;
+  private static final int METHODID_INSERT = 7;
+  private static final int METHODID_DELETE = 8;
+  private static final int METHODID_INSERT_BATCH = 9;
+  private static final int METHODID_BULK_WRITE = 10;
 
   private static final class MethodHandlers<Req, Resp> implements
       io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
@@ -204,6 +967,42 @@ public final class DbServiceGrpc {
           serviceImpl.select((DbRpcService.SelectRequest) request,
               (io.grpc.stub.StreamObserver<DbRpcService.SelectResponse>) responseObserver);
           break;
+        case METHODID_MULTI_GET:
+          serviceImpl.multiGet((DbRpcService.MultiGetRequest) request,
+              (io.grpc.stub.StreamObserver<DbRpcService.MultiGetResponse>) responseObserver);
+          break;
+        case METHODID_GET:
+          serviceImpl.get((DbRpcService.GetRequest) request,
+              (io.grpc.stub.StreamObserver<DbRpcService.DataResponse>) responseObserver);
+          break;
+        case METHODID_GET_LIST:
+          serviceImpl.getList((DbRpcService.GetRequest) request,
+              (io.grpc.stub.StreamObserver<DbRpcService.DataResponse>) responseObserver);
+          break;
+        case METHODID_GET_ONE:
+          serviceImpl.getOne((DbRpcService.GetRequest) request,
+              (io.grpc.stub.StreamObserver<DbRpcService.DataResponse>) responseObserver);
+          break;
+        case METHODID_LIST_DELAY:
+          serviceImpl.listDelay((DbRpcService.GetRequest) request,
+              (io.grpc.stub.StreamObserver<DbRpcService.WriteResponse>) responseObserver);
+          break;
+        case METHODID_UPDATE:
+          serviceImpl.update((DbRpcService.WriteRequest) request,
+              (io.grpc.stub.StreamObserver<DbRpcService.WriteResponse>) responseObserver);
+          break;
+        case METHODID_INSERT:
+          serviceImpl.insert((DbRpcService.WriteRequest) request,
+              (io.grpc.stub.StreamObserver<DbRpcService.WriteResponse>) responseObserver);
+          break;
+        case METHODID_DELETE:
+          serviceImpl.delete((DbRpcService.WriteRequest) request,
+              (io.grpc.stub.StreamObserver<DbRpcService.WriteResponse>) responseObserver);
+          break;
+        case METHODID_INSERT_BATCH:
+          serviceImpl.insertBatch((DbRpcService.WriteRequest) request,
+              (io.grpc.stub.StreamObserver<DbRpcService.WriteResponse>) responseObserver);
+          break;
         default:
           throw new AssertionError();
       }
@@ -214,6 +1013,9 @@ public final class DbServiceGrpc {
     public io.grpc.stub.StreamObserver<Req> invoke(
         io.grpc.stub.StreamObserver<Resp> responseObserver) {
       switch (methodId) {
+        case METHODID_BULK_WRITE:
+          return (io.grpc.stub.StreamObserver<Req>) serviceImpl.bulkWrite(
+              (io.grpc.stub.StreamObserver<DbRpcService.BulkWriteResponse>) responseObserver);
         default:
           throw new AssertionError();
       }
@@ -266,6 +1068,16 @@ public final class DbServiceGrpc {
           serviceDescriptor = result = io.grpc.ServiceDescriptor.newBuilder(SERVICE_NAME)
               .setSchemaDescriptor(new DbServiceFileDescriptorSupplier())
               .addMethod(getSelectMethod())
+              .addMethod(getMultiGetMethod())
+              .addMethod(getGetMethod())
+              .addMethod(getGetListMethod())
+              .addMethod(getGetOneMethod())
+              .addMethod(getListDelayMethod())
+              .addMethod(getUpdateMethod())
+              .addMethod(getInsertMethod())
+              .addMethod(getDeleteMethod())
+              .addMethod(getInsertBatchMethod())
+              .addMethod(getBulkWriteMethod())
               .build();
         }
       }
@@ -2,8 +2,8 @@ package net.rpc;
 
 import java.io.File;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
@@ -29,6 +29,7 @@ import com.typesafe.config.ConfigException;
 import io.grpc.Server;
 import net.define.common.ServerType;
 import net.rpc.common.AbstractRpcServiceHolder;
+import net.rpc.common.RpcChannelFactory;
 import net.rpc.common.RpcServiceHolderFactory;
 import net.server.ServerInfo;
 import net.utils.PropertiesUtils;
@@ -42,6 +43,13 @@ import net.utils.thread.Scheduler;
  */
 public abstract class AbstractNacosRegister {
 
+	/**
+	 * 注册到nacos的元数据
+	 */
+	static final String META_SERVER_TYPE = "serverType";
+	static final String META_SERVER_ID = "serverId";
+	static final String META_VERSION = "version";
+
 	private Logger logger = LoggerFactory.getLogger(getClass());
 
 	/**
@@ -92,7 +100,12 @@ public abstract class AbstractNacosRegister {
 	/**
 	 * 其他服务器提供的rpc服务持有者
 	 */
-	protected Map<Integer, AbstractRpcServiceHolder> rpcServiceHolders = new ConcurrentHashMap<>();
+	protected Map<Integer, AbstractRpcServiceHolder<?>> rpcServiceHolders = new ConcurrentHashMap<>();
+
+	/**
+	 * 每个服务上次处理的节点快照，只在持有本对象锁时访问
+	 */
+	private final Map<String, InstanceSnapshot> snapshots = new HashMap<>();
 
 	/**
 	 * 根据配置初始化并注册
@@ -118,6 +131,8 @@ public abstract class AbstractNacosRegister {
 			filePath = new File(fileUrl.getPath());
 		}
 
+		RpcChannelFactory.configure(serverInfo.getRpcChannel());
+
 		Properties confProp = PropertiesUtils.load(filePath);
 		nacosAddr = confProp.getProperty("serverAddr");
 		group = confProp.getProperty("group");
@@ -143,6 +158,10 @@ public abstract class AbstractNacosRegister {
 	 */
 	public void stop() {
 		logger.info("rpc服务停止");
+		for (AbstractRpcServiceHolder<?> holder : rpcServiceHolders.values()) {
+			holder.closeAll();
+		}
+		RpcChannelFactory.shutdownAll();
 		if (server != null) {
 			try {
 				server.awaitTermination();
@@ -165,8 +184,10 @@ public abstract class AbstractNacosRegister {
 		instance.setHealthy(false);
 		instance.setWeight(2.0);
 		Map<String, String> instanceMeta = new HashMap<>();
-		instanceMeta.put("serverType", String.valueOf(serverInfo.getServerType().getValue()));
-		instanceMeta.put("serverId", String.valueOf(serverInfo.getServerId()));
+		instanceMeta.put(META_SERVER_TYPE, String.valueOf(serverInfo.getServerType().getValue()));
+		instanceMeta.put(META_SERVER_ID, String.valueOf(serverInfo.getServerId()));
+		//每次启动的版本不同，订阅方据此判断节点是否变化
+		instanceMeta.put(META_VERSION, String.valueOf(System.currentTimeMillis()));
 		this.addInstanceMeta(instanceMeta);
 		
 		instance.setMetadata(instanceMeta);
@@ -220,99 +241,130 @@ public abstract class AbstractNacosRegister {
 	 * 所以处理游戏服战斗服数据服这种节点特别多的服务时不建议走nacos的订阅事件 可以依赖服务器定时从nacos拿到
 	 * 服务内的所有节点来进行维护
 	 *
-	 * 待优化 TODO : 可以把0.9之前版本的节点状态变更增量推送代码改到当前使用的nacos版本中
-	 * 但是根据自己项目需求改这类服务发现工具的源码都会遇到同一个问题，就是对于工具修复bug和拓展
-	 * 功能时的更新不能直接使用，需要检查新版本源码中可能对自己修改过的内容起到的影响的部分
+	 * 全量节点和上次的快照对比，只有新增、变化和移除的节点会通知rpc服务持有者
 	 *
 	 * @param event
 	 */
 	private void handleEvent(Event event) {
 		NamingEvent namingEvent = (NamingEvent) event;
-		//这里根据推服务状态变化事件中的节点是增量还是全量走不同方法处理,这里用全量
-		totalInstanceHandle(namingEvent.getInstances());
+		totalInstanceHandle(namingEvent.getServiceName(), namingEvent.getInstances());
 	}
 
 	/**
 	 * 处理订阅服务中全量推送过来的节点信息
 	 *
+	 * @param serviceName 服务名
 	 * @param instances 服务内的全部节点
 	 */
-	private synchronized void totalInstanceHandle(List<Instance> instances) {
-		//有效的服务id集合,用来做存活检测
-		Map<Integer, Set<Integer>> activeServers = new HashMap<>();
+	private synchronized void totalInstanceHandle(String serviceName, List<Instance> instances) {
+		List<InstanceSnapshot.Node> nodes = new ArrayList<>();
 		if (!CollectionUtils.isEmpty(instances)) {
 			for (Instance instance : instances) {
 				if (!instance.isHealthy() || !instance.isEnabled()) {
 					continue;
 				}
 
-				String ip = instance.getIp();
-				int port = instance.getPort();
-				//取得服务的信息
-				String serverIdStr = instance.getMetadata().get("serverId");
-				String serverTypeStr = instance.getMetadata().get("serverType");
-				if (serverIdStr == null || serverTypeStr == null) {
-					logger.error("nacosevent metadata错误 ip = {} port = {} serverId = {} serverType = {}", ip, port,
-							serverIdStr, serverTypeStr);
-					return;
+				InstanceSnapshot.Node node = toNode(instance);
+				if (node != null) {
+					nodes.add(node);
 				}
+			}
+		}
 
-				int serverType = Integer.parseInt(serverTypeStr);
-				int serverId = Integer.parseInt(serverIdStr);
-				ServerInfo serverInfo = ServerInfo.valueOf(serverId, ServerType.valueOf(serverType), ip, port);
-
-				handleNacosEvent(serverInfo, instance.getMetadata());
-
-				this.addRpcServer(serverInfo);
-
-				Set<Integer> serverIds = activeServers.get(serverType);
-				if (serverIds == null) {
-					serverIds = new HashSet<>();
-					activeServers.put(serverType, serverIds);
-				}
+		InstanceSnapshot snapshot = getSnapshot(serviceName);
+		if (nodes.isEmpty() && !snapshot.isEmpty()) {
+			//和原来一样不处理空列表，避免nacos短暂异常时所有节点失效
+			logger.warn("服务 {} 没有有效节点，保留上次的节点", serviceName);
+			return;
+		}
 
-				serverIds.add(serverId);
-			}
+		InstanceSnapshot.Diff diff = snapshot.update(nodes);
+		if (diff.isEmpty()) {
+			return;
 		}
 
-		this.checkInvalidServer(activeServers);
+		for (InstanceSnapshot.Node node : diff.added) {
+			ServerInfo serverInfo = toServerInfo(node);
+			handleNacosEvent(serverInfo, node.metadata);
+			this.addRpcServer(serverInfo);
+		}
+		for (InstanceSnapshot.Node node : diff.changed) {
+			ServerInfo serverInfo = toServerInfo(node);
+			handleNacosEvent(serverInfo, node.metadata);
+			this.updateRpcServer(serverInfo);
+		}
+		for (InstanceSnapshot.Node node : diff.removed) {
+			this.removeServerInfo(node.serverType, node.serverId);
+		}
+		logger.info("服务 {} 节点变化 {}", serviceName, diff);
 	}
 
 	/**
 	 * 处理订阅服务中传输过来的变化节点信息
 	 *
+	 * @param serviceName 服务名
 	 * @param instances 服务内的变化节点
 	 */
-	private synchronized void increInstanceHandle(List<Instance> instances) {
+	private synchronized void increInstanceHandle(String serviceName, List<Instance> instances) {
 		if (CollectionUtils.isEmpty(instances)) {
 			return;
 		}
-		
+
+		InstanceSnapshot snapshot = getSnapshot(serviceName);
 		for (Instance instance : instances) {
+			InstanceSnapshot.Node node = toNode(instance);
+			if (node == null) {
+				continue;
+			}
+
 			if (!instance.isHealthy() || !instance.isEnabled()) {
-				removeInstance(instance);
+				snapshot.remove(node.serverType, node.serverId);
+				this.removeServerInfo(node.serverType, node.serverId);
 				continue;
 			}
 
-			String ip = instance.getIp();
-			int port = instance.getPort();
-			//取得服务的信息
-			String serverIdStr = instance.getMetadata().get("serverId");
-			String serverTypeStr = instance.getMetadata().get("serverType");
-			if (serverIdStr == null || serverTypeStr == null) {
-				logger.error("nacosevent metadata错误 ip = {} port = {} serverId = {} serverType = {}", ip, port,
-						serverIdStr, serverTypeStr);
-				return;
+			InstanceSnapshot.Node exists = snapshot.put(node);
+			if (exists != null && exists.sameAs(node)) {
+				continue;
 			}
 
-			int serverType = Integer.parseInt(serverTypeStr);
-			int serverId = Integer.parseInt(serverIdStr);
-			ServerInfo serverInfo = ServerInfo.valueOf(serverId, ServerType.valueOf(serverType), ip, port);
+			ServerInfo serverInfo = toServerInfo(node);
+			handleNacosEvent(serverInfo, node.metadata);
+			if (exists == null) {
+				this.addRpcServer(serverInfo);
+			} else {
+				this.updateRpcServer(serverInfo);
+			}
+		}
+	}
 
-			handleNacosEvent(serverInfo, instance.getMetadata());
+	private InstanceSnapshot getSnapshot(String serviceName) {
+		InstanceSnapshot snapshot = snapshots.get(serviceName);
+		if (snapshot == null) {
+			snapshot = new InstanceSnapshot();
+			snapshots.put(serviceName, snapshot);
+		}
+		return snapshot;
+	}
 
-			this.addRpcServer(serverInfo);
+	/**
+	 * @return 元数据错误时为null
+	 */
+	private InstanceSnapshot.Node toNode(Instance instance) {
+		InstanceSnapshot.Node node = InstanceSnapshot.Node.valueOf(instance);
+		if (node == null) {
+			logger.error("nacosevent metadata错误 ip = {} port = {} serverId = {} serverType = {}", instance.getIp(),
+					instance.getPort(), instance.getMetadata().get(META_SERVER_ID),
+					instance.getMetadata().get(META_SERVER_TYPE));
 		}
+		return node;
+	}
+
+	private ServerInfo toServerInfo(InstanceSnapshot.Node node) {
+		ServerInfo serverInfo = ServerInfo.valueOf(node.serverId, ServerType.valueOf(node.serverType), node.ip,
+				node.port);
+		serverInfo.setWeight(node.weight);
+		return serverInfo;
 	}
 
 	/**
@@ -321,30 +373,52 @@ public abstract class AbstractNacosRegister {
 	 * @param serverInfo
 	 */
 	public void addRpcServer(ServerInfo serverInfo) {
-		AbstractRpcServiceHolder abstractRpcServiceHolder = rpcServiceHolders
-				.get(serverInfo.getServerType().getValue());
+		this.getRpcServiceHolder(serverInfo.getServerType()).handleServerInfo(serverInfo);
+	}
+
+	/**
+	 * 更新rpc服务持有者中变化的服务器信息
+	 *
+	 * @param serverInfo
+	 */
+	public void updateRpcServer(ServerInfo serverInfo) {
+		this.getRpcServiceHolder(serverInfo.getServerType()).updateServerInfo(serverInfo);
+	}
+
+	/**
+	 * 取得一种服务器的rpc服务持有者，服务类型由RpcServiceHolderFactory按服务器类型决定
+	 *
+	 * @param serverType
+	 * @return 还没有这种服务器时为null
+	 */
+	@SuppressWarnings("unchecked")
+	protected <T> AbstractRpcServiceHolder<T> getServiceHolder(ServerType serverType) {
+		return (AbstractRpcServiceHolder<T>) rpcServiceHolders.get(serverType.getValue());
+	}
+
+	private AbstractRpcServiceHolder<?> getRpcServiceHolder(ServerType serverType) {
+		AbstractRpcServiceHolder<?> abstractRpcServiceHolder = rpcServiceHolders.get(serverType.getValue());
 		if (abstractRpcServiceHolder == null) {
-			abstractRpcServiceHolder = RpcServiceHolderFactory.createHolderByServerType(serverInfo.getServerType());
-			AbstractRpcServiceHolder exists = rpcServiceHolders
-					.putIfAbsent(serverInfo.getServerType().getValue(), abstractRpcServiceHolder);
+			abstractRpcServiceHolder = RpcServiceHolderFactory.createHolderByServerType(serverType);
+			AbstractRpcServiceHolder<?> exists = rpcServiceHolders.putIfAbsent(serverType.getValue(),
+					abstractRpcServiceHolder);
 			if (exists != null) {
 				abstractRpcServiceHolder = exists;
 			}
 		}
-
-		abstractRpcServiceHolder.handleServerInfo(serverInfo);
+		return abstractRpcServiceHolder;
 	}
 
 	/**
 	 * 用来处理未订阅服务的节点更新 原因见上handleEvent方法注释
 	 */
 	protected void checkNoSubscibeService() {
-		Scheduler.submit(new Runnable() {
+		Scheduler.submit(Scheduler.tag("NacosRegister.checkNoSubscibeService", new Runnable() {
 			@Override public void run() {
 				for (String serviceName : noSubscribeServices) {
 					try {
 						List<Instance> allInstances = nacosNameingService.getAllInstances(serviceName);
-						totalInstanceHandle(allInstances);
+						totalInstanceHandle(serviceName, allInstances);
 					} catch (NacosException e) {
 						logger.error("定时检测未订阅服务节点异常 serviceName = {} e = ", serviceName, e);
 						continue;
@@ -353,7 +427,7 @@ public abstract class AbstractNacosRegister {
 				
 				checkNoSubscibeService();
 			}
-		}, checkNoSubscribeServicesSec);
+		}), checkNoSubscribeServicesSec);
 	}
 	
 	/**
@@ -371,16 +445,24 @@ public abstract class AbstractNacosRegister {
 		}
 		
 		//取得服务的信息
-		String serverIdStr = instance.getMetadata().get("serverId");
-		String serverTypeStr = instance.getMetadata().get("serverType");
+		String serverIdStr = instance.getMetadata().get(META_SERVER_ID);
+		String serverTypeStr = instance.getMetadata().get(META_SERVER_TYPE);
 		if (serverIdStr == null || serverTypeStr == null) {
 			logger.error("移除instance nacosevent metadata错误 ip = {} port = {} serverId = {} serverType = {}",
 					instance.getIp(), instance.getPort(), serverIdStr, serverTypeStr);
 			return;
 		}
 
-		int serverType = Integer.parseInt(serverTypeStr);
-		int serverId = Integer.parseInt(serverIdStr);
+		int serverType;
+		int serverId;
+		try {
+			serverType = Integer.parseInt(serverTypeStr);
+			serverId = Integer.parseInt(serverIdStr);
+		} catch (NumberFormatException e) {
+			logger.error("移除instance nacosevent metadata错误 ip = {} port = {} serverId = {} serverType = {}",
+					instance.getIp(), instance.getPort(), serverIdStr, serverTypeStr);
+			return;
+		}
 		this.removeServerInfo(serverType, serverId);
 	}
 
@@ -391,7 +473,7 @@ public abstract class AbstractNacosRegister {
 	 * @param serverId
 	 */
 	public void removeServerInfo(int serverType, int serverId) {
-		AbstractRpcServiceHolder holder = this.rpcServiceHolders.get(serverType);
+		AbstractRpcServiceHolder<?> holder = this.rpcServiceHolders.get(serverType);
 		if (holder == null) {
 			return;
 		}
@@ -399,22 +481,6 @@ public abstract class AbstractNacosRegister {
 		holder.invalidServer(serverId);
 	}
 
-	/**
-	 * 检测失效服务
-	 */
-	private void checkInvalidServer(Map<Integer, Set<Integer>> activeServers) {
-		for (Map.Entry<Integer, Set<Integer>> entry : activeServers.entrySet()) {
-			Integer serverType = entry.getKey();
-			Set<Integer> activeServerIds = entry.getValue();
-			AbstractRpcServiceHolder holder = this.rpcServiceHolders.get(serverType);
-			if (holder == null) {
-				continue;
-			}
-
-			holder.checkInvalidServer(activeServerIds);
-		}
-	}
-
 	/**
 	 * 添加需要检测节点但是不走订阅的服务信息
 	 * 
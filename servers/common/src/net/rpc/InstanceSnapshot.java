@@ -0,0 +1,167 @@
+package net.rpc;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import com.alibaba.nacos.api.naming.pojo.Instance;
+
+/**
+ * 一个nacos服务的节点快照
+ * 和nacos推送或者定时拉取的全量节点对比，得到新增、变化和移除的节点，只有变化的节点需要通知rpc服务持有者
+ * 节点按服务器类型+服务器id区分，元数据中有version时按version判断是否变化，否则比较地址和全部元数据
+ *
+ * @Author ckf
+ */
+final class InstanceSnapshot {
+
+	private final Map<Long, Node> nodes = new HashMap<>();
+
+	/**
+	 * 用全量节点替换快照
+	 *
+	 * @param current 当前的全部有效节点
+	 * @return 和上次快照的差异
+	 */
+	Diff update(Collection<Node> current) {
+		Diff diff = new Diff();
+		Map<Long, Node> old = new HashMap<>(nodes);
+		nodes.clear();
+		for (Node node : current) {
+			nodes.put(node.key(), node);
+			Node exists = old.remove(node.key());
+			if (exists == null) {
+				diff.added.add(node);
+			} else if (!exists.sameAs(node)) {
+				diff.changed.add(node);
+			}
+		}
+		diff.removed.addAll(old.values());
+		return diff;
+	}
+
+	/**
+	 * 更新单个节点
+	 *
+	 * @return 原来的节点，没有时为null
+	 */
+	Node put(Node node) {
+		return nodes.put(node.key(), node);
+	}
+
+	/**
+	 * 移除单个节点
+	 *
+	 * @return 原来的节点，没有时为null
+	 */
+	Node remove(int serverType, int serverId) {
+		return nodes.remove(key(serverType, serverId));
+	}
+
+	boolean isEmpty() {
+		return nodes.isEmpty();
+	}
+
+	private static long key(int serverType, int serverId) {
+		return ((long) serverType << 32) | (serverId & 0xFFFFFFFFL);
+	}
+
+	/**
+	 * 快照中的一个节点
+	 */
+	static final class Node {
+
+		final int serverType;
+
+		final int serverId;
+
+		final String ip;
+
+		final int port;
+
+		/**
+		 * nacos中的权重
+		 */
+		final double weight;
+
+		/**
+		 * 注册时写入的版本，旧版本注册的节点没有
+		 */
+		final String version;
+
+		final Map<String, String> metadata;
+
+		private Node(int serverType, int serverId, String ip, int port, double weight,
+				Map<String, String> metadata) {
+			this.serverType = serverType;
+			this.serverId = serverId;
+			this.ip = ip;
+			this.port = port;
+			this.weight = weight;
+			this.version = metadata.get(AbstractNacosRegister.META_VERSION);
+			this.metadata = metadata;
+		}
+
+		/**
+		 * @return 元数据中没有serverId和serverType或者不是数字时为null
+		 */
+		static Node valueOf(Instance instance) {
+			Map<String, String> metadata = instance.getMetadata();
+			String serverIdStr = metadata.get(AbstractNacosRegister.META_SERVER_ID);
+			String serverTypeStr = metadata.get(AbstractNacosRegister.META_SERVER_TYPE);
+			if (serverIdStr == null || serverTypeStr == null) {
+				return null;
+			}
+
+			int serverType;
+			int serverId;
+			try {
+				serverType = Integer.parseInt(serverTypeStr);
+				serverId = Integer.parseInt(serverIdStr);
+			} catch (NumberFormatException e) {
+				return null;
+			}
+			return new Node(serverType, serverId, instance.getIp(), instance.getPort(), instance.getWeight(), metadata);
+		}
+
+		long key() {
+			return InstanceSnapshot.key(serverType, serverId);
+		}
+
+		boolean sameAs(Node other) {
+			if (port != other.port || weight != other.weight || !Objects.equals(ip, other.ip)) {
+				return false;
+			}
+			if (version != null && other.version != null) {
+				return version.equals(other.version);
+			}
+			return Objects.equals(metadata, other.metadata);
+		}
+
+		@Override public String toString() {
+			return serverType + ":" + serverId + "@" + ip + ":" + port;
+		}
+	}
+
+	/**
+	 * 两次快照之间的差异
+	 */
+	static final class Diff {
+
+		final List<Node> added = new ArrayList<>();
+
+		final List<Node> changed = new ArrayList<>();
+
+		final List<Node> removed = new ArrayList<>();
+
+		boolean isEmpty() {
+			return added.isEmpty() && changed.isEmpty() && removed.isEmpty();
+		}
+
+		@Override public String toString() {
+			return "added = " + added + " changed = " + changed + " removed = " + removed;
+		}
+	}
+}
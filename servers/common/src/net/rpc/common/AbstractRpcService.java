@@ -1,7 +1,7 @@
 package net.rpc.common;
 
+import io.grpc.ConnectivityState;
 import io.grpc.ManagedChannel;
-import io.grpc.ManagedChannelBuilder;
 
 /**
  * rpc服务
@@ -10,13 +10,92 @@ import io.grpc.ManagedChannelBuilder;
  */
 public class AbstractRpcService {
 
+	/**
+	 * 调用统计，用于选择策略
+	 */
+	protected final RpcStats stats = new RpcStats();
+
 	protected final ManagedChannel channel;
 
+	/**
+	 * 连接是否就绪，没有预热的服务总是就绪，预热的服务在连接建立后就绪，连接失败时不就绪
+	 */
+	private volatile boolean ready = true;
+
+	private boolean warmedUp;
+
+	/**
+	 * 预热后是否连接成功过，状态回调是串行的
+	 */
+	private boolean connected;
+
 	public AbstractRpcService(String ip, int port) {
-		this.channel = ManagedChannelBuilder.forAddress(ip, port).usePlaintext().build();
+		this.channel = RpcChannelFactory.newChannel(ip, port, new RpcStatsInterceptor(stats));
+	}
+
+	/**
+	 * 预热，马上建立连接并跟踪连接状态，把tcp和http2握手从第一次调用中去掉
+	 *
+	 * @param listener 就绪状态变化时回调，在grpc的线程中执行
+	 */
+	public void warmUp(Runnable listener) {
+		synchronized (this) {
+			if (warmedUp) {
+				return;
+			}
+			warmedUp = true;
+		}
+		this.ready = false;
+		this.watch(channel.getState(true), listener);
+	}
+
+	private void watch(final ConnectivityState state, final Runnable listener) {
+		boolean r = this.ready;
+		if (state == ConnectivityState.READY) {
+			connected = true;
+			r = true;
+		} else if (state == ConnectivityState.IDLE && connected) {
+			//连接过后空闲的连接下次调用时重连，不影响选择
+			r = true;
+		} else if (state == ConnectivityState.TRANSIENT_FAILURE || state == ConnectivityState.SHUTDOWN) {
+			r = false;
+		}
+		if (r != this.ready) {
+			this.ready = r;
+			if (listener != null) {
+				listener.run();
+			}
+		}
+
+		if (state == ConnectivityState.SHUTDOWN) {
+			return;
+		}
+		channel.notifyWhenStateChanged(state, new Runnable() {
+			@Override public void run() {
+				watch(channel.getState(false), listener);
+			}
+		});
+	}
+
+	/**
+	 * 连接是否就绪
+	 */
+	public boolean isReady() {
+		return ready;
+	}
+
+	/**
+	 * 关闭channel，进行中的调用执行完后关闭
+	 */
+	public void shutdown() {
+		RpcChannelFactory.shutdown(channel);
 	}
 
 	public ManagedChannel getChannel() {
 		return channel;
 	}
+
+	public RpcStats getStats() {
+		return stats;
+	}
 }
@@ -1,5 +1,9 @@
 package net.rpc.common;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -37,7 +41,17 @@ public abstract class AbstractRpcServiceHolder<T> {
 	/**
 	 * 服务器选择策略 用于负载均衡等
 	 */
-	private SelectStrategy selectStrategy;
+	private SelectStrategy selectStrategy = SelectStrategies.roundRobin();
+
+	/**
+	 * 可用的服务器节点，节点变化时重新创建，选择策略可以按对象判断节点是否变化
+	 */
+	private volatile List<ServerNode> activeNodes = Collections.emptyList();
+
+	/**
+	 * 按分组缓存的可用节点，分组内的可用节点不变时选择策略拿到的是同一个列表对象
+	 */
+	private final Map<Object, NodeGroup> nodeGroups = new ConcurrentHashMap<>();
 
 	/**
 	 * 失效服务缓存保存时间毫秒
@@ -55,8 +69,50 @@ public abstract class AbstractRpcServiceHolder<T> {
 	 * @param serverInfo 
 	 */
 	public void handleServerInfo(ServerInfo serverInfo) {
-		this.renewServer(serverInfo.getServerId());
-		this.serverInfos.putIfAbsent(serverInfo.getServerId(), serverInfo);
+		boolean renewed = this.invalidServerInfos.remove(serverInfo.getServerId()) != null;
+		boolean added = this.serverInfos.putIfAbsent(serverInfo.getServerId(), serverInfo) == null;
+		if (added) {
+			this.warmUp(serverInfo.getServerId());
+		}
+		if (added || renewed) {
+			this.refreshNodes();
+		}
+	}
+
+	/**
+	 * 处理服务发现中变化的服务器信息，地址变化时关闭原来的channel，重新创建并预热
+	 *
+	 * @param serverInfo
+	 */
+	public void updateServerInfo(ServerInfo serverInfo) {
+		this.invalidServerInfos.remove(serverInfo.getServerId());
+		ServerInfo old = this.serverInfos.put(serverInfo.getServerId(), serverInfo);
+		if (old != null && (!old.getWanIp().equals(serverInfo.getWanIp())
+				|| old.getRpcPort() != serverInfo.getRpcPort())) {
+			this.closeService(this.serverRpcServices.remove(serverInfo.getServerId()));
+			this.warmUp(serverInfo.getServerId());
+		}
+		this.refreshNodes();
+	}
+
+	/**
+	 * 预热新发现的服务，马上创建服务并建立连接，连接就绪后才参与选择
+	 *
+	 * @param serverId
+	 */
+	private void warmUp(int serverId) {
+		if (!RpcChannelFactory.getConfig().isWarmUp()) {
+			return;
+		}
+
+		T t = this.getService(serverId);
+		if (t instanceof AbstractRpcService) {
+			((AbstractRpcService) t).warmUp(new Runnable() {
+				@Override public void run() {
+					refreshNodes();
+				}
+			});
+		}
 	}
 	
 	/**
@@ -86,6 +142,8 @@ public abstract class AbstractRpcServiceHolder<T> {
 
 			T exists = this.serverRpcServices.putIfAbsent(serverId, t);
 			if (exists != null) {
+				//并发创建时关闭多余的channel
+				this.closeService(t);
 				t = exists;
 			}
 		}
@@ -99,7 +157,9 @@ public abstract class AbstractRpcServiceHolder<T> {
 	 * @param serverId 
 	 */
 	public void renewServer(int serverId) {
-		this.invalidServerInfos.remove(serverId);
+		if (this.invalidServerInfos.remove(serverId) != null) {
+			this.refreshNodes();
+		}
 	}
 
 	/**
@@ -132,7 +192,9 @@ public abstract class AbstractRpcServiceHolder<T> {
 			return;
 		}
 		
-		this.invalidServerInfos.putIfAbsent(serverId, InvalidServerInfo.valueOf(serverId));
+		if (this.invalidServerInfos.putIfAbsent(serverId, InvalidServerInfo.valueOf(serverId)) == null) {
+			this.refreshNodes();
+		}
 	}
 
 	/**
@@ -157,7 +219,67 @@ public abstract class AbstractRpcServiceHolder<T> {
 	public void removeServer(int serverId) {
 		this.invalidServerInfos.remove(serverId);
 		this.serverInfos.remove(serverId);
-		this.serverRpcServices.remove(serverId);
+		this.closeService(this.serverRpcServices.remove(serverId));
+		this.refreshNodes();
+	}
+
+	/**
+	 * 停服时关闭所有服务的channel
+	 */
+	public void closeAll() {
+		for (Integer serverId : this.serverRpcServices.keySet()) {
+			this.closeService(this.serverRpcServices.remove(serverId));
+		}
+	}
+
+	/**
+	 * 关闭服务的channel，进行中的调用执行完后关闭
+	 *
+	 * @param service
+	 */
+	private void closeService(T service) {
+		if (service instanceof AbstractRpcService) {
+			((AbstractRpcService) service).shutdown();
+		}
+	}
+
+	/**
+	 * 重新计算可用的服务器节点，连接还没就绪的节点不参与选择，全部没有就绪时使用所有节点
+	 */
+	private synchronized void refreshNodes() {
+		List<ServerNode> nodes = new ArrayList<>();
+		List<ServerNode> readyNodes = new ArrayList<>();
+		for (ServerInfo serverInfo : this.serverInfos.values()) {
+			if (this.invalidServerInfos.containsKey(serverInfo.getServerId())) {
+				continue;
+			}
+			ServerNode node = new ServerNode(serverInfo, this.serverRpcServices);
+			nodes.add(node);
+			if (this.isReady(serverInfo.getServerId())) {
+				readyNodes.add(node);
+			}
+		}
+		this.activeNodes = Collections.unmodifiableList(readyNodes.isEmpty() ? nodes : readyNodes);
+	}
+
+	/**
+	 * 服务的连接是否就绪，还没有创建的服务在第一次调用时连接，视为就绪
+	 *
+	 * @param serverId
+	 * @return
+	 */
+	public boolean isReady(int serverId) {
+		T t = this.serverRpcServices.get(serverId);
+		return !(t instanceof AbstractRpcService) || ((AbstractRpcService) t).isReady();
+	}
+
+	/**
+	 * 可用的服务器节点
+	 *
+	 * @return
+	 */
+	public List<ServerNode> getActiveNodes() {
+		return activeNodes;
 	}
 	
 	/**
@@ -190,6 +312,8 @@ public abstract class AbstractRpcServiceHolder<T> {
 
 			T exists = this.serverRpcServices.putIfAbsent(serverInfo.getServerId(), t);
 			if (exists != null) {
+				//并发创建时关闭多余的channel
+				this.closeService(t);
 				t = exists;
 			}
 		}
@@ -212,7 +336,45 @@ public abstract class AbstractRpcServiceHolder<T> {
 	 * @return 
 	 */
 	public T getServiceWithStrategy() {
-		int serverId = this.selectStrategy.selectServerId();
+		return this.getServiceWithStrategy(0);
+	}
+
+	/**
+	 * 用特定策略取得服务器，一致性哈希时按key选择
+	 *
+	 * @param key 玩家id等
+	 * @return 没有可用服务器时为null
+	 */
+	public T getServiceWithStrategy(long key) {
+		List<ServerNode> nodes = this.activeNodes;
+		if (nodes.isEmpty()) {
+			return null;
+		}
+
+		int serverId = this.selectStrategy.selectServerId(nodes, key);
+		return this.getService(serverId);
+	}
+
+	/**
+	 * 在一组服务器中用特定策略取得服务器，例如注册了同一个数据中心的多个数据服
+	 *
+	 * @param group 分组标识
+	 * @param serverIds 分组内的服务器id
+	 * @param key 一致性哈希使用的key
+	 * @return 分组内没有可用服务器时为null
+	 */
+	public T getServiceWithStrategy(Object group, Set<Integer> serverIds, long key) {
+		List<ServerNode> active = this.activeNodes;
+		NodeGroup nodeGroup = this.nodeGroups.get(group);
+		if (nodeGroup == null || !nodeGroup.matches(active, serverIds)) {
+			nodeGroup = new NodeGroup(active, serverIds);
+			this.nodeGroups.put(group, nodeGroup);
+		}
+		if (nodeGroup.nodes.isEmpty()) {
+			return null;
+		}
+
+		int serverId = this.selectStrategy.selectServerId(nodeGroup.nodes, key);
 		return this.getService(serverId);
 	}
 
@@ -233,4 +395,41 @@ public abstract class AbstractRpcServiceHolder<T> {
 	 * @return
 	 */
 	abstract public T initService(ServerInfo serverInfo);
+
+	/**
+	 * 一组服务器中的可用节点
+	 */
+	private static final class NodeGroup {
+
+		/**
+		 * 创建时的全部可用节点
+		 */
+		private final List<ServerNode> source;
+
+		/**
+		 * 创建时分组内的服务器id
+		 */
+		private final Set<Integer> serverIds;
+
+		private final List<ServerNode> nodes;
+
+		NodeGroup(List<ServerNode> source, Set<Integer> serverIds) {
+			this.source = source;
+			this.serverIds = new HashSet<>(serverIds);
+			List<ServerNode> nodes = new ArrayList<>();
+			for (ServerNode node : source) {
+				if (this.serverIds.contains(node.getServerId())) {
+					nodes.add(node);
+				}
+			}
+			this.nodes = Collections.unmodifiableList(nodes);
+		}
+
+		/**
+		 * 可用节点和分组都没有变化
+		 */
+		boolean matches(List<ServerNode> active, Set<Integer> serverIds) {
+			return source == active && this.serverIds.equals(serverIds);
+		}
+	}
 }
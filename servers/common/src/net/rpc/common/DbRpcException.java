@@ -0,0 +1,24 @@
+package net.rpc.common;
+
+import net.proto.grpc.DbRpcService.DbCode;
+
+/**
+ * dbserver返回的错误
+ *
+ * @Author ckf
+ */
+public class DbRpcException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	private final DbCode code;
+
+	public DbRpcException(DbCode code, String msg) {
+		super(code + ": " + msg);
+		this.code = code;
+	}
+
+	public DbCode getCode() {
+		return code;
+	}
+}
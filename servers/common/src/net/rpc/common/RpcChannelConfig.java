@@ -0,0 +1,180 @@
+package net.rpc.common;
+
+/**
+ * rpc客户端channel的配置，所有服务共用，配置在服务器配置的rpcChannel中
+ *
+ * @Author ckf
+ * @see RpcChannelFactory
+ */
+public class RpcChannelConfig {
+
+	/**
+	 * 共用的netty事件循环线程数，0表示netty默认(cpu数*2)
+	 */
+	private int eventLoopThreads;
+
+	/**
+	 * 共用的回调线程数，0表示cpu数*2
+	 */
+	private int executorThreads;
+
+	/**
+	 * 空闲多久发送keepalive(毫秒)，0表示不发送
+	 */
+	private long keepAliveTime = 30000;
+
+	/**
+	 * keepalive的超时(毫秒)
+	 */
+	private long keepAliveTimeout = 10000;
+
+	/**
+	 * 没有进行中的调用时是否也发送keepalive，需要服务端允许
+	 */
+	private boolean keepAliveWithoutCalls;
+
+	/**
+	 * http2流控窗口(字节)，0表示grpc默认(1M)
+	 */
+	private int flowControlWindow;
+
+	/**
+	 * 接收消息的最大长度(字节)，0表示grpc默认(4M)
+	 */
+	private int maxInboundMessageSize = 16 * 1024 * 1024;
+
+	/**
+	 * 请求的压缩方式，例如gzip，为空时不压缩
+	 */
+	private String compression;
+
+	/**
+	 * 关闭channel时等待进行中调用完成的时间(毫秒)，超时后强制关闭
+	 */
+	private long shutdownTimeout = 5000;
+
+	/**
+	 * 发现新节点时是否马上建立连接，连接就绪前不参与选择
+	 */
+	private boolean warmUp = true;
+
+	/**
+	 * 幂等的读请求是否对冲，主节点超过p95延迟还没返回时向同一个数据中心的其他数据服再发一次，先返回的生效
+	 */
+	private boolean hedgeReads;
+
+	/**
+	 * 读请求是否在同一个数据中心的多个数据服之间按选择策略分配，默认只发给持有回写队列的数据服
+	 * 其他数据服读到的缓存可能还没有包含回写队列中的修改，开启后读请求可能读到旧数据
+	 */
+	private boolean balanceReads;
+
+	/**
+	 * 对冲请求的最小等待时间(毫秒)，没有延迟统计时使用
+	 */
+	private long hedgeMinDelay = 20;
+
+	public int getEventLoopThreads() {
+		return eventLoopThreads;
+	}
+
+	public void setEventLoopThreads(int eventLoopThreads) {
+		this.eventLoopThreads = eventLoopThreads;
+	}
+
+	public int getExecutorThreads() {
+		return executorThreads;
+	}
+
+	public void setExecutorThreads(int executorThreads) {
+		this.executorThreads = executorThreads;
+	}
+
+	public long getKeepAliveTime() {
+		return keepAliveTime;
+	}
+
+	public void setKeepAliveTime(long keepAliveTime) {
+		this.keepAliveTime = keepAliveTime;
+	}
+
+	public long getKeepAliveTimeout() {
+		return keepAliveTimeout;
+	}
+
+	public void setKeepAliveTimeout(long keepAliveTimeout) {
+		this.keepAliveTimeout = keepAliveTimeout;
+	}
+
+	public boolean isKeepAliveWithoutCalls() {
+		return keepAliveWithoutCalls;
+	}
+
+	public void setKeepAliveWithoutCalls(boolean keepAliveWithoutCalls) {
+		this.keepAliveWithoutCalls = keepAliveWithoutCalls;
+	}
+
+	public int getFlowControlWindow() {
+		return flowControlWindow;
+	}
+
+	public void setFlowControlWindow(int flowControlWindow) {
+		this.flowControlWindow = flowControlWindow;
+	}
+
+	public int getMaxInboundMessageSize() {
+		return maxInboundMessageSize;
+	}
+
+	public void setMaxInboundMessageSize(int maxInboundMessageSize) {
+		this.maxInboundMessageSize = maxInboundMessageSize;
+	}
+
+	public String getCompression() {
+		return compression;
+	}
+
+	public void setCompression(String compression) {
+		this.compression = compression;
+	}
+
+	public long getShutdownTimeout() {
+		return shutdownTimeout;
+	}
+
+	public void setShutdownTimeout(long shutdownTimeout) {
+		this.shutdownTimeout = shutdownTimeout;
+	}
+
+	public boolean isWarmUp() {
+		return warmUp;
+	}
+
+	public void setWarmUp(boolean warmUp) {
+		this.warmUp = warmUp;
+	}
+
+	public boolean isHedgeReads() {
+		return hedgeReads;
+	}
+
+	public void setHedgeReads(boolean hedgeReads) {
+		this.hedgeReads = hedgeReads;
+	}
+
+	public boolean isBalanceReads() {
+		return balanceReads;
+	}
+
+	public void setBalanceReads(boolean balanceReads) {
+		this.balanceReads = balanceReads;
+	}
+
+	public long getHedgeMinDelay() {
+		return hedgeMinDelay;
+	}
+
+	public void setHedgeMinDelay(long hedgeMinDelay) {
+		this.hedgeMinDelay = hedgeMinDelay;
+	}
+}
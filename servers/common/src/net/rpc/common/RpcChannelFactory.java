@@ -0,0 +1,178 @@
+package net.rpc.common;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ManagedChannel;
+import io.grpc.MethodDescriptor;
+import io.grpc.netty.NettyChannelBuilder;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.utils.thread.Scheduler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * rpc客户端channel工厂
+ * 所有channel共用一个netty事件循环和一个固定大小的回调线程池，避免每个channel创建自己的线程池，
+ * keepalive、流控窗口、消息大小和压缩按{@link RpcChannelConfig}配置
+ *
+ * @Author ckf
+ */
+public final class RpcChannelFactory {
+
+	private static final Logger logger = LoggerFactory.getLogger(RpcChannelFactory.class);
+
+	private static volatile RpcChannelConfig config = new RpcChannelConfig();
+
+	private static EventLoopGroup eventLoopGroup;
+
+	private static ExecutorService executor;
+
+	private RpcChannelFactory() {
+	}
+
+	/**
+	 * 设置配置，需要在创建第一个channel之前调用，否则线程数的配置不生效
+	 *
+	 * @param channelConfig 为null时使用默认配置
+	 */
+	public static synchronized void configure(RpcChannelConfig channelConfig) {
+		if (channelConfig == null) {
+			return;
+		}
+		if (eventLoopGroup != null) {
+			logger.warn("rpc channel线程已经创建，线程数的配置在重启后生效");
+		}
+		config = channelConfig;
+	}
+
+	public static RpcChannelConfig getConfig() {
+		return config;
+	}
+
+	/**
+	 * 创建channel
+	 *
+	 * @param interceptors 按顺序执行的拦截器
+	 * @return
+	 */
+	public static ManagedChannel newChannel(String ip, int port, ClientInterceptor... interceptors) {
+		RpcChannelConfig c = config;
+		NettyChannelBuilder builder = NettyChannelBuilder.forAddress(ip, port).usePlaintext()
+				.eventLoopGroup(getEventLoopGroup()).channelType(NioSocketChannel.class).executor(getExecutor());
+		if (c.getKeepAliveTime() > 0) {
+			builder.keepAliveTime(c.getKeepAliveTime(), TimeUnit.MILLISECONDS)
+					.keepAliveTimeout(c.getKeepAliveTimeout(), TimeUnit.MILLISECONDS)
+					.keepAliveWithoutCalls(c.isKeepAliveWithoutCalls());
+		}
+		if (c.getFlowControlWindow() > 0) {
+			builder.flowControlWindow(c.getFlowControlWindow());
+		}
+		if (c.getMaxInboundMessageSize() > 0) {
+			builder.maxInboundMessageSize(c.getMaxInboundMessageSize());
+		}
+
+		List<ClientInterceptor> list = new ArrayList<>();
+		for (ClientInterceptor interceptor : interceptors) {
+			list.add(interceptor);
+		}
+		if (c.getCompression() != null && !c.getCompression().isEmpty()) {
+			list.add(new CompressionInterceptor(c.getCompression()));
+		}
+		//intercept后添加的先执行，这里反过来保证按参数顺序执行
+		for (int i = list.size() - 1; i >= 0; i--) {
+			builder.intercept(list.get(i));
+		}
+		return builder.build();
+	}
+
+	/**
+	 * 关闭channel，不再接受新调用，进行中的调用执行完后关闭，超时后强制关闭
+	 *
+	 * @param channel
+	 */
+	public static void shutdown(final ManagedChannel channel) {
+		if (channel == null || channel.isShutdown()) {
+			return;
+		}
+
+		channel.shutdown();
+		Scheduler.submit(Scheduler.tag("RpcChannelFactory.shutdown", new Runnable() {
+			@Override public void run() {
+				if (!channel.isTerminated()) {
+					logger.warn("rpc channel {} 关闭超时，强制关闭", channel);
+					channel.shutdownNow();
+				}
+			}
+		}), config.getShutdownTimeout());
+	}
+
+	/**
+	 * 停服时关闭共用的线程，需要先关闭所有channel
+	 */
+	public static synchronized void shutdownAll() {
+		if (eventLoopGroup != null) {
+			eventLoopGroup.shutdownGracefully();
+			eventLoopGroup = null;
+		}
+		if (executor != null) {
+			executor.shutdown();
+			executor = null;
+		}
+	}
+
+	private static synchronized EventLoopGroup getEventLoopGroup() {
+		if (eventLoopGroup == null) {
+			eventLoopGroup = new NioEventLoopGroup(config.getEventLoopThreads(),
+					new DefaultThreadFactory("grpc-client-eventloop", true));
+		}
+		return eventLoopGroup;
+	}
+
+	private static synchronized ExecutorService getExecutor() {
+		if (executor == null) {
+			int threads = config.getExecutorThreads() > 0 ? config.getExecutorThreads()
+					: Runtime.getRuntime().availableProcessors() * 2;
+			executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+					new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+						private final AtomicInteger index = new AtomicInteger();
+
+						@Override public Thread newThread(Runnable r) {
+							Thread thread = new Thread(r, "grpc-client-executor-" + index.incrementAndGet());
+							thread.setDaemon(true);
+							return thread;
+						}
+					});
+		}
+		return executor;
+	}
+
+	/**
+	 * 给所有调用加上压缩
+	 */
+	private static final class CompressionInterceptor implements ClientInterceptor {
+
+		private final String compression;
+
+		CompressionInterceptor(String compression) {
+			this.compression = compression;
+		}
+
+		@Override public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method,
+				CallOptions callOptions, Channel next) {
+			return next.newCall(method, callOptions.withCompression(compression));
+		}
+	}
+}
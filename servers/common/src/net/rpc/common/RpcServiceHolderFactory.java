@@ -19,11 +19,11 @@ public class RpcServiceHolderFactory {
 	 * @param serverType 
 	 * @return
 	 */
-	public static AbstractRpcServiceHolder createHolderByServerType(ServerType serverType) {
-		AbstractRpcServiceHolder holder = null;
+	public static AbstractRpcServiceHolder<?> createHolderByServerType(ServerType serverType) {
+		AbstractRpcServiceHolder<?> holder = null;
 		switch (serverType) {
 			case MANAGER:
-				holder = new AbstractRpcServiceHolder(serverType, 60000) {
+				holder = new AbstractRpcServiceHolder<Object>(serverType, 60000) {
 					@Override public Object initService(ServerInfo serverInfo) {
 						//TODO : 根据服务类型放入特定的service
 						return null;
@@ -31,18 +31,20 @@ public class RpcServiceHolderFactory {
 				};
 				break;
 			case GAME:
-				holder = new AbstractRpcServiceHolder(serverType, 60000) {
-					@Override public Object initService(ServerInfo serverInfo) {
+				holder = new AbstractRpcServiceHolder<GameServerService>(serverType, 60000) {
+					@Override public GameServerService initService(ServerInfo serverInfo) {
 						return new GameServerService(serverInfo.getWanIp(), serverInfo.getRpcPort());
 					}
 				};
 				break;
 			case DB:
-				holder = new AbstractRpcServiceHolder(serverType, 60000) {
-					@Override public Object initService(ServerInfo serverInfo) {
+				holder = new AbstractRpcServiceHolder<DbServerService>(serverType, 60000) {
+					@Override public DbServerService initService(ServerInfo serverInfo) {
 						return new DbServerService(serverInfo.getWanIp(), serverInfo.getRpcPort());
 					}
 				};
+				//同一个数据中心有多个数据服时，读请求按延迟和进行中的调用选择，避开GC停顿的节点
+				holder.setSelectStrategy(SelectStrategies.powerOfTwoChoices());
 			break;
 			default:
 				break;
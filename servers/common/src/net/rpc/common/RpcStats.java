@@ -0,0 +1,153 @@
+package net.rpc.common;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import net.utils.LatencyHistogram;
+
+/**
+ * 一个rpc服务(服务器节点)的实时调用统计，由{@link RpcStatsInterceptor}记录，供选择策略使用
+ * <p/>
+ * <ul>
+ * <li>进行中的调用数，节点GC停顿时响应回不来，这个值会先升高</li>
+ * <li>一元调用延迟的EWMA</li>
+ * <li>按时间窗口统计的p99，窗口切换时保留上一个窗口，样本不足时两个窗口取大</li>
+ * </ul>
+ *
+ * @Author ckf
+ */
+public final class RpcStats {
+
+	/**
+	 * EWMA每次更新的权重
+	 */
+	private final static double EWMA_ALPHA = 0.2;
+
+	/**
+	 * p99的统计窗口
+	 */
+	private final static long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+	/**
+	 * 当前窗口的样本数少于这个值时和上一个窗口一起计算p99
+	 */
+	private final static int MIN_WINDOW_SAMPLES = 32;
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+
+	/**
+	 * 延迟的EWMA(纳秒)，double的二进制
+	 */
+	private final AtomicLong ewmaBits = new AtomicLong(Double.doubleToRawLongBits(0));
+
+	private final LongAdder calls = new LongAdder();
+
+	private final LongAdder errors = new LongAdder();
+
+	private volatile LatencyHistogram current = new LatencyHistogram();
+
+	private volatile LatencyHistogram previous = new LatencyHistogram();
+
+	private volatile long windowStart = System.nanoTime();
+
+	void onStart() {
+		inFlight.incrementAndGet();
+	}
+
+	/**
+	 * @param nanos 调用耗时
+	 * @param ok    是否成功
+	 * @param unary 是否一元调用，流式调用的耗时不计入延迟
+	 */
+	void onComplete(long nanos, boolean ok, boolean unary) {
+		inFlight.decrementAndGet();
+		calls.increment();
+		if (!ok) {
+			errors.increment();
+		}
+		if (!unary) {
+			return;
+		}
+
+		long now = System.nanoTime();
+		if (now - windowStart > WINDOW_NANOS) {
+			rotate(now);
+		}
+		current.record(nanos);
+
+		while (true) {
+			long bits = ewmaBits.get();
+			double ewma = Double.longBitsToDouble(bits);
+			double next = ewma == 0 ? nanos : ewma + EWMA_ALPHA * (nanos - ewma);
+			if (ewmaBits.compareAndSet(bits, Double.doubleToRawLongBits(next))) {
+				break;
+			}
+		}
+	}
+
+	private synchronized void rotate(long now) {
+		if (now - windowStart <= WINDOW_NANOS) {
+			return;
+		}
+		previous = current;
+		current = new LatencyHistogram();
+		windowStart = now;
+	}
+
+	/**
+	 * 进行中的调用数
+	 */
+	public int getInFlight() {
+		return inFlight.get();
+	}
+
+	/**
+	 * 延迟的EWMA(微秒)，没有样本时为0
+	 */
+	public long getLatencyEwma() {
+		return TimeUnit.NANOSECONDS.toMicros((long) Double.longBitsToDouble(ewmaBits.get()));
+	}
+
+	/**
+	 * 最近的p99延迟(微秒)，没有样本时为0
+	 */
+	public long getP99() {
+		return getPercentile(99);
+	}
+
+	/**
+	 * 最近的p95延迟(微秒)，没有样本时为0，用作对冲请求的等待时间
+	 */
+	public long getP95() {
+		return getPercentile(95);
+	}
+
+	/**
+	 * 最近的延迟百分位(微秒)，没有样本时为0
+	 *
+	 * @param percent 0到100
+	 */
+	public long getPercentile(double percent) {
+		LatencyHistogram window = current;
+		long value = window.percentile(percent);
+		if (window.count() >= MIN_WINDOW_SAMPLES) {
+			return value;
+		}
+		return Math.max(value, previous.percentile(percent));
+	}
+
+	public long getCalls() {
+		return calls.sum();
+	}
+
+	public long getErrors() {
+		return errors.sum();
+	}
+
+	@Override
+	public String toString() {
+		return "inFlight=" + getInFlight() + ", ewma=" + getLatencyEwma() + "us, p99=" + getP99() + "us, calls="
+				+ getCalls() + ", errors=" + getErrors();
+	}
+}
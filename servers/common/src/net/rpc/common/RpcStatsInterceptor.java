@@ -0,0 +1,55 @@
+package net.rpc.common;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ForwardingClientCall;
+import io.grpc.ForwardingClientCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+
+/**
+ * 记录每个调用的进行中数量和耗时到{@link RpcStats}
+ *
+ * @Author ckf
+ */
+public class RpcStatsInterceptor implements ClientInterceptor {
+
+	private final RpcStats stats;
+
+	public RpcStatsInterceptor(RpcStats stats) {
+		this.stats = stats;
+	}
+
+	@Override
+	public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method,
+			CallOptions callOptions, Channel next) {
+		final boolean unary = method.getType() == MethodDescriptor.MethodType.UNARY;
+		return new ForwardingClientCall.SimpleForwardingClientCall<ReqT, RespT>(next.newCall(method, callOptions)) {
+			@Override
+			public void start(Listener<RespT> responseListener, Metadata headers) {
+				final long startNanos = System.nanoTime();
+				stats.onStart();
+				boolean started = false;
+				try {
+					super.start(new ForwardingClientCallListener.SimpleForwardingClientCallListener<RespT>(
+							responseListener) {
+						@Override
+						public void onClose(Status status, Metadata trailers) {
+							stats.onComplete(System.nanoTime() - startNanos, status.isOk(), unary);
+							super.onClose(status, trailers);
+						}
+					}, headers);
+					started = true;
+				} finally {
+					//没有开始的调用不会回调onClose
+					if (!started) {
+						stats.onComplete(System.nanoTime() - startNanos, false, false);
+					}
+				}
+			}
+		};
+	}
+}
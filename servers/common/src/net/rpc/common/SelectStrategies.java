@@ -0,0 +1,260 @@
+package net.rpc.common;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 服务器选择策略的实现
+ * <p/>
+ * <ul>
+ * <li>roundRobin 轮询</li>
+ * <li>weighted 按nacos节点的权重随机</li>
+ * <li>leastOutstanding 进行中的调用最少</li>
+ * <li>powerOfTwoChoices 随机取两个，选p99延迟*(进行中调用数+1)小的，GC停顿的节点延迟和进行中调用数都会升高而被避开</li>
+ * <li>consistentHash 按key(玩家id)一致性哈希，节点增减时只有少量key换节点</li>
+ * </ul>
+ *
+ * @Author ckf
+ */
+public final class SelectStrategies {
+
+	private SelectStrategies() {
+	}
+
+	public static SelectStrategy roundRobin() {
+		return new RoundRobin();
+	}
+
+	public static SelectStrategy weighted() {
+		return new Weighted();
+	}
+
+	public static SelectStrategy leastOutstanding() {
+		return new LeastOutstanding();
+	}
+
+	public static SelectStrategy powerOfTwoChoices() {
+		return new PowerOfTwoChoices();
+	}
+
+	public static SelectStrategy consistentHash() {
+		return new ConsistentHash(ConsistentHash.DEFAULT_REPLICAS);
+	}
+
+	/**
+	 * 根据配置的名字创建策略
+	 *
+	 * @param name roundRobin/weighted/leastOutstanding/powerOfTwoChoices/consistentHash
+	 * @return 名字不存在时为null
+	 */
+	public static SelectStrategy valueOf(String name) {
+		if ("roundRobin".equals(name)) {
+			return roundRobin();
+		} else if ("weighted".equals(name)) {
+			return weighted();
+		} else if ("leastOutstanding".equals(name)) {
+			return leastOutstanding();
+		} else if ("powerOfTwoChoices".equals(name)) {
+			return powerOfTwoChoices();
+		} else if ("consistentHash".equals(name)) {
+			return consistentHash();
+		}
+		return null;
+	}
+
+	/**
+	 * 没有调用过的节点负载为0
+	 */
+	private static int inFlight(ServerNode node) {
+		RpcStats stats = node.getStats();
+		return stats == null ? 0 : stats.getInFlight();
+	}
+
+	private static final class RoundRobin implements SelectStrategy {
+
+		private final AtomicInteger index = new AtomicInteger();
+
+		@Override
+		public int selectServerId(List<ServerNode> servers, long key) {
+			int i = (index.getAndIncrement() & Integer.MAX_VALUE) % servers.size();
+			return servers.get(i).getServerId();
+		}
+	}
+
+	private static final class Weighted implements SelectStrategy {
+
+		@Override
+		public int selectServerId(List<ServerNode> servers, long key) {
+			double total = 0;
+			for (ServerNode node : servers) {
+				total += Math.max(0, node.getWeight());
+			}
+			if (total <= 0) {
+				return servers.get(ThreadLocalRandom.current().nextInt(servers.size())).getServerId();
+			}
+
+			double r = ThreadLocalRandom.current().nextDouble(total);
+			for (ServerNode node : servers) {
+				r -= Math.max(0, node.getWeight());
+				if (r < 0) {
+					return node.getServerId();
+				}
+			}
+			return servers.get(servers.size() - 1).getServerId();
+		}
+	}
+
+	private static final class LeastOutstanding implements SelectStrategy {
+
+		@Override
+		public int selectServerId(List<ServerNode> servers, long key) {
+			//负载相同的节点中随机选一个
+			ThreadLocalRandom random = ThreadLocalRandom.current();
+			ServerNode best = null;
+			int min = Integer.MAX_VALUE;
+			int ties = 0;
+			for (ServerNode node : servers) {
+				int load = inFlight(node);
+				if (load < min) {
+					min = load;
+					best = node;
+					ties = 1;
+				} else if (load == min && random.nextInt(++ties) == 0) {
+					best = node;
+				}
+			}
+			return best.getServerId();
+		}
+	}
+
+	private static final class PowerOfTwoChoices implements SelectStrategy {
+
+		@Override
+		public int selectServerId(List<ServerNode> servers, long key) {
+			int size = servers.size();
+			if (size == 1) {
+				return servers.get(0).getServerId();
+			}
+
+			ThreadLocalRandom random = ThreadLocalRandom.current();
+			int a = random.nextInt(size);
+			int b = random.nextInt(size - 1);
+			if (b >= a) {
+				b++;
+			}
+			ServerNode first = servers.get(a);
+			ServerNode second = servers.get(b);
+			return cost(first) <= cost(second) ? first.getServerId() : second.getServerId();
+		}
+
+		/**
+		 * 延迟*(进行中调用数+1)，没有延迟数据时只看进行中调用数
+		 */
+		private double cost(ServerNode node) {
+			RpcStats stats = node.getStats();
+			if (stats == null) {
+				return 0;
+			}
+			long latency = Math.max(stats.getP99(), stats.getLatencyEwma());
+			int load = stats.getInFlight();
+			return latency <= 0 ? load : (double) latency * (load + 1);
+		}
+	}
+
+	/**
+	 * 每个节点按权重放若干个虚拟节点到哈希环上(权重1为replicas个)，一组节点不变时复用同一个环
+	 */
+	private static final class ConsistentHash implements SelectStrategy {
+
+		private final static int DEFAULT_REPLICAS = 160;
+
+		private final int replicas;
+
+		private volatile Ring ring;
+
+		ConsistentHash(int replicas) {
+			this.replicas = replicas;
+		}
+
+		@Override
+		public int selectServerId(List<ServerNode> servers, long key) {
+			Ring r = ring;
+			if (r == null || r.servers != servers) {
+				r = new Ring(servers, replicas);
+				ring = r;
+			}
+			return r.select(mix(key));
+		}
+	}
+
+	private static final class Ring {
+
+		/**
+		 * 权重的上限，限制环的大小
+		 */
+		private final static int MAX_WEIGHT = 16;
+
+		private final List<ServerNode> servers;
+
+		private final long[] hashes;
+
+		private final int[] serverIds;
+
+		Ring(List<ServerNode> servers, int replicas) {
+			this.servers = servers;
+			//虚拟节点数只和自己的权重有关，其他节点增减时自己的虚拟节点不变
+			int[] counts = new int[servers.size()];
+			int total = 0;
+			for (int i = 0; i < counts.length; i++) {
+				double weight = servers.get(i).getWeight();
+				counts[i] = (int) Math.max(1, Math.min(replicas * MAX_WEIGHT, Math.round(replicas * weight)));
+				total += counts[i];
+			}
+
+			long[][] points = new long[total][];
+			int n = 0;
+			for (int i = 0; i < counts.length; i++) {
+				int serverId = servers.get(i).getServerId();
+				for (int j = 0; j < counts[i]; j++) {
+					points[n++] = new long[] { mix(((long) serverId << 32) | j), serverId };
+				}
+			}
+			Arrays.sort(points, new Comparator<long[]>() {
+				@Override
+				public int compare(long[] o1, long[] o2) {
+					return Long.compare(o1[0], o2[0]);
+				}
+			});
+
+			this.hashes = new long[total];
+			this.serverIds = new int[total];
+			for (int i = 0; i < total; i++) {
+				hashes[i] = points[i][0];
+				serverIds[i] = (int) points[i][1];
+			}
+		}
+
+		/**
+		 * 顺时针第一个虚拟节点
+		 */
+		int select(long hash) {
+			int i = Arrays.binarySearch(hashes, hash);
+			if (i < 0) {
+				i = -i - 1;
+			}
+			return serverIds[i == hashes.length ? 0 : i];
+		}
+	}
+
+	/**
+	 * 64位混淆，让连续的玩家id均匀分布
+	 */
+	private static long mix(long z) {
+		z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+		z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+		return z ^ (z >>> 33);
+	}
+}
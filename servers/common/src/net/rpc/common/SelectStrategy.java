@@ -1,16 +1,21 @@
 package net.rpc.common;
 
+import java.util.List;
+
 /**
  * 选择策略
- * 
+ *
  * @Author ckf
+ * @see SelectStrategies
  */
 public interface SelectStrategy {
 
 	/**
 	 * 根据具体策略取得服务器id
-	 * 
-	 * @return 
+	 *
+	 * @param servers 可用的服务器，不为空，同一组服务器不变时是同一个对象
+	 * @param key 一致性哈希使用的key(玩家id等)，其他策略忽略
+	 * @return
 	 */
-	int selectServerId();
+	int selectServerId(List<ServerNode> servers, long key);
 }
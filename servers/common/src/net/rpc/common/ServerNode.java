@@ -0,0 +1,52 @@
+package net.rpc.common;
+
+import java.util.Map;
+import net.server.ServerInfo;
+
+/**
+ * 选择策略使用的可用服务器节点
+ *
+ * @Author ckf
+ */
+public final class ServerNode {
+
+	private final ServerInfo serverInfo;
+
+	/**
+	 * 所属持有者已经创建的rpc服务，用来取得调用统计
+	 */
+	private final Map<Integer, ?> services;
+
+	ServerNode(ServerInfo serverInfo, Map<Integer, ?> services) {
+		this.serverInfo = serverInfo;
+		this.services = services;
+	}
+
+	public int getServerId() {
+		return serverInfo.getServerId();
+	}
+
+	public double getWeight() {
+		return serverInfo.getWeight();
+	}
+
+	public ServerInfo getServerInfo() {
+		return serverInfo;
+	}
+
+	/**
+	 * @return 还没有创建rpc服务(没有调用过)时为null
+	 */
+	public RpcStats getStats() {
+		Object service = services.get(serverInfo.getServerId());
+		if (service instanceof AbstractRpcService) {
+			return ((AbstractRpcService) service).getStats();
+		}
+		return null;
+	}
+
+	@Override
+	public String toString() {
+		return "ServerNode{serverId=" + getServerId() + ", stats=" + getStats() + '}';
+	}
+}
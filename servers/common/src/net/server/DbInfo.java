@@ -1,5 +1,7 @@
 package net.server;
 
+import java.util.List;
+
 /**
  * 数据库信息
  * 
@@ -38,11 +40,49 @@ public class DbInfo {
 	private int initilSize;
 	private int minIdle;
 	private int maxActive;
+
+	/**
+	 * 获取连接的最长等待(毫秒)，0表示一直等待
+	 */
+	private int maxWait;
+
+	/**
+	 * 等待连接的最大线程数，超过时直接失败，0表示不限制
+	 * 数据库变慢时避免所有线程都阻塞在等待连接上
+	 */
+	private int maxWaitThreadCount;
 	private String validationQuery;
 	private boolean testOnBorrow;
 	private int minEvictableIdleTimeMillis;
 	private int timeBetweenEvictionRunsMillis;
 
+	/**
+	 * 是否缓存PreparedStatement，开启后由连接池按连接缓存语句(可以统计命中率)，不再开启驱动的cachePrepStmts，避免同一条语句缓存两份
+	 */
+	private boolean cachePrepStmts;
+
+	/**
+	 * 是否使用mysql服务端预编译，和cachePrepStmts一起开启时相同的sql在一个连接上只解析一次
+	 */
+	private boolean useServerPrepStmts;
+
+	/**
+	 * 每个连接缓存的语句数
+	 * 和useServerPrepStmts一起开启时每条缓存的语句在mysql上占用一个服务端预编译语句，
+	 * 一个数据服最多占用 连接池数 × maxActive × prepStmtCacheSize 个，所有数据服加起来需要小于mysql的max_prepared_stmt_count(默认16382)
+	 */
+	private int prepStmtCacheSize = 250;
+
+	/**
+	 * 只读从库的url，账号和连接池配置和主库相同，配置后只读查询走从库，写入和缓存加载走主库
+	 */
+	private List<String> replicaUrls;
+
+	/**
+	 * 从库允许的最大复制延迟(毫秒)，超过时不从这个从库读取
+	 */
+	private int maxReplicaLag = 3000;
+
 	public int getDbId() {
 		return dbId;
 	}
@@ -107,6 +147,22 @@ public class DbInfo {
 		this.maxActive = maxActive;
 	}
 
+	public int getMaxWait() {
+		return maxWait;
+	}
+
+	public void setMaxWait(int maxWait) {
+		this.maxWait = maxWait;
+	}
+
+	public int getMaxWaitThreadCount() {
+		return maxWaitThreadCount;
+	}
+
+	public void setMaxWaitThreadCount(int maxWaitThreadCount) {
+		this.maxWaitThreadCount = maxWaitThreadCount;
+	}
+
 	public String getValidationQuery() {
 		return validationQuery;
 	}
@@ -138,4 +194,44 @@ public class DbInfo {
 	public void setTimeBetweenEvictionRunsMillis(int timeBetweenEvictionRunsMillis) {
 		this.timeBetweenEvictionRunsMillis = timeBetweenEvictionRunsMillis;
 	}
+
+	public boolean isCachePrepStmts() {
+		return cachePrepStmts;
+	}
+
+	public void setCachePrepStmts(boolean cachePrepStmts) {
+		this.cachePrepStmts = cachePrepStmts;
+	}
+
+	public boolean isUseServerPrepStmts() {
+		return useServerPrepStmts;
+	}
+
+	public void setUseServerPrepStmts(boolean useServerPrepStmts) {
+		this.useServerPrepStmts = useServerPrepStmts;
+	}
+
+	public int getPrepStmtCacheSize() {
+		return prepStmtCacheSize;
+	}
+
+	public void setPrepStmtCacheSize(int prepStmtCacheSize) {
+		this.prepStmtCacheSize = prepStmtCacheSize;
+	}
+
+	public List<String> getReplicaUrls() {
+		return replicaUrls;
+	}
+
+	public void setReplicaUrls(List<String> replicaUrls) {
+		this.replicaUrls = replicaUrls;
+	}
+
+	public int getMaxReplicaLag() {
+		return maxReplicaLag;
+	}
+
+	public void setMaxReplicaLag(int maxReplicaLag) {
+		this.maxReplicaLag = maxReplicaLag;
+	}
 }
@@ -25,6 +25,46 @@ public class DbServerInfo extends DataServerInfo {
 	 */
 	private int redisExpireTime;
 
+	/**
+	 * 是否开启异步写入的预写日志
+	 */
+	private boolean asyncJournal = true;
+
+	/**
+	 * 预写日志每段的大小(字节)
+	 */
+	private int asyncJournalSegmentSize = 64 * 1024 * 1024;
+
+	/**
+	 * 异步写入使用forkjoin的有序线程池
+	 */
+	public final static String EXECUTOR_FORKJOIN = "forkjoin";
+
+	/**
+	 * 异步写入使用按key固定线程的有序线程池
+	 */
+	public final static String EXECUTOR_STICKY = "sticky";
+
+	/**
+	 * 异步写入使用虚拟线程的有序线程池，jdk21以下使用系统线程
+	 */
+	public final static String EXECUTOR_VIRTUAL = "virtual";
+
+	/**
+	 * 异步写入的有序线程池类型
+	 */
+	private String asyncExecutor = EXECUTOR_FORKJOIN;
+
+	/**
+	 * 虚拟线程不可用时的系统线程数，0表示cpu数的8倍，需要和数据库连接池的大小匹配
+	 */
+	private int asyncExecutorThreads;
+
+	/**
+	 * prometheus拉取指标的http端口，0表示不开启
+	 */
+	private int metricsPort;
+
 	public Set<DbInfo> getServerDbInfos() {
 		return dbInfos;
 	}
@@ -48,4 +88,44 @@ public class DbServerInfo extends DataServerInfo {
 	public void setRedisExpireTime(int redisExpireTime) {
 		this.redisExpireTime = redisExpireTime;
 	}
+
+	public boolean isAsyncJournal() {
+		return asyncJournal;
+	}
+
+	public void setAsyncJournal(boolean asyncJournal) {
+		this.asyncJournal = asyncJournal;
+	}
+
+	public int getAsyncJournalSegmentSize() {
+		return asyncJournalSegmentSize;
+	}
+
+	public void setAsyncJournalSegmentSize(int asyncJournalSegmentSize) {
+		this.asyncJournalSegmentSize = asyncJournalSegmentSize;
+	}
+
+	public String getAsyncExecutor() {
+		return asyncExecutor;
+	}
+
+	public void setAsyncExecutor(String asyncExecutor) {
+		this.asyncExecutor = asyncExecutor;
+	}
+
+	public int getAsyncExecutorThreads() {
+		return asyncExecutorThreads;
+	}
+
+	public void setAsyncExecutorThreads(int asyncExecutorThreads) {
+		this.asyncExecutorThreads = asyncExecutorThreads;
+	}
+
+	public int getMetricsPort() {
+		return metricsPort;
+	}
+
+	public void setMetricsPort(int metricsPort) {
+		this.metricsPort = metricsPort;
+	}
 }
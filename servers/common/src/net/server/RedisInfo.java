@@ -21,6 +21,21 @@ public class RedisInfo {
 	 */
 	private String redisPass;
 
+	/**
+	 * 连接池大小，0表示使用默认值
+	 */
+	private int maxActive;
+
+	/**
+	 * 最大空闲连接数，0表示使用默认值
+	 */
+	private int maxIdle;
+
+	/**
+	 * 获取连接的最长等待(毫秒)，0表示使用默认值
+	 */
+	private int maxWait;
+
 	public String getRedisIp() {
 		return redisIp;
 	}
@@ -44,4 +59,28 @@ public class RedisInfo {
 	public void setRedisPass(String redisPass) {
 		this.redisPass = redisPass;
 	}
+
+	public int getMaxActive() {
+		return maxActive;
+	}
+
+	public void setMaxActive(int maxActive) {
+		this.maxActive = maxActive;
+	}
+
+	public int getMaxIdle() {
+		return maxIdle;
+	}
+
+	public void setMaxIdle(int maxIdle) {
+		this.maxIdle = maxIdle;
+	}
+
+	public int getMaxWait() {
+		return maxWait;
+	}
+
+	public void setMaxWait(int maxWait) {
+		this.maxWait = maxWait;
+	}
 }
@@ -1,6 +1,7 @@
 package net.server;
 
 import net.define.common.ServerType;
+import net.rpc.common.RpcChannelConfig;
 
 /**
  * rpc服务器信息
@@ -28,6 +29,16 @@ public class ServerInfo {
 	 * rpc服务端口
 	 */
 	private int rpcPort;
+
+	/**
+	 * 权重，来自nacos节点的weight，用于按权重选择服务器
+	 */
+	private double weight = 1.0;
+
+	/**
+	 * 本服作为rpc客户端的channel配置，为空时使用默认配置
+	 */
+	private RpcChannelConfig rpcChannel;
 	
 	public ServerInfo() {
 	}
@@ -72,4 +83,20 @@ public class ServerInfo {
 	public void setServerType(ServerType serverType) {
 		this.serverType = serverType;
 	}
+
+	public double getWeight() {
+		return weight;
+	}
+
+	public void setWeight(double weight) {
+		this.weight = weight;
+	}
+
+	public RpcChannelConfig getRpcChannel() {
+		return rpcChannel;
+	}
+
+	public void setRpcChannel(RpcChannelConfig rpcChannel) {
+		this.rpcChannel = rpcChannel;
+	}
 }
@@ -3,6 +3,7 @@ package net.utils;
 import java.io.InputStream;
 import java.lang.reflect.Type;
 import java.util.Collection;
+import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -126,6 +127,26 @@ public class JsonUtils {
 		} 
 	}
 	
+	/**
+	 * json数组转换成列表
+	 * @param jsonString String
+	 * @param elementClass 元素类型
+	 * @return List
+	 */
+	public static <T> List<T> string2List(String jsonString, Class<T> elementClass) {
+		if (StringUtils.isBlank(jsonString)) {
+			return null;
+		}
+
+		try {
+			return mapper.readValue(jsonString, constructCollectionType(List.class, elementClass));
+		} catch (Exception ex) {
+			FormattingTuple message = MessageFormatter.format("json字符串[{}]转换成列表异常: {}", jsonString, ex.getMessage());
+			logger.error(message.getMessage(), ex);
+			return null;
+		}
+	}
+
 	/**
 	 * 对象转换成字节数组
 	 * @param obj Object
@@ -0,0 +1,95 @@
+package net.utils;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 按2的幂分桶的延迟直方图，单位微秒
+ * <p/>
+ * 第i个桶记录[2^(i-1), 2^i)微秒的次数，第0个桶记录小于1微秒的次数，最后一个桶包含所有更大的值，
+ * 记录时没有锁和对象分配，百分位是所在桶的上界
+ *
+ * @author ckf
+ */
+public final class LatencyHistogram {
+
+	/**
+	 * 最后一个桶的下界约为2^30微秒(约18分钟)
+	 */
+	private final static int BUCKETS = 32;
+
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+	/**
+	 * 记录一次延迟
+	 *
+	 * @param nanos 纳秒
+	 */
+	public void record(long nanos) {
+		long micros = nanos / 1000;
+		int bucket = micros <= 0 ? 0 : Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros));
+		counts.incrementAndGet(bucket);
+	}
+
+	public long count() {
+		long total = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			total += counts.get(i);
+		}
+		return total;
+	}
+
+	/**
+	 * @param percent 0到100
+	 * @return 百分位所在桶的上界(微秒)，没有记录时为0
+	 */
+	public long percentile(double percent) {
+		long[] snapshot = snapshot();
+		long total = 0;
+		for (long count : snapshot) {
+			total += count;
+		}
+		if (total == 0) {
+			return 0;
+		}
+
+		long target = (long) Math.ceil(total * percent / 100);
+		long seen = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			seen += snapshot[i];
+			if (seen >= target && snapshot[i] > 0) {
+				return upperBound(i);
+			}
+		}
+		return upperBound(BUCKETS - 1);
+	}
+
+	/**
+	 * 各个桶的次数
+	 */
+	public long[] snapshot() {
+		long[] snapshot = new long[BUCKETS];
+		for (int i = 0; i < BUCKETS; i++) {
+			snapshot[i] = counts.get(i);
+		}
+		return snapshot;
+	}
+
+	/**
+	 * 第i个桶的上界(微秒)
+	 */
+	public static long upperBound(int bucket) {
+		return 1L << bucket;
+	}
+
+	public void reset() {
+		for (int i = 0; i < BUCKETS; i++) {
+			counts.set(i, 0);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "count=" + count() + ", p50=" + percentile(50) + "us, p99=" + percentile(99) + "us, p999="
+				+ percentile(99.9) + "us";
+	}
+}
@@ -0,0 +1,64 @@
+package net.utils;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 进程内共享的prometheus指标，通过http的/metrics给prometheus拉取
+ *
+ * @author ckf
+ */
+public class MetricsUtils {
+
+	private static final Logger logger = LoggerFactory.getLogger(MetricsUtils.class);
+
+	private static final PrometheusMeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+
+	private static HttpServer server;
+
+	public static PrometheusMeterRegistry getRegistry() {
+		return registry;
+	}
+
+	/**
+	 * 开启/metrics，重复调用只开启一次
+	 *
+	 * @param port 端口
+	 */
+	public static synchronized void startHttpServer(int port) throws IOException {
+		if (server != null) {
+			return;
+		}
+
+		server = HttpServer.create(new InetSocketAddress(port), 0);
+		server.createContext("/metrics", new HttpHandler() {
+			@Override
+			public void handle(HttpExchange exchange) throws IOException {
+				byte[] body = registry.scrape().getBytes(StandardCharsets.UTF_8);
+				exchange.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+				exchange.sendResponseHeaders(200, body.length);
+				try (OutputStream out = exchange.getResponseBody()) {
+					out.write(body);
+				}
+			}
+		});
+		server.start();
+		logger.info("prometheus metrics http://0.0.0.0:{}/metrics", port);
+	}
+
+	public static synchronized void stopHttpServer() {
+		if (server != null) {
+			server.stop(0);
+			server = null;
+		}
+	}
+}
@@ -0,0 +1,142 @@
+package net.utils;
+
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 有界的多生产者单消费者数组队列，参考JCTools的MpscArrayQueue
+ * <p/>
+ * <ul>
+ * <li>容量为2的幂，入队和出队都不分配对象</li>
+ * <li>生产者通过CAS占用producerIndex后写入元素，消费者只修改consumerIndex</li>
+ * <li>producerIndex和consumerIndex之间做了缓存行填充，避免生产者和消费者伪共享</li>
+ * <li>size()通过两个下标计算，是常数时间</li>
+ * <li><b>poll只能由一个线程调用</b>，由调用方保证</li>
+ * </ul>
+ *
+ * @author ckf
+ */
+public final class MpscArrayQueue<E> extends MpscConsumerIndexPad<E> {
+
+	private final AtomicReferenceArray<E> buffer;
+
+	private final int mask;
+
+	/**
+	 * @param capacity 向上取整为2的幂
+	 */
+	public MpscArrayQueue(int capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("capacity must be positive: " + capacity);
+		}
+		int actual = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+		this.buffer = new AtomicReferenceArray<>(actual);
+		this.mask = actual - 1;
+	}
+
+	/**
+	 * 入队，可以多线程调用
+	 *
+	 * @param e 不能为null
+	 * @return 队列已满时返回false
+	 */
+	public boolean offer(E e) {
+		if (e == null) {
+			throw new NullPointerException();
+		}
+
+		long index;
+		do {
+			index = producerIndex;
+			if (index - consumerIndex > mask) {
+				return false;
+			}
+		} while (!casProducerIndex(index, index + 1));
+
+		buffer.lazySet((int) index & mask, e);
+		return true;
+	}
+
+	/**
+	 * 出队，只能由消费者线程调用
+	 *
+	 * @return 队列为空时返回null
+	 */
+	public E poll() {
+		long index = consumerIndex;
+		int offset = (int) index & mask;
+		E e = buffer.get(offset);
+		if (e == null) {
+			if (index == producerIndex) {
+				return null;
+			}
+			//生产者已经占用了下标但还没有写入元素，生产者可能被切换出去，让出cpu
+			do {
+				Thread.yield();
+				e = buffer.get(offset);
+			} while (e == null);
+		}
+
+		buffer.lazySet(offset, null);
+		lazySetConsumerIndex(index + 1);
+		return e;
+	}
+
+	/**
+	 * 常数时间，并发修改时是近似值
+	 */
+	public int size() {
+		long size = producerIndex - consumerIndex;
+		return size < 0 ? 0 : (int) Math.min(size, mask + 1);
+	}
+
+	public boolean isEmpty() {
+		return producerIndex == consumerIndex;
+	}
+
+	public int capacity() {
+		return mask + 1;
+	}
+}
+
+/**
+ * 缓存行填充
+ */
+abstract class MpscPad0 {
+	long p00, p01, p02, p03, p04, p05, p06, p07;
+}
+
+abstract class MpscProducerIndex<E> extends MpscPad0 {
+
+	//newUpdater只能取得原始类型的更新器
+	@SuppressWarnings("rawtypes")
+	private static final AtomicLongFieldUpdater<MpscProducerIndex> PRODUCER_INDEX = AtomicLongFieldUpdater
+			.newUpdater(MpscProducerIndex.class, "producerIndex");
+
+	volatile long producerIndex;
+
+	final boolean casProducerIndex(long expect, long update) {
+		return PRODUCER_INDEX.compareAndSet(this, expect, update);
+	}
+}
+
+abstract class MpscProducerIndexPad<E> extends MpscProducerIndex<E> {
+	long p10, p11, p12, p13, p14, p15, p16, p17;
+}
+
+abstract class MpscConsumerIndex<E> extends MpscProducerIndexPad<E> {
+
+	@SuppressWarnings("rawtypes")
+	private static final AtomicLongFieldUpdater<MpscConsumerIndex> CONSUMER_INDEX = AtomicLongFieldUpdater
+			.newUpdater(MpscConsumerIndex.class, "consumerIndex");
+
+	volatile long consumerIndex;
+
+	final void lazySetConsumerIndex(long value) {
+		CONSUMER_INDEX.lazySet(this, value);
+	}
+}
+
+abstract class MpscConsumerIndexPad<E> extends MpscConsumerIndex<E> {
+	long p20, p21, p22, p23, p24, p25, p26, p27;
+}
@@ -0,0 +1,44 @@
+package net.utils;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 保证相同key的任务按提交顺序执行的线程池，任务需要是{@link OrderedThreadPoolExecutor.OrderedRunable}
+ *
+ * @author ckf
+ * @see OrderedThreadPoolExecutor
+ * @see StickyOrderedExecutor
+ */
+public interface OrderedExecutor extends Executor {
+
+	/**
+	 * @param task 需要是OrderedRunable
+	 */
+	@Override
+	void execute(Runnable task);
+
+	/**
+	 * 不再接受新任务，已经提交的任务会执行完
+	 */
+	void shutdown();
+
+	boolean isShutdown();
+
+	/**
+	 * shutdown之后等待已经提交的任务执行完
+	 *
+	 * @return 超时返回false
+	 */
+	boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException;
+
+	/**
+	 * 排队中的任务数
+	 */
+	int getPendingTasks();
+
+	/**
+	 * 用于日志输出的统计信息
+	 */
+	String getMetrics();
+}
@@ -0,0 +1,42 @@
+package net.utils;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 有序线程池中一个key槽位的任务队列，多个线程提交，同一时间只有一个线程取出
+ * <p/>
+ * 任务优先放入环形队列，环形队列满时放入溢出队列，溢出队列不为空时新任务也放入溢出队列，
+ * 取出时先取环形队列，保证同一个key的任务按提交顺序执行
+ *
+ * @author ckf
+ * @see MpscArrayQueue
+ */
+final class OrderedTaskQueue {
+
+	private final MpscArrayQueue<Runnable> ring;
+
+	private final Queue<Runnable> overflow = new ConcurrentLinkedQueue<>();
+
+	OrderedTaskQueue(int capacity) {
+		this.ring = new MpscArrayQueue<>(capacity);
+	}
+
+	void offer(Runnable task) {
+		if (!overflow.isEmpty() || !ring.offer(task)) {
+			overflow.add(task);
+		}
+	}
+
+	/**
+	 * 只能由当前的执行线程调用
+	 */
+	Runnable poll() {
+		Runnable task = ring.poll();
+		return task != null ? task : overflow.poll();
+	}
+
+	boolean isEmpty() {
+		return ring.isEmpty() && overflow.isEmpty();
+	}
+}
@@ -1,35 +1,149 @@
 package net.utils;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
- * OrderedThreadPoolExecutor是参考netty3的OrderedMemoryAwareThreadPoolExecutor实现的有序线程池，<b>没有MemoryAware的实现</b>
+ * OrderedThreadPoolExecutor是参考netty3的OrderedMemoryAwareThreadPoolExecutor实现的有序线程池
  * <p/>
  * <ul>
  * <li>线程池会确保相同key的Runable按照execute的顺序执行</li>
  * <li>线程池不会会确保相同的key的Runable按照始终在同一个线程内执行</li>
  * <li>线程池不会会确保不同的key的Runable按照execute的顺序执行</li>
- * <li>如果某个相同key的Runable很多，会导致线程池内执行该key的线程长时间被占用</li>
- * <li>同时间过多的task可能导致内存泄露！！！</li>
+ * <li>如果某个相同key的Runable很多，会导致线程池内执行该key的线程长时间被占用，
+ * 通过{@link #enableHotKeyIsolation(int, int)}把热点key转移到专用的ChildExecutor</li>
+ * <li>同时间过多的task可能导致内存泄露！！！通过newMemoryAwareOrderedThreadPool限制排队的任务数和内存</li>
+ * </ul>
+ * <p/>
+ * MemoryAware的实现
+ * <ul>
+ * <li>每个ChildExecutor和整个线程池分别有任务数和内存(字节)上限，0表示不限制</li>
+ * <li>任务的内存通过{@link OrderedRunable#estimateSize()}估算</li>
+ * <li>上限是软限制，并发提交时可能略微超出；队列为空时总是接受，保证大任务不会永远被拒绝</li>
+ * <li>超出上限时交给{@link RejectionPolicy}处理：阻塞调用者、丢弃、调用者执行或者抛出异常，
+ * 需要落盘等其他处理时实现自己的RejectionPolicy</li>
+ * </ul>
+ * <p/>
+ * 公平性
+ * <ul>
+ * <li>ChildExecutor每轮最多执行一个时间片，超时后让出线程，batchLimit大于0时同时限制任务数</li>
+ * <li>热点key：滑动窗口内每秒任务数超过阈值的key，由原ChildExecutor按顺序转发到专用的ChildExecutor执行，
+ * 原ChildExecutor中的其他key不再被它阻塞；降温并且专用ChildExecutor空闲后取消转发</li>
+ * <li>每个ChildExecutor按窗口记录任务排队时间的直方图，通过{@link #getSlotLatencyReport(int)}查看最近的队头阻塞，
+ * 通过{@link #bindTo(String, MeterRegistry)}导出到prometheus</li>
  * </ul>
  *
  * @author ckf
  * @see net.utils.OrderedThreadPoolExecutor.OrderedRunable
+ * @see StickyOrderedExecutor
  */
-public final class OrderedThreadPoolExecutor extends ForkJoinPool {
+public final class OrderedThreadPoolExecutor extends ForkJoinPool implements OrderedExecutor {
 
 	private static Logger logger = LoggerFactory.getLogger(OrderedThreadPoolExecutor.class);
 
 	private final static int DEFAULT_NUM_EXECUTOR = 1024;
-	private final static int DEFAULT_BATCH_LIMIT = 5;
+
+	/**
+	 * 默认不限制每轮的任务数，只按时间片让出
+	 */
+	private final static int DEFAULT_BATCH_LIMIT = 0;
+
+	/**
+	 * 默认时间片
+	 */
+	private final static long DEFAULT_TIME_SLICE_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+	/**
+	 * 热点key统计的窗口，按最近两个窗口计算每秒任务数
+	 */
+	private final static long HOT_WINDOW_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+
+	/**
+	 * 排队时间直方图的窗口，按当前窗口和上一个窗口统计最近的排队时间
+	 */
+	private final static long WAIT_WINDOW_NANOS = TimeUnit.SECONDS.toNanos(60);
+
+	/**
+	 * 不限制任务数时每个ChildExecutor环形队列的容量
+	 */
+	private final static int DEFAULT_CHILD_CAPACITY = 256;
+
+	/**
+	 * 默认的单个任务内存估算(字节)
+	 */
+	public final static int DEFAULT_TASK_SIZE = 64;
+
+	/**
+	 * 阻塞等待时每次的最长等待(毫秒)，防止错过唤醒
+	 */
+	private final static long BLOCK_WAIT_MILLIS = 10;
+
+	/**
+	 * 超出上限时阻塞调用者直到有空间，在本线程池的线程中提交时不阻塞直接放入队列，防止死锁
+	 */
+	public final static RejectionPolicy BLOCK = new RejectionPolicy() {
+		@Override public void rejected(OrderedRunable task, OrderedThreadPoolExecutor executor) {
+			if (executor.inPool()) {
+				executor.forceExecute(task);
+				return;
+			}
+			while (!executor.tryExecute(task)) {
+				if (executor.isShutdown()) {
+					throw new RejectedExecutionException("executor is shutdown, task = " + task);
+				}
+				executor.awaitCapacity();
+			}
+		}
+	};
+
+	/**
+	 * 超出上限时丢弃任务
+	 */
+	public final static RejectionPolicy DISCARD = new RejectionPolicy() {
+		@Override public void rejected(OrderedRunable task, OrderedThreadPoolExecutor executor) {
+			logger.warn("OrderedThreadPoolExecutor队列已满，丢弃任务 " + task);
+		}
+	};
+
+	/**
+	 * 超出上限时在调用者线程中执行，<b>不再保证和同一个key中排队的任务的顺序</b>
+	 */
+	public final static RejectionPolicy CALLER_RUNS = new RejectionPolicy() {
+		@Override public void rejected(OrderedRunable task, OrderedThreadPoolExecutor executor) {
+			task.run();
+		}
+	};
+
+	/**
+	 * 超出上限时抛出RejectedExecutionException
+	 */
+	public final static RejectionPolicy ABORT = new RejectionPolicy() {
+		@Override public void rejected(OrderedRunable task, OrderedThreadPoolExecutor executor) {
+			throw new RejectedExecutionException("OrderedThreadPoolExecutor队列已满 task = " + task);
+		}
+	};
 
 	/**
 	 * executors
@@ -41,6 +155,83 @@ public final class OrderedThreadPoolExecutor extends ForkJoinPool {
 	 */
 	private final int batchLimit;
 
+	/**
+	 * 每个ChildExecutor的任务数上限
+	 */
+	private final int maxChildTasks;
+
+	/**
+	 * 每个ChildExecutor的内存上限
+	 */
+	private final long maxChildMemorySize;
+
+	/**
+	 * 线程池的任务数上限
+	 */
+	private final int maxTotalTasks;
+
+	/**
+	 * 线程池的内存上限
+	 */
+	private final long maxTotalMemorySize;
+
+	private final RejectionPolicy rejectionPolicy;
+
+	/**
+	 * ChildExecutor每轮的时间片
+	 */
+	private volatile long timeSliceNanos = DEFAULT_TIME_SLICE_NANOS;
+
+	/**
+	 * 热点key的阈值(每秒任务数)，0表示不检测
+	 */
+	private volatile int hotKeyThreshold;
+
+	/**
+	 * 热点key专用的ChildExecutor
+	 */
+	private volatile ChildExecutor[] hotExecutors = new ChildExecutor[0];
+
+	/**
+	 * 当前的热点key -> 专用ChildExecutor，只用于查看
+	 */
+	private final Map<Long, ChildExecutor> hotKeys = new ConcurrentHashMap<>();
+
+	/**
+	 * 绑定的micrometer，之后开启的热点ChildExecutor也注册到这里
+	 */
+	private volatile MeterRegistry registry;
+
+	private volatile String metricsName;
+
+	/**
+	 * 排队中的任务数
+	 */
+	private final AtomicInteger pendingTasks = new AtomicInteger();
+
+	/**
+	 * 排队中的任务内存
+	 */
+	private final AtomicLong pendingMemory = new AtomicLong();
+
+	/**
+	 * 阻塞等待空间的调用者数量
+	 */
+	private final AtomicInteger blockedCallers = new AtomicInteger();
+
+	private final Object capacityLock = new Object();
+
+	private final LongAdder completedTasks = new LongAdder();
+
+	private final LongAdder rejectedTasks = new LongAdder();
+
+	/**
+	 * 任务从提交到开始执行的总等待时间
+	 */
+	private final LongAdder totalWaitNanos = new LongAdder();
+
+	private final AtomicLong maxWaitNanos = new AtomicLong();
+
 	/**
 	 * 类似于 Executors.newFiexedThreadPool() 永远保持一定的线程池大小
 	 *
@@ -62,17 +253,56 @@ public final class OrderedThreadPoolExecutor extends ForkJoinPool {
 	public static OrderedThreadPoolExecutor newFixesOrderedThreadPool(int corePoolSize, int numOfExecutor, int batchLimit) {
 		logger.info("!!! init " + corePoolSize + " core OrderedThreadPoolExecutor");
 		return new OrderedThreadPoolExecutor(
-				corePoolSize, numOfExecutor, batchLimit
+				corePoolSize, numOfExecutor, batchLimit, 0, 0, 0, 0, BLOCK
 		);
 	}
 
+	/**
+	 * 限制排队内存的有序线程池
+	 *
+	 * @param corePoolSize       线程池大小
+	 * @param maxChildMemorySize 每个executor排队任务的内存上限，0表示不限制
+	 * @param maxTotalMemorySize 整个线程池排队任务的内存上限，0表示不限制
+	 * @param rejectionPolicy    超出上限时的处理
+	 * @return OrderedThreadPoolExecutor
+	 */
+	public static OrderedThreadPoolExecutor newMemoryAwareOrderedThreadPool(int corePoolSize, long maxChildMemorySize,
+			long maxTotalMemorySize, RejectionPolicy rejectionPolicy) {
+		return newMemoryAwareOrderedThreadPool(corePoolSize, DEFAULT_NUM_EXECUTOR, DEFAULT_BATCH_LIMIT, 0,
+				maxChildMemorySize, 0, maxTotalMemorySize, rejectionPolicy);
+	}
+
+	/**
+	 * 限制排队任务数和内存的有序线程池
+	 *
+	 * @param corePoolSize       线程池大小
+	 * @param numOfExecutor      executor的数量
+	 * @param batchLimit         批量执行任务，保证executor的公平性
+	 * @param maxChildTasks      每个executor排队任务数上限，0表示不限制
+	 * @param maxChildMemorySize 每个executor排队任务的内存上限，0表示不限制
+	 * @param maxTotalTasks      整个线程池排队任务数上限，0表示不限制
+	 * @param maxTotalMemorySize 整个线程池排队任务的内存上限，0表示不限制
+	 * @param rejectionPolicy    超出上限时的处理
+	 * @return OrderedThreadPoolExecutor
+	 */
+	public static OrderedThreadPoolExecutor newMemoryAwareOrderedThreadPool(int corePoolSize, int numOfExecutor,
+			int batchLimit, int maxChildTasks, long maxChildMemorySize, int maxTotalTasks, long maxTotalMemorySize,
+			RejectionPolicy rejectionPolicy) {
+		logger.info("!!! init " + corePoolSize + " core MemoryAware OrderedThreadPoolExecutor, maxChildTasks="
+				+ maxChildTasks + ", maxChildMemorySize=" + maxChildMemorySize + ", maxTotalTasks=" + maxTotalTasks
+				+ ", maxTotalMemorySize=" + maxTotalMemorySize);
+		return new OrderedThreadPoolExecutor(corePoolSize, numOfExecutor, batchLimit, maxChildTasks,
+				maxChildMemorySize, maxTotalTasks, maxTotalMemorySize, rejectionPolicy);
+	}
+
 	/**
 	 * Creates a new instance.
 	 *
 	 * @param numOfExecutor the number of executor
 	 * @param batchLimit    the limit of batch process tasks
 	 */
-	private OrderedThreadPoolExecutor(int corePoolSize, int numOfExecutor, int batchLimit) {
+	private OrderedThreadPoolExecutor(int corePoolSize, int numOfExecutor, int batchLimit, int maxChildTasks,
+			long maxChildMemorySize, int maxTotalTasks, long maxTotalMemorySize, RejectionPolicy rejectionPolicy) {
 
 		super(corePoolSize, ForkJoinPool.defaultForkJoinWorkerThreadFactory, new Thread.UncaughtExceptionHandler() {
 			@Override
@@ -83,10 +313,70 @@ public final class OrderedThreadPoolExecutor extends ForkJoinPool {
 
 		this.childExecutors = new ChildExecutor[numOfExecutor];
 		for (int i = 0; i < this.childExecutors.length; ++i) {
-			this.childExecutors[i] = new ChildExecutor(i, "corePoolSize_"+corePoolSize);
+			this.childExecutors[i] = new ChildExecutor(i, "corePoolSize_"+corePoolSize,
+					maxChildTasks > 0 ? maxChildTasks : DEFAULT_CHILD_CAPACITY, false);
 		}
 
 		this.batchLimit = batchLimit;
+		this.maxChildTasks = maxChildTasks;
+		this.maxChildMemorySize = maxChildMemorySize;
+		this.maxTotalTasks = maxTotalTasks;
+		this.maxTotalMemorySize = maxTotalMemorySize;
+		this.rejectionPolicy = rejectionPolicy;
+	}
+
+	/**
+	 * 设置ChildExecutor每轮的时间片，超过后让出线程给其他ChildExecutor
+	 */
+	public void setTimeSlice(long timeSlice, TimeUnit unit) {
+		this.timeSliceNanos = unit.toNanos(timeSlice);
+	}
+
+	/**
+	 * 开启热点key隔离，只能调用一次
+	 *
+	 * @param tasksPerSecond 每秒任务数超过这个值的key视为热点
+	 * @param maxHotKeys     专用ChildExecutor的数量，同时最多隔离的热点key数
+	 */
+	public synchronized void enableHotKeyIsolation(int tasksPerSecond, int maxHotKeys) {
+		if (hotExecutors.length > 0) {
+			throw new IllegalStateException("hot key isolation is already enabled");
+		}
+
+		ChildExecutor[] executors = new ChildExecutor[maxHotKeys];
+		for (int i = 0; i < executors.length; i++) {
+			executors[i] = new ChildExecutor(childExecutors.length + i, "hot_" + i, DEFAULT_CHILD_CAPACITY, true);
+		}
+		this.hotExecutors = executors;
+		this.hotKeyThreshold = tasksPerSecond;
+
+		MeterRegistry meterRegistry = registry;
+		if (meterRegistry != null) {
+			for (ChildExecutor executor : executors) {
+				executor.bindTo(metricsName, meterRegistry);
+			}
+		}
+	}
+
+	/**
+	 * 排队时间注册为micrometer的Timer，按pool标签区分
+	 * 普通ChildExecutor数量多，合并为一个带百分位直方图的Timer，热点key专用的ChildExecutor数量少，按slot标签各自注册
+	 * 具体哪个槽位阻塞通过{@link #getSlotLatencyReport(int)}查看
+	 *
+	 * @param name     线程池名，作为pool标签
+	 * @param registry
+	 */
+	public synchronized void bindTo(String name, MeterRegistry registry) {
+		this.metricsName = name;
+		this.registry = registry;
+		Timer timer = Timer.builder("ordered.executor.wait").tag("pool", name)
+				.description("time a task waits in its slot queue").publishPercentileHistogram().register(registry);
+		for (ChildExecutor child : childExecutors) {
+			child.waitTimer = timer;
+		}
+		for (ChildExecutor hot : hotExecutors) {
+			hot.bindTo(name, registry);
+		}
 	}
 
 	@Override
@@ -99,7 +389,69 @@ public final class OrderedThreadPoolExecutor extends ForkJoinPool {
 	}
 
 	private void doExecute(OrderedRunable task) {
-		getChildExecutor(task.key).execute(task);
+		if (!tryExecute(task)) {
+			rejectedTasks.increment();
+			rejectionPolicy.rejected(task, this);
+		}
+	}
+
+	/**
+	 * 在上限内时放入队列
+	 *
+	 * @param task
+	 * @return 超出上限时返回false，任务没有放入队列
+	 */
+	public boolean tryExecute(OrderedRunable task) {
+		ChildExecutor child = getChildExecutor(task.key);
+		int size = task.estimateSize();
+		if (!child.acquire(size)) {
+			return false;
+		}
+		child.enqueue(task, size);
+		return true;
+	}
+
+	/**
+	 * 忽略上限放入队列
+	 */
+	private void forceExecute(OrderedRunable task) {
+		ChildExecutor child = getChildExecutor(task.key);
+		int size = task.estimateSize();
+		child.forceAcquire(size);
+		child.enqueue(task, size);
+	}
+
+	/**
+	 * 当前线程是否是本线程池的线程
+	 */
+	private boolean inPool() {
+		Thread thread = Thread.currentThread();
+		return thread instanceof ForkJoinWorkerThread && ((ForkJoinWorkerThread) thread).getPool() == this;
+	}
+
+	/**
+	 * 等待有任务出队，最多等待BLOCK_WAIT_MILLIS
+	 */
+	private void awaitCapacity() {
+		blockedCallers.incrementAndGet();
+		try {
+			synchronized (capacityLock) {
+				capacityLock.wait(BLOCK_WAIT_MILLIS);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RejectedExecutionException("interrupted while waiting for capacity", e);
+		} finally {
+			blockedCallers.decrementAndGet();
+		}
+	}
+
+	private void signalCapacity() {
+		if (blockedCallers.get() > 0) {
+			synchronized (capacityLock) {
+				capacityLock.notifyAll();
+			}
+		}
 	}
 
 	private void doUnorderedExecute(ChildExecutor runnable) {
@@ -114,6 +466,138 @@ public final class OrderedThreadPoolExecutor extends ForkJoinPool {
 		return childExecutors;
 	}
 
+	/**
+	 * 当前被隔离的热点key
+	 */
+	public Set<Long> getHotKeys() {
+		return new HashSet<>(hotKeys.keySet());
+	}
+
+	/**
+	 * 排队时间p99最长的几个ChildExecutor，用于查看队头阻塞
+	 *
+	 * @param top 输出的数量
+	 */
+	public String getSlotLatencyReport(int top) {
+		List<ChildExecutor> all = new ArrayList<>(Arrays.asList(childExecutors));
+		all.addAll(Arrays.asList(hotExecutors));
+		final Map<ChildExecutor, Long> p99 = new HashMap<>();
+		for (ChildExecutor child : all) {
+			p99.put(child, child.getRecentWait(99));
+		}
+		all.sort(new Comparator<ChildExecutor>() {
+			@Override
+			public int compare(ChildExecutor o1, ChildExecutor o2) {
+				return Long.compare(p99.get(o2), p99.get(o1));
+			}
+		});
+
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < Math.min(top, all.size()); i++) {
+			ChildExecutor child = all.get(i);
+			long count = child.waitHistogram.count() + child.prevWaitHistogram.count();
+			if (count == 0) {
+				break;
+			}
+			sb.append("executorId=").append(child.executorId).append(" name=").append(child.name)
+					.append(" queueSize=").append(child.getQueueSize()).append(" count=").append(count)
+					.append(", p50=").append(child.getRecentWait(50)).append("us, p99=").append(p99.get(child))
+					.append("us, p999=").append(child.getRecentWait(99.9)).append("us\n");
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * 占用一个空闲的专用ChildExecutor
+	 */
+	private ChildExecutor claimHotExecutor(Long key) {
+		for (ChildExecutor hot : hotExecutors) {
+			if (hot.claimed.compareAndSet(false, true)) {
+				hotKeys.put(key, hot);
+				return hot;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * 排队中的任务数
+	 */
+	@Override
+	public int getPendingTasks() {
+		return pendingTasks.get();
+	}
+
+	/**
+	 * 排队中的任务内存(字节)
+	 */
+	public long getPendingMemory() {
+		return pendingMemory.get();
+	}
+
+	/**
+	 * 已出队执行的任务数
+	 */
+	public long getCompletedTasks() {
+		return completedTasks.sum();
+	}
+
+	/**
+	 * 超出上限交给RejectionPolicy处理的任务数
+	 */
+	public long getRejectedTasks() {
+		return rejectedTasks.sum();
+	}
+
+	/**
+	 * 任务从提交到开始执行的平均等待(纳秒)
+	 */
+	public long getAvgWaitNanos() {
+		long completed = completedTasks.sum();
+		return completed == 0 ? 0 : totalWaitNanos.sum() / completed;
+	}
+
+	/**
+	 * 任务从提交到开始执行的最长等待(纳秒)
+	 */
+	public long getMaxWaitNanos() {
+		return maxWaitNanos.get();
+	}
+
+	/**
+	 * 最长的ChildExecutor队列
+	 */
+	public int getMaxChildQueueSize() {
+		int max = 0;
+		for (ChildExecutor child : childExecutors) {
+			max = Math.max(max, child.getQueueSize());
+		}
+		return max;
+	}
+
+	/**
+	 * 用于日志输出的统计信息
+	 */
+	@Override
+	public String getMetrics() {
+		return "pendingTasks=" + getPendingTasks() + ", pendingMemory=" + getPendingMemory() + ", maxChildQueueSize="
+				+ getMaxChildQueueSize() + ", completedTasks=" + getCompletedTasks() + ", rejectedTasks="
+				+ getRejectedTasks() + ", avgWaitMicros=" + getAvgWaitNanos() / 1000 + ", maxWaitMicros="
+				+ getMaxWaitNanos() / 1000;
+	}
+
+	/**
+	 * 超出上限时的处理策略
+	 */
+	public interface RejectionPolicy {
+
+		/**
+		 * @param task     没有放入队列的任务
+		 * @param executor 可以通过tryExecute重新提交
+		 */
+		void rejected(OrderedRunable task, OrderedThreadPoolExecutor executor);
+	}
+
 
 
 	/**
@@ -123,10 +607,27 @@ public final class OrderedThreadPoolExecutor extends ForkJoinPool {
 	public abstract static class OrderedRunable implements Runnable {
 		protected Long key;
 
+		/**
+		 * 放入队列的时间
+		 */
+		private long enqueueNanos;
+
+		/**
+		 * 放入队列时估算的内存
+		 */
+		private int enqueueSize;
+
 		public OrderedRunable(Long key) {
 			this.key = key;
 		}
 
+		/**
+		 * 估算任务占用的内存(字节)，持有大对象的任务需要重写
+		 */
+		public int estimateSize() {
+			return DEFAULT_TASK_SIZE;
+		}
+
 		@Override
 		public String toString() {
 			return "OrderedRunable{" +
@@ -139,15 +640,90 @@ public final class OrderedThreadPoolExecutor extends ForkJoinPool {
 	 * 实际执行者
 	 */
 	public final class ChildExecutor implements Executor, Runnable {
-		private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+		/**
+		 * 排队的任务，环形队列未满时入队不分配对象
+		 */
+		private final OrderedTaskQueue tasks;
 		private final AtomicBoolean isRunning = new AtomicBoolean();
 
+		/**
+		 * 排队中的任务数，包括正在入队的任务
+		 */
+		private final AtomicInteger queueSize = new AtomicInteger();
+
+		/**
+		 * 排队中的任务内存
+		 */
+		private final AtomicLong queueMemory = new AtomicLong();
+
 		private final int executorId;
 		private String name;
 
-		public ChildExecutor(int executorId, String name) {
+		/**
+		 * 当前窗口和上一个窗口的任务排队时间，只在run中轮换
+		 */
+		private volatile LatencyHistogram waitHistogram = new LatencyHistogram();
+		private volatile LatencyHistogram prevWaitHistogram = new LatencyHistogram();
+		private long waitWindowStart = System.nanoTime();
+
+		/**
+		 * 绑定micrometer后的排队时间，普通ChildExecutor共用线程池的Timer，没有绑定时为null
+		 */
+		private volatile Timer waitTimer;
+
+		/**
+		 * 是否是热点key专用的
+		 */
+		private final boolean dedicated;
+
+		/**
+		 * 专用ChildExecutor是否已经分配给某个热点key
+		 */
+		private final AtomicBoolean claimed = new AtomicBoolean();
+
+		/**
+		 * 以下只在run中访问，isRunning保证了前后两次run之间的可见性
+		 * 当前窗口和上一个窗口每个key的任务数
+		 */
+		private Map<Long, int[]> keyCounts = new HashMap<>();
+		private Map<Long, int[]> prevKeyCounts = new HashMap<>();
+		private long windowStart = System.nanoTime();
+
+		/**
+		 * 从这里转发出去的热点key
+		 */
+		private final Map<Long, ChildExecutor> hotRoutes = new HashMap<>();
+
+		public ChildExecutor(int executorId, String name, int capacity, boolean dedicated) {
+			this.tasks = new OrderedTaskQueue(capacity);
 			this.executorId = executorId;
 			this.name = name;
+			this.dedicated = dedicated;
+		}
+
+		/**
+		 * 热点key专用的ChildExecutor单独注册
+		 */
+		void bindTo(String pool, MeterRegistry registry) {
+			this.waitTimer = Timer.builder("ordered.executor.hot.wait").tag("pool", pool)
+					.tag("slot", String.valueOf(executorId)).description("time a task waits in its hot key queue")
+					.register(registry);
+		}
+
+		/**
+		 * 当前窗口的排队时间
+		 */
+		public LatencyHistogram getWaitHistogram() {
+			return waitHistogram;
+		}
+
+		/**
+		 * 最近的排队时间百分位(微秒)，当前窗口和上一个窗口中较大的一个，窗口刚开始时也能反映最近的情况
+		 *
+		 * @param percent 0到100
+		 */
+		public long getRecentWait(double percent) {
+			return Math.max(waitHistogram.percentile(percent), prevWaitHistogram.percentile(percent));
 		}
 		
 		public int getExecutorId(){
@@ -159,23 +735,190 @@ public final class OrderedThreadPoolExecutor extends ForkJoinPool {
 		}
 
 		public int getQueueSize(){
-			return tasks.size();
+			return queueSize.get();
 		}
 
+		public long getQueueMemory() {
+			return queueMemory.get();
+		}
+
+		/**
+		 * 直接提交到这个executor，不检查上限
+		 */
 		public void execute(Runnable command) {
 			
 			if(command == null){
 				return;
 			}
-			
-			// TODO: What todo if the add return false ?
-			tasks.add(command);
-//			logger.debug("add cmd " + command + " to ChildExecutor-" + executorId + " tasks.size=" + tasks.size() + " isRunning = " + isRunning);
 
-			if(tasks.size() > 10){
-				logger.info("耗时慢ChildExecutor队列过大,size=" + tasks.size() + ",executorId=" + executorId+", name=" + name);
+			int size = command instanceof OrderedRunable ? ((OrderedRunable) command).estimateSize() : DEFAULT_TASK_SIZE;
+			forceAcquire(size);
+			enqueue(command, size);
+		}
+
+		/**
+		 * 检查上限并占用，队列为空时总是成功
+		 */
+		private boolean acquire(int size) {
+			int count = queueSize.get();
+			if (count > 0) {
+				if (maxChildTasks > 0 && count >= maxChildTasks) {
+					return false;
+				}
+				if (maxChildMemorySize > 0 && queueMemory.get() + size > maxChildMemorySize) {
+					return false;
+				}
 			}
-			
+
+			int total = pendingTasks.get();
+			if (total > 0) {
+				if (maxTotalTasks > 0 && total >= maxTotalTasks) {
+					return false;
+				}
+				if (maxTotalMemorySize > 0 && pendingMemory.get() + size > maxTotalMemorySize) {
+					return false;
+				}
+			}
+
+			forceAcquire(size);
+			return true;
+		}
+
+		private void forceAcquire(int size) {
+			queueSize.incrementAndGet();
+			queueMemory.addAndGet(size);
+			pendingTasks.incrementAndGet();
+			pendingMemory.addAndGet(size);
+		}
+
+		/**
+		 * 统计key的任务数，是热点key时按顺序转发到专用ChildExecutor
+		 *
+		 * @return 是否已经转发
+		 */
+		private boolean forwardHot(OrderedRunable task) {
+			long now = System.nanoTime();
+			if (now - windowStart >= HOT_WINDOW_NANOS) {
+				rollWindow(now);
+			}
+
+			int[] count = keyCounts.get(task.key);
+			if (count == null) {
+				count = new int[1];
+				keyCounts.put(task.key, count);
+			}
+			count[0]++;
+
+			if (hotRoutes.isEmpty()) {
+				return false;
+			}
+			ChildExecutor hot = hotRoutes.get(task.key);
+			if (hot == null) {
+				return false;
+			}
+			hot.execute(task);
+			return true;
+		}
+
+		/**
+		 * 窗口结束时按最近两个窗口计算每秒任务数，隔离新的热点key，取消已经降温的热点key
+		 */
+		private void rollWindow(long now) {
+			double seconds = (now - windowStart + HOT_WINDOW_NANOS) / 1e9;
+			int threshold = hotKeyThreshold;
+
+			for (Map.Entry<Long, int[]> entry : keyCounts.entrySet()) {
+				Long key = entry.getKey();
+				if (hotRoutes.containsKey(key) || rate(key, seconds) < threshold) {
+					continue;
+				}
+
+				ChildExecutor hot = claimHotExecutor(key);
+				if (hot == null) {
+					break;
+				}
+				hotRoutes.put(key, hot);
+				logger.info("热点key隔离 key=" + key + " executorId=" + executorId + " -> " + hot.name + " rate="
+						+ (long) rate(key, seconds));
+			}
+
+			Iterator<Map.Entry<Long, ChildExecutor>> it = hotRoutes.entrySet().iterator();
+			while (it.hasNext()) {
+				Map.Entry<Long, ChildExecutor> entry = it.next();
+				ChildExecutor hot = entry.getValue();
+				//只有这里会向专用ChildExecutor转发，空闲时不会再有这个key的任务
+				if (rate(entry.getKey(), seconds) >= threshold / 2 || hot.isRunning.get() || hot.queueSize.get() > 0) {
+					continue;
+				}
+
+				it.remove();
+				hotKeys.remove(entry.getKey());
+				hot.claimed.set(false);
+				logger.info("热点key取消隔离 key=" + entry.getKey() + " executorId=" + executorId);
+			}
+
+			Map<Long, int[]> prev = prevKeyCounts;
+			prev.clear();
+			prevKeyCounts = keyCounts;
+			keyCounts = prev;
+			windowStart = now;
+		}
+
+		private double rate(Long key, double seconds) {
+			int[] count = keyCounts.get(key);
+			int[] prev = prevKeyCounts.get(key);
+			return ((count == null ? 0 : count[0]) + (prev == null ? 0 : prev[0])) / seconds;
+		}
+
+		/**
+		 * 出队后释放占用并记录等待时间
+		 */
+		private void dequeued(Runnable task) {
+			completedTasks.increment();
+			if (!(task instanceof OrderedRunable)) {
+				release(DEFAULT_TASK_SIZE);
+				return;
+			}
+
+			OrderedRunable ordered = (OrderedRunable) task;
+			release(ordered.enqueueSize);
+			long now = System.nanoTime();
+			long wait = now - ordered.enqueueNanos;
+			totalWaitNanos.add(wait);
+			if (now - waitWindowStart > WAIT_WINDOW_NANOS) {
+				prevWaitHistogram = waitHistogram;
+				waitHistogram = new LatencyHistogram();
+				waitWindowStart = now;
+			}
+			waitHistogram.record(wait);
+			Timer timer = waitTimer;
+			if (timer != null) {
+				timer.record(wait, TimeUnit.NANOSECONDS);
+			}
+			long max = maxWaitNanos.get();
+			while (wait > max && !maxWaitNanos.compareAndSet(max, wait)) {
+				max = maxWaitNanos.get();
+			}
+		}
+
+		private void release(int size) {
+			queueSize.decrementAndGet();
+			queueMemory.addAndGet(-size);
+			pendingTasks.decrementAndGet();
+			pendingMemory.addAndGet(-size);
+			signalCapacity();
+		}
+
+		private void enqueue(Runnable command, int size) {
+			if (command instanceof OrderedRunable) {
+				OrderedRunable ordered = (OrderedRunable) command;
+				ordered.enqueueNanos = System.nanoTime();
+				ordered.enqueueSize = size;
+			}
+
+			tasks.offer(command);
+//			logger.debug("add cmd " + command + " to ChildExecutor-" + executorId + " tasks.size=" + tasks.size() + " isRunning = " + isRunning);
+
 			// add to schedule if executor is not waiting to process
 			if (isRunning.compareAndSet(false, true)) {
 //				logger.debug("into running " + command + " to ChildExecutor-" + executorId + " tasks.size=" + tasks.size());
@@ -188,14 +931,27 @@ public final class OrderedThreadPoolExecutor extends ForkJoinPool {
 
 			try{
 
-				int num = 0;
+				//只处理进入时已经排队的任务，每轮最多一个时间片，保证executor的公平性，停止时全部处理完
+				boolean shutdown = isShutdown();
+				int drain = shutdown ? Integer.MAX_VALUE : queueSize.get();
+				if (!shutdown && batchLimit > 0) {
+					drain = Math.min(drain, batchLimit);
+				}
+				long start = System.nanoTime();
+				long slice = timeSliceNanos;
 	
-				while (true){
+				for (int num = 0; num < drain; num++){
 					final Runnable task = tasks.poll();
 					// if the task is null we should exit the loop
 					if (task == null) {
 						break;
 					}
+					dequeued(task);
+
+					if (!dedicated && hotKeyThreshold > 0 && !shutdown && task instanceof OrderedRunable
+							&& forwardHot((OrderedRunable) task)) {
+						continue;
+					}
 	
 	//				logger.debug("execute cmd start " + task + " in ChildExecutor-" + executorId + " tasks.size=" + tasks.size());
 	//				long cTime = System.currentTimeMillis();
@@ -210,9 +966,8 @@ public final class OrderedThreadPoolExecutor extends ForkJoinPool {
 					}
 	//				long nTime = System.currentTimeMillis();
 	//				logger.debug("execute cmd " + task + " in ChildExecutor-" + executorId +" tasks.size="+tasks.size()+" time=" + (nTime-cTime));
-					
-					
-					if(!isShutdown() && ++num > batchLimit && batchLimit > 0) {
+
+					if (!shutdown && slice > 0 && System.nanoTime() - start >= slice) {
 						break;
 					}
 				}
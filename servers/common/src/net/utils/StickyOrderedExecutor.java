@@ -0,0 +1,359 @@
+package net.utils;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 按key固定线程的有序线程池，和OrderedThreadPoolExecutor使用相同的OrderedRunable
+ * <p/>
+ * <ul>
+ * <li>key按hash分到固定数量的槽位，槽位平均分给N个单线程的事件循环</li>
+ * <li>同一个槽位的任务始终在所属的事件循环中执行，连续的任务可以利用cpu缓存，不会在线程之间跳动</li>
+ * <li>开启转移时，事件循环有其他槽位在排队且有空闲的事件循环，把整个槽位交给空闲的事件循环，之后一直由新线程执行</li>
+ * <li>槽位的队列不限制长度，不做MemoryAware的限制</li>
+ * </ul>
+ *
+ * @author ckf
+ * @see OrderedThreadPoolExecutor
+ */
+public final class StickyOrderedExecutor implements OrderedExecutor {
+
+	private static Logger logger = LoggerFactory.getLogger(StickyOrderedExecutor.class);
+
+	private final static int DEFAULT_NUM_SLOT = 1024;
+	private final static int DEFAULT_BATCH_LIMIT = 5;
+
+	/**
+	 * 每个槽位环形队列的容量
+	 */
+	private final static int SLOT_CAPACITY = 256;
+
+	/**
+	 * 空闲时每次休眠的最长时间，提交任务时会唤醒
+	 */
+	private final static long PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+	private final Slot[] slots;
+
+	private final EventLoop[] loops;
+
+	/**
+	 * 一个槽位每轮最多执行的任务数，保证槽位之间的公平性
+	 */
+	private final int batchLimit;
+
+	/**
+	 * 是否把排队的槽位转移给空闲的事件循环
+	 */
+	private final boolean stealing;
+
+	/**
+	 * 正在休眠的事件循环数量
+	 */
+	private final AtomicInteger idleLoops = new AtomicInteger();
+
+	private volatile boolean shutdown;
+
+	/**
+	 * 提交时持有读锁检查shutdown并放入槽位，关闭时持有写锁设置shutdown
+	 * 设置shutdown之后不会再有任务放入，之前放入的任务都已经进入就绪队列，事件循环退出前能看到
+	 */
+	private final ReadWriteLock shutdownLock = new ReentrantReadWriteLock();
+
+	private final LongAdder submittedTasks = new LongAdder();
+
+	private final LongAdder completedTasks = new LongAdder();
+
+	/**
+	 * 槽位转移的次数
+	 */
+	private final LongAdder handoffs = new LongAdder();
+
+	/**
+	 * @param numOfLoop 事件循环(线程)数量
+	 * @param stealing  是否把排队的槽位转移给空闲的事件循环
+	 * @return StickyOrderedExecutor
+	 */
+	public static StickyOrderedExecutor newStickyOrderedExecutor(int numOfLoop, boolean stealing) {
+		return newStickyOrderedExecutor(numOfLoop, DEFAULT_NUM_SLOT, DEFAULT_BATCH_LIMIT, stealing);
+	}
+
+	/**
+	 * @param numOfLoop  事件循环(线程)数量
+	 * @param numOfSlot  槽位数量
+	 * @param batchLimit 一个槽位每轮最多执行的任务数，小于等于0时不限制
+	 * @param stealing   是否把排队的槽位转移给空闲的事件循环
+	 * @return StickyOrderedExecutor
+	 */
+	public static StickyOrderedExecutor newStickyOrderedExecutor(int numOfLoop, int numOfSlot, int batchLimit,
+			boolean stealing) {
+		logger.info("!!! init " + numOfLoop + " loop StickyOrderedExecutor, slots=" + numOfSlot + ", stealing="
+				+ stealing);
+		return new StickyOrderedExecutor(numOfLoop, numOfSlot, batchLimit, stealing);
+	}
+
+	private StickyOrderedExecutor(int numOfLoop, int numOfSlot, int batchLimit, boolean stealing) {
+		this.batchLimit = batchLimit;
+		this.stealing = stealing;
+
+		this.slots = new Slot[numOfSlot];
+		for (int i = 0; i < slots.length; i++) {
+			slots[i] = new Slot(i % numOfLoop);
+		}
+
+		this.loops = new EventLoop[numOfLoop];
+		for (int i = 0; i < loops.length; i++) {
+			loops[i] = new EventLoop(i, numOfSlot);
+		}
+		for (EventLoop loop : loops) {
+			loop.start();
+		}
+	}
+
+	@Override
+	public void execute(Runnable task) {
+		if (!(task instanceof OrderedThreadPoolExecutor.OrderedRunable)) {
+			throw new RejectedExecutionException("task must be enclosed an OrderedRunable.");
+		}
+
+		Long key = ((OrderedThreadPoolExecutor.OrderedRunable) task).key;
+		Slot slot = slots[(int) Math.abs(key % slots.length)];
+		shutdownLock.readLock().lock();
+		try {
+			if (shutdown) {
+				throw new RejectedExecutionException("executor is shutdown, task = " + task);
+			}
+
+			submittedTasks.increment();
+			slot.tasks.offer(task);
+			if (slot.scheduled.compareAndSet(false, true)) {
+				loops[slot.owner].schedule(slot);
+			}
+		} finally {
+			shutdownLock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public void shutdown() {
+		shutdownLock.writeLock().lock();
+		try {
+			shutdown = true;
+		} finally {
+			shutdownLock.writeLock().unlock();
+		}
+		for (EventLoop loop : loops) {
+			LockSupport.unpark(loop);
+		}
+	}
+
+	@Override
+	public boolean isShutdown() {
+		return shutdown;
+	}
+
+	/**
+	 * 等待所有事件循环执行完剩余任务后退出
+	 *
+	 * @return 超时返回false
+	 */
+	@Override
+	public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+		long deadline = System.nanoTime() + unit.toNanos(timeout);
+		for (EventLoop loop : loops) {
+			long remain = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+			if (remain <= 0) {
+				return false;
+			}
+			loop.join(remain);
+			if (loop.isAlive()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public int getPendingTasks() {
+		return (int) Math.max(0, submittedTasks.sum() - completedTasks.sum());
+	}
+
+	public long getCompletedTasks() {
+		return completedTasks.sum();
+	}
+
+	/**
+	 * 槽位转移给空闲事件循环的次数
+	 */
+	public long getHandoffs() {
+		return handoffs.sum();
+	}
+
+	@Override
+	public String getMetrics() {
+		StringBuilder ready = new StringBuilder();
+		for (EventLoop loop : loops) {
+			if (ready.length() > 0) {
+				ready.append(',');
+			}
+			ready.append(loop.ready.size());
+		}
+		return "pendingTasks=" + getPendingTasks() + ", completedTasks=" + getCompletedTasks() + ", handoffs="
+				+ getHandoffs() + ", readySlots=[" + ready + "]";
+	}
+
+	/**
+	 * 一组key的任务
+	 */
+	private static final class Slot {
+
+		private final OrderedTaskQueue tasks = new OrderedTaskQueue(SLOT_CAPACITY);
+
+		/**
+		 * 是否已经在某个事件循环的就绪队列中或者正在执行
+		 */
+		private final AtomicBoolean scheduled = new AtomicBoolean();
+
+		/**
+		 * 所属的事件循环，只在scheduled为true时由所属的事件循环修改
+		 */
+		private volatile int owner;
+
+		Slot(int owner) {
+			this.owner = owner;
+		}
+	}
+
+	/**
+	 * 单线程的事件循环，依次执行就绪队列中的槽位
+	 */
+	private final class EventLoop extends Thread {
+
+		private final int index;
+
+		/**
+		 * 就绪的槽位，一个槽位同时只会在一个就绪队列中出现一次，容量为槽位数时不会满
+		 */
+		private final MpscArrayQueue<Slot> ready;
+
+		private volatile boolean sleeping;
+
+		EventLoop(int index, int numOfSlot) {
+			super("StickyOrderedExecutor-" + index);
+			this.index = index;
+			this.ready = new MpscArrayQueue<>(numOfSlot);
+			setDaemon(true);
+		}
+
+		void schedule(Slot slot) {
+			ready.offer(slot);
+			if (sleeping) {
+				LockSupport.unpark(this);
+			}
+		}
+
+		@Override
+		public void run() {
+			while (true) {
+				Slot slot = ready.poll();
+				if (slot == null) {
+					//看到shutdown时之前提交的槽位一定已经在就绪队列中，再确认一次队列为空
+					if (shutdown && ready.isEmpty()) {
+						break;
+					}
+					idle();
+					continue;
+				}
+
+				if (stealing && handoff(slot)) {
+					continue;
+				}
+				runSlot(slot);
+			}
+		}
+
+		private void idle() {
+			sleeping = true;
+			idleLoops.incrementAndGet();
+			try {
+				//sleeping和ready都是volatile，提交者先放入ready再检查sleeping，不会丢失唤醒
+				if (ready.isEmpty() && !shutdown) {
+					LockSupport.parkNanos(this, PARK_NANOS);
+				}
+			} finally {
+				idleLoops.decrementAndGet();
+				sleeping = false;
+			}
+		}
+
+		/**
+		 * 自己还有其他槽位在排队时，把这个槽位交给一个空闲的事件循环
+		 * 和提交一样持有读锁，关闭前放入目标就绪队列的槽位在目标退出前一定能被看到
+		 *
+		 * @return 是否已经转移
+		 */
+		private boolean handoff(Slot slot) {
+			if (shutdown || idleLoops.get() == 0 || ready.isEmpty()) {
+				return false;
+			}
+			//正在关闭时不转移，由自己执行
+			if (!shutdownLock.readLock().tryLock()) {
+				return false;
+			}
+			try {
+				if (shutdown) {
+					return false;
+				}
+
+				for (int i = 1; i < loops.length; i++) {
+					EventLoop target = loops[(index + i) % loops.length];
+					if (target.sleeping) {
+						slot.owner = target.index;
+						handoffs.increment();
+						target.schedule(slot);
+						return true;
+					}
+				}
+				return false;
+			} finally {
+				shutdownLock.readLock().unlock();
+			}
+		}
+
+		private void runSlot(Slot slot) {
+			int limit = shutdown || batchLimit <= 0 ? Integer.MAX_VALUE : batchLimit;
+			for (int num = 0; num < limit; num++) {
+				Runnable task = slot.tasks.poll();
+				if (task == null) {
+					break;
+				}
+
+				completedTasks.increment();
+				try {
+					task.run();
+				} catch (Throwable e) {
+					logger.error("execute cmd " + task + " error:" + e.getMessage(), e);
+				}
+			}
+
+			if (!slot.tasks.isEmpty()) {
+				ready.offer(slot);
+				return;
+			}
+
+			slot.scheduled.set(false);
+			//清除标记前提交的任务可能没有触发调度
+			if (!slot.tasks.isEmpty() && slot.scheduled.compareAndSet(false, true)) {
+				ready.offer(slot);
+			}
+		}
+	}
+}
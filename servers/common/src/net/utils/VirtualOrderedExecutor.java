@@ -0,0 +1,253 @@
+package net.utils;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 适合阻塞任务(jdbc、jedis)的有序线程池，和OrderedThreadPoolExecutor使用相同的OrderedRunable
+ * <p/>
+ * <ul>
+ * <li>key按hash分到固定数量的槽位，每个有任务的槽位由一个线程按顺序执行完</li>
+ * <li>jdk21以上每次执行使用一个虚拟线程，阻塞时不占用系统线程，同时执行的槽位数只受槽位数量限制</li>
+ * <li>不支持虚拟线程时使用固定数量的系统线程，线程数需要按数据库连接池的大小配置</li>
+ * <li>慢查询只阻塞所在的槽位，不会占满ForkJoin的线程拖慢其他槽位</li>
+ * <li>真正的并发由druid和jedis连接池的大小决定，线程只是在获取连接时等待</li>
+ * </ul>
+ *
+ * @author ckf
+ * @see OrderedThreadPoolExecutor
+ */
+public final class VirtualOrderedExecutor implements OrderedExecutor {
+
+	private static Logger logger = LoggerFactory.getLogger(VirtualOrderedExecutor.class);
+
+	private final static int DEFAULT_NUM_SLOT = 1024;
+
+	/**
+	 * 每个槽位环形队列的容量
+	 */
+	private final static int SLOT_CAPACITY = 256;
+
+	private final Slot[] slots;
+
+	/**
+	 * 执行槽位的线程池
+	 */
+	private final ExecutorService drainExecutor;
+
+	/**
+	 * 是否使用虚拟线程
+	 */
+	private final boolean virtual;
+
+	/**
+	 * 正在执行的槽位数
+	 */
+	private final AtomicInteger runningSlots = new AtomicInteger();
+
+	private final LongAdder submittedTasks = new LongAdder();
+
+	private final LongAdder completedTasks = new LongAdder();
+
+	/**
+	 * 线程池关闭后被丢弃的任务数
+	 */
+	private final LongAdder rejectedTasks = new LongAdder();
+
+	/**
+	 * @param fallbackThreads 不支持虚拟线程时的系统线程数
+	 * @return VirtualOrderedExecutor
+	 */
+	public static VirtualOrderedExecutor newVirtualOrderedExecutor(int fallbackThreads) {
+		return newVirtualOrderedExecutor(DEFAULT_NUM_SLOT, fallbackThreads);
+	}
+
+	/**
+	 * @param numOfSlot       槽位数量，也是使用虚拟线程时的最大并发数
+	 * @param fallbackThreads 不支持虚拟线程时的系统线程数
+	 * @return VirtualOrderedExecutor
+	 */
+	public static VirtualOrderedExecutor newVirtualOrderedExecutor(int numOfSlot, int fallbackThreads) {
+		ExecutorService executor = newVirtualThreadExecutor("VirtualOrderedExecutor-");
+		boolean virtual = executor != null;
+		if (!virtual) {
+			executor = newPlatformThreadExecutor("VirtualOrderedExecutor-", fallbackThreads);
+		}
+		logger.info("!!! init VirtualOrderedExecutor, virtual=" + virtual + ", slots=" + numOfSlot
+				+ (virtual ? "" : ", threads=" + fallbackThreads));
+		return new VirtualOrderedExecutor(numOfSlot, executor, virtual);
+	}
+
+	/**
+	 * 通过反射创建每个任务一个虚拟线程的线程池，编译和运行都不依赖jdk21
+	 *
+	 * @return 不支持虚拟线程时为null
+	 */
+	static ExecutorService newVirtualThreadExecutor(String prefix) {
+		try {
+			Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+			Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+			builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, prefix, 0L);
+			ThreadFactory factory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+			Method method = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+			return (ExecutorService) method.invoke(null, factory);
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			return null;
+		}
+	}
+
+	private static ExecutorService newPlatformThreadExecutor(final String prefix, int threads) {
+		return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<Runnable>(),
+				new ThreadFactory() {
+					private final AtomicInteger index = new AtomicInteger();
+
+					@Override
+					public Thread newThread(Runnable r) {
+						Thread thread = new Thread(r, prefix + index.getAndIncrement());
+						thread.setDaemon(true);
+						return thread;
+					}
+				});
+	}
+
+	private VirtualOrderedExecutor(int numOfSlot, ExecutorService drainExecutor, boolean virtual) {
+		this.drainExecutor = drainExecutor;
+		this.virtual = virtual;
+		this.slots = new Slot[numOfSlot];
+		for (int i = 0; i < slots.length; i++) {
+			slots[i] = new Slot();
+		}
+	}
+
+	@Override
+	public void execute(Runnable task) {
+		if (!(task instanceof OrderedThreadPoolExecutor.OrderedRunable)) {
+			throw new RejectedExecutionException("task must be enclosed an OrderedRunable.");
+		}
+		if (drainExecutor.isShutdown()) {
+			throw new RejectedExecutionException("executor is shutdown, task = " + task);
+		}
+
+		Long key = ((OrderedThreadPoolExecutor.OrderedRunable) task).key;
+		Slot slot = slots[(int) Math.abs(key % slots.length)];
+		submittedTasks.increment();
+		slot.tasks.offer(task);
+		slot.schedule();
+	}
+
+	@Override
+	public void shutdown() {
+		drainExecutor.shutdown();
+	}
+
+	@Override
+	public boolean isShutdown() {
+		return drainExecutor.isShutdown();
+	}
+
+	@Override
+	public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+		return drainExecutor.awaitTermination(timeout, unit);
+	}
+
+	public boolean isVirtual() {
+		return virtual;
+	}
+
+	@Override
+	public int getPendingTasks() {
+		return (int) Math.max(0, submittedTasks.sum() - completedTasks.sum() - rejectedTasks.sum());
+	}
+
+	/**
+	 * 正在执行的槽位数，使用虚拟线程时也是虚拟线程数
+	 */
+	public int getRunningSlots() {
+		return runningSlots.get();
+	}
+
+	@Override
+	public String getMetrics() {
+		return "virtual=" + virtual + ", pendingTasks=" + getPendingTasks() + ", runningSlots=" + getRunningSlots()
+				+ ", completedTasks=" + completedTasks.sum() + ", rejectedTasks=" + rejectedTasks.sum();
+	}
+
+	/**
+	 * 一组key的任务，同一时间只有一个线程执行
+	 */
+	private final class Slot implements Runnable {
+
+		private final OrderedTaskQueue tasks = new OrderedTaskQueue(SLOT_CAPACITY);
+
+		private final AtomicBoolean isRunning = new AtomicBoolean();
+
+		void schedule() {
+			if (isRunning.compareAndSet(false, true)) {
+				runningSlots.incrementAndGet();
+				try {
+					drainExecutor.execute(this);
+				} catch (RejectedExecutionException e) {
+					runningSlots.decrementAndGet();
+					rejectQueued();
+					throw e;
+				}
+			}
+		}
+
+		/**
+		 * 线程池已经关闭，丢弃槽位中排队的任务并且清除运行标记，调用时持有运行标记
+		 */
+		private void rejectQueued() {
+			do {
+				Runnable task;
+				while ((task = tasks.poll()) != null) {
+					rejectedTasks.increment();
+					logger.error("executor is shutdown, drop task " + task);
+				}
+				isRunning.set(false);
+				//清除标记前提交的任务没有触发调度，重新拿到标记后继续丢弃
+			} while (!tasks.isEmpty() && isRunning.compareAndSet(false, true));
+		}
+
+		@Override
+		public void run() {
+			try {
+				while (true) {
+					Runnable task = tasks.poll();
+					if (task == null) {
+						break;
+					}
+
+					completedTasks.increment();
+					try {
+						task.run();
+					} catch (Throwable e) {
+						logger.error("execute cmd " + task + " error:" + e.getMessage(), e);
+					}
+				}
+			} finally {
+				runningSlots.decrementAndGet();
+				isRunning.set(false);
+				//清除标记前提交的任务可能没有触发调度
+				if (!tasks.isEmpty()) {
+					try {
+						schedule();
+					} catch (RejectedExecutionException e) {
+						logger.error("executor is shutdown, slot tasks dropped");
+					}
+				}
+			}
+		}
+	}
+}
@@ -9,6 +9,7 @@ import javax.sql.DataSource;
 
 import net.db.dao.Dao;
 import net.db.PoProxy;
+import net.db.ReadReplicas;
 import net.db.anno.Cacheable;
 import net.db.dao.CachedDao;
 import net.db.dao.DbDao;
@@ -30,14 +31,27 @@ public class AutoDao {
 
 	@SuppressWarnings("rawtypes")
 	public static void scan(String path, int dsId, DataSource ds, RedisCache cache) {
+		scan(path, dsId, ds, null, cache);
+	}
+
+	/**
+	 * @param replicas 只读查询使用的从库，可以为null
+	 */
+	@SuppressWarnings("rawtypes")
+	public static void scan(String path, int dsId, DataSource ds, ReadReplicas replicas, RedisCache cache) {
 		Set<Class> classes = ClassPathScanner.scan(path, false, true, false, null);
 
-		scan(classes, dsId, ds, cache);
+		scan(classes, dsId, ds, replicas, cache);
 	}
 
-	@SuppressWarnings({ "rawtypes", "unchecked" })
+	@SuppressWarnings("rawtypes")
 	public static void scan(Set<Class> classes, int dsId, DataSource ds, RedisCache cache) {
-		Map<Class, PoProxy> tables = PoRegister.scan(classes, ds);
+		scan(classes, dsId, ds, null, cache);
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public static void scan(Set<Class> classes, int dsId, DataSource ds, ReadReplicas replicas, RedisCache cache) {
+		Map<Class, PoProxy> tables = PoRegister.scan(classes, ds, replicas);
 
 		Map<Class, Dao> daoMap = new HashMap<>();
 		for (Entry<Class, PoProxy> node : tables.entrySet()) {
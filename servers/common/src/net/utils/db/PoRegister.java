@@ -10,6 +10,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import net.db.BasePo;
 import net.db.PoProxy;
+import net.db.ReadReplicas;
 import net.utils.CloseUtils;
 
 /**
@@ -20,11 +21,17 @@ import net.utils.CloseUtils;
 public class PoRegister {
 	private static Logger logger = LoggerFactory.getLogger(PoRegister.class);
 
+	@SuppressWarnings("rawtypes")
 	public static Map<Class, PoProxy> scan(Set<Class> classes, DataSource ds) {
+		return scan(classes, ds, null);
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public static Map<Class, PoProxy> scan(Set<Class> classes, DataSource ds, ReadReplicas replicas) {
 		Map<Class, PoProxy> PoProxys = new HashMap<>();
 
 		for (Class cls : classes) {
-			PoProxy table = new PoProxy((Class<? extends BasePo>) cls, ds);
+			PoProxy table = new PoProxy((Class<? extends BasePo>) cls, ds, replicas);
 			PoProxys.put(cls, table);
 		}
 
@@ -39,6 +46,7 @@ public class PoRegister {
 	 * @param tableObjs
 	 * @return
 	 */
+	@SuppressWarnings("rawtypes")
 	private static boolean checkTableColumns(Map<Class, PoProxy> tableObjs) {
 		boolean hasErr = false;
 
@@ -23,6 +23,30 @@ public class SqlUtils {
 		return sb.toString();
 	}
 
+	/**
+	 * 前缀 WHERE a=? and b=?
+	 */
+	public static String where(String prefix, String[] colNames) {
+		StringBuilder sb = new StringBuilder(prefix).append(" WHERE ");
+		sb.append(colNames[0]).append("=?");
+		for (int i = 1; i < colNames.length; i++) {
+			sb.append(" and ").append(colNames[i]).append("=?");
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * 条件部分 col IN (?,?,...)
+	 */
+	public static String in(String colName, int size) {
+		StringBuilder sb = new StringBuilder(colName).append(" IN (?");
+		for (int i = 1; i < size; i++) {
+			sb.append(",?");
+		}
+		sb.append(")");
+		return sb.toString();
+	}
+
 	public static String deleteAll(String tbName) {
 		return "DELETE FROM " + tbName;
 	}
@@ -0,0 +1,122 @@
+package net.utils.thread;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import net.utils.LatencyHistogram;
+
+/**
+ * 同一个tag的定时任务的统计
+ * <p/>
+ * 延迟是实际开始执行的时间减去计划的执行时间，绑定MeterRegistry后同时记录到micrometer的Timer
+ *
+ * @author ckf
+ * @see Scheduler#bindTo(MeterRegistry)
+ */
+public final class ScheduledTaskStats {
+
+	private final String tag;
+
+	private final LatencyHistogram lag = new LatencyHistogram();
+
+	private final LatencyHistogram duration = new LatencyHistogram();
+
+	private final LongAdder executions = new LongAdder();
+
+	private final LongAdder errors = new LongAdder();
+
+	/**
+	 * 固定频率任务落后时跳过的次数
+	 */
+	private final LongAdder skipped = new LongAdder();
+
+	/**
+	 * 固定频率任务执行时间超过间隔的次数
+	 */
+	private final LongAdder overruns = new LongAdder();
+
+	private volatile Timer lagTimer;
+
+	private volatile Timer durationTimer;
+
+	ScheduledTaskStats(String tag) {
+		this.tag = tag;
+	}
+
+	/**
+	 * 注册到micrometer，重复注册返回已有的指标
+	 */
+	void bindTo(MeterRegistry registry) {
+		this.lagTimer = Timer.builder("scheduler.task.lag").tag("tag", tag)
+				.description("actual fire time minus planned fire time").publishPercentileHistogram()
+				.register(registry);
+		this.durationTimer = Timer.builder("scheduler.task.duration").tag("tag", tag).publishPercentileHistogram()
+				.register(registry);
+		FunctionCounter.builder("scheduler.task.errors", errors, LongAdder::doubleValue).tag("tag", tag)
+				.register(registry);
+		FunctionCounter.builder("scheduler.task.skipped", skipped, LongAdder::doubleValue).tag("tag", tag)
+				.register(registry);
+		FunctionCounter.builder("scheduler.task.overruns", overruns, LongAdder::doubleValue).tag("tag", tag)
+				.register(registry);
+	}
+
+	void record(long lagNanos, long durationNanos) {
+		executions.increment();
+		lag.record(lagNanos);
+		duration.record(durationNanos);
+
+		Timer timer = lagTimer;
+		if (timer != null) {
+			timer.record(lagNanos, TimeUnit.NANOSECONDS);
+			durationTimer.record(durationNanos, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	void error() {
+		errors.increment();
+	}
+
+	void skip() {
+		skipped.increment();
+	}
+
+	void overrun() {
+		overruns.increment();
+	}
+
+	public String getTag() {
+		return tag;
+	}
+
+	public LatencyHistogram getLag() {
+		return lag;
+	}
+
+	public LatencyHistogram getDuration() {
+		return duration;
+	}
+
+	public long getExecutions() {
+		return executions.sum();
+	}
+
+	public long getErrors() {
+		return errors.sum();
+	}
+
+	public long getSkipped() {
+		return skipped.sum();
+	}
+
+	public long getOverruns() {
+		return overruns.sum();
+	}
+
+	@Override
+	public String toString() {
+		return tag + ": executions=" + getExecutions() + ", errors=" + getErrors() + ", skipped=" + getSkipped()
+				+ ", overruns=" + getOverruns() + ", lag[" + lag + "], duration[" + duration + "]";
+	}
+}
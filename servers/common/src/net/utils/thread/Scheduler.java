@@ -1,6 +1,12 @@
 package net.utils.thread;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
@@ -9,13 +15,19 @@ import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToDoubleFunction;
+import net.utils.OrderedExecutor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * 定时任务管理器
+ * <p/>
+ * 每个任务(包括时间轮中的任务)记录计划执行时间和实际执行时间的延迟、执行时间和异常次数，按tag统计，
+ * 日志中带任务id，可以通过{@link #bindTo(MeterRegistry)}导出到prometheus
  */
 public class Scheduler {
 
@@ -42,19 +54,134 @@ public class Scheduler {
 				}
 			});
 
-	private static Runnable newTask(final String taskId, final Runnable task, final boolean removeAfterExecute) {
-		return new Runnable() {
-			public void run() {
-				try {
-					task.run();
-				} catch (Throwable e) {
-					log.error("SchedulerTask", e);
+	/**
+	 * 短时间的定时任务使用的时间轮，第一次使用时创建，到期的任务在定时任务线程池中执行
+	 */
+	private static final class WheelHolder {
+		private final static TimingWheel WHEEL = TimingWheel.newTimingWheel("timerWheel", 10, executors);
+	}
+
+	/**
+	 * 固定频率的任务执行时间超过间隔或者线程池繁忙导致落后时的处理方式
+	 */
+	public enum OverrunPolicy {
+		/**
+		 * 落后时跳过这次和已经到期的其他执行，等到之后的第一次执行
+		 */
+		SKIP,
+		/**
+		 * 落后时立即执行一次，合并这次执行时已经到期的其他执行
+		 */
+		COALESCE,
+		/**
+		 * 全部补执行，落后时打印日志
+		 */
+		LOG
+	}
+
+	/**
+	 * 按tag统计的定时任务
+	 */
+	private final static Map<String, ScheduledTaskStats> stats = new ConcurrentHashMap<String, ScheduledTaskStats>();
+
+	/**
+	 * 固定频率任务默认的落后处理方式
+	 */
+	private static volatile OverrunPolicy overrunPolicy = OverrunPolicy.LOG;
+
+	private static volatile MeterRegistry registry;
+
+	private static ScheduledTask newTask(String taskId, Runnable task, long delay) {
+		return new ScheduledTask(taskId, task, delay, 0, false, null);
+	}
+
+	private static ScheduledTask newTask(String taskId, Runnable task, long delay, long interval, boolean fixedRate,
+			OverrunPolicy policy) {
+		return new ScheduledTask(taskId, task, delay, interval, fixedRate, policy);
+	}
+
+	/**
+	 * 给任务加上统计用的tag，没有tag的任务使用类名
+	 */
+	public static Runnable tag(String tag, Runnable task) {
+		return new TaggedTask(tag, task);
+	}
+
+	public static void setOverrunPolicy(OverrunPolicy policy) {
+		overrunPolicy = policy;
+	}
+
+	public static OverrunPolicy getOverrunPolicy() {
+		return overrunPolicy;
+	}
+
+	/**
+	 * 把定时任务的延迟、执行时间、错误次数和线程池状态注册到micrometer，之后新出现的tag也会注册
+	 */
+	public static void bindTo(MeterRegistry meterRegistry) {
+		registry = meterRegistry;
+		if (executors instanceof ThreadPoolExecutor) {
+			ThreadPoolExecutor pool = (ThreadPoolExecutor) executors;
+			Gauge.builder("scheduler.pool.active", pool, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+			Gauge.builder("scheduler.pool.queued", pool, new ToDoubleFunction<ThreadPoolExecutor>() {
+				@Override
+				public double applyAsDouble(ThreadPoolExecutor value) {
+					return value.getQueue().size();
 				}
-				if (removeAfterExecute) {
-					tasks.remove(taskId);
+			}).register(meterRegistry);
+		}
+		for (ScheduledTaskStats taskStats : stats.values()) {
+			taskStats.bindTo(meterRegistry);
+		}
+	}
+
+	/**
+	 * 按tag统计的定时任务
+	 */
+	public static Map<String, ScheduledTaskStats> getTaskStats() {
+		return Collections.unmodifiableMap(stats);
+	}
+
+	/**
+	 * 用于日志输出的统计信息，按延迟的p99从大到小排列
+	 */
+	public static String getReport() {
+		List<ScheduledTaskStats> list = new ArrayList<ScheduledTaskStats>(stats.values());
+		Collections.sort(list, new Comparator<ScheduledTaskStats>() {
+			@Override
+			public int compare(ScheduledTaskStats o1, ScheduledTaskStats o2) {
+				return Long.compare(o2.getLag().percentile(99), o1.getLag().percentile(99));
+			}
+		});
+		StringBuilder sb = new StringBuilder();
+		for (ScheduledTaskStats taskStats : list) {
+			sb.append(taskStats).append('\n');
+		}
+		return sb.toString();
+	}
+
+	private static ScheduledTaskStats getStats(Runnable task) {
+		String tag;
+		if (task instanceof TaggedTask) {
+			tag = ((TaggedTask) task).tag;
+		} else {
+			String name = task.getClass().getName();
+			tag = name.substring(name.lastIndexOf('.') + 1);
+		}
+
+		ScheduledTaskStats taskStats = stats.get(tag);
+		if (taskStats == null) {
+			ScheduledTaskStats newStats = new ScheduledTaskStats(tag);
+			taskStats = stats.putIfAbsent(tag, newStats);
+			if (taskStats == null) {
+				taskStats = newStats;
+				MeterRegistry meterRegistry = registry;
+				if (meterRegistry != null) {
+					taskStats.bindTo(meterRegistry);
 				}
 			}
-		};
+		}
+		return taskStats;
 	}
 
 	public static String submit(final Runnable task) {
@@ -117,7 +244,7 @@ public class Scheduler {
 
 	public static void submit(final Runnable task, final String taskId) {
 		cancel(taskId);
-		Future<?> future = executors.submit(newTask(taskId, task, true));
+		Future<?> future = executors.submit(newTask(taskId, task, 0));
 		if (!future.isDone() && !future.isCancelled()) {
 			tasks.put(taskId, future);
 		}
@@ -125,16 +252,26 @@ public class Scheduler {
 
 	public static void submit(final Runnable task, final String taskId, long delay) {
 		cancel(taskId);
-		ScheduledFuture<?> future = executors.schedule(newTask(taskId, task, true), delay, TimeUnit.MILLISECONDS);
+		ScheduledFuture<?> future = executors.schedule(newTask(taskId, task, delay), delay, TimeUnit.MILLISECONDS);
 		if (!future.isDone() && !future.isCancelled()) {
 			tasks.put(taskId, future);
 		}
 	}
 
 	public static void submit(final Runnable task, final String taskId, long delay, long interval) {
+		submit(task, taskId, delay, interval, null);
+	}
+
+	/**
+	 * 按固定频率执行
+	 *
+	 * @param policy 落后时的处理方式，为null时使用{@link #setOverrunPolicy(OverrunPolicy)}设置的默认值
+	 */
+	public static void submit(final Runnable task, final String taskId, long delay, long interval,
+			OverrunPolicy policy) {
 		cancel(taskId);
-		ScheduledFuture<?> future = executors
-				.scheduleAtFixedRate(newTask(taskId, task, false), delay, interval, TimeUnit.MILLISECONDS);
+		ScheduledFuture<?> future = executors.scheduleAtFixedRate(newTask(taskId, task, delay, interval, true, policy),
+				delay, interval, TimeUnit.MILLISECONDS);
 		if (!future.isDone() && !future.isCancelled()) {
 			tasks.put(taskId, future);
 		}
@@ -142,8 +279,8 @@ public class Scheduler {
 
 	public static void submitFixDelay(final Runnable task, final String taskId, long delay, long interval) {
 		cancel(taskId);
-		ScheduledFuture<?> future = executors
-				.scheduleWithFixedDelay(newTask(taskId, task, false), delay, interval, TimeUnit.MILLISECONDS);
+		ScheduledFuture<?> future = executors.scheduleWithFixedDelay(
+				newTask(taskId, task, delay, interval, false, null), delay, interval, TimeUnit.MILLISECONDS);
 		if (!future.isDone() && !future.isCancelled()) {
 			tasks.put(taskId, future);
 		}
@@ -160,6 +297,46 @@ public class Scheduler {
 		}
 	}
 
+	/**
+	 * 通过时间轮延迟执行一次，添加和取消都是O(1)，精度10毫秒，适合大量短时间的定时任务
+	 *
+	 * @param delay 毫秒
+	 * @return 任务id，用{@link #cancel(long)}取消
+	 */
+	public static long schedule(final Runnable task, long delay) {
+		return WheelHolder.WHEEL.schedule(newTask(null, task, delay), delay);
+	}
+
+	/**
+	 * 通过时间轮延迟执行一次，到期后在key对应的有序队列中执行，和这个key的其他任务不会并发
+	 *
+	 * @param delay 毫秒
+	 * @return 任务id，用{@link #cancel(long)}取消
+	 */
+	public static long schedule(final Runnable task, long delay, OrderedExecutor executor, long key) {
+		return WheelHolder.WHEEL.schedule(newTask(null, task, delay), delay, executor, key);
+	}
+
+	/**
+	 * 取消时间轮中的任务
+	 *
+	 * @return 任务不存在或者已经执行时返回false
+	 */
+	public static boolean cancel(long timerId) {
+		return WheelHolder.WHEEL.cancel(timerId);
+	}
+
+	/**
+	 * @return 时间轮中的任务距离执行的毫秒数，任务不存在时为-1
+	 */
+	public static long getDelay(long timerId) {
+		return WheelHolder.WHEEL.getDelay(timerId);
+	}
+
+	public static TimingWheel getTimingWheel() {
+		return WheelHolder.WHEEL;
+	}
+
 	public static long getDelay(String taskId) {
 		if (taskId != null) {
 			if (tasks.containsKey(taskId)) {
@@ -172,4 +349,144 @@ public class Scheduler {
 		return -1;
 	}
 
+	/**
+	 * 带统计用tag的任务
+	 */
+	private static final class TaggedTask implements Runnable {
+
+		private final String tag;
+
+		private final Runnable task;
+
+		TaggedTask(String tag, Runnable task) {
+			this.tag = tag;
+			this.task = task;
+		}
+
+		@Override
+		public void run() {
+			task.run();
+		}
+	}
+
+	/**
+	 * 记录计划执行时间和实际执行时间的任务，周期任务由线程池保证不会并发执行
+	 */
+	private static final class ScheduledTask implements Runnable {
+
+		/**
+		 * 时间轮中的任务为null
+		 */
+		private final String taskId;
+
+		private final Runnable task;
+
+		private final ScheduledTaskStats taskStats;
+
+		/**
+		 * 周期(纳秒)，0表示只执行一次
+		 */
+		private final long intervalNanos;
+
+		private final boolean fixedRate;
+
+		private final OverrunPolicy policy;
+
+		/**
+		 * 这次执行的计划时间
+		 */
+		private long planned;
+
+		/**
+		 * 计划时间不晚于这个时间的执行会被跳过
+		 */
+		private long skipUntil = Long.MIN_VALUE;
+
+		/**
+		 * 上次执行是否已经落后，用于只在开始落后时打印日志
+		 */
+		private boolean behind;
+
+		ScheduledTask(String taskId, Runnable task, long delay, long interval, boolean fixedRate,
+				OverrunPolicy policy) {
+			this.taskId = taskId;
+			this.task = task;
+			this.taskStats = getStats(task);
+			this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(interval);
+			this.fixedRate = fixedRate;
+			this.policy = policy;
+			this.planned = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(0, delay));
+		}
+
+		@Override
+		public void run() {
+			long start = System.nanoTime();
+			long lag = Math.max(0, start - planned);
+			if (fixedRate && skipOverrun(lag)) {
+				planned += intervalNanos;
+				taskStats.skip();
+				return;
+			}
+
+			try {
+				task.run();
+			} catch (Throwable e) {
+				taskStats.error();
+				log.error("SchedulerTask " + (taskId != null ? taskId : taskStats.getTag()), e);
+			}
+			long end = System.nanoTime();
+			taskStats.record(lag, end - start);
+
+			if (intervalNanos == 0) {
+				if (taskId != null) {
+					tasks.remove(taskId);
+				}
+			} else if (fixedRate) {
+				if (end - start > intervalNanos) {
+					taskStats.overrun();
+				}
+				planned += intervalNanos;
+			} else {
+				planned = end + intervalNanos;
+			}
+		}
+
+		/**
+		 * 线程池落后时会连续执行错过的周期，按策略决定这次是否跳过
+		 */
+		private boolean skipOverrun(long lag) {
+			OverrunPolicy current = policy != null ? policy : overrunPolicy;
+			if (planned <= skipUntil) {
+				return true;
+			}
+			if (current == OverrunPolicy.SKIP && skipUntil != Long.MIN_VALUE) {
+				//跳过之后的第一次执行不再判断落后，线程池一直繁忙时也能执行
+				skipUntil = Long.MIN_VALUE;
+				return false;
+			}
+
+			boolean late = lag >= intervalNanos;
+			if (!late) {
+				behind = false;
+				return false;
+			}
+
+			long missed = lag / intervalNanos;
+			switch (current) {
+			case SKIP:
+				skipUntil = planned + missed * intervalNanos;
+				return true;
+			case COALESCE:
+				skipUntil = planned + missed * intervalNanos;
+				return false;
+			default:
+				if (!behind) {
+					behind = true;
+					log.warn("SchedulerTask {} [{}] is {} ticks behind, lag={}ms", taskId, taskStats.getTag(), missed,
+							TimeUnit.NANOSECONDS.toMillis(lag));
+				}
+				return false;
+			}
+		}
+	}
 }
@@ -0,0 +1,594 @@
+package net.utils.thread;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import net.utils.OrderedExecutor;
+import net.utils.OrderedThreadPoolExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 分层时间轮，适合大量短时间的定时任务(buff过期、匹配超时、空闲踢出)
+ * <p/>
+ * <ul>
+ * <li>第0层256个槽，每个槽一个tick，之后每层64个槽，每个槽是上一层一圈的时间，到期前逐层下移</li>
+ * <li>添加和取消都是O(1)，提交的线程只放入无锁队列，由时间轮线程放入槽中</li>
+ * <li>任务用long类型的id标识，不再为每个任务生成UUID</li>
+ * <li>每个tick到期的任务一起处理，指定OrderedExecutor和key时在对应key的有序队列中执行</li>
+ * <li>精度是一个tick，任务不会提前执行</li>
+ * <li>固定频率的任务上一次还没有执行完时跳过这一次，同一个任务不会并发执行</li>
+ * </ul>
+ *
+ * @author ckf
+ * @see Scheduler
+ */
+public final class TimingWheel {
+
+	private static Logger log = LoggerFactory.getLogger(TimingWheel.class);
+
+	private final static int ROOT_BITS = 8;
+	private final static int ROOT_SIZE = 1 << ROOT_BITS;
+	private final static int ROOT_MASK = ROOT_SIZE - 1;
+
+	private final static int LEVEL_BITS = 6;
+	private final static int LEVEL_SIZE = 1 << LEVEL_BITS;
+	private final static int LEVEL_MASK = LEVEL_SIZE - 1;
+
+	/**
+	 * 第0层之外的层数，总共可以表示2^32个tick，更长的任务放在最后一层，到时候再重新放入
+	 */
+	private final static int LEVELS = 4;
+
+	/**
+	 * 每个tick最多从提交队列中取出的任务，避免提交太快时时间轮一直不能前进
+	 */
+	private final static int MAX_TRANSFER_PER_TICK = 100000;
+
+	private final static int ST_INIT = 0;
+	private final static int ST_CANCELLED = 1;
+	private final static int ST_EXPIRED = 2;
+
+	private final String name;
+
+	private final long tickNanos;
+
+	/**
+	 * 没有指定OrderedExecutor时执行任务的线程池，为null时在时间轮线程中执行
+	 */
+	private final Executor taskExecutor;
+
+	private final Bucket[] root = new Bucket[ROOT_SIZE];
+
+	private final Bucket[][] levels = new Bucket[LEVELS][LEVEL_SIZE];
+
+	/**
+	 * 等待放入槽中的任务
+	 */
+	private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * 等待从槽中移除的已取消任务
+	 */
+	private final Queue<Timeout> cancelled = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * 所有未到期的任务，用于按id取消
+	 */
+	private final Map<Long, Timeout> timeouts = new ConcurrentHashMap<>();
+
+	private final AtomicLong idGenerator = new AtomicLong();
+
+	private final Thread worker;
+
+	private final long startTime;
+
+	/**
+	 * 时间轮线程下一个要处理的tick，只有时间轮线程修改
+	 */
+	private volatile long tick;
+
+	private volatile boolean shutdown;
+
+	private final LongAdder expiredTimeouts = new LongAdder();
+
+	private final LongAdder cancelledTimeouts = new LongAdder();
+
+	/**
+	 * 固定频率的任务因为上一次还没有执行完而跳过的次数
+	 */
+	private final LongAdder skippedRuns = new LongAdder();
+
+	/**
+	 * 单个tick到期任务数的最大值
+	 */
+	private volatile int maxBatch;
+
+	/**
+	 * @param name         线程名
+	 * @param tickMillis   精度(毫秒)
+	 * @param taskExecutor 没有指定OrderedExecutor时执行任务的线程池，为null时在时间轮线程中执行，任务需要足够快
+	 * @return TimingWheel
+	 */
+	public static TimingWheel newTimingWheel(String name, long tickMillis, Executor taskExecutor) {
+		if (tickMillis <= 0) {
+			throw new IllegalArgumentException("tickMillis must be positive: " + tickMillis);
+		}
+		TimingWheel wheel = new TimingWheel(name, TimeUnit.MILLISECONDS.toNanos(tickMillis), taskExecutor);
+		wheel.worker.start();
+		log.info("!!! init TimingWheel {}, tick={}ms", name, tickMillis);
+		return wheel;
+	}
+
+	private TimingWheel(String name, long tickNanos, Executor taskExecutor) {
+		this.name = name;
+		this.tickNanos = tickNanos;
+		this.taskExecutor = taskExecutor;
+		for (int i = 0; i < ROOT_SIZE; i++) {
+			root[i] = new Bucket();
+		}
+		for (int i = 0; i < LEVELS; i++) {
+			for (int j = 0; j < LEVEL_SIZE; j++) {
+				levels[i][j] = new Bucket();
+			}
+		}
+		this.startTime = System.nanoTime();
+		this.worker = new Thread(new Worker(), name);
+		this.worker.setDaemon(true);
+	}
+
+	/**
+	 * 延迟执行一次
+	 *
+	 * @param delay 毫秒
+	 * @return 任务id
+	 */
+	public long schedule(Runnable task, long delay) {
+		return schedule(task, delay, 0, null, 0);
+	}
+
+	/**
+	 * 延迟后在key对应的有序队列中执行一次
+	 *
+	 * @param delay 毫秒
+	 * @return 任务id
+	 */
+	public long schedule(Runnable task, long delay, OrderedExecutor executor, long key) {
+		return schedule(task, delay, 0, executor, key);
+	}
+
+	/**
+	 * 按固定频率执行，直到取消
+	 *
+	 * @param delay    首次执行的延迟(毫秒)
+	 * @param interval 间隔(毫秒)
+	 * @return 任务id
+	 */
+	public long scheduleAtFixedRate(Runnable task, long delay, long interval) {
+		return scheduleAtFixedRate(task, delay, interval, null, 0);
+	}
+
+	/**
+	 * 按固定频率在key对应的有序队列中执行，直到取消
+	 *
+	 * @param delay    首次执行的延迟(毫秒)
+	 * @param interval 间隔(毫秒)
+	 * @return 任务id
+	 */
+	public long scheduleAtFixedRate(Runnable task, long delay, long interval, OrderedExecutor executor, long key) {
+		if (interval <= 0) {
+			throw new IllegalArgumentException("interval must be positive: " + interval);
+		}
+		return schedule(task, delay, interval, executor, key);
+	}
+
+	private long schedule(Runnable task, long delay, long interval, OrderedExecutor executor, long key) {
+		if (task == null) {
+			throw new NullPointerException("task");
+		}
+		if (shutdown) {
+			throw new IllegalStateException("TimingWheel " + name + " is stopped");
+		}
+
+		long deadline = toTick(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(0, delay)));
+		long intervalTicks = interval <= 0 ? 0 : Math.max(1, toTicks(TimeUnit.MILLISECONDS.toNanos(interval)));
+		Timeout timeout = new Timeout(idGenerator.incrementAndGet(), task, deadline, intervalTicks, executor, key);
+		timeouts.put(timeout.id, timeout);
+		pending.add(timeout);
+		return timeout.id;
+	}
+
+	/**
+	 * 取消任务，已经开始执行的任务不会被中断
+	 *
+	 * @return 任务不存在或者已经执行时返回false
+	 */
+	public boolean cancel(long id) {
+		Timeout timeout = timeouts.remove(id);
+		if (timeout == null || !timeout.compareAndSetState(ST_INIT, ST_CANCELLED)) {
+			return false;
+		}
+		cancelledTimeouts.increment();
+		cancelled.add(timeout);
+		return true;
+	}
+
+	/**
+	 * @return 距离下次执行的毫秒数，任务不存在时为-1
+	 */
+	public long getDelay(long id) {
+		Timeout timeout = timeouts.get(id);
+		if (timeout == null) {
+			return -1;
+		}
+		long nanos = startTime + timeout.deadline * tickNanos - System.nanoTime();
+		return Math.max(0, TimeUnit.NANOSECONDS.toMillis(nanos));
+	}
+
+	/**
+	 * 停止时间轮，未到期的任务不再执行
+	 *
+	 * @return 未到期的任务数
+	 */
+	public int stop() {
+		shutdown = true;
+		LockSupport.unpark(worker);
+		int remain = timeouts.size();
+		timeouts.clear();
+		return remain;
+	}
+
+	public boolean isStopped() {
+		return shutdown;
+	}
+
+	/**
+	 * 未到期的任务数
+	 */
+	public int getPendingTimeouts() {
+		return timeouts.size();
+	}
+
+	public long getExpiredTimeouts() {
+		return expiredTimeouts.sum();
+	}
+
+	public long getCancelledTimeouts() {
+		return cancelledTimeouts.sum();
+	}
+
+	public long getSkippedRuns() {
+		return skippedRuns.sum();
+	}
+
+	public String getMetrics() {
+		return "pendingTimeouts=" + getPendingTimeouts() + ", expiredTimeouts=" + getExpiredTimeouts()
+				+ ", cancelledTimeouts=" + getCancelledTimeouts() + ", skippedRuns=" + getSkippedRuns() + ", maxBatch=" + maxBatch + ", tick=" + tick;
+	}
+
+	/**
+	 * 时间点所在的tick，向上取整保证不会提前执行
+	 */
+	private long toTick(long nanoTime) {
+		return toTicks(nanoTime - startTime);
+	}
+
+	private long toTicks(long nanos) {
+		return nanos <= 0 ? 0 : (nanos + tickNanos - 1) / tickNanos;
+	}
+
+	/**
+	 * 按剩余的tick数放入对应层的槽，只在时间轮线程中调用
+	 */
+	private void place(Timeout timeout, long current) {
+		long deadline = timeout.deadline;
+		long delta = deadline - current;
+		if (delta < ROOT_SIZE) {
+			//已经过期的放入当前槽，这个tick执行
+			long index = delta < 0 ? current : deadline;
+			root[(int) (index & ROOT_MASK)].add(timeout);
+			return;
+		}
+
+		for (int level = 0; level < LEVELS; level++) {
+			int shift = ROOT_BITS + level * LEVEL_BITS;
+			if (delta < 1L << (shift + LEVEL_BITS) || level == LEVELS - 1) {
+				//超出范围的放在最后一层当前位置的前一个槽，一圈后再重新放入
+				long index = delta < 1L << (shift + LEVEL_BITS) ? deadline >>> shift : (current >>> shift) - 1;
+				levels[level][(int) (index & LEVEL_MASK)].add(timeout);
+				return;
+			}
+		}
+	}
+
+	/**
+	 * 上一层的槽到期时把任务重新放入下面的层
+	 */
+	private void cascade(Bucket bucket, long current) {
+		Timeout timeout = bucket.clear();
+		while (timeout != null) {
+			Timeout next = timeout.next;
+			timeout.next = null;
+			timeout.prev = null;
+			timeout.bucket = null;
+			if (timeout.state == ST_INIT) {
+				place(timeout, current);
+			}
+			timeout = next;
+		}
+	}
+
+	private void transferPending(long current) {
+		for (int i = 0; i < MAX_TRANSFER_PER_TICK; i++) {
+			Timeout timeout = pending.poll();
+			if (timeout == null) {
+				break;
+			}
+			if (timeout.state == ST_INIT) {
+				place(timeout, current);
+			}
+		}
+	}
+
+	private void removeCancelled() {
+		while (true) {
+			Timeout timeout = cancelled.poll();
+			if (timeout == null) {
+				break;
+			}
+			if (timeout.bucket != null) {
+				timeout.bucket.remove(timeout);
+			}
+		}
+	}
+
+	/**
+	 * 处理一个tick，只在时间轮线程中调用
+	 */
+	private void processTick(long current, List<Timeout> expired) {
+		transferPending(current);
+		removeCancelled();
+
+		int index = (int) (current & ROOT_MASK);
+		if (index == 0) {
+			for (int level = 0; level < LEVELS; level++) {
+				int shift = ROOT_BITS + level * LEVEL_BITS;
+				int levelIndex = (int) ((current >>> shift) & LEVEL_MASK);
+				cascade(levels[level][levelIndex], current);
+				if (levelIndex != 0) {
+					break;
+				}
+			}
+		}
+
+		Timeout timeout = root[index].clear();
+		while (timeout != null) {
+			Timeout next = timeout.next;
+			timeout.next = null;
+			timeout.prev = null;
+			timeout.bucket = null;
+			if (timeout.state == ST_INIT) {
+				if (timeout.deadline > current) {
+					place(timeout, current);
+				} else {
+					expired.add(timeout);
+				}
+			}
+			timeout = next;
+		}
+
+		if (expired.isEmpty()) {
+			return;
+		}
+		if (expired.size() > maxBatch) {
+			maxBatch = expired.size();
+		}
+		for (Timeout t : expired) {
+			expire(t, current);
+		}
+		expired.clear();
+	}
+
+	private void expire(Timeout timeout, long current) {
+		if (timeout.interval > 0) {
+			if (timeout.state != ST_INIT) {
+				return;
+			}
+			timeout.deadline += timeout.interval;
+			place(timeout, current + 1);
+			if (!timeout.tryStart()) {
+				//上一次还在执行或者还在线程池中排队
+				skippedRuns.increment();
+				return;
+			}
+		} else {
+			if (!timeout.compareAndSetState(ST_INIT, ST_EXPIRED)) {
+				return;
+			}
+			timeouts.remove(timeout.id);
+		}
+		expiredTimeouts.increment();
+		dispatch(timeout);
+	}
+
+	private void dispatch(final Timeout timeout) {
+		try {
+			if (timeout.executor != null) {
+				timeout.executor.execute(new OrderedThreadPoolExecutor.OrderedRunable(timeout.key) {
+					@Override
+					public void run() {
+						timeout.run();
+					}
+				});
+			} else if (taskExecutor != null) {
+				taskExecutor.execute(timeout);
+			} else {
+				timeout.run();
+			}
+		} catch (Throwable e) {
+			timeout.finish();
+			log.error("TimingWheel dispatch " + timeout.id + " error", e);
+		}
+	}
+
+	private final class Worker implements Runnable {
+
+		@Override
+		public void run() {
+			List<Timeout> expired = new ArrayList<>();
+			long current = 0;
+			while (!shutdown) {
+				long tickTime = startTime + current * tickNanos;
+				long sleep = tickTime - System.nanoTime();
+				if (sleep > 0) {
+					LockSupport.parkNanos(this, sleep);
+					continue;
+				}
+
+				//落后时连续处理，不再等待
+				try {
+					processTick(current, expired);
+				} catch (Throwable e) {
+					log.error("TimingWheel " + name + " tick error", e);
+					expired.clear();
+				}
+				current++;
+				tick = current;
+			}
+		}
+	}
+
+	/**
+	 * 槽中的双向链表，只在时间轮线程中访问
+	 */
+	private static final class Bucket {
+
+		private Timeout head;
+		private Timeout tail;
+
+		void add(Timeout timeout) {
+			timeout.bucket = this;
+			if (head == null) {
+				head = tail = timeout;
+			} else {
+				tail.next = timeout;
+				timeout.prev = tail;
+				tail = timeout;
+			}
+		}
+
+		void remove(Timeout timeout) {
+			Timeout next = timeout.next;
+			if (timeout.prev != null) {
+				timeout.prev.next = next;
+			}
+			if (next != null) {
+				next.prev = timeout.prev;
+			}
+			if (timeout == head) {
+				head = next;
+			}
+			if (timeout == tail) {
+				tail = timeout.prev;
+			}
+			timeout.prev = null;
+			timeout.next = null;
+			timeout.bucket = null;
+		}
+
+		/**
+		 * 清空槽
+		 *
+		 * @return 原来的链表头
+		 */
+		Timeout clear() {
+			Timeout first = head;
+			head = tail = null;
+			return first;
+		}
+	}
+
+	private static final class Timeout implements Runnable {
+
+		private static final AtomicIntegerFieldUpdater<Timeout> STATE = AtomicIntegerFieldUpdater
+				.newUpdater(Timeout.class, "state");
+
+		private static final AtomicIntegerFieldUpdater<Timeout> RUNNING = AtomicIntegerFieldUpdater
+				.newUpdater(Timeout.class, "running");
+
+		private final long id;
+
+		private final Runnable task;
+
+		/**
+		 * 间隔的tick数，0表示只执行一次
+		 */
+		private final long interval;
+
+		private final OrderedExecutor executor;
+
+		private final long key;
+
+		/**
+		 * 到期的tick，固定频率的任务每次执行后由时间轮线程修改
+		 */
+		private volatile long deadline;
+
+		private volatile int state = ST_INIT;
+
+		/**
+		 * 固定频率的任务从分发到执行完成期间为1
+		 */
+		private volatile int running;
+
+		private Bucket bucket;
+		private Timeout prev;
+		private Timeout next;
+
+		Timeout(long id, Runnable task, long deadline, long interval, OrderedExecutor executor, long key) {
+			this.id = id;
+			this.task = task;
+			this.deadline = deadline;
+			this.interval = interval;
+			this.executor = executor;
+			this.key = key;
+		}
+
+		boolean compareAndSetState(int expect, int update) {
+			return STATE.compareAndSet(this, expect, update);
+		}
+
+		/**
+		 * 标记开始一次执行
+		 *
+		 * @return 上一次还没有执行完时返回false
+		 */
+		boolean tryStart() {
+			return RUNNING.compareAndSet(this, 0, 1);
+		}
+
+		void finish() {
+			running = 0;
+		}
+
+		@Override
+		public void run() {
+			try {
+				task.run();
+			} catch (Throwable e) {
+				log.error("SchedulerTask", e);
+			} finally {
+				finish();
+			}
+		}
+	}
+}
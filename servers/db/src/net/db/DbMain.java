@@ -1,6 +1,7 @@
 package net.db;
 
 import java.io.BufferedReader;
+import java.io.IOException;
 import java.io.InputStreamReader;
 import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
@@ -10,14 +11,15 @@ import org.springframework.context.annotation.AnnotationConfigApplicationContext
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import com.alibaba.nacos.api.exception.NacosException;
-import net.db.dao.AsyncData;
 import net.db.dao.RedisCache;
 import net.db.manager.DataManager;
 import net.server.DbServerInfo;
 import net.utils.AppUtils;
+import net.utils.MetricsUtils;
 import net.utils.NacosConfigUtils;
 import net.utils.SpringContext;
 import net.utils.Tool;
+import net.utils.thread.Scheduler;
 
 /**
  * DbMain
@@ -88,6 +90,16 @@ public class DbMain {
 
 		}
 
+		//定时任务的延迟和执行时间导出到prometheus
+		Scheduler.bindTo(MetricsUtils.getRegistry());
+		if (serverInfo.getMetricsPort() > 0) {
+			try {
+				MetricsUtils.startHttpServer(serverInfo.getMetricsPort());
+			} catch (IOException e) {
+				logger.error("prometheus端口 {} 开启失败", serverInfo.getMetricsPort(), e);
+			}
+		}
+
 		//程序关闭时一定执行的代码
 		Runtime.getRuntime().addShutdownHook(new Thread() {
 			@Override public void run() {
@@ -108,8 +120,10 @@ public class DbMain {
 	private static void serverStop() {
 		System.err.println("数据服务器准备关闭...");
 
-		AsyncData data = context.getBean(AsyncData.class);
-		data.shutdown();
+		//把异步队列中的数据写入mysql，预写日志在全部写入后删除
+		DataManager dataManager = context.getBean(DataManager.class);
+		dataManager.getData().shutdown();
+		dataManager.closeDataSources();
 		
 		//等待5秒，等其他线程的结束流程处理完毕
 		int waitTime = 5000;
@@ -155,6 +169,10 @@ public class DbMain {
 	private static void doSomeThing(String str) {
 		if (str.equals("test")) {
 			System.out.println("服务器正在运行,当前时间:" + System.currentTimeMillis());
+		} else if (str.equals("scheduler")) {
+			System.out.println(Scheduler.getReport());
+		} else if (str.equals("pool")) {
+			System.out.println(context.getBean(DataManager.class).getPoolReport());
 		} else {
 			System.out.println("不接受此命令: " + str);
 		}
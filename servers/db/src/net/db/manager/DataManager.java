@@ -1,22 +1,36 @@
 package net.db.manager;
 
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.List;
 import java.util.Map;
-import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import javax.annotation.PostConstruct;
-import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import com.alibaba.druid.filter.config.ConfigFilter;
 import com.alibaba.druid.pool.DruidDataSource;
 import com.alibaba.nacos.common.utils.ConcurrentHashSet;
 import net.db.DbMain;
+import net.db.ReadReplicas;
 import net.db.dao.AsyncData;
+import net.db.dao.AsyncJournal;
 import net.db.dao.RedisCache;
 import net.server.DbInfo;
 import net.server.DbServerInfo;
 import net.server.RedisInfo;
+import net.utils.AppUtils;
+import net.utils.MetricsUtils;
+import net.utils.OrderedExecutor;
+import net.utils.OrderedThreadPoolExecutor;
+import net.utils.PathUtils;
+import net.utils.StickyOrderedExecutor;
+import net.utils.VirtualOrderedExecutor;
 import net.utils.db.AutoDao;
+import net.utils.thread.Scheduler;
 
 /**
  * redis管理器
@@ -25,6 +39,8 @@ import net.utils.db.AutoDao;
  */
 @Service
 public class DataManager {
+
+	private static Logger logger = LoggerFactory.getLogger(DataManager.class);
 	
 	private Map<Integer, RedisCache> redisCaches = new ConcurrentHashMap<>();
 	
@@ -34,6 +50,40 @@ public class DataManager {
 	 * 本服持有的数据库id
 	 */
 	private Set<Integer> dsIds = new ConcurrentHashSet<>();
+
+	/**
+	 * 数据库id对应的只读从库
+	 */
+	private Map<Integer, ReadReplicas> replicas = new ConcurrentHashMap<>();
+
+	/**
+	 * 检查从库复制延迟的间隔(毫秒)
+	 */
+	private final static long REPLICA_LAG_CHECK_INTERVAL = 1000;
+
+	private final static String ROLE_PRIMARY = "primary";
+
+	private final static String ROLE_REPLICA = "replica";
+
+	/**
+	 * 从库连接池取连接的最长等待(毫秒)，从库不可用时尽快失败，由调用方回到主库
+	 */
+	private final static long REPLICA_MAX_WAIT = 1000;
+
+	/**
+	 * 数据库id对应的主库连接池
+	 */
+	private Map<Integer, DruidDataSource> dataSources = new ConcurrentHashMap<>();
+
+	/**
+	 * 所有连接池缓存的服务端预编译语句的上限，需要小于mysql的max_prepared_stmt_count
+	 */
+	private long serverPreparedStatements;
+
+	/**
+	 * 所有连接池的统计
+	 */
+	private List<DataSourceMetrics> poolMetrics = new CopyOnWriteArrayList<>();
 	
 	@PostConstruct
 	public void init() throws Exception {
@@ -52,7 +102,9 @@ public class DataManager {
 			RedisInfo redisInfo = entry.getValue();
 			RedisCache redisCache = this.redisCaches.get(dbId);
 			if (redisCache == null) {
+				//没有配置的连接池参数各自使用默认值
 				redisCache = new RedisCache(redisInfo.getRedisIp(), redisInfo.getRedisPort(),
+						redisInfo.getMaxActive(), redisInfo.getMaxIdle(), redisInfo.getMaxWait(),
 						serverInfo.getRedisExpireTime(), redisInfo.getRedisPass());
 				this.redisCaches.put(dbId, redisCache);
 			}
@@ -61,30 +113,18 @@ public class DataManager {
 
 	/**
 	 * 初始化mysql数据库并且和表操作的DAO对应
+	 * 每个数据库使用自己的连接池，一个数据库变慢时只会耗尽自己的连接
 	 * 
-	 * @return 
 	 * @throws Exception
 	 */
-	DataSource initDataSource() throws Exception {
-		DruidDataSource dataSource = new DruidDataSource();
-		dataSource.setFilters("config");
-		Properties properties = new Properties();
+	void initDataSource() throws Exception {
 		Set<DbInfo> dbInfos = DbMain.serverInfo.getServerDbInfos();
 		for (DbInfo dbInfo : dbInfos) {
-			dataSource.setUrl(dbInfo.getUrl());
-			dataSource.setUsername(dbInfo.getUsername());
-			dataSource.setPassword(dbInfo.getPassword());
-
-			dataSource.setInitialSize(dbInfo.getInitilSize());
-			dataSource.setMinIdle(dbInfo.getMinIdle());
-			dataSource.setMaxActive(dbInfo.getMaxActive());
-			dataSource.setValidationQuery(dbInfo.getValidationQuery());
-			dataSource.setTestOnBorrow(true);
-			dataSource.setMinEvictableIdleTimeMillis(dbInfo.getMinEvictableIdleTimeMillis());
-			dataSource.setTimeBetweenEvictionRunsMillis(dbInfo.getTimeBetweenEvictionRunsMillis());
-			//TODO : 生产环境需要配置加密
-			dataSource.addConnectionProperty(ConfigFilter.CONFIG_DECRYPT, "false");
-			dataSource.init();
+			if (this.dataSources.containsKey(dbInfo.getDbId())) {
+				throw new RuntimeException("数据库id重复 dbId = " + dbInfo.getDbId());
+			}
+			DruidDataSource dataSource = newDataSource(dbInfo, dbInfo.getUrl(), ROLE_PRIMARY);
+			this.dataSources.put(dbInfo.getDbId(), dataSource);
 
 			RedisCache redisCache = redisCaches.get(dbInfo.getDbId());
 			if (redisCache == null) {
@@ -92,18 +132,167 @@ public class DataManager {
 			}
 
 			dsIds.add(dbInfo.getDbId());
-			
-			AutoDao.scan("net.common.po.game", dbInfo.getDbId(), dataSource, redisCache);
+
+			ReadReplicas readReplicas = initReplicas(dbInfo);
+			AutoDao.scan("net.common.po.game", dbInfo.getDbId(), dataSource, readReplicas, redisCache);
+		}
+
+		if (serverPreparedStatements > 0) {
+			logger.info("本服缓存的服务端预编译语句最多{}个，所有数据服的总和需要小于mysql的max_prepared_stmt_count",
+					serverPreparedStatements);
+		}
+
+		if (!replicas.isEmpty()) {
+			Scheduler.submit(Scheduler.tag("DataManager.checkReplicaLag", new Runnable() {
+				@Override public void run() {
+					for (ReadReplicas readReplicas : replicas.values()) {
+						readReplicas.checkLag();
+					}
+				}
+			}), REPLICA_LAG_CHECK_INTERVAL, REPLICA_LAG_CHECK_INTERVAL);
 		}
+	}
+
+	/**
+	 * 初始化数据库的只读从库
+	 *
+	 * @param dbInfo
+	 * @return 没有配置从库时为null
+	 * @throws SQLException
+	 */
+	private ReadReplicas initReplicas(DbInfo dbInfo) throws SQLException {
+		if (dbInfo.getReplicaUrls() == null || dbInfo.getReplicaUrls().isEmpty()) {
+			return null;
+		}
+
+		ReadReplicas readReplicas = new ReadReplicas(dbInfo.getMaxReplicaLag());
+		for (String url : dbInfo.getReplicaUrls()) {
+			readReplicas.add(url, newDataSource(dbInfo, url, ROLE_REPLICA));
+		}
+		readReplicas.checkLag();
+		logger.info("数据库{}的从库 {}", dbInfo.getDbId(), readReplicas);
+
+		this.replicas.put(dbInfo.getDbId(), readReplicas);
+		return readReplicas;
+	}
 
+	/**
+	 * 按数据库配置创建连接池，连接池的状态导出到prometheus
+	 *
+	 * @param dbInfo
+	 * @param url
+	 * @param role 主库或者从库
+	 * @return
+	 * @throws SQLException
+	 */
+	private DruidDataSource newDataSource(DbInfo dbInfo, String url, String role) throws SQLException {
+		DataSourceMetrics metrics = new DataSourceMetrics(dbInfo.getDbId(), role);
+		DruidDataSource dataSource = new DruidDataSource();
+		dataSource.setName(role + "-" + dbInfo.getDbId());
+		dataSource.setFilters("config");
+		dataSource.getProxyFilters().add(metrics);
+		dataSource.setUrl(url);
+		dataSource.setUsername(dbInfo.getUsername());
+		dataSource.setPassword(dbInfo.getPassword());
+
+		dataSource.setInitialSize(dbInfo.getInitilSize());
+		dataSource.setMinIdle(dbInfo.getMinIdle());
+		dataSource.setMaxActive(dbInfo.getMaxActive());
+		if (ROLE_REPLICA.equals(role)) {
+			dataSource.setMaxWait(dbInfo.getMaxWait() > 0 ? Math.min(dbInfo.getMaxWait(), REPLICA_MAX_WAIT)
+					: REPLICA_MAX_WAIT);
+		} else if (dbInfo.getMaxWait() > 0) {
+			dataSource.setMaxWait(dbInfo.getMaxWait());
+		}
+		if (dbInfo.getMaxWaitThreadCount() > 0) {
+			dataSource.setMaxWaitThreadCount(dbInfo.getMaxWaitThreadCount());
+		}
+		dataSource.setValidationQuery(dbInfo.getValidationQuery());
+		dataSource.setTestOnBorrow(true);
+		dataSource.setMinEvictableIdleTimeMillis(dbInfo.getMinEvictableIdleTimeMillis());
+		dataSource.setTimeBetweenEvictionRunsMillis(dbInfo.getTimeBetweenEvictionRunsMillis());
+		//TODO : 生产环境需要配置加密
+		dataSource.addConnectionProperty(ConfigFilter.CONFIG_DECRYPT, "false");
+		if (dbInfo.isUseServerPrepStmts()) {
+			dataSource.addConnectionProperty("useServerPrepStmts", "true");
+		}
+		//只使用连接池的语句缓存，驱动的cachePrepStmts不开启，否则同一条语句在两层各缓存一份
+		if (dbInfo.isCachePrepStmts()) {
+			dataSource.setPoolPreparedStatements(true);
+			dataSource.setMaxPoolPreparedStatementPerConnectionSize(dbInfo.getPrepStmtCacheSize());
+			if (dbInfo.isUseServerPrepStmts()) {
+				this.serverPreparedStatements += (long) dbInfo.getMaxActive() * dbInfo.getPrepStmtCacheSize();
+			}
+		}
+		dataSource.init();
+
+		//url的参数部分不作为指标的标签
+		int index = url.indexOf('?');
+		metrics.bindTo(dataSource, index < 0 ? url : url.substring(0, index), MetricsUtils.getRegistry());
+		this.poolMetrics.add(metrics);
 		return dataSource;
 	}
 
+	/**
+	 * 所有连接池的状态，用于后台指令
+	 */
+	public String getPoolReport() {
+		StringBuilder sb = new StringBuilder();
+		for (DataSourceMetrics metrics : this.poolMetrics) {
+			sb.append(metrics).append('\n');
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * 停服时关闭所有连接池，需要在异步数据写完之后调用
+	 */
+	public void closeDataSources() {
+		for (DruidDataSource dataSource : this.dataSources.values()) {
+			dataSource.close();
+		}
+		for (ReadReplicas readReplicas : this.replicas.values()) {
+			readReplicas.close();
+		}
+	}
+
 	/**
 	 * 初始化数据中心
+	 * 开启预写日志时先把上次停服时没有写入mysql的数据重放，再对外提供服务
+	 */
+	private void initData() throws IOException {
+		DbServerInfo serverInfo = DbMain.serverInfo;
+		OrderedExecutor executor = newAsyncExecutor(serverInfo);
+		if (!serverInfo.isAsyncJournal()) {
+			data = new AsyncData(null, executor);
+			return;
+		}
+
+		String dataPath = AppUtils.getDataPath();
+		String journalPath = PathUtils.combine(dataPath == null ? "data" : dataPath, "journal");
+		AsyncJournal journal = new AsyncJournal(journalPath, serverInfo.getAsyncJournalSegmentSize());
+		int count = AsyncData.replay(journal);
+		logger.info("异步日志重放 path = {} count = {}", journalPath, count);
+
+		data = new AsyncData(journal, executor);
+	}
+
+	/**
+	 * 根据配置创建异步写入的有序线程池
 	 */
-	private void initData() {
-		data = new AsyncData();
+	private OrderedExecutor newAsyncExecutor(DbServerInfo serverInfo) {
+		int threads = Runtime.getRuntime().availableProcessors();
+		String type = serverInfo.getAsyncExecutor();
+		if (DbServerInfo.EXECUTOR_STICKY.equals(type)) {
+			return StickyOrderedExecutor.newStickyOrderedExecutor(threads, true);
+		}
+		if (DbServerInfo.EXECUTOR_VIRTUAL.equals(type)) {
+			int fallbackThreads = serverInfo.getAsyncExecutorThreads();
+			return VirtualOrderedExecutor.newVirtualOrderedExecutor(fallbackThreads > 0 ? fallbackThreads : threads * 8);
+		}
+		OrderedThreadPoolExecutor executor = OrderedThreadPoolExecutor.newFixesOrderedThreadPool(threads);
+		executor.bindTo("async", MetricsUtils.getRegistry());
+		return executor;
 	}
 
 	/**
@@ -127,4 +316,12 @@ public class DataManager {
 	public Set<Integer> getDsIds() {
 		return dsIds;
 	}
+
+	public Map<Integer, DruidDataSource> getDataSources() {
+		return dataSources;
+	}
+
+	public Map<Integer, ReadReplicas> getReplicas() {
+		return replicas;
+	}
 }
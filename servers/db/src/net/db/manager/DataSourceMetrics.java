@@ -0,0 +1,126 @@
+package net.db.manager;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToDoubleFunction;
+import com.alibaba.druid.filter.FilterAdapter;
+import com.alibaba.druid.filter.FilterChain;
+import com.alibaba.druid.pool.DruidDataSource;
+import com.alibaba.druid.pool.DruidPooledConnection;
+import net.utils.LatencyHistogram;
+
+/**
+ * 一个连接池的统计，作为druid的filter记录借连接的耗时，同时把连接池的状态导出到micrometer
+ * <p/>
+ * <ul>
+ * <li>db.pool.active/db.pool.max 借出的连接数和上限</li>
+ * <li>db.pool.idle 池中空闲的连接数</li>
+ * <li>db.pool.waiting 正在等待连接的线程数</li>
+ * <li>db.pool.wait.count/db.pool.wait.seconds 池空时等待连接的总次数和总时间</li>
+ * <li>db.pool.borrow 借连接的耗时，包括等待和创建连接</li>
+ * <li>db.pool.borrow.errors 借连接失败(超时等)的次数</li>
+ * <li>db.pool.stmt.cache.hits/misses 连接池PreparedStatement缓存的命中和未命中次数</li>
+ * </ul>
+ *
+ * @author ckf
+ */
+public class DataSourceMetrics extends FilterAdapter {
+
+	private final int dsId;
+
+	/**
+	 * primary或者replica
+	 */
+	private final String role;
+
+	private final LatencyHistogram borrow = new LatencyHistogram();
+
+	private final LongAdder borrowErrors = new LongAdder();
+
+	private volatile Timer borrowTimer;
+
+	private volatile DruidDataSource dataSource;
+
+	public DataSourceMetrics(int dsId, String role) {
+		this.dsId = dsId;
+		this.role = role;
+	}
+
+	/**
+	 * 注册到micrometer，需要在连接池创建后调用
+	 *
+	 * @param dataSource
+	 * @param url 区分同一个数据库的多个从库
+	 * @param registry
+	 */
+	public void bindTo(final DruidDataSource dataSource, String url, MeterRegistry registry) {
+		this.dataSource = dataSource;
+		Tags tags = Tags.of("dsId", String.valueOf(dsId), "role", role, "url", url);
+		Gauge.builder("db.pool.active", dataSource, DruidDataSource::getActiveCount).tags(tags).register(registry);
+		Gauge.builder("db.pool.idle", dataSource, DruidDataSource::getPoolingCount).tags(tags).register(registry);
+		Gauge.builder("db.pool.max", dataSource, DruidDataSource::getMaxActive).tags(tags).register(registry);
+		Gauge.builder("db.pool.waiting", dataSource, DruidDataSource::getNotEmptyWaitThreadCount).tags(tags)
+				.register(registry);
+		FunctionCounter.builder("db.pool.wait.count", dataSource, DruidDataSource::getNotEmptyWaitCount).tags(tags)
+				.register(registry);
+		FunctionCounter.builder("db.pool.wait.seconds", dataSource, new ToDoubleFunction<DruidDataSource>() {
+			@Override public double applyAsDouble(DruidDataSource ds) {
+				return ds.getNotEmptyWaitNanos() / 1e9;
+			}
+		}).tags(tags).register(registry);
+		FunctionCounter.builder("db.pool.borrow.errors", borrowErrors, LongAdder::doubleValue).tags(tags)
+				.register(registry);
+		FunctionCounter.builder("db.pool.stmt.cache.hits", dataSource,
+				DruidDataSource::getCachedPreparedStatementHitCount).tags(tags).register(registry);
+		FunctionCounter.builder("db.pool.stmt.cache.misses", dataSource,
+				DruidDataSource::getCachedPreparedStatementMissCount).tags(tags).register(registry);
+		Gauge.builder("db.pool.stmt.cached", dataSource, DruidDataSource::getCachedPreparedStatementCount).tags(tags)
+				.register(registry);
+		this.borrowTimer = Timer.builder("db.pool.borrow").tags(tags).publishPercentileHistogram().register(registry);
+	}
+
+	@Override
+	public DruidPooledConnection dataSource_getConnection(FilterChain chain, DruidDataSource dataSource,
+			long maxWaitMillis) throws SQLException {
+		long start = System.nanoTime();
+		try {
+			return super.dataSource_getConnection(chain, dataSource, maxWaitMillis);
+		} catch (SQLException | RuntimeException e) {
+			borrowErrors.increment();
+			throw e;
+		} finally {
+			long nanos = System.nanoTime() - start;
+			borrow.record(nanos);
+			Timer timer = borrowTimer;
+			if (timer != null) {
+				timer.record(nanos, TimeUnit.NANOSECONDS);
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		DruidDataSource ds = dataSource;
+		StringBuilder sb = new StringBuilder();
+		sb.append("dsId=").append(dsId).append(' ').append(role);
+		if (ds != null) {
+			sb.append(" active=").append(ds.getActiveCount()).append('/').append(ds.getMaxActive()).append(" idle=")
+					.append(ds.getPoolingCount()).append(" waiting=").append(ds.getNotEmptyWaitThreadCount())
+					.append(" waitTime=").append(TimeUnit.NANOSECONDS.toMillis(ds.getNotEmptyWaitNanos())).append("ms");
+		}
+		sb.append(" borrow(").append(borrow).append(") borrowErrors=").append(borrowErrors.sum());
+		if (ds != null && ds.isPoolPreparedStatements()) {
+			long hits = ds.getCachedPreparedStatementHitCount();
+			long total = hits + ds.getCachedPreparedStatementMissCount();
+			sb.append(" stmtCache(cached=").append(ds.getCachedPreparedStatementCount()).append(" hitRate=")
+					.append(total == 0 ? "-" : String.format("%.2f%%", hits * 100.0 / total)).append(')');
+		}
+		return sb.toString();
+	}
+}
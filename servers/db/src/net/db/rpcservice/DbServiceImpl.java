@@ -1,12 +1,26 @@
 package net.db.rpcservice;
 
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import com.google.protobuf.ByteString;
+import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
+import net.db.BundleKey;
+import net.db.Data;
 import net.db.DbMain;
+import net.db.dao.CachedDao;
+import net.db.dao.Dao;
 import net.db.manager.DataManager;
-import net.db.manager.RpcManager;
 import net.proto.grpc.DbRpcService;
+import net.proto.grpc.DbRpcService.DbCode;
 import net.proto.grpc.DbServiceGrpc;
+import net.utils.MetricsUtils;
+import net.utils.OrderedThreadPoolExecutor;
 
 /**
  * 数据服务
@@ -14,16 +28,365 @@ import net.proto.grpc.DbServiceGrpc;
  * @Author ckf
  */
 public class DbServiceImpl extends DbServiceGrpc.DbServiceImplBase {
-	
+
+	private static Logger logger = LoggerFactory.getLogger(DbServiceImpl.class);
+
+	/**
+	 * 批量写入的执行线程池，同一个流的分块使用同一个key按顺序执行
+	 */
+	private static final OrderedThreadPoolExecutor BULK_EXECUTOR = OrderedThreadPoolExecutor
+			.newFixesOrderedThreadPool(Runtime.getRuntime().availableProcessors());
+
+	static {
+		BULK_EXECUTOR.bindTo("bulk", MetricsUtils.getRegistry());
+	}
+
+	/**
+	 * 批量写入流的序号
+	 */
+	private static final AtomicLong BULK_SEQ = new AtomicLong();
+
 	@Override public void select(DbRpcService.SelectRequest req,
 			StreamObserver<DbRpcService.SelectResponse> responseObserver) {
-		RpcManager rpcManager = (RpcManager) DbMain.context.getBean("rpcManager");
 		DataManager dataManager = (DataManager) DbMain.context.getBean("dataManager");
 		String s = dataManager.getData().get(req.getDsId(), req.getClassName(), req.getId());
-		DbRpcService.SelectResponse reply = DbRpcService.SelectResponse.newBuilder().setR(s).build();
+		DbRpcService.SelectResponse reply = DbRpcService.SelectResponse.newBuilder().setR(s == null ? "" : s).build();
 		responseObserver.onNext(reply);
 		responseObserver.onCompleted();
 
 	}
-}
 
+	/**
+	 * 一次取得多张表的缓存数据，和keys的顺序一致，不存在的为空字符串<br>
+	 * 始终返回json，MultiGetResponse.r是string，proto3要求string是合法的utf-8，不能原样放入二进制格式
+	 */
+	@Override public void multiGet(DbRpcService.MultiGetRequest req,
+			StreamObserver<DbRpcService.MultiGetResponse> responseObserver) {
+		DataManager dataManager = (DataManager) DbMain.context.getBean("dataManager");
+		List<BundleKey> keys = new ArrayList<>(req.getKeysCount());
+		for (DbRpcService.MultiGetKey key : req.getKeysList()) {
+			keys.add(new BundleKey(key.getClassName(), key.getId()));
+		}
+
+		List<String> r = dataManager.getData().loadBundle(req.getDsId(), keys);
+		DbRpcService.MultiGetResponse.Builder reply = DbRpcService.MultiGetResponse.newBuilder();
+		for (String s : r) {
+			reply.addR(s == null ? "" : s);
+		}
+		responseObserver.onNext(reply.build());
+		responseObserver.onCompleted();
+	}
+
+	@Override public void get(DbRpcService.GetRequest req, StreamObserver<DbRpcService.DataResponse> responseObserver) {
+		read(req, 1, responseObserver, new ReadCall() {
+			@Override public Object call(Data data, int dsId, String className, Object[] ids) {
+				if (req.getFromDb()) {
+					return data.getFromDb(dsId, className, ids[0]);
+				}
+				return req.getBinary() ? data.getRaw(dsId, className, ids[0]) : data.get(dsId, className, ids[0]);
+			}
+		});
+	}
+
+	@Override public void getList(DbRpcService.GetRequest req,
+			StreamObserver<DbRpcService.DataResponse> responseObserver) {
+		read(req, 1, responseObserver, new ReadCall() {
+			@Override public Object call(Data data, int dsId, String className, Object[] ids) {
+				if (req.getFromDb()) {
+					return data.getListFromDb(dsId, className, ids[0]);
+				}
+				return req.getBinary() ? data.getListRaw(dsId, className, ids[0]) : data.getList(dsId, className, ids[0]);
+			}
+		});
+	}
+
+	@Override public void getOne(DbRpcService.GetRequest req,
+			StreamObserver<DbRpcService.DataResponse> responseObserver) {
+		read(req, 2, responseObserver, new ReadCall() {
+			@Override public Object call(Data data, int dsId, String className, Object[] ids) {
+				if (req.getBinary()) {
+					return data.getOneRaw(dsId, className, ids[0], ids[1], req.getFlushCache());
+				}
+				return data.getOne(dsId, className, ids[0], ids[1], req.getFlushCache());
+			}
+		});
+	}
+
+	@Override public void listDelay(DbRpcService.GetRequest req,
+			StreamObserver<DbRpcService.WriteResponse> responseObserver) {
+		DbRpcService.WriteResponse.Builder reply = DbRpcService.WriteResponse.newBuilder();
+		DbCode code = check(req.getDsId(), req.getClassName(), true);
+		if (code != DbCode.OK) {
+			reply.setCode(code).setMsg("unknown cached class " + req.getClassName());
+		} else if (req.getIdsCount() != 1) {
+			reply.setCode(DbCode.BAD_REQUEST).setMsg("listDelay needs 1 id");
+		} else {
+			try {
+				getData().listDelay(req.getDsId(), req.getClassName(), toId(req.getIds(0)));
+				reply.setCount(1);
+			} catch (RuntimeException e) {
+				logger.error("listDelay error, className=" + req.getClassName(), e);
+				reply.setCode(DbCode.INTERNAL).setMsg(String.valueOf(e.getMessage()));
+			}
+		}
+		responseObserver.onNext(reply.build());
+		responseObserver.onCompleted();
+	}
+
+	@Override public void update(DbRpcService.WriteRequest req,
+			StreamObserver<DbRpcService.WriteResponse> responseObserver) {
+		write(req, true, responseObserver, new WriteCall() {
+			@Override public int call(Data data, int dsId, String className, List<String> dataList) {
+				return data.update(dsId, className, dataList.get(0)) ? 1 : 0;
+			}
+		});
+	}
+
+	@Override public void insert(DbRpcService.WriteRequest req,
+			StreamObserver<DbRpcService.WriteResponse> responseObserver) {
+		write(req, true, responseObserver, new WriteCall() {
+			@Override public int call(Data data, int dsId, String className, List<String> dataList)
+					throws SQLException {
+				data.insert(dsId, className, dataList.get(0));
+				return 1;
+			}
+		});
+	}
+
+	@Override public void delete(DbRpcService.WriteRequest req,
+			StreamObserver<DbRpcService.WriteResponse> responseObserver) {
+		write(req, true, responseObserver, new WriteCall() {
+			@Override public int call(Data data, int dsId, String className, List<String> dataList) {
+				return data.delete(dsId, className, dataList.get(0));
+			}
+		});
+	}
+
+	@Override public void insertBatch(DbRpcService.WriteRequest req,
+			StreamObserver<DbRpcService.WriteResponse> responseObserver) {
+		write(req, false, responseObserver, new WriteCall() {
+			@Override public int call(Data data, int dsId, String className, List<String> dataList)
+					throws SQLException {
+				data.insertBatch(dsId, className, dataList);
+				return dataList.size();
+			}
+		});
+	}
+
+	/**
+	 * 大批量写入<br>
+	 * 关闭自动流控，一个分块写入数据库后才向客户端请求下一个，服务端同时只持有每个流的一个分块，
+	 * 客户端在流控窗口写满后isReady()为false，不会把数据堆积在服务端
+	 */
+	@Override public StreamObserver<DbRpcService.BulkWriteChunk> bulkWrite(
+			StreamObserver<DbRpcService.BulkWriteResponse> responseObserver) {
+		ServerCallStreamObserver<DbRpcService.BulkWriteResponse> serverObserver =
+				(ServerCallStreamObserver<DbRpcService.BulkWriteResponse>) responseObserver;
+		serverObserver.disableAutoInboundFlowControl();
+		serverObserver.request(1);
+		return new BulkWriter(serverObserver);
+	}
+
+	/**
+	 * 缓存类的读取
+	 *
+	 * @param req
+	 * @param idCount 需要的id数量
+	 * @param responseObserver
+	 * @param call
+	 */
+	private void read(DbRpcService.GetRequest req, int idCount,
+			StreamObserver<DbRpcService.DataResponse> responseObserver, ReadCall call) {
+		DbRpcService.DataResponse.Builder reply = DbRpcService.DataResponse.newBuilder();
+		DbCode code = check(req.getDsId(), req.getClassName(), true);
+		if (code != DbCode.OK) {
+			reply.setCode(code).setMsg("unknown cached class " + req.getClassName());
+		} else if (req.getIdsCount() != idCount) {
+			reply.setCode(DbCode.BAD_REQUEST).setMsg("need " + idCount + " ids, got " + req.getIdsCount());
+		} else {
+			Object[] ids = new Object[idCount];
+			for (int i = 0; i < idCount; i++) {
+				ids[i] = toId(req.getIds(i));
+			}
+
+			try {
+				Object r = call.call(getData(), req.getDsId(), req.getClassName(), ids);
+				if (r == null) {
+					reply.setCode(DbCode.NOT_FOUND);
+				} else if (r instanceof byte[]) {
+					reply.setData(ByteString.copyFrom((byte[]) r));
+				} else {
+					reply.setData(ByteString.copyFromUtf8((String) r));
+				}
+			} catch (RuntimeException e) {
+				logger.error("read error, className=" + req.getClassName(), e);
+				reply.setCode(DbCode.INTERNAL).setMsg(String.valueOf(e.getMessage()));
+			}
+		}
+		responseObserver.onNext(reply.build());
+		responseObserver.onCompleted();
+	}
+
+	/**
+	 * 写入
+	 *
+	 * @param req
+	 * @param single 是否只能有一条数据
+	 * @param responseObserver
+	 * @param call
+	 */
+	private void write(DbRpcService.WriteRequest req, boolean single,
+			StreamObserver<DbRpcService.WriteResponse> responseObserver, WriteCall call) {
+		DbRpcService.WriteResponse.Builder reply = DbRpcService.WriteResponse.newBuilder();
+		DbCode code = check(req.getDsId(), req.getClassName(), false);
+		if (code != DbCode.OK) {
+			reply.setCode(code).setMsg("unknown class " + req.getClassName());
+		} else if (single && req.getDataCount() != 1) {
+			reply.setCode(DbCode.BAD_REQUEST).setMsg("need 1 data, got " + req.getDataCount());
+		} else {
+			List<String> dataList = new ArrayList<>(req.getDataCount());
+			for (ByteString data : req.getDataList()) {
+				dataList.add(data.toStringUtf8());
+			}
+
+			try {
+				reply.setCount(call.call(getData(), req.getDsId(), req.getClassName(), dataList));
+			} catch (SQLException e) {
+				logger.error("write error, className=" + req.getClassName(), e);
+				reply.setCode(DbCode.DB_ERROR).setMsg(String.valueOf(e.getMessage()));
+			} catch (RuntimeException e) {
+				logger.error("write error, className=" + req.getClassName(), e);
+				reply.setCode(DbCode.INTERNAL).setMsg(String.valueOf(e.getMessage()));
+			}
+		}
+		responseObserver.onNext(reply.build());
+		responseObserver.onCompleted();
+	}
+
+	/**
+	 * 检查数据源和表是否存在
+	 *
+	 * @param dsId
+	 * @param className
+	 * @param cached 是否需要是缓存类
+	 * @return
+	 */
+	private static DbCode check(int dsId, String className, boolean cached) {
+		Dao<?> dao = Dao.getDao(dsId, className);
+		if (dao == null || (cached && !(dao instanceof CachedDao))) {
+			return DbCode.UNKNOWN_CLASS;
+		}
+		return DbCode.OK;
+	}
+
+	private static Object toId(DbRpcService.DbKey key) {
+		return key.getSid().isEmpty() ? (Object) key.getId() : key.getSid();
+	}
+
+	private static Data getData() {
+		DataManager dataManager = (DataManager) DbMain.context.getBean("dataManager");
+		return dataManager.getData();
+	}
+
+	/**
+	 * 一个批量写入流，分块在BULK_EXECUTOR中按顺序写入，写完后再请求下一个分块
+	 */
+	private static final class BulkWriter implements StreamObserver<DbRpcService.BulkWriteChunk> {
+
+		private final ServerCallStreamObserver<DbRpcService.BulkWriteResponse> responseObserver;
+
+		private final long orderKey = BULK_SEQ.incrementAndGet();
+
+		/**
+		 * 只在BULK_EXECUTOR中访问
+		 */
+		private final DbRpcService.BulkWriteResponse.Builder reply = DbRpcService.BulkWriteResponse.newBuilder();
+
+		BulkWriter(ServerCallStreamObserver<DbRpcService.BulkWriteResponse> responseObserver) {
+			this.responseObserver = responseObserver;
+		}
+
+		@Override public void onNext(final DbRpcService.BulkWriteChunk chunk) {
+			BULK_EXECUTOR.execute(new OrderedThreadPoolExecutor.OrderedRunable(orderKey) {
+				@Override public void run() {
+					write(chunk);
+					if (!responseObserver.isCancelled()) {
+						responseObserver.request(1);
+					}
+				}
+			});
+		}
+
+		@Override public void onError(Throwable t) {
+			logger.error("bulkWrite cancelled, chunks = " + reply.getCountsCount(), t);
+		}
+
+		@Override public void onCompleted() {
+			//排在最后一个分块之后执行
+			BULK_EXECUTOR.execute(new OrderedThreadPoolExecutor.OrderedRunable(orderKey) {
+				@Override public void run() {
+					responseObserver.onNext(reply.build());
+					responseObserver.onCompleted();
+				}
+			});
+		}
+
+		private void write(DbRpcService.BulkWriteChunk chunk) {
+			List<String> dataList = new ArrayList<>(chunk.getDataCount());
+			for (ByteString data : chunk.getDataList()) {
+				dataList.add(data.toStringUtf8());
+			}
+
+			DbCode code = check(chunk.getDsId(), chunk.getClassName(), false);
+			String msg = "unknown class " + chunk.getClassName();
+			if (code == DbCode.OK && chunk.getOp() == DbRpcService.WriteOp.UNRECOGNIZED) {
+				code = DbCode.BAD_REQUEST;
+				msg = "unknown op " + chunk.getOpValue();
+			}
+			if (code == DbCode.OK) {
+				try {
+					int count;
+					if (chunk.getOp() == DbRpcService.WriteOp.UPDATE) {
+						count = getData().updateBatch(chunk.getDsId(), chunk.getClassName(), dataList);
+					} else {
+						getData().insertBatch(chunk.getDsId(), chunk.getClassName(), dataList);
+						count = dataList.size();
+					}
+					reply.addCounts(count).setTotal(reply.getTotal() + count);
+					return;
+				} catch (SQLException e) {
+					logger.error("bulkWrite error, className=" + chunk.getClassName(), e);
+					code = DbCode.DB_ERROR;
+					msg = String.valueOf(e.getMessage());
+				} catch (RuntimeException e) {
+					logger.error("bulkWrite error, className=" + chunk.getClassName(), e);
+					code = DbCode.INTERNAL;
+					msg = String.valueOf(e.getMessage());
+				}
+			}
+
+			//记录第一个失败的分块，后续分块继续写入
+			if (reply.getCode() == DbCode.OK) {
+				reply.setCode(code).setMsg("chunk " + reply.getCountsCount() + ": " + msg);
+			}
+			reply.addCounts(-1);
+		}
+	}
+
+	/**
+	 * 缓存类的一次读取
+	 */
+	private interface ReadCall {
+		/**
+		 * @return json字符串，或者原始格式的byte[]
+		 */
+		Object call(Data data, int dsId, String className, Object[] ids);
+	}
+
+	/**
+	 * 一次写入
+	 */
+	private interface WriteCall {
+		int call(Data data, int dsId, String className, List<String> dataList) throws SQLException;
+	}
+}
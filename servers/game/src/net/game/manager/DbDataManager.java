@@ -1,17 +1,50 @@
 package net.game.manager;
 
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import javax.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import com.google.common.base.Function;
+import com.google.common.base.Throwables;
+import com.google.common.util.concurrent.AsyncFunction;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import com.google.protobuf.ByteString;
 import net.db.BasePo;
+import net.db.anno.Cacheable;
+import net.db.codec.BinaryPoCodec;
+import net.db.codec.CodecType;
+import io.grpc.Status;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
 import net.game.manager.RpcManager;
 import net.proto.grpc.DbRpcService;
+import net.proto.grpc.DbRpcService.DbCode;
+import net.rpc.common.DbRpcException;
+import net.rpc.common.RpcChannelConfig;
+import net.rpc.common.RpcChannelFactory;
 import net.rpc.service.DbServerService;
 import net.utils.JsonUtils;
+import net.utils.thread.Scheduler;
 
 /**
  * 数据库管理器
@@ -23,22 +56,642 @@ public class DbDataManager {
 
 	private static Logger logger = LoggerFactory.getLogger(DbDataManager.class);
 
+	/**
+	 * 批量写入时每个分块的默认条数
+	 */
+	public static final int BULK_CHUNK_SIZE = 500;
+
 	@Autowired RpcManager rpcManager;
 
+	/**
+	 * 发出的对冲请求数
+	 */
+	private final LongAdder hedges = new LongAdder();
+
+	/**
+	 * 对冲请求先返回的次数
+	 */
+	private final LongAdder hedgeWins = new LongAdder();
+
+	/**
+	 * 缓存格式为二进制的po的编解码器
+	 */
+	private final Map<Class<?>, BinaryPoCodec<?>> binaryCodecs = new ConcurrentHashMap<>();
+
 	@PostConstruct public void init() {
 
 	}
 
 	public <T extends BasePo> T select(int dsId, Class<T> clazz, long id) {
-		DbServerService dbService = rpcManager.getDbServiceByDsId(dsId);
+		DbServerService dbService = rpcManager.getReadDbServiceByDsId(dsId);
 		if (dbService == null) {
 			return null;
 		}
 
-		DbRpcService.SelectRequest request = DbRpcService.SelectRequest.newBuilder()
+		final DbRpcService.SelectRequest request = DbRpcService.SelectRequest.newBuilder()
 				.setClassName(clazz.getSimpleName()).setId(id).build();
-		DbRpcService.SelectResponse select = dbService.getBlockingStub().select(request);
+		DbRpcService.SelectResponse select;
+		if (RpcChannelFactory.getConfig().isHedgeReads()) {
+			select = getHedged(hedge(dsId, dbService, false, new ReadCall<DbRpcService.SelectResponse>() {
+				@Override public ListenableFuture<DbRpcService.SelectResponse> call(DbServerService service) {
+					return service.getFutureStub().select(request);
+				}
+			}));
+		} else {
+			select = dbService.getBlockingStub().select(request);
+		}
 		String r = select.getR();
 		return JsonUtils.string2Object(r, clazz);
 	}
+
+	/**
+	 * 一次rpc取得同一个id在多张缓存表中的数据，用于登录时加载玩家数据
+	 *
+	 * @param dsId
+	 * @param id
+	 * @param classes 缓存表的po类型
+	 * @return po类型 -> 一对一关系为po对象，一对多关系为po列表，不存在的没有对应的项
+	 */
+	@SafeVarargs
+	public final Map<Class<?>, Object> loadBundle(int dsId, long id, Class<? extends BasePo>... classes) {
+		DbServerService dbService = rpcManager.getReadDbServiceByDsId(dsId);
+		if (dbService == null) {
+			return null;
+		}
+
+		DbRpcService.MultiGetRequest.Builder request = DbRpcService.MultiGetRequest.newBuilder().setDsId(dsId);
+		for (Class<? extends BasePo> clazz : classes) {
+			request.addKeys(DbRpcService.MultiGetKey.newBuilder().setClassName(clazz.getSimpleName()).setId(id));
+		}
+		final DbRpcService.MultiGetRequest multiGet = request.build();
+		DbRpcService.MultiGetResponse response;
+		if (RpcChannelFactory.getConfig().isHedgeReads()) {
+			response = getHedged(hedge(dsId, dbService, false, new ReadCall<DbRpcService.MultiGetResponse>() {
+				@Override public ListenableFuture<DbRpcService.MultiGetResponse> call(DbServerService service) {
+					return service.getFutureStub().multiGet(multiGet);
+				}
+			}));
+		} else {
+			response = dbService.getBlockingStub().multiGet(multiGet);
+		}
+
+		Map<Class<?>, Object> r = new HashMap<>();
+		for (int i = 0; i < classes.length; i++) {
+			Class<? extends BasePo> clazz = classes[i];
+			Cacheable cacheable = clazz.getAnnotation(Cacheable.class);
+			Object value;
+			if (cacheable != null && cacheable.subkey().length() > 0) {
+				value = JsonUtils.string2List(response.getR(i), clazz);
+			} else {
+				value = JsonUtils.string2Object(response.getR(i), clazz);
+			}
+			if (value != null) {
+				r.put(clazz, value);
+			}
+		}
+		return r;
+	}
+
+	/**
+	 * 异步取得一对一关系中的一条数据，不存在时为null
+	 *
+	 * @param dsId
+	 * @param clazz
+	 * @param id
+	 * @param fromDb 是否强制从db读取并刷新缓存
+	 * @return
+	 */
+	public <T extends BasePo> ListenableFuture<T> getAsync(int dsId, Class<T> clazz, Object id, boolean fromDb) {
+		return getAsync(dsId, clazz, id, fromDb, fromDb ? null : binaryCodec(clazz));
+	}
+
+	/**
+	 * @param codec 不为null时接受缓存中的二进制格式
+	 */
+	private <T extends BasePo> ListenableFuture<T> getAsync(final int dsId, final Class<T> clazz, final Object id,
+			final boolean fromDb, BinaryPoCodec<T> codec) {
+		DbServerService dbService = readService(dsId, fromDb);
+		if (dbService == null) {
+			return Futures.immediateFailedFuture(new DbRpcException(DbCode.INTERNAL, "no dbserver, dsId=" + dsId));
+		}
+
+		final DbRpcService.GetRequest request = DbRpcService.GetRequest.newBuilder().setDsId(dsId)
+				.setClassName(clazz.getSimpleName()).addIds(toKey(id)).setFromDb(fromDb).setBinary(codec != null)
+				.build();
+		return decodeOne(hedge(dsId, dbService, fromDb, new ReadCall<DbRpcService.DataResponse>() {
+					@Override public ListenableFuture<DbRpcService.DataResponse> call(DbServerService service) {
+						return service.getFutureStub().get(request);
+					}
+				}), clazz, codec, new Callable<ListenableFuture<T>>() {
+					@Override public ListenableFuture<T> call() {
+						return getAsync(dsId, clazz, id, fromDb, null);
+					}
+				});
+	}
+
+	/**
+	 * 异步取得一对多关系中的一组数据
+	 *
+	 * @param dsId
+	 * @param clazz
+	 * @param id 一级key
+	 * @param fromDb 是否强制从db读取并刷新缓存
+	 * @return
+	 */
+	public <T extends BasePo> ListenableFuture<List<T>> getListAsync(int dsId, Class<T> clazz, Object id,
+			boolean fromDb) {
+		return getListAsync(dsId, clazz, id, fromDb, fromDb ? null : binaryCodec(clazz));
+	}
+
+	/**
+	 * @param codec 不为null时接受缓存中的二进制格式
+	 */
+	private <T extends BasePo> ListenableFuture<List<T>> getListAsync(final int dsId, final Class<T> clazz,
+			final Object id, final boolean fromDb, final BinaryPoCodec<T> codec) {
+		DbServerService dbService = readService(dsId, fromDb);
+		if (dbService == null) {
+			return Futures.immediateFailedFuture(new DbRpcException(DbCode.INTERNAL, "no dbserver, dsId=" + dsId));
+		}
+
+		final DbRpcService.GetRequest request = DbRpcService.GetRequest.newBuilder().setDsId(dsId)
+				.setClassName(clazz.getSimpleName()).addIds(toKey(id)).setFromDb(fromDb).setBinary(codec != null)
+				.build();
+		return Futures.transformAsync(hedge(dsId, dbService, fromDb, new ReadCall<DbRpcService.DataResponse>() {
+					@Override public ListenableFuture<DbRpcService.DataResponse> call(DbServerService service) {
+						return service.getFutureStub().getList(request);
+					}
+				}),
+				new AsyncFunction<DbRpcService.DataResponse, List<T>>() {
+					@SuppressWarnings("unchecked") @Override public ListenableFuture<List<T>> apply(
+							DbRpcService.DataResponse response) {
+						if (codec == null || response.getCode() != DbCode.OK || response.getData().isEmpty()
+								|| response.getData().byteAt(0) != BinaryPoCodec.LIST_MAGIC) {
+							return Futures.immediateFuture(
+									(List<T>) decode(response, JsonUtils.constructCollectionType(List.class, clazz)));
+						}
+
+						List<T> list = codec.decodeList(response.getData().toByteArray());
+						if (list == null) {
+							logger.warn("binary schema mismatch, read json instead, po=" + clazz.getSimpleName());
+							return getListAsync(dsId, clazz, id, fromDb, null);
+						}
+						return Futures.immediateFuture(list);
+					}
+				}, MoreExecutors.directExecutor());
+	}
+
+	/**
+	 * 异步取得一对多关系中的一个数据
+	 *
+	 * @param dsId
+	 * @param clazz
+	 * @param id 一级key
+	 * @param subId 二级key
+	 * @param isFlushCache 从db读取后是否同时刷新缓存
+	 * @return
+	 */
+	public <T extends BasePo> ListenableFuture<T> getOneAsync(int dsId, Class<T> clazz, Object id, Object subId,
+			boolean isFlushCache) {
+		return getOneAsync(dsId, clazz, id, subId, isFlushCache, binaryCodec(clazz));
+	}
+
+	/**
+	 * @param codec 不为null时接受缓存中的二进制格式
+	 */
+	private <T extends BasePo> ListenableFuture<T> getOneAsync(final int dsId, final Class<T> clazz, final Object id,
+			final Object subId, final boolean isFlushCache, BinaryPoCodec<T> codec) {
+		DbServerService dbService = readService(dsId, isFlushCache);
+		if (dbService == null) {
+			return Futures.immediateFailedFuture(new DbRpcException(DbCode.INTERNAL, "no dbserver, dsId=" + dsId));
+		}
+
+		final DbRpcService.GetRequest request = DbRpcService.GetRequest.newBuilder().setDsId(dsId)
+				.setClassName(clazz.getSimpleName()).addIds(toKey(id)).addIds(toKey(subId))
+				.setFlushCache(isFlushCache).setBinary(codec != null).build();
+		return decodeOne(hedge(dsId, dbService, isFlushCache, new ReadCall<DbRpcService.DataResponse>() {
+					@Override public ListenableFuture<DbRpcService.DataResponse> call(DbServerService service) {
+						return service.getFutureStub().getOne(request);
+					}
+				}), clazz, codec, new Callable<ListenableFuture<T>>() {
+					@Override public ListenableFuture<T> call() {
+						return getOneAsync(dsId, clazz, id, subId, isFlushCache, null);
+					}
+				});
+	}
+
+	/**
+	 * 异步对列表缓存做延期
+	 */
+	public ListenableFuture<Integer> listDelayAsync(int dsId, Class<? extends BasePo> clazz, Object id) {
+		DbServerService dbService = rpcManager.getDbServiceByDsId(dsId);
+		if (dbService == null) {
+			return Futures.immediateFailedFuture(new DbRpcException(DbCode.INTERNAL, "no dbserver, dsId=" + dsId));
+		}
+
+		DbRpcService.GetRequest request = DbRpcService.GetRequest.newBuilder().setDsId(dsId)
+				.setClassName(clazz.getSimpleName()).addIds(toKey(id)).build();
+		return count(dbService.getFutureStub().listDelay(request));
+	}
+
+	/**
+	 * 异步更新
+	 *
+	 * @return 更新成功为1
+	 */
+	public ListenableFuture<Integer> updateAsync(int dsId, BasePo po) {
+		DbServerService dbService = rpcManager.getDbServiceByDsId(dsId);
+		if (dbService == null) {
+			return Futures.immediateFailedFuture(new DbRpcException(DbCode.INTERNAL, "no dbserver, dsId=" + dsId));
+		}
+		return count(dbService.getFutureStub().update(writeRequest(dsId, po.getClass(), po)));
+	}
+
+	/**
+	 * 异步插入，不支持自动主键
+	 */
+	public ListenableFuture<Integer> insertAsync(int dsId, BasePo po) {
+		DbServerService dbService = rpcManager.getDbServiceByDsId(dsId);
+		if (dbService == null) {
+			return Futures.immediateFailedFuture(new DbRpcException(DbCode.INTERNAL, "no dbserver, dsId=" + dsId));
+		}
+		return count(dbService.getFutureStub().insert(writeRequest(dsId, po.getClass(), po)));
+	}
+
+	/**
+	 * 异步删除
+	 *
+	 * @return 受影响的行数
+	 */
+	public ListenableFuture<Integer> deleteAsync(int dsId, BasePo po) {
+		DbServerService dbService = rpcManager.getDbServiceByDsId(dsId);
+		if (dbService == null) {
+			return Futures.immediateFailedFuture(new DbRpcException(DbCode.INTERNAL, "no dbserver, dsId=" + dsId));
+		}
+		return count(dbService.getFutureStub().delete(writeRequest(dsId, po.getClass(), po)));
+	}
+
+	/**
+	 * 异步批量插入，不支持自动主键
+	 *
+	 * @return 插入的条数
+	 */
+	public <T extends BasePo> ListenableFuture<Integer> insertBatchAsync(int dsId, Class<T> clazz, List<T> pos) {
+		DbServerService dbService = rpcManager.getDbServiceByDsId(dsId);
+		if (dbService == null) {
+			return Futures.immediateFailedFuture(new DbRpcException(DbCode.INTERNAL, "no dbserver, dsId=" + dsId));
+		}
+		return count(dbService.getFutureStub().insertBatch(writeRequest(dsId, clazz, pos.toArray())));
+	}
+
+	/**
+	 * 大批量写入，用于结算、群发邮件等一次写入大量数据的场景<br>
+	 * 按表分组后切成分块流式推送，只在流可写时编码和发送下一个分块，dbserver写完一个分块才会读取下一个
+	 *
+	 * @param dsId
+	 * @param op 插入或者更新
+	 * @param pos 可以包含多张表的数据
+	 * @param chunkSize 每个分块的条数
+	 * @return 每个分块的写入数量，部分分块失败时code为第一个失败分块的错误码
+	 */
+	public ListenableFuture<DbRpcService.BulkWriteResponse> bulkWrite(int dsId, DbRpcService.WriteOp op,
+			Collection<? extends BasePo> pos, int chunkSize) {
+		DbServerService dbService = rpcManager.getDbServiceByDsId(dsId);
+		if (dbService == null) {
+			return Futures.immediateFailedFuture(new DbRpcException(DbCode.INTERNAL, "no dbserver, dsId=" + dsId));
+		}
+
+		Map<Class<?>, List<BasePo>> groups = new LinkedHashMap<>();
+		for (BasePo po : pos) {
+			List<BasePo> list = groups.get(po.getClass());
+			if (list == null) {
+				list = new ArrayList<>();
+				groups.put(po.getClass(), list);
+			}
+			list.add(po);
+		}
+
+		List<List<BasePo>> chunks = new ArrayList<>();
+		for (List<BasePo> list : groups.values()) {
+			for (int i = 0; i < list.size(); i += chunkSize) {
+				chunks.add(list.subList(i, Math.min(i + chunkSize, list.size())));
+			}
+		}
+
+		BulkWriter writer = new BulkWriter(dsId, op, chunks.iterator());
+		dbService.getAsyncStub().bulkWrite(writer);
+		return writer.future;
+	}
+
+	private static DbRpcService.WriteRequest writeRequest(int dsId, Class<?> clazz, Object... pos) {
+		DbRpcService.WriteRequest.Builder request = DbRpcService.WriteRequest.newBuilder().setDsId(dsId)
+				.setClassName(clazz.getSimpleName());
+		for (Object po : pos) {
+			request.addData(ByteString.copyFrom(JsonUtils.object2Bytes(po)));
+		}
+		return request.build();
+	}
+
+	private static DbRpcService.DbKey toKey(Object id) {
+		if (id instanceof Number) {
+			return DbRpcService.DbKey.newBuilder().setId(((Number) id).longValue()).build();
+		}
+		return DbRpcService.DbKey.newBuilder().setSid(String.valueOf(id)).build();
+	}
+
+	/**
+	 * 缓存格式为二进制的po的编解码器
+	 *
+	 * @return 不是二进制格式时为null
+	 */
+	@SuppressWarnings("unchecked")
+	private <T extends BasePo> BinaryPoCodec<T> binaryCodec(final Class<T> clazz) {
+		Cacheable cacheable = clazz.getAnnotation(Cacheable.class);
+		if (cacheable == null || cacheable.codec() != CodecType.BINARY) {
+			return null;
+		}
+
+		BinaryPoCodec<?> codec = binaryCodecs.get(clazz);
+		if (codec == null) {
+			codec = new BinaryPoCodec<>(clazz);
+			BinaryPoCodec<?> exists = binaryCodecs.putIfAbsent(clazz, codec);
+			if (exists != null) {
+				codec = exists;
+			}
+		}
+		return (BinaryPoCodec<T>) codec;
+	}
+
+	/**
+	 * 解码一条数据，数据服返回缓存中的二进制数据时直接解码，不经过json
+	 * 二进制数据的列结构和本服的po不一致时(两边po版本不同)，改为请求json重新读取
+	 *
+	 * @param future
+	 * @param clazz
+	 * @param codec 请求时没有接受二进制格式时为null
+	 * @param jsonRead 请求json的读取
+	 * @return
+	 */
+	private static <T extends BasePo> ListenableFuture<T> decodeOne(ListenableFuture<DbRpcService.DataResponse> future,
+			final Class<T> clazz, final BinaryPoCodec<T> codec, final Callable<ListenableFuture<T>> jsonRead) {
+		return Futures.transformAsync(future, new AsyncFunction<DbRpcService.DataResponse, T>() {
+			@Override public ListenableFuture<T> apply(DbRpcService.DataResponse response) throws Exception {
+				if (codec == null || response.getCode() != DbCode.OK || response.getData().isEmpty()
+						|| response.getData().byteAt(0) != BinaryPoCodec.MAGIC) {
+					return Futures.immediateFuture(clazz.cast(decode(response, clazz)));
+				}
+
+				T t = codec.decode(response.getData().toByteArray());
+				if (t == null) {
+					logger.warn("binary schema mismatch, read json instead, po=" + clazz.getSimpleName());
+					return jsonRead.call();
+				}
+				return Futures.immediateFuture(t);
+			}
+		}, MoreExecutors.directExecutor());
+	}
+
+	/**
+	 * NOT_FOUND为null，其他错误抛出DbRpcException
+	 */
+	private static Object decode(DbRpcService.DataResponse response, Type type) {
+		if (response.getCode() == DbCode.NOT_FOUND) {
+			return null;
+		}
+		if (response.getCode() != DbCode.OK) {
+			throw new DbRpcException(response.getCode(), response.getMsg());
+		}
+		return JsonUtils.bytes2Object(response.getData().toByteArray(), type);
+	}
+
+	private static ListenableFuture<Integer> count(ListenableFuture<DbRpcService.WriteResponse> future) {
+		return Futures.transform(future, new Function<DbRpcService.WriteResponse, Integer>() {
+			@Override public Integer apply(DbRpcService.WriteResponse response) {
+				if (response.getCode() != DbCode.OK) {
+					throw new DbRpcException(response.getCode(), response.getMsg());
+				}
+				return response.getCount();
+			}
+		}, MoreExecutors.directExecutor());
+	}
+
+	/**
+	 * 对冲读请求，先向主数据服发送，超过主数据服的p95延迟还没返回(或者失败)时向同一个数据中心的另一个数据服再发一次，
+	 * 先成功的生效并取消另一个，只能用于幂等的读请求<br>
+	 * 没有开启对冲、数据中心只有一个数据服或者是刷新缓存的读请求时直接发送
+	 *
+	 * @param dsId
+	 * @param primary 主数据服
+	 * @param refresh 是否从数据库刷新缓存，只能发给持有回写队列的数据服
+	 * @param call 具体的请求
+	 * @return
+	 */
+	private <R> ListenableFuture<R> hedge(int dsId, DbServerService primary, boolean refresh, ReadCall<R> call) {
+		RpcChannelConfig config = RpcChannelFactory.getConfig();
+		if (!config.isHedgeReads() || refresh) {
+			return call.call(primary);
+		}
+		DbServerService backup = rpcManager.getBackupDbServiceByDsId(dsId, primary);
+		if (backup == null) {
+			return call.call(primary);
+		}
+
+		long delay = Math.max(config.getHedgeMinDelay(),
+				TimeUnit.MICROSECONDS.toMillis(primary.getStats().getP95()));
+		HedgedRead<R> read = new HedgedRead<>(call, backup);
+		read.start(primary, delay);
+		return read.result;
+	}
+
+	/**
+	 * 取得读请求的数据服，从数据库刷新缓存的读请求固定发给持有回写队列的数据服
+	 *
+	 * @param dsId
+	 * @param refresh 是否从数据库刷新缓存
+	 * @return
+	 */
+	private DbServerService readService(int dsId, boolean refresh) {
+		return refresh ? rpcManager.getDbServiceByDsId(dsId) : rpcManager.getReadDbServiceByDsId(dsId);
+	}
+
+	/**
+	 * 同步等待对冲读请求的结果，和阻塞stub一样抛出grpc的异常
+	 */
+	private static <R> R getHedged(ListenableFuture<R> future) {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			throw Status.CANCELLED.withDescription("interrupted").withCause(e).asRuntimeException();
+		} catch (ExecutionException e) {
+			Throwables.throwIfUnchecked(e.getCause());
+			throw new RuntimeException(e.getCause());
+		}
+	}
+
+	/**
+	 * 对冲统计
+	 */
+	public String getHedgeReport() {
+		return "hedges=" + hedges.sum() + ", wins=" + hedgeWins.sum();
+	}
+
+	/**
+	 * 可以对冲的读请求
+	 */
+	private interface ReadCall<R> {
+
+		ListenableFuture<R> call(DbServerService service);
+	}
+
+	/**
+	 * 一次对冲读请求，最多两次调用，结果由先成功的调用设置
+	 */
+	private final class HedgedRead<R> {
+
+		private final SettableFuture<R> result = SettableFuture.create();
+
+		private final ReadCall<R> call;
+
+		private final DbServerService backup;
+
+		private final AtomicBoolean backupSent = new AtomicBoolean();
+
+		/**
+		 * 还没结束的调用数，备用调用在发送前也计入，全部失败时才失败
+		 */
+		private final AtomicInteger pending = new AtomicInteger(2);
+
+		private volatile ListenableFuture<R> first;
+
+		private volatile ListenableFuture<R> second;
+
+		private volatile long timerId;
+
+		HedgedRead(ReadCall<R> call, DbServerService backup) {
+			this.call = call;
+			this.backup = backup;
+		}
+
+		void start(DbServerService primary, long delay) {
+			first = send(primary, false);
+			timerId = Scheduler.schedule(new Runnable() {
+				@Override public void run() {
+					sendBackup();
+				}
+			}, delay);
+			result.addListener(new Runnable() {
+				@Override public void run() {
+					Scheduler.cancel(timerId);
+					cancel(first);
+					cancel(second);
+				}
+			}, MoreExecutors.directExecutor());
+		}
+
+		private void sendBackup() {
+			if (result.isDone() || !backupSent.compareAndSet(false, true)) {
+				return;
+			}
+			hedges.increment();
+			second = send(backup, true);
+			//结果可能在赋值前已经设置，此时完成回调看到的second为null，没有取消备用调用
+			if (result.isDone()) {
+				cancel(second);
+			}
+		}
+
+		private ListenableFuture<R> send(DbServerService service, final boolean isBackup) {
+			ListenableFuture<R> future = call.call(service);
+			Futures.addCallback(future, new FutureCallback<R>() {
+				@Override public void onSuccess(R r) {
+					if (result.set(r) && isBackup) {
+						hedgeWins.increment();
+					}
+				}
+
+				@Override public void onFailure(Throwable t) {
+					//主数据服失败时马上发送备用请求
+					if (!isBackup) {
+						sendBackup();
+					}
+					if (pending.decrementAndGet() == 0 || (!isBackup && !backupSent.get())) {
+						result.setException(t);
+					}
+				}
+			}, MoreExecutors.directExecutor());
+			return future;
+		}
+
+		private void cancel(ListenableFuture<R> future) {
+			if (future != null) {
+				future.cancel(true);
+			}
+		}
+	}
+
+	/**
+	 * 批量写入的客户端，在onReady回调中推送分块，遵守grpc的流控
+	 */
+	private static final class BulkWriter
+			implements ClientResponseObserver<DbRpcService.BulkWriteChunk, DbRpcService.BulkWriteResponse> {
+
+		private final int dsId;
+
+		private final DbRpcService.WriteOp op;
+
+		private final Iterator<List<BasePo>> chunks;
+
+		private final SettableFuture<DbRpcService.BulkWriteResponse> future = SettableFuture.create();
+
+		private ClientCallStreamObserver<DbRpcService.BulkWriteChunk> requestStream;
+
+		private boolean completed;
+
+		BulkWriter(int dsId, DbRpcService.WriteOp op, Iterator<List<BasePo>> chunks) {
+			this.dsId = dsId;
+			this.op = op;
+			this.chunks = chunks;
+		}
+
+		@Override public void beforeStart(ClientCallStreamObserver<DbRpcService.BulkWriteChunk> requestStream) {
+			this.requestStream = requestStream;
+			requestStream.setOnReadyHandler(new Runnable() {
+				@Override public void run() {
+					push();
+				}
+			});
+		}
+
+		/**
+		 * onReady在同一个流上是串行回调的
+		 */
+		private void push() {
+			while (requestStream.isReady() && chunks.hasNext()) {
+				List<BasePo> chunk = chunks.next();
+				DbRpcService.BulkWriteChunk.Builder builder = DbRpcService.BulkWriteChunk.newBuilder().setDsId(dsId)
+						.setClassName(chunk.get(0).getClass().getSimpleName()).setOp(op);
+				for (BasePo po : chunk) {
+					builder.addData(ByteString.copyFrom(JsonUtils.object2Bytes(po)));
+				}
+				requestStream.onNext(builder.build());
+			}
+			if (!chunks.hasNext() && !completed) {
+				completed = true;
+				requestStream.onCompleted();
+			}
+		}
+
+		@Override public void onNext(DbRpcService.BulkWriteResponse response) {
+			future.set(response);
+		}
+
+		@Override public void onError(Throwable t) {
+			logger.error("bulkWrite error, dsId = " + dsId, t);
+			future.setException(t);
+		}
+
+		@Override public void onCompleted() {
+		}
+	}
 }
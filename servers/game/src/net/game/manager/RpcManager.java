@@ -18,6 +18,8 @@ import net.game.GameMain;
 import net.game.rpcservice.GameServiceImp;
 import net.rpc.AbstractNacosRegister;
 import net.rpc.common.AbstractRpcServiceHolder;
+import net.rpc.common.RpcChannelConfig;
+import net.rpc.common.RpcChannelFactory;
 import net.rpc.service.DbServerService;
 import net.rpc.service.GameServerService;
 import net.server.ServerInfo;
@@ -39,6 +41,11 @@ import net.utils.StringUtils;
 	 */
 	private Map<Integer, Integer> dsId2DbServerId = new ConcurrentHashMap<>();
 
+	/**
+	 * 数据中心id对应到的所有数据服id，多个数据服注册同一个数据中心时用于对冲读请求
+	 */
+	private Map<Integer, Set<Integer>> dsId2DbServerIds = new ConcurrentHashMap<>();
+
 	@PostConstruct public void init() {
 		this.registToNacos();
 		this.initRpcServer();
@@ -82,15 +89,44 @@ import net.utils.StringUtils;
 				TypeReference<Set<Integer>> type = new TypeReference<Set<Integer>>() {
 				};
 				Set<Integer> dsIds = JsonUtils.string2Object(dsIdStr, type);
+				//元数据变化后不再持有的数据中心
+				for (Map.Entry<Integer, Set<Integer>> entry : this.dsId2DbServerIds.entrySet()) {
+					if (dsIds == null || !dsIds.contains(entry.getKey())) {
+						entry.getValue().remove(serverInfo.getServerId());
+					}
+				}
 				if (CollectionUtils.isNotEmpty(dsIds)) {
 					for (Integer dsId : dsIds) {
 						this.dsId2DbServerId.put(dsId, serverInfo.getServerId());
+						Set<Integer> serverIds = this.dsId2DbServerIds.get(dsId);
+						if (serverIds == null) {
+							serverIds = ConcurrentHashMap.newKeySet();
+							Set<Integer> exists = this.dsId2DbServerIds.putIfAbsent(dsId, serverIds);
+							if (exists != null) {
+								serverIds = exists;
+							}
+						}
+						serverIds.add(serverInfo.getServerId());
 					}
 				}
 			}
 		}
 	}
 
+	/**
+	 * 数据服节点移除时同时从数据中心的数据服列表中移除，不再参与读请求的选择和对冲
+	 */
+	@Override public void removeServerInfo(int serverType, int serverId) {
+		super.removeServerInfo(serverType, serverId);
+		if (serverType != ServerType.DB.getValue()) {
+			return;
+		}
+
+		for (Set<Integer> serverIds : this.dsId2DbServerIds.values()) {
+			serverIds.remove(serverId);
+		}
+	}
+
 	/**
 	 * 根据服务器id取得游戏服服务
 	 *
@@ -98,7 +134,7 @@ import net.utils.StringUtils;
 	 * @return
 	 */
 	public DbServerService getDbServerService(int serverId) {
-		AbstractRpcServiceHolder<DbServerService> serviceHolder = rpcServiceHolders.get(ServerType.DB.getValue());
+		AbstractRpcServiceHolder<DbServerService> serviceHolder = getServiceHolder(ServerType.DB);
 		if (serviceHolder == null) {
 			return null;
 		}
@@ -119,7 +155,7 @@ import net.utils.StringUtils;
 			return null;
 		}
 		
-		AbstractRpcServiceHolder<DbServerService> serviceHolder = rpcServiceHolders.get(ServerType.DB.getValue());
+		AbstractRpcServiceHolder<DbServerService> serviceHolder = getServiceHolder(ServerType.DB);
 		if (serviceHolder == null) {
 			return null;
 		}
@@ -131,4 +167,57 @@ import net.utils.StringUtils;
 		
 		return service;
 	}
+
+	/**
+	 * 取得处理读请求的数据服，开启{@link RpcChannelConfig#isBalanceReads()}并且同一个数据中心有多个数据服时按数据服的选择策略选择，
+	 * 否则和写请求一样使用{@link #getDbServiceByDsId(int)}的固定数据服
+	 * 从数据库刷新缓存的读请求需要直接使用固定数据服，只有它持有回写队列
+	 *
+	 * @param dsId
+	 * @return
+	 */
+	public DbServerService getReadDbServiceByDsId(int dsId) {
+		if (!RpcChannelFactory.getConfig().isBalanceReads()) {
+			return getDbServiceByDsId(dsId);
+		}
+
+		Set<Integer> serverIds = this.dsId2DbServerIds.get(dsId);
+		AbstractRpcServiceHolder<DbServerService> serviceHolder = getServiceHolder(ServerType.DB);
+		if (serverIds == null || serverIds.size() < 2 || serviceHolder == null) {
+			return getDbServiceByDsId(dsId);
+		}
+
+		DbServerService service = serviceHolder.getServiceWithStrategy(dsId, serverIds, dsId);
+		return service != null ? service : getDbServiceByDsId(dsId);
+	}
+
+	/**
+	 * 取得同一个数据中心的另一个可用数据服，用于对冲读请求
+	 *
+	 * @param dsId
+	 * @param primary 已经发送了请求的数据服
+	 * @return 没有其他可用的数据服时为null
+	 */
+	public DbServerService getBackupDbServiceByDsId(int dsId, DbServerService primary) {
+		Set<Integer> serverIds = this.dsId2DbServerIds.get(dsId);
+		if (serverIds == null || serverIds.size() < 2) {
+			return null;
+		}
+
+		AbstractRpcServiceHolder<DbServerService> serviceHolder = getServiceHolder(ServerType.DB);
+		if (serviceHolder == null) {
+			return null;
+		}
+
+		for (Integer serverId : serverIds) {
+			if (!serviceHolder.isReady(serverId)) {
+				continue;
+			}
+			DbServerService service = serviceHolder.getService(serverId);
+			if (service != null && service != primary) {
+				return service;
+			}
+		}
+		return null;
+	}
 }
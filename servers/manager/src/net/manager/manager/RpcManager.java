@@ -63,7 +63,7 @@ import net.utils.AppUtils;
 	 * @return
 	 */
 	public GameServerService getGameServerService(int serverId) {
-		AbstractRpcServiceHolder<GameServerService> serviceHolder = rpcServiceHolders.get(ServerType.GAME.getValue());
+		AbstractRpcServiceHolder<GameServerService> serviceHolder = getServiceHolder(ServerType.GAME);
 		if (serviceHolder == null) {
 			return null;
 		}
@@ -78,7 +78,7 @@ import net.utils.AppUtils;
 	 * @return
 	 */
 	public DbServerService getDbServerService(int serverId) {
-		AbstractRpcServiceHolder<DbServerService> serviceHolder = rpcServiceHolders.get(ServerType.DB.getValue());
+		AbstractRpcServiceHolder<DbServerService> serviceHolder = getServiceHolder(ServerType.DB);
 		if (serviceHolder == null) {
 			return null;
 		}